@@ -35,6 +35,11 @@ import org.apiguardian.api.API;
  * methods that also require {@code READ} access but not at the same time as any
  * other test that requires {@code READ_WRITE} access.
  *
+ * <p>Shared resources that can safely be used by a limited number of test
+ * classes or test methods at the same time, e.g. a pool of connections to a
+ * local database, may declare the maximum number of concurrent users via
+ * {@link #permits}.
+ *
  * <p>This annotation can be repeated to declare the use of multiple shared resources.
  *
  * <p>Since JUnit Jupiter 5.4, this annotation is {@linkplain Inherited inherited}
@@ -68,4 +73,20 @@ public @interface ResourceLock {
 	 */
 	ResourceAccessMode mode() default ResourceAccessMode.READ_WRITE;
 
+	/**
+	 * The number of permits of the resource.
+	 *
+	 * <p>If the resource has more than one permit, up to that many test
+	 * classes or test methods may access it at the same time, regardless of
+	 * their {@linkplain #mode access mode}. All declarations of a resource
+	 * with the same key must specify the same number of permits; otherwise,
+	 * the test class or test method with a deviating declaration fails.
+	 *
+	 * <p>Defaults to {@code 1}.
+	 *
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	int permits() default 1;
+
 }
@@ -12,10 +12,12 @@ package org.junit.jupiter.engine;
 
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.STABLE;
+import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_ADAPTIVE_FACTOR_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.engine.support.hierarchical.DefaultParallelExecutionConfigurationStrategy.CONFIG_STRATEGY_PROPERTY_NAME;
+import static org.junit.platform.engine.support.hierarchical.VirtualThreadHierarchicalTestExecutorService.CONFIG_MAX_CONCURRENCY_PROPERTY_NAME;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
@@ -181,8 +183,8 @@ public final class Constants {
 	 * Property name used to select the
 	 * {@link ParallelExecutionConfigurationStrategy}: {@value}
 	 *
-	 * <p>Potential values: {@code dynamic} (default), {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Potential values: {@code dynamic} (default), {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 *
 	 * @since 5.3
 	 */
@@ -215,6 +217,19 @@ public final class Constants {
 	public static final String PARALLEL_CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
 			+ CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME;
 
+	/**
+	 * Property name used to set the factor to be multiplied with the number of
+	 * available processors/cores to determine the maximum parallelism for the
+	 * {@code adaptive} configuration strategy: {@value}
+	 *
+	 * <p>Value must be a positive decimal number; defaults to {@code 1}.
+	 *
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	public static final String PARALLEL_CONFIG_ADAPTIVE_FACTOR_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_ADAPTIVE_FACTOR_PROPERTY_NAME;
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used for the
@@ -226,6 +241,152 @@ public final class Constants {
 	public static final String PARALLEL_CONFIG_CUSTOM_CLASS_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
 			+ CONFIG_CUSTOM_CLASS_PROPERTY_NAME;
 
+	/**
+	 * Property name used to select the executor service used for parallel
+	 * test execution: {@value}
+	 *
+	 * <p>Potential values: {@code fork_join_pool} (default),
+	 * {@code deferring_fork_join_pool}, or {@code virtual_threads}, ignoring
+	 * case.
+	 *
+	 * <p>The {@code deferring_fork_join_pool} executor service does not block
+	 * worker threads while concurrent tests wait for resource locks declared
+	 * via {@link org.junit.jupiter.api.parallel.ResourceLock @ResourceLock}.
+	 *
+	 * <p>The {@code virtual_threads} executor service executes each concurrent
+	 * test in its own virtual thread if supported by the Java runtime, which is
+	 * beneficial for tests that spend most of their time blocked, e.g. on I/O.
+	 *
+	 * @see org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService
+	 * @see org.junit.platform.engine.support.hierarchical.DeferringForkJoinPoolHierarchicalTestExecutorService
+	 * @see org.junit.platform.engine.support.hierarchical.VirtualThreadHierarchicalTestExecutorService
+	 * @see #PARALLEL_CONFIG_VIRTUAL_MAX_CONCURRENCY_PROPERTY_NAME
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	public static final String PARALLEL_CONFIG_EXECUTOR_PROPERTY_NAME = JupiterConfiguration.PARALLEL_EXECUTOR_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the maximum number of concurrently executing
+	 * tests for the {@code virtual_threads} executor service: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to the maximum pool size
+	 * determined by the configured
+	 * {@linkplain #PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME strategy}.
+	 *
+	 * @see #PARALLEL_CONFIG_EXECUTOR_PROPERTY_NAME
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	public static final String PARALLEL_CONFIG_VIRTUAL_MAX_CONCURRENCY_PROPERTY_NAME = PARALLEL_CONFIG_PREFIX
+			+ CONFIG_MAX_CONCURRENCY_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the path of the file that stores the
+	 * execution durations of tests and containers across test runs: {@value}
+	 *
+	 * <p>If set and parallel execution is enabled, concurrent tests and
+	 * containers are started in descending order of the durations recorded in
+	 * previous runs so that long-running ones do not delay the end of the test
+	 * run. The file is created or updated after each test run.
+	 *
+	 * <p>Not set by default.
+	 *
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	public static final String PARALLEL_DURATIONS_FILE_PROPERTY_NAME = JupiterConfiguration.PARALLEL_DURATIONS_FILE_PROPERTY_NAME;
+
+	/**
+	 * Property name used to enable streaming of dynamic tests: {@value}
+	 *
+	 * <p>When enabled, the dynamic tests returned by a
+	 * {@link org.junit.jupiter.api.TestFactory @TestFactory} method or a
+	 * {@link org.junit.jupiter.api.DynamicContainer DynamicContainer} are
+	 * consumed only as fast as they are executed, and finished dynamic tests
+	 * are released. This allows test factories to produce arbitrarily many
+	 * dynamic tests, e.g. from a lazily populated {@link java.util.stream.Stream
+	 * Stream}, with bounded memory.
+	 *
+	 * <p>By default, streaming of dynamic tests is disabled.
+	 *
+	 * @see #DYNAMIC_STREAMING_MAX_PENDING_PROPERTY_NAME
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	public static final String DYNAMIC_STREAMING_ENABLED_PROPERTY_NAME = JupiterConfiguration.DYNAMIC_STREAMING_ENABLED_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the maximum number of dynamic tests per test
+	 * factory or dynamic container that have been consumed but not yet
+	 * finished when streaming of dynamic tests is enabled: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to {@code 256}.
+	 *
+	 * @see #DYNAMIC_STREAMING_ENABLED_PROPERTY_NAME
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	public static final String DYNAMIC_STREAMING_MAX_PENDING_PROPERTY_NAME = JupiterConfiguration.DYNAMIC_STREAMING_MAX_PENDING_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the maximum number of failed tests and
+	 * containers after which test execution is stopped: {@value}
+	 *
+	 * <p>Once the maximum has been reached, tests and containers that have not
+	 * been started yet are reported as skipped. Tests that are already running
+	 * in parallel are allowed to finish.
+	 *
+	 * <p>Value must be a positive integer; by default, the number of failures
+	 * is not limited.
+	 *
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	public static final String MAX_FAILURES_PROPERTY_NAME = JupiterConfiguration.MAX_FAILURES_PROPERTY_NAME;
+
+	/**
+	 * Property name used to enable caching of parameter resolution plans:
+	 * {@value}
+	 *
+	 * <p>When enabled, the {@link org.junit.jupiter.api.extension.ParameterResolver
+	 * ParameterResolvers} that support the parameters of a method or
+	 * constructor are determined only once and reused for subsequent
+	 * invocations of the same method or constructor, as long as the same types
+	 * of parameter resolvers are registered. This speeds up methods that are
+	 * invoked many times, e.g. {@link org.junit.jupiter.api.RepeatedTest
+	 * &#64;RepeatedTest} methods, but must only be enabled if the registered
+	 * parameter resolvers support the parameters of a method independently of
+	 * the current invocation.
+	 *
+	 * <p>By default, parameter resolution plans are not cached.
+	 *
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	public static final String PARAMETER_RESOLUTION_CACHE_ENABLED_PROPERTY_NAME = JupiterConfiguration.PARAMETER_RESOLUTION_CACHE_ENABLED_PROPERTY_NAME;
+
+	/**
+	 * Property name used to set the strategy for invoking test, lifecycle,
+	 * and test factory methods: {@value}
+	 *
+	 * <h3>Supported Values</h3>
+	 * <ul>
+	 * <li>{@code reflection}: methods are invoked via
+	 * {@link java.lang.reflect.Method#invoke Method.invoke()}</li>
+	 * <li>{@code method_handles}: methods are invoked via
+	 * {@link java.lang.invoke.MethodHandle MethodHandles} that are created
+	 * once per method and cached</li>
+	 * </ul>
+	 *
+	 * <p>If not specified or set to an invalid value, methods are invoked via
+	 * reflection.
+	 *
+	 * @since 5.6
+	 */
+	@API(status = EXPERIMENTAL, since = "5.6")
+	public static final String METHOD_INVOCATION_STRATEGY_PROPERTY_NAME = JupiterConfiguration.METHOD_INVOCATION_STRATEGY_PROPERTY_NAME;
+
 	/**
 	 * Property name used to set the default timeout for all testable and
 	 * lifecycle methods.
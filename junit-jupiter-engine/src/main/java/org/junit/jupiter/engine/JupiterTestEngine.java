@@ -12,7 +12,9 @@ package org.junit.jupiter.engine;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.engine.config.CachingJupiterConfiguration;
@@ -22,12 +24,12 @@ import org.junit.jupiter.engine.descriptor.JupiterEngineDescriptor;
 import org.junit.jupiter.engine.discovery.DiscoverySelectorResolver;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
 import org.junit.jupiter.engine.support.JupiterThrowableCollectorFactory;
+import org.junit.platform.engine.ConfigurationParameters;
 import org.junit.platform.engine.EngineDiscoveryRequest;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.config.PrefixedConfigurationParameters;
-import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
 import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
@@ -74,12 +76,50 @@ public final class JupiterTestEngine extends HierarchicalTestEngine<JupiterEngin
 	protected HierarchicalTestExecutorService createExecutorService(ExecutionRequest request) {
 		JupiterConfiguration configuration = getJupiterConfiguration(request);
 		if (configuration.isParallelExecutionEnabled()) {
-			return new ForkJoinPoolHierarchicalTestExecutorService(new PrefixedConfigurationParameters(
-				request.getConfigurationParameters(), Constants.PARALLEL_CONFIG_PREFIX));
+			ConfigurationParameters parameters = new PrefixedConfigurationParameters(
+				request.getConfigurationParameters(), Constants.PARALLEL_CONFIG_PREFIX);
+			return configuration.getParallelExecutor().create(parameters);
 		}
 		return super.createExecutorService(request);
 	}
 
+	/**
+	 * @since 5.6
+	 * @see Constants#PARALLEL_DURATIONS_FILE_PROPERTY_NAME
+	 */
+	@Override
+	protected Optional<Path> getExecutionDurationsFile(ExecutionRequest request) {
+		JupiterConfiguration configuration = getJupiterConfiguration(request);
+		if (configuration.isParallelExecutionEnabled()) {
+			return configuration.getExecutionDurationsFile();
+		}
+		return super.getExecutionDurationsFile(request);
+	}
+
+	/**
+	 * @since 5.6
+	 * @see Constants#DYNAMIC_STREAMING_ENABLED_PROPERTY_NAME
+	 * @see Constants#DYNAMIC_STREAMING_MAX_PENDING_PROPERTY_NAME
+	 */
+	@Override
+	protected OptionalInt getMaxPendingDynamicTests(ExecutionRequest request) {
+		JupiterConfiguration configuration = getJupiterConfiguration(request);
+		if (configuration.isDynamicTestStreamingEnabled()) {
+			return OptionalInt.of(configuration.getMaxPendingDynamicTests());
+		}
+		return super.getMaxPendingDynamicTests(request);
+	}
+
+	/**
+	 * @since 5.6
+	 * @see Constants#MAX_FAILURES_PROPERTY_NAME
+	 */
+	@Override
+	protected OptionalInt getMaxFailures(ExecutionRequest request) {
+		OptionalInt maxFailures = getJupiterConfiguration(request).getMaxFailures();
+		return maxFailures.isPresent() ? maxFailures : super.getMaxFailures(request);
+	}
+
 	@Override
 	protected JupiterEngineExecutionContext createExecutionContext(ExecutionRequest request) {
 		return new JupiterEngineExecutionContext(request.getEngineExecutionListener(),
@@ -12,7 +12,9 @@ package org.junit.jupiter.engine.config;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
@@ -21,6 +23,7 @@ import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.engine.execution.MethodInvocationStrategy;
 
 /**
  * Caching implementation of the {@link JupiterConfiguration} API.
@@ -54,6 +57,24 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			key -> delegate.isExtensionAutoDetectionEnabled());
 	}
 
+	@Override
+	public boolean isParameterResolutionCacheEnabled() {
+		return (boolean) cache.computeIfAbsent(PARAMETER_RESOLUTION_CACHE_ENABLED_PROPERTY_NAME,
+			key -> delegate.isParameterResolutionCacheEnabled());
+	}
+
+	@Override
+	public boolean isDynamicTestStreamingEnabled() {
+		return (boolean) cache.computeIfAbsent(DYNAMIC_STREAMING_ENABLED_PROPERTY_NAME,
+			key -> delegate.isDynamicTestStreamingEnabled());
+	}
+
+	@Override
+	public int getMaxPendingDynamicTests() {
+		return (int) cache.computeIfAbsent(DYNAMIC_STREAMING_MAX_PENDING_PROPERTY_NAME,
+			key -> delegate.getMaxPendingDynamicTests());
+	}
+
 	@Override
 	public ExecutionMode getDefaultExecutionMode() {
 		return (ExecutionMode) cache.computeIfAbsent(DEFAULT_EXECUTION_MODE_PROPERTY_NAME,
@@ -66,6 +87,24 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 			key -> delegate.getDefaultClassesExecutionMode());
 	}
 
+	@Override
+	public ParallelExecutor getParallelExecutor() {
+		return (ParallelExecutor) cache.computeIfAbsent(PARALLEL_EXECUTOR_PROPERTY_NAME,
+			key -> delegate.getParallelExecutor());
+	}
+
+	@SuppressWarnings("unchecked")
+	@Override
+	public Optional<Path> getExecutionDurationsFile() {
+		return (Optional<Path>) cache.computeIfAbsent(PARALLEL_DURATIONS_FILE_PROPERTY_NAME,
+			key -> delegate.getExecutionDurationsFile());
+	}
+
+	@Override
+	public OptionalInt getMaxFailures() {
+		return (OptionalInt) cache.computeIfAbsent(MAX_FAILURES_PROPERTY_NAME, key -> delegate.getMaxFailures());
+	}
+
 	@Override
 	public TestInstance.Lifecycle getDefaultTestInstanceLifecycle() {
 		return (TestInstance.Lifecycle) cache.computeIfAbsent(DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME,
@@ -84,4 +123,10 @@ public class CachingJupiterConfiguration implements JupiterConfiguration {
 		return (DisplayNameGenerator) cache.computeIfAbsent(DEFAULT_DISPLAY_NAME_GENERATOR_PROPERTY_NAME,
 			key -> delegate.getDefaultDisplayNameGenerator());
 	}
+
+	@Override
+	public MethodInvocationStrategy getMethodInvocationStrategy() {
+		return (MethodInvocationStrategy) cache.computeIfAbsent(METHOD_INVOCATION_STRATEGY_PROPERTY_NAME,
+			key -> delegate.getMethodInvocationStrategy());
+	}
 }
@@ -12,7 +12,11 @@ package org.junit.jupiter.engine.config;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -20,6 +24,9 @@ import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.engine.execution.MethodInvocationStrategy;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
 
@@ -31,15 +38,31 @@ import org.junit.platform.engine.ConfigurationParameters;
 @API(status = INTERNAL, since = "5.4")
 public class DefaultJupiterConfiguration implements JupiterConfiguration {
 
+	private static final Logger logger = LoggerFactory.getLogger(DefaultJupiterConfiguration.class);
+
+	private static final int DEFAULT_MAX_PENDING_DYNAMIC_TESTS = 256;
+
 	private static final EnumConfigurationParameterConverter<ExecutionMode> executionModeConverter = //
 		new EnumConfigurationParameterConverter<>(ExecutionMode.class, "parallel execution mode");
 
+	private static final EnumConfigurationParameterConverter<ParallelExecutor> parallelExecutorConverter = //
+		new EnumConfigurationParameterConverter<>(ParallelExecutor.class, "parallel executor");
+
 	private static final EnumConfigurationParameterConverter<Lifecycle> lifecycleConverter = //
 		new EnumConfigurationParameterConverter<>(Lifecycle.class, "test instance lifecycle mode");
 
 	private static final DisplayNameGeneratorParameterConverter displayNameGeneratorConverter = //
 		new DisplayNameGeneratorParameterConverter();
 
+	private static final EnumConfigurationParameterConverter<MethodInvocationStrategy> invocationStrategyConverter = //
+		new EnumConfigurationParameterConverter<>(MethodInvocationStrategy.class, "method invocation strategy");
+
+	private static final PositiveIntegerConfigurationParameterConverter maxPendingDynamicTestsConverter = //
+		new PositiveIntegerConfigurationParameterConverter("maximum number of pending dynamic tests");
+
+	private static final PositiveIntegerConfigurationParameterConverter maxFailuresConverter = //
+		new PositiveIntegerConfigurationParameterConverter("maximum number of failures");
+
 	private final ConfigurationParameters configurationParameters;
 
 	public DefaultJupiterConfiguration(ConfigurationParameters configurationParameters) {
@@ -62,6 +85,22 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 		return configurationParameters.getBoolean(EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME).orElse(false);
 	}
 
+	@Override
+	public boolean isParameterResolutionCacheEnabled() {
+		return configurationParameters.getBoolean(PARAMETER_RESOLUTION_CACHE_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	@Override
+	public boolean isDynamicTestStreamingEnabled() {
+		return configurationParameters.getBoolean(DYNAMIC_STREAMING_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	@Override
+	public int getMaxPendingDynamicTests() {
+		return maxPendingDynamicTestsConverter.get(configurationParameters,
+			DYNAMIC_STREAMING_MAX_PENDING_PROPERTY_NAME).orElse(DEFAULT_MAX_PENDING_DYNAMIC_TESTS);
+	}
+
 	@Override
 	public ExecutionMode getDefaultExecutionMode() {
 		return executionModeConverter.get(configurationParameters, DEFAULT_EXECUTION_MODE_PROPERTY_NAME,
@@ -74,6 +113,34 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 			getDefaultExecutionMode());
 	}
 
+	@Override
+	public ParallelExecutor getParallelExecutor() {
+		return parallelExecutorConverter.get(configurationParameters, PARALLEL_EXECUTOR_PROPERTY_NAME,
+			ParallelExecutor.FORK_JOIN_POOL);
+	}
+
+	@Override
+	public Optional<Path> getExecutionDurationsFile() {
+		return configurationParameters.get(PARALLEL_DURATIONS_FILE_PROPERTY_NAME).map(String::trim).flatMap(
+			path -> {
+				try {
+					return Optional.of(Paths.get(path));
+				}
+				catch (InvalidPathException ex) {
+					logger.warn(ex, () -> String.format(
+						"Invalid execution durations file '%s' set via the '%s' configuration parameter. "
+								+ "Execution durations will not be recorded.",
+						path, PARALLEL_DURATIONS_FILE_PROPERTY_NAME));
+					return Optional.empty();
+				}
+			});
+	}
+
+	@Override
+	public OptionalInt getMaxFailures() {
+		return maxFailuresConverter.get(configurationParameters, MAX_FAILURES_PROPERTY_NAME);
+	}
+
 	@Override
 	public Lifecycle getDefaultTestInstanceLifecycle() {
 		return lifecycleConverter.get(configurationParameters, DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME,
@@ -92,4 +159,10 @@ public class DefaultJupiterConfiguration implements JupiterConfiguration {
 		return displayNameGeneratorConverter.get(configurationParameters, DEFAULT_DISPLAY_NAME_GENERATOR_PROPERTY_NAME,
 			DisplayNameGenerator.Standard::new);
 	}
+
+	@Override
+	public MethodInvocationStrategy getMethodInvocationStrategy() {
+		return invocationStrategyConverter.get(configurationParameters,
+			METHOD_INVOCATION_STRATEGY_PROPERTY_NAME, MethodInvocationStrategy.REFLECTION);
+	}
 }
@@ -12,7 +12,9 @@ package org.junit.jupiter.engine.config;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -20,6 +22,7 @@ import org.junit.jupiter.api.DisplayNameGenerator;
 import org.junit.jupiter.api.TestInstance;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.parallel.ExecutionMode;
+import org.junit.jupiter.engine.execution.MethodInvocationStrategy;
 
 /**
  * @since 5.4
@@ -31,10 +34,17 @@ public interface JupiterConfiguration {
 	String PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME = "junit.jupiter.execution.parallel.enabled";
 	String DEFAULT_EXECUTION_MODE_PROPERTY_NAME = "junit.jupiter.execution.parallel.mode.default";
 	String DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME = "junit.jupiter.execution.parallel.mode.classes.default";
+	String PARALLEL_EXECUTOR_PROPERTY_NAME = "junit.jupiter.execution.parallel.config.executor";
+	String PARALLEL_DURATIONS_FILE_PROPERTY_NAME = "junit.jupiter.execution.parallel.config.durations.file";
+	String MAX_FAILURES_PROPERTY_NAME = "junit.jupiter.execution.max-failures";
 	String EXTENSIONS_AUTODETECTION_ENABLED_PROPERTY_NAME = "junit.jupiter.extensions.autodetection.enabled";
 	String DEFAULT_TEST_INSTANCE_LIFECYCLE_PROPERTY_NAME = "junit.jupiter.testinstance.lifecycle.default";
 	String DEACTIVATE_ALL_CONDITIONS_PATTERN = ClassNamePatternParameterConverter.DEACTIVATE_ALL_PATTERN;
 	String DEFAULT_DISPLAY_NAME_GENERATOR_PROPERTY_NAME = "junit.jupiter.displayname.generator.default";
+	String PARAMETER_RESOLUTION_CACHE_ENABLED_PROPERTY_NAME = "junit.jupiter.extensions.parameterresolution.cache.enabled";
+	String METHOD_INVOCATION_STRATEGY_PROPERTY_NAME = "junit.jupiter.execution.method.invocation.strategy";
+	String DYNAMIC_STREAMING_ENABLED_PROPERTY_NAME = "junit.jupiter.execution.dynamic.streaming.enabled";
+	String DYNAMIC_STREAMING_MAX_PENDING_PROPERTY_NAME = "junit.jupiter.execution.dynamic.streaming.max-pending";
 
 	String DEFAULT_TIMEOUT_PROPERTY_NAME = "junit.jupiter.execution.timeout.default";
 	String DEFAULT_TESTABLE_METHOD_TIMEOUT_PROPERTY_NAME = "junit.jupiter.execution.timeout.testable.method.default";
@@ -53,14 +63,49 @@ public interface JupiterConfiguration {
 
 	boolean isExtensionAutoDetectionEnabled();
 
+	/**
+	 * @since 5.6
+	 */
+	boolean isParameterResolutionCacheEnabled();
+
+	/**
+	 * @since 5.6
+	 */
+	boolean isDynamicTestStreamingEnabled();
+
+	/**
+	 * @since 5.6
+	 */
+	int getMaxPendingDynamicTests();
+
 	ExecutionMode getDefaultExecutionMode();
 
 	ExecutionMode getDefaultClassesExecutionMode();
 
+	/**
+	 * @since 5.6
+	 */
+	ParallelExecutor getParallelExecutor();
+
+	/**
+	 * @since 5.6
+	 */
+	Optional<Path> getExecutionDurationsFile();
+
+	/**
+	 * @since 5.6
+	 */
+	OptionalInt getMaxFailures();
+
 	TestInstance.Lifecycle getDefaultTestInstanceLifecycle();
 
 	Predicate<ExecutionCondition> getExecutionConditionFilter();
 
 	DisplayNameGenerator getDefaultDisplayNameGenerator();
 
+	/**
+	 * @since 5.6
+	 */
+	MethodInvocationStrategy getMethodInvocationStrategy();
+
 }
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.config;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.util.function.Function;
+
+import org.apiguardian.api.API;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.DeferringForkJoinPoolHierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.ForkJoinPoolHierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService;
+import org.junit.platform.engine.support.hierarchical.VirtualThreadHierarchicalTestExecutorService;
+
+/**
+ * Executor services that may be used to execute tests in parallel.
+ *
+ * @since 5.6
+ * @see JupiterConfiguration#PARALLEL_EXECUTOR_PROPERTY_NAME
+ */
+@API(status = INTERNAL, since = "5.6")
+public enum ParallelExecutor {
+
+	FORK_JOIN_POOL(ForkJoinPoolHierarchicalTestExecutorService::new),
+
+	DEFERRING_FORK_JOIN_POOL(DeferringForkJoinPoolHierarchicalTestExecutorService::new),
+
+	VIRTUAL_THREADS(VirtualThreadHierarchicalTestExecutorService::new);
+
+	private final Function<ConfigurationParameters, HierarchicalTestExecutorService> factory;
+
+	ParallelExecutor(Function<ConfigurationParameters, HierarchicalTestExecutorService> factory) {
+		this.factory = factory;
+	}
+
+	/**
+	 * Create a new executor service of this type.
+	 *
+	 * @param configurationParameters the configuration parameters of the
+	 * executor service, without the common parallel configuration prefix
+	 */
+	public HierarchicalTestExecutorService create(ConfigurationParameters configurationParameters) {
+		return factory.apply(configurationParameters);
+	}
+
+}
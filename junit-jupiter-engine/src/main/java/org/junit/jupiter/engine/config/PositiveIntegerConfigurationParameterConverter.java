@@ -0,0 +1,64 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.config;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+
+/**
+ * @since 5.6
+ */
+class PositiveIntegerConfigurationParameterConverter {
+
+	private static final Logger logger = LoggerFactory.getLogger(PositiveIntegerConfigurationParameterConverter.class);
+
+	private final String displayName;
+
+	PositiveIntegerConfigurationParameterConverter(String displayName) {
+		this.displayName = displayName;
+	}
+
+	/**
+	 * @return the value of the configuration parameter; empty if it is not
+	 * set or not a positive integer
+	 */
+	OptionalInt get(ConfigurationParameters configParams, String key) {
+		Preconditions.notNull(configParams, "ConfigurationParameters must not be null");
+
+		Optional<String> optional = configParams.get(key);
+		if (optional.isPresent()) {
+			String string = optional.get().trim();
+			try {
+				int value = Integer.parseInt(string);
+				if (value > 0) {
+					logger.info(() -> String.format("Using %s '%d' set via the '%s' configuration parameter.",
+						displayName, value, key));
+					return OptionalInt.of(value);
+				}
+			}
+			catch (NumberFormatException ignore) {
+				// fall through
+			}
+			logger.warn(() -> String.format(
+				"Invalid %s '%s' set via the '%s' configuration parameter; must be a positive integer. "
+						+ "Falling back to the default value.",
+				displayName, string, key));
+		}
+
+		return OptionalInt.empty();
+	}
+
+}
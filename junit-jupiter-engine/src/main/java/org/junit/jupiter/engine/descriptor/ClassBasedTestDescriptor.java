@@ -77,8 +77,6 @@ import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 @API(status = INTERNAL, since = "5.5")
 public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 
-	private static final ExecutableInvoker executableInvoker = new ExecutableInvoker();
-
 	private final Class<?> testClass;
 	protected final Set<TestTag> tags;
 	protected final Lifecycle lifecycle;
@@ -151,8 +149,8 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 		// one factory registered per class).
 		this.testInstanceFactory = resolveTestInstanceFactory(registry);
 
-		registerBeforeEachMethodAdapters(registry);
-		registerAfterEachMethodAdapters(registry);
+		registerBeforeEachMethodAdapters(registry, context.getExecutableInvoker());
+		registerAfterEachMethodAdapters(registry, context.getExecutableInvoker());
 
 		ThrowableCollector throwableCollector = createThrowableCollector();
 		ClassExtensionContext extensionContext = new ClassExtensionContext(context.getExtensionContext(),
@@ -268,12 +266,12 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 			ExtensionRegistry registry, ExtensionRegistrar registrar, ExtensionContext extensionContext);
 
 	protected TestInstances instantiateTestClass(Optional<TestInstances> outerInstances, ExtensionRegistry registry,
-			ExtensionContext extensionContext) {
+			ExtensionContext extensionContext, ExecutableInvoker executableInvoker) {
 
 		Optional<Object> outerInstance = outerInstances.map(TestInstances::getInnermostInstance);
 		Object instance = this.testInstanceFactory != null //
 				? invokeTestInstanceFactory(outerInstance, extensionContext) //
-				: invokeTestClassConstructor(outerInstance, registry, extensionContext);
+				: invokeTestClassConstructor(outerInstance, registry, extensionContext, executableInvoker);
 		return outerInstances.map(instances -> DefaultTestInstances.of(instances, instance)).orElse(
 			DefaultTestInstances.of(instance));
 	}
@@ -323,7 +321,7 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 	}
 
 	private Object invokeTestClassConstructor(Optional<Object> outerInstance, ExtensionRegistry registry,
-			ExtensionContext extensionContext) {
+			ExtensionContext extensionContext, ExecutableInvoker executableInvoker) {
 
 		Constructor<?> constructor = ReflectionUtils.getDeclaredConstructor(this.testClass);
 		return executableInvoker.invoke(constructor, outerInstance, extensionContext, registry,
@@ -368,7 +366,7 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 		for (Method method : this.beforeAllMethods) {
 			throwableCollector.execute(() -> {
 				try {
-					executableInvoker.invoke(method, testInstance, extensionContext, registry,
+					context.getExecutableInvoker().invoke(method, testInstance, extensionContext, registry,
 						ReflectiveInterceptorCall.ofVoidMethod(InvocationInterceptor::interceptBeforeAllMethod));
 				}
 				catch (Throwable throwable) {
@@ -396,7 +394,7 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 
 		this.afterAllMethods.forEach(method -> throwableCollector.execute(() -> {
 			try {
-				executableInvoker.invoke(method, testInstance, extensionContext, registry,
+				context.getExecutableInvoker().invoke(method, testInstance, extensionContext, registry,
 					ReflectiveInterceptorCall.ofVoidMethod(InvocationInterceptor::interceptAfterAllMethod));
 			}
 			catch (Throwable throwable) {
@@ -421,12 +419,13 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 				.forEach(extension -> throwableCollector.execute(() -> extension.afterAll(extensionContext)));
 	}
 
-	private void registerBeforeEachMethodAdapters(ExtensionRegistrar registrar) {
+	private void registerBeforeEachMethodAdapters(ExtensionRegistrar registrar, ExecutableInvoker executableInvoker) {
 		List<Method> beforeEachMethods = findBeforeEachMethods(this.testClass);
-		registerMethodsAsExtensions(beforeEachMethods, registrar, this::synthesizeBeforeEachMethodAdapter);
+		registerMethodsAsExtensions(beforeEachMethods, registrar,
+			method -> synthesizeBeforeEachMethodAdapter(method, executableInvoker));
 	}
 
-	private void registerAfterEachMethodAdapters(ExtensionRegistrar registrar) {
+	private void registerAfterEachMethodAdapters(ExtensionRegistrar registrar, ExecutableInvoker executableInvoker) {
 		// Make a local copy since findAfterEachMethods() returns an immutable list.
 		List<Method> afterEachMethods = new ArrayList<>(findAfterEachMethods(this.testClass));
 
@@ -436,7 +435,8 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 		// we register them as synthesized extensions.
 		Collections.reverse(afterEachMethods);
 
-		registerMethodsAsExtensions(afterEachMethods, registrar, this::synthesizeAfterEachMethodAdapter);
+		registerMethodsAsExtensions(afterEachMethods, registrar,
+			method -> synthesizeAfterEachMethodAdapter(method, executableInvoker));
 	}
 
 	private void registerMethodsAsExtensions(List<Method> methods, ExtensionRegistrar registrar,
@@ -445,18 +445,20 @@ public abstract class ClassBasedTestDescriptor extends JupiterTestDescriptor {
 		methods.forEach(method -> registrar.registerExtension(extensionSynthesizer.apply(method), method));
 	}
 
-	private BeforeEachMethodAdapter synthesizeBeforeEachMethodAdapter(Method method) {
+	private BeforeEachMethodAdapter synthesizeBeforeEachMethodAdapter(Method method,
+			ExecutableInvoker executableInvoker) {
 		return (extensionContext, registry) -> invokeMethodInExtensionContext(method, extensionContext, registry,
-			InvocationInterceptor::interceptBeforeEachMethod);
+			executableInvoker, InvocationInterceptor::interceptBeforeEachMethod);
 	}
 
-	private AfterEachMethodAdapter synthesizeAfterEachMethodAdapter(Method method) {
+	private AfterEachMethodAdapter synthesizeAfterEachMethodAdapter(Method method,
+			ExecutableInvoker executableInvoker) {
 		return (extensionContext, registry) -> invokeMethodInExtensionContext(method, extensionContext, registry,
-			InvocationInterceptor::interceptAfterEachMethod);
+			executableInvoker, InvocationInterceptor::interceptAfterEachMethod);
 	}
 
 	private void invokeMethodInExtensionContext(Method method, ExtensionContext context, ExtensionRegistry registry,
-			VoidMethodInterceptorCall interceptorCall) {
+			ExecutableInvoker executableInvoker, VoidMethodInterceptorCall interceptorCall) {
 		TestInstances testInstances = context.getRequiredTestInstances();
 		Object target = testInstances.findInstance(method.getDeclaringClass()).orElseThrow(
 			() -> new JUnitException("Failed to find instance for method: " + method.toGenericString()));
@@ -74,7 +74,8 @@ public class ClassTestDescriptor extends ClassBasedTestDescriptor {
 	@Override
 	protected TestInstances instantiateTestClass(JupiterEngineExecutionContext parentExecutionContext,
 			ExtensionRegistry registry, ExtensionRegistrar registrar, ExtensionContext extensionContext) {
-		return instantiateTestClass(Optional.empty(), registry, extensionContext);
+		return instantiateTestClass(Optional.empty(), registry, extensionContext,
+			parentExecutionContext.getExecutableInvoker());
 	}
 
 }
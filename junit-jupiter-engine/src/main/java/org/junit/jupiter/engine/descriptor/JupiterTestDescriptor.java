@@ -181,7 +181,8 @@ public abstract class JupiterTestDescriptor extends AbstractTestDescriptor
 	Set<ExclusiveResource> getExclusiveResourcesFromAnnotation(AnnotatedElement element) {
 		// @formatter:off
 		return findRepeatableAnnotations(element, ResourceLock.class).stream()
-				.map(resource -> new ExclusiveResource(resource.value(), toLockMode(resource.mode())))
+				.map(resource -> new ExclusiveResource(resource.value(), toLockMode(resource.mode()),
+						resource.permits()))
 				.collect(toSet());
 		// @formatter:on
 	}
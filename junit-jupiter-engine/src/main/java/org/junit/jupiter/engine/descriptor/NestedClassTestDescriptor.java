@@ -82,7 +82,8 @@ public class NestedClassTestDescriptor extends ClassBasedTestDescriptor {
 		ExtensionRegistry extensionRegistryForOuterInstanceCreation = parentExecutionContext.getExtensionRegistry();
 		TestInstances outerInstances = parentExecutionContext.getTestInstancesProvider().getTestInstances(
 			extensionRegistryForOuterInstanceCreation, registrar);
-		return instantiateTestClass(Optional.of(outerInstances), registry, extensionContext);
+		return instantiateTestClass(Optional.of(outerInstances), registry, extensionContext,
+			parentExecutionContext.getExecutableInvoker());
 	}
 
 }
@@ -12,7 +12,15 @@ package org.junit.jupiter.engine.discovery;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.util.Arrays;
+import java.util.List;
+
 import org.apiguardian.api.API;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestTemplate;
 import org.junit.jupiter.engine.descriptor.JupiterEngineDescriptor;
 import org.junit.jupiter.engine.discovery.predicates.IsTestClassWithTests;
 import org.junit.platform.engine.EngineDiscoveryRequest;
@@ -31,9 +39,17 @@ import org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolve
 @API(status = INTERNAL, since = "5.0")
 public class DiscoverySelectorResolver {
 
+	/**
+	 * Names of the annotations that are used to pre-filter class files during
+	 * classpath scanning, if enabled.
+	 */
+	private static final List<String> testAnnotationNames = Arrays.asList(Test.class.getName(),
+		TestFactory.class.getName(), TestTemplate.class.getName(), RepeatedTest.class.getName(),
+		Nested.class.getName(), "org.junit.jupiter.params.ParameterizedTest");
+
 	// @formatter:off
 	private static final EngineDiscoveryRequestResolver<JupiterEngineDescriptor> resolver = EngineDiscoveryRequestResolver.<JupiterEngineDescriptor>builder()
-			.addClassContainerSelectorResolver(new IsTestClassWithTests())
+			.addClassContainerSelectorResolver(new IsTestClassWithTests(), testAnnotationNames)
 			.addSelectorResolver(context -> new ClassSelectorResolver(context.getClassNameFilter(), context.getEngineDescriptor().getConfiguration()))
 			.addSelectorResolver(context -> new MethodSelectorResolver(context.getEngineDescriptor().getConfiguration()))
 			.addTestDescriptorVisitor(context -> new MethodOrderingVisitor(context.getEngineDescriptor().getConfiguration()))
@@ -11,7 +11,6 @@
 package org.junit.jupiter.engine.execution;
 
 import static java.util.stream.Collectors.joining;
-import static java.util.stream.Collectors.toList;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.junit.platform.commons.util.ReflectionUtils.isAssignableTo;
 
@@ -19,6 +18,8 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
@@ -30,6 +31,7 @@ import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.jupiter.api.extension.ParameterResolutionException;
 import org.junit.jupiter.api.extension.ParameterResolver;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.extension.ExtensionRegistry;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
@@ -51,6 +53,35 @@ public class ExecutableInvoker {
 	private static final Logger logger = LoggerFactory.getLogger(ExecutableInvoker.class);
 	private static final InvocationInterceptorChain interceptorChain = new InvocationInterceptorChain();
 
+	private final MethodInvocationStrategy methodInvocationStrategy;
+	private final ParameterResolutionPlans parameterResolutionPlans;
+
+	/**
+	 * Create an {@code ExecutableInvoker} that invokes methods via
+	 * {@linkplain MethodInvocationStrategy#REFLECTION reflection} and does
+	 * not cache parameter resolution plans.
+	 */
+	public ExecutableInvoker() {
+		this.methodInvocationStrategy = MethodInvocationStrategy.REFLECTION;
+		this.parameterResolutionPlans = null;
+	}
+
+	/**
+	 * Create an {@code ExecutableInvoker} for the supplied configuration.
+	 *
+	 * @param configuration the configuration that determines the
+	 * {@link MethodInvocationStrategy} and whether parameter resolution plans
+	 * are cached; never {@code null}
+	 * @since 5.6
+	 */
+	public ExecutableInvoker(JupiterConfiguration configuration) {
+		Preconditions.notNull(configuration, "JupiterConfiguration must not be null");
+		this.methodInvocationStrategy = configuration.getMethodInvocationStrategy();
+		this.parameterResolutionPlans = configuration.isParameterResolutionCacheEnabled()
+				? new ParameterResolutionPlans()
+				: null;
+	}
+
 	/**
 	 * Invoke the supplied constructor with the supplied outer instance and
 	 * dynamic parameter resolution.
@@ -94,7 +125,8 @@ public class ExecutableInvoker {
 		Optional<Object> optionalTarget = (target instanceof Optional ? (Optional<Object>) target
 				: Optional.ofNullable(target));
 		Object[] arguments = resolveParameters(method, optionalTarget, extensionContext, extensionRegistry);
-		MethodInvocation<T> invocation = new MethodInvocation<>(method, optionalTarget, arguments);
+		MethodInvocation<T> invocation = new MethodInvocation<>(method, optionalTarget, arguments,
+			this.methodInvocationStrategy);
 		return invoke(invocation, invocation, extensionContext, extensionRegistry, interceptorCall);
 	}
 
@@ -177,42 +209,45 @@ public class ExecutableInvoker {
 			start = 1;
 		}
 
-		// Resolve remaining parameters dynamically
+		if (start == parameters.length) {
+			return values;
+		}
+
+		// Resolve remaining parameters dynamically, reusing a cached plan if possible
+		List<ParameterResolver> resolvers = extensionRegistry.getUnmodifiableExtensions(ParameterResolver.class);
+		ParameterResolutionPlans plans = this.parameterResolutionPlans;
+		int[] resolverIndices = (plans != null ? plans.getResolverIndices(executable, resolvers) : null);
+		boolean planned = (resolverIndices != null);
+		if (!planned) {
+			resolverIndices = new int[parameters.length];
+			Arrays.fill(resolverIndices, -1);
+		}
 		for (int i = start; i < parameters.length; i++) {
 			ParameterContext parameterContext = new DefaultParameterContext(parameters[i], i, target);
-			values[i] = resolveParameter(parameterContext, executable, extensionContext, extensionRegistry);
+			values[i] = resolveParameter(parameterContext, executable, extensionContext, resolvers, resolverIndices);
+		}
+		if (plans != null && !planned) {
+			plans.putResolverIndices(executable, resolvers, resolverIndices);
 		}
 		return values;
 	}
 
+	/**
+	 * Resolve the supplied parameter using the resolver at the corresponding
+	 * index in the supplied array of resolver indices or, if the index is
+	 * negative, using the only resolver that supports the parameter, in which
+	 * case its index is stored in the array.
+	 */
 	private Object resolveParameter(ParameterContext parameterContext, Executable executable,
-			ExtensionContext extensionContext, ExtensionRegistry extensionRegistry) {
+			ExtensionContext extensionContext, List<ParameterResolver> resolvers, int[] resolverIndices) {
 
 		try {
-			// @formatter:off
-			List<ParameterResolver> matchingResolvers = extensionRegistry.stream(ParameterResolver.class)
-					.filter(resolver -> resolver.supportsParameter(parameterContext, extensionContext))
-					.collect(toList());
-			// @formatter:on
-
-			if (matchingResolvers.isEmpty()) {
-				throw new ParameterResolutionException(
-					String.format("No ParameterResolver registered for parameter [%s] in %s [%s].",
-						parameterContext.getParameter(), asLabel(executable), executable.toGenericString()));
-			}
-
-			if (matchingResolvers.size() > 1) {
-				// @formatter:off
-				String resolvers = matchingResolvers.stream()
-						.map(StringUtils::defaultToString)
-						.collect(joining(", "));
-				// @formatter:on
-				throw new ParameterResolutionException(
-					String.format("Discovered multiple competing ParameterResolvers for parameter [%s] in %s [%s]: %s",
-						parameterContext.getParameter(), asLabel(executable), executable.toGenericString(), resolvers));
+			int index = parameterContext.getIndex();
+			if (resolverIndices[index] < 0) {
+				resolverIndices[index] = findResolverIndex(parameterContext, executable, extensionContext, resolvers);
 			}
 
-			ParameterResolver resolver = matchingResolvers.get(0);
+			ParameterResolver resolver = resolvers.get(resolverIndices[index]);
 			Object value = resolver.resolveParameter(parameterContext, extensionContext);
 			validateResolvedType(parameterContext.getParameter(), value, executable, resolver);
 
@@ -240,6 +275,40 @@ public class ExecutableInvoker {
 		}
 	}
 
+	private int findResolverIndex(ParameterContext parameterContext, Executable executable,
+			ExtensionContext extensionContext, List<ParameterResolver> resolvers) {
+
+		List<ParameterResolver> matchingResolvers = new ArrayList<>(1);
+		int resolverIndex = -1;
+		for (int i = 0; i < resolvers.size(); i++) {
+			ParameterResolver resolver = resolvers.get(i);
+			if (resolver.supportsParameter(parameterContext, extensionContext)) {
+				matchingResolvers.add(resolver);
+				resolverIndex = i;
+			}
+		}
+
+		if (matchingResolvers.isEmpty()) {
+			throw new ParameterResolutionException(
+				String.format("No ParameterResolver registered for parameter [%s] in %s [%s].",
+					parameterContext.getParameter(), asLabel(executable), executable.toGenericString()));
+		}
+
+		if (matchingResolvers.size() > 1) {
+			// @formatter:off
+			String resolverNames = matchingResolvers.stream()
+					.map(StringUtils::defaultToString)
+					.collect(joining(", "));
+			// @formatter:on
+			throw new ParameterResolutionException(
+				String.format("Discovered multiple competing ParameterResolvers for parameter [%s] in %s [%s]: %s",
+					parameterContext.getParameter(), asLabel(executable), executable.toGenericString(),
+					resolverNames));
+		}
+
+		return resolverIndex;
+	}
+
 	private void validateResolvedType(Parameter parameter, Object value, Executable executable,
 			ParameterResolver resolver) {
 
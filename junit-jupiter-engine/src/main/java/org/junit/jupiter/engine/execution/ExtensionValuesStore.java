@@ -15,18 +15,15 @@ import static org.junit.jupiter.engine.support.JupiterThrowableCollectorFactory.
 import static org.junit.platform.commons.util.ReflectionUtils.getWrapperType;
 import static org.junit.platform.commons.util.ReflectionUtils.isAssignableTo;
 
-import java.util.Objects;
-import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 import java.util.function.Supplier;
 
 import org.apiguardian.api.API;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store.CloseableResource;
 import org.junit.jupiter.api.extension.ExtensionContextException;
 import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 
@@ -40,32 +37,34 @@ import org.junit.platform.engine.support.hierarchical.ThrowableCollector;
 public class ExtensionValuesStore {
 
 	private final ExtensionValuesStore parentStore;
-	private final ConcurrentMap<CompositeKey, Supplier<Object>> storedValues = new ConcurrentHashMap<>(4);
+	private final ConcurrentMap<Namespace, ConcurrentMap<Object, Supplier<Object>>> storedValues;
 
 	public ExtensionValuesStore(ExtensionValuesStore parentStore) {
 		this.parentStore = parentStore;
+		this.storedValues = new ConcurrentHashMap<>(4);
 	}
 
 	/**
-	 * Close all values that implement {@link ExtensionContext.Store.CloseableResource}.
+	 * Close all values that implement {@link CloseableResource}.
 	 *
 	 * @implNote Only close values stored in this instance. This implementation
 	 * does not close values in parent stores.
 	 */
 	public void closeAllStoredCloseableValues() {
 		ThrowableCollector throwableCollector = createThrowableCollector();
-		for (Supplier<Object> supplier : storedValues.values()) {
-			Object value = supplier.get();
-			if (value instanceof ExtensionContext.Store.CloseableResource) {
-				ExtensionContext.Store.CloseableResource resource = (ExtensionContext.Store.CloseableResource) value;
-				throwableCollector.execute(resource::close);
+		for (ConcurrentMap<Object, Supplier<Object>> storedValuesInNamespace : storedValues.values()) {
+			for (Supplier<Object> supplier : storedValuesInNamespace.values()) {
+				Object value = supplier.get();
+				if (value instanceof CloseableResource) {
+					throwableCollector.execute(((CloseableResource) value)::close);
+				}
 			}
 		}
 		throwableCollector.assertEmpty();
 	}
 
 	Object get(Namespace namespace, Object key) {
-		Supplier<Object> storedValue = getStoredValue(new CompositeKey(namespace, key));
+		Supplier<Object> storedValue = getStoredValue(namespace, key);
 		return (storedValue != null ? storedValue.get() : null);
 	}
 
@@ -75,11 +74,11 @@ public class ExtensionValuesStore {
 	}
 
 	<K, V> Object getOrComputeIfAbsent(Namespace namespace, K key, Function<K, V> defaultCreator) {
-		CompositeKey compositeKey = new CompositeKey(namespace, key);
-		Supplier<Object> storedValue = getStoredValue(compositeKey);
+		Supplier<Object> storedValue = getStoredValue(namespace, key);
 		if (storedValue == null) {
-			Supplier<Object> newValue = new MemoizingSupplier(() -> defaultCreator.apply(key));
-			storedValue = Optional.ofNullable(storedValues.putIfAbsent(compositeKey, newValue)).orElse(newValue);
+			Supplier<Object> newValue = new MemoizingSupplier<>(key, defaultCreator);
+			Supplier<Object> previousValue = getStoredValues(namespace).putIfAbsent(key, newValue);
+			storedValue = (previousValue != null ? previousValue : newValue);
 		}
 		return storedValue.get();
 	}
@@ -90,11 +89,15 @@ public class ExtensionValuesStore {
 	}
 
 	void put(Namespace namespace, Object key, Object value) {
-		storedValues.put(new CompositeKey(namespace, key), () -> value);
+		getStoredValues(namespace).put(key, () -> value);
 	}
 
 	Object remove(Namespace namespace, Object key) {
-		Supplier<Object> previous = storedValues.remove(new CompositeKey(namespace, key));
+		ConcurrentMap<Object, Supplier<Object>> storedValuesInNamespace = storedValues.get(namespace);
+		if (storedValuesInNamespace == null) {
+			return null;
+		}
+		Supplier<Object> previous = storedValuesInNamespace.remove(key);
 		return (previous != null ? previous.get() : null);
 	}
 
@@ -103,17 +106,32 @@ public class ExtensionValuesStore {
 		return castToRequiredType(key, value, requiredType);
 	}
 
-	private Supplier<Object> getStoredValue(CompositeKey compositeKey) {
-		Supplier<Object> storedValue = storedValues.get(compositeKey);
-		if (storedValue != null) {
-			return storedValue;
-		}
-		else if (parentStore != null) {
-			return parentStore.getStoredValue(compositeKey);
+	private ConcurrentMap<Object, Supplier<Object>> getStoredValues(Namespace namespace) {
+		ConcurrentMap<Object, Supplier<Object>> storedValuesInNamespace = storedValues.get(namespace);
+		if (storedValuesInNamespace != null) {
+			return storedValuesInNamespace;
 		}
-		else {
-			return null;
+		return storedValues.computeIfAbsent(namespace, __ -> new ConcurrentHashMap<>(4));
+	}
+
+	/**
+	 * Look up the value stored for the supplied namespace and key in this store
+	 * or the closest parent store that contains it.
+	 *
+	 * <p>Values are stored per namespace so that lookups do not need to
+	 * allocate a composite key, and parent stores are traversed iteratively.
+	 */
+	private Supplier<Object> getStoredValue(Namespace namespace, Object key) {
+		for (ExtensionValuesStore store = this; store != null; store = store.parentStore) {
+			ConcurrentMap<Object, Supplier<Object>> storedValuesInNamespace = store.storedValues.get(namespace);
+			if (storedValuesInNamespace != null) {
+				Supplier<Object> storedValue = storedValuesInNamespace.get(key);
+				if (storedValue != null) {
+					return storedValue;
+				}
+			}
 		}
+		return null;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -132,61 +150,42 @@ public class ExtensionValuesStore {
 			String.format("Object stored under key [%s] is not of required type [%s]", key, requiredType.getName()));
 	}
 
-	private static class CompositeKey {
-
-		private final Namespace namespace;
-		private final Object key;
-
-		private CompositeKey(Namespace namespace, Object key) {
-			this.namespace = namespace;
-			this.key = key;
-		}
-
-		@Override
-		public boolean equals(Object o) {
-			if (this == o) {
-				return true;
-			}
-			if (o == null || getClass() != o.getClass()) {
-				return false;
-			}
-			CompositeKey that = (CompositeKey) o;
-			return this.namespace.equals(that.namespace) && this.key.equals(that.key);
-		}
-
-		@Override
-		public int hashCode() {
-			return Objects.hash(namespace, key);
-		}
-
-	}
-
-	private static class MemoizingSupplier implements Supplier<Object> {
+	/**
+	 * Computes its value on first access and returns it without locking
+	 * afterwards.
+	 *
+	 * <p>The monitor of the supplier itself guards the computation so that no
+	 * additional lock needs to be allocated per stored value. The key and
+	 * default creator are released once the value has been computed.
+	 */
+	private static class MemoizingSupplier<K, V> implements Supplier<Object> {
 
 		private static final Object NO_VALUE_SET = new Object();
 
-		private final Lock lock = new ReentrantLock();
-		private final Supplier<Object> delegate;
+		private K key;
+		private Function<K, V> defaultCreator;
 		private volatile Object value = NO_VALUE_SET;
 
-		private MemoizingSupplier(Supplier<Object> delegate) {
-			this.delegate = delegate;
+		private MemoizingSupplier(K key, Function<K, V> defaultCreator) {
+			this.key = key;
+			this.defaultCreator = defaultCreator;
 		}
 
 		@Override
 		public Object get() {
-			if (value == NO_VALUE_SET) {
-				lock.lock();
-				try {
-					if (value == NO_VALUE_SET) {
-						value = delegate.get();
+			Object result = value;
+			if (result == NO_VALUE_SET) {
+				synchronized (this) {
+					result = value;
+					if (result == NO_VALUE_SET) {
+						result = defaultCreator.apply(key);
+						value = result;
+						key = null;
+						defaultCreator = null;
 					}
 				}
-				finally {
-					lock.unlock();
-				}
 			}
-			return value;
+			return result;
 		}
 
 	}
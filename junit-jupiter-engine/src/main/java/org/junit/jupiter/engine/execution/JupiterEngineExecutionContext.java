@@ -67,6 +67,16 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 		return this.state.configuration;
 	}
 
+	/**
+	 * Get the {@link ExecutableInvoker} to use for invoking constructors and
+	 * methods during this execution.
+	 *
+	 * @since 5.6
+	 */
+	public ExecutableInvoker getExecutableInvoker() {
+		return this.state.executableInvoker;
+	}
+
 	public TestInstancesProvider getTestInstancesProvider() {
 		return this.state.testInstancesProvider;
 	}
@@ -124,6 +134,7 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 
 		final EngineExecutionListener executionListener;
 		final JupiterConfiguration configuration;
+		final ExecutableInvoker executableInvoker;
 		TestInstancesProvider testInstancesProvider;
 		MutableExtensionRegistry extensionRegistry;
 		ExtensionContext extensionContext;
@@ -132,6 +143,7 @@ public class JupiterEngineExecutionContext implements EngineExecutionContext {
 		State(EngineExecutionListener executionListener, JupiterConfiguration configuration) {
 			this.executionListener = executionListener;
 			this.configuration = configuration;
+			this.executableInvoker = new ExecutableInvoker(configuration);
 		}
 
 		@Override
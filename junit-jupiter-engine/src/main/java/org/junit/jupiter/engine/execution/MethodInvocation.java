@@ -19,18 +19,23 @@ import java.util.Optional;
 
 import org.junit.jupiter.api.extension.InvocationInterceptor.Invocation;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
-import org.junit.platform.commons.util.ReflectionUtils;
 
 class MethodInvocation<T> implements Invocation<T>, ReflectiveInvocationContext<Method> {
 
 	protected final Method method;
 	protected final Optional<Object> target;
 	protected final Object[] arguments;
+	private final MethodInvocationStrategy strategy;
 
 	MethodInvocation(Method method, Optional<Object> target, Object[] arguments) {
+		this(method, target, arguments, MethodInvocationStrategy.REFLECTION);
+	}
+
+	MethodInvocation(Method method, Optional<Object> target, Object[] arguments, MethodInvocationStrategy strategy) {
 		this.method = method;
 		this.target = target;
 		this.arguments = arguments;
+		this.strategy = strategy;
 	}
 
 	@Override
@@ -57,7 +62,7 @@ class MethodInvocation<T> implements Invocation<T>, ReflectiveInvocationContext<
 	@Override
 	@SuppressWarnings("unchecked")
 	public T proceed() {
-		return (T) ReflectionUtils.invokeMethod(method, target.orElse(null), arguments);
+		return (T) strategy.invoke(method, target.orElse(null), arguments);
 	}
 
 }
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+import static org.junit.platform.commons.util.ReflectionUtils.isStatic;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ReflectionUtils;
+
+/**
+ * Strategy for invoking test, lifecycle, and test factory methods.
+ *
+ * @since 5.6
+ * @see org.junit.jupiter.engine.Constants#METHOD_INVOCATION_STRATEGY_PROPERTY_NAME
+ */
+@API(status = INTERNAL, since = "5.6")
+public enum MethodInvocationStrategy {
+
+	/**
+	 * Invoke methods via {@link Method#invoke(Object, Object...)}.
+	 *
+	 * @see ReflectionUtils#invokeMethod(Method, Object, Object...)
+	 */
+	REFLECTION {
+		@Override
+		public Object invoke(Method method, Object target, Object[] arguments) {
+			return ReflectionUtils.invokeMethod(method, target, arguments);
+		}
+	},
+
+	/**
+	 * Invoke methods via {@link MethodHandle MethodHandles} that are created
+	 * once per method and cached for subsequent invocations.
+	 *
+	 * <p>The cache is kept per declaring class of the invoked methods so that
+	 * cached method handles do not prevent classes from being unloaded.
+	 */
+	METHOD_HANDLES {
+		@Override
+		public Object invoke(Method method, Object target, Object[] arguments) {
+			Preconditions.notNull(method, "Method must not be null");
+			Preconditions.condition((target != null || isStatic(method)), () -> String.format(
+				"Cannot invoke non-static method [%s] on a null target.", method.toGenericString()));
+
+			try {
+				return (Object) MethodHandleCache.getMethodHandle(method).invokeExact(target, arguments);
+			}
+			catch (Throwable t) {
+				throw ExceptionUtils.throwAsUncheckedException(t);
+			}
+		}
+	};
+
+	/**
+	 * Invoke the supplied method on the supplied target with the supplied
+	 * arguments.
+	 *
+	 * <p>Any exception thrown by the method is rethrown as is, if necessary
+	 * {@linkplain ExceptionUtils#throwAsUncheckedException masked} as an
+	 * unchecked exception.
+	 *
+	 * @param method the method to invoke; never {@code null}
+	 * @param target the object on which to invoke the method; may be
+	 * {@code null} if the method is {@code static}
+	 * @param arguments the arguments to pass to the method; never {@code null}
+	 * @return the value returned by the method; {@code null} for {@code void}
+	 * methods
+	 */
+	public abstract Object invoke(Method method, Object target, Object[] arguments);
+
+	private static class MethodHandleCache {
+
+		private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class,
+			Object[].class);
+
+		private static final MethodHandlesPerClass methodHandles = new MethodHandlesPerClass();
+
+		static MethodHandle getMethodHandle(Method method) {
+			ConcurrentMap<Method, MethodHandle> declaredMethodHandles = methodHandles.get(method.getDeclaringClass());
+			MethodHandle methodHandle = declaredMethodHandles.get(method);
+			if (methodHandle == null) {
+				methodHandle = declaredMethodHandles.computeIfAbsent(method, MethodHandleCache::createMethodHandle);
+			}
+			return methodHandle;
+		}
+
+		/**
+		 * Create a method handle of type {@code (Object, Object[])Object} that
+		 * invokes the supplied method on its first argument, or ignores its
+		 * first argument for {@code static} methods, and spreads the array
+		 * of arguments to the parameters of the method.
+		 */
+		private static MethodHandle createMethodHandle(Method method) {
+			try {
+				MethodHandle methodHandle = MethodHandles.lookup().unreflect(ReflectionUtils.makeAccessible(method));
+				if (isStatic(method)) {
+					methodHandle = MethodHandles.dropArguments(methodHandle, 0, Object.class);
+				}
+				methodHandle = methodHandle.asSpreader(Object[].class, method.getParameterCount());
+				return methodHandle.asType(INVOKER_TYPE);
+			}
+			catch (IllegalAccessException ex) {
+				throw ExceptionUtils.throwAsUncheckedException(ex);
+			}
+		}
+
+		private static class MethodHandlesPerClass extends ClassValue<ConcurrentMap<Method, MethodHandle>> {
+
+			@Override
+			protected ConcurrentMap<Method, MethodHandle> computeValue(Class<?> type) {
+				return new ConcurrentHashMap<>();
+			}
+
+		}
+
+	}
+
+}
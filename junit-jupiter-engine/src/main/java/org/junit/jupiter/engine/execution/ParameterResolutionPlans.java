@@ -0,0 +1,84 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import java.lang.reflect.Executable;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.junit.jupiter.api.extension.ParameterResolver;
+
+/**
+ * Cache of the {@link ParameterResolver ParameterResolvers} that have been
+ * determined to support the parameters of an {@link Executable}.
+ *
+ * <p>A plan is only reused if the {@code ParameterResolvers} that are
+ * registered for an invocation are of the same types and in the same order
+ * as those the plan was created for. Since a new extension registry is
+ * created for each invocation of a test method, registries themselves cannot
+ * be used as keys.
+ *
+ * <p>The cache is held by the {@link ExecutableInvoker} of the
+ * {@link JupiterEngineExecutionContext} of an engine execution so that it is
+ * discarded once all tests have been executed.
+ *
+ * @since 5.6
+ * @see ExecutableInvoker
+ */
+class ParameterResolutionPlans {
+
+	private final ConcurrentMap<Executable, Plan> plans = new ConcurrentHashMap<>();
+
+	/**
+	 * Get the indices of the resolvers in the supplied list that support the
+	 * parameters of the supplied executable.
+	 *
+	 * @return the resolver index for each parameter; {@code null} if there is
+	 * no plan for the executable and the supplied resolvers
+	 */
+	int[] getResolverIndices(Executable executable, List<ParameterResolver> resolvers) {
+		Plan plan = this.plans.get(executable);
+		return plan != null && plan.isApplicableTo(resolvers) ? plan.resolverIndices : null;
+	}
+
+	void putResolverIndices(Executable executable, List<ParameterResolver> resolvers, int[] resolverIndices) {
+		this.plans.put(executable, new Plan(resolvers, resolverIndices));
+	}
+
+	private static class Plan {
+
+		private final Class<?>[] resolverTypes;
+		private final int[] resolverIndices;
+
+		Plan(List<ParameterResolver> resolvers, int[] resolverIndices) {
+			this.resolverTypes = new Class<?>[resolvers.size()];
+			for (int i = 0; i < this.resolverTypes.length; i++) {
+				this.resolverTypes[i] = resolvers.get(i).getClass();
+			}
+			this.resolverIndices = resolverIndices;
+		}
+
+		boolean isApplicableTo(List<ParameterResolver> resolvers) {
+			if (resolvers.size() != this.resolverTypes.length) {
+				return false;
+			}
+			for (int i = 0; i < this.resolverTypes.length; i++) {
+				if (resolvers.get(i).getClass() != this.resolverTypes[i]) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+	}
+
+}
@@ -47,12 +47,28 @@ public interface ExtensionRegistry {
 	 *
 	 * @param extensionType the type of {@link Extension} to get
 	 * @see #getReversedExtensions(Class)
+	 * @see #getUnmodifiableExtensions(Class)
 	 * @see #stream(Class)
 	 */
 	default <E extends Extension> List<E> getExtensions(Class<E> extensionType) {
 		return stream(extensionType).collect(toCollection(ArrayList::new));
 	}
 
+	/**
+	 * Get all {@code Extensions} of the specified type that are present
+	 * in this registry or one of its ancestors as an unmodifiable list.
+	 *
+	 * <p>In contrast to {@link #getExtensions(Class)}, implementations may
+	 * return the same list for subsequent invocations instead of a copy.
+	 *
+	 * @param extensionType the type of {@link Extension} to get
+	 * @since 5.6
+	 * @see #getExtensions(Class)
+	 */
+	default <E extends Extension> List<E> getUnmodifiableExtensions(Class<E> extensionType) {
+		return Collections.unmodifiableList(getExtensions(extensionType));
+	}
+
 	/**
 	 * Get all {@code Extensions} of the specified type that are present
 	 * in this registry or one of its ancestors, in reverse order.
@@ -11,7 +11,6 @@
 package org.junit.jupiter.engine.extension;
 
 import static java.util.stream.Collectors.toList;
-import static java.util.stream.Stream.concat;
 import static org.apiguardian.api.API.Status.INTERNAL;
 
 import java.util.ArrayList;
@@ -21,6 +20,8 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.ServiceLoader;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -40,6 +41,12 @@ import org.junit.platform.commons.util.ReflectionUtils;
  * performed first in the current registry itself and then recursively in its
  * ancestors.
  *
+ * <p>The results of lookups are cached per extension type so that repeated
+ * lookups of the same type, e.g. of parameter resolvers or lifecycle
+ * callbacks for every test, do not have to filter all registered extensions
+ * of this registry and its ancestors again. The cache is invalidated whenever
+ * an extension is registered in this registry or one of its ancestors.
+ *
  * @since 5.5
  */
 @API(status = INTERNAL, since = "5.5")
@@ -124,33 +131,66 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 
 	private final List<Extension> registeredExtensions = new ArrayList<>();
 
+	private final ConcurrentMap<Class<?>, CachedExtensions> cachedExtensions = new ConcurrentHashMap<>();
+
 	private MutableExtensionRegistry(MutableExtensionRegistry parent) {
 		this.parent = parent;
 	}
 
 	@Override
 	public <E extends Extension> Stream<E> stream(Class<E> extensionType) {
-		if (this.parent == null) {
-			return streamLocal(extensionType);
+		return getCachedExtensions(extensionType).stream();
+	}
+
+	@Override
+	public <E extends Extension> List<E> getExtensions(Class<E> extensionType) {
+		return new ArrayList<>(getCachedExtensions(extensionType));
+	}
+
+	@Override
+	public <E extends Extension> List<E> getUnmodifiableExtensions(Class<E> extensionType) {
+		return getCachedExtensions(extensionType);
+	}
+
+	@Override
+	public <E extends Extension> List<E> getReversedExtensions(Class<E> extensionType) {
+		List<E> extensions = getCachedExtensions(extensionType);
+		List<E> reversedExtensions = new ArrayList<>(extensions.size());
+		for (int i = extensions.size() - 1; i >= 0; i--) {
+			reversedExtensions.add(extensions.get(i));
 		}
-		return concat(this.parent.stream(extensionType), streamLocal(extensionType));
+		return reversedExtensions;
 	}
 
 	/**
-	 * Stream all {@code Extensions} of the specified type that are present
-	 * in this registry.
+	 * Get all {@code Extensions} of the specified type that are present in
+	 * this registry or one of its ancestors as an unmodifiable list.
 	 *
-	 * <p>Extensions in ancestors are ignored.
+	 * <p>The returned list is cached and only recomputed if an extension has
+	 * been registered in this registry or if the cached list of the parent
+	 * registry has changed since the cached list was computed.
 	 *
-	 * @param extensionType the type of {@link Extension} to stream
-	 * @see #getReversedExtensions(Class)
+	 * @param extensionType the type of {@link Extension} to get
 	 */
-	private <E extends Extension> Stream<E> streamLocal(Class<E> extensionType) {
-		// @formatter:off
-		return this.registeredExtensions.stream()
-				.filter(extensionType::isInstance)
-				.map(extensionType::cast);
-		// @formatter:on
+	@SuppressWarnings("unchecked")
+	private <E extends Extension> List<E> getCachedExtensions(Class<E> extensionType) {
+		List<E> parentExtensions = this.parent == null ? null : this.parent.getCachedExtensions(extensionType);
+		CachedExtensions cached = this.cachedExtensions.get(extensionType);
+		if (cached == null || cached.parentExtensions != parentExtensions) {
+			cached = new CachedExtensions(parentExtensions, collectExtensions(extensionType, parentExtensions));
+			this.cachedExtensions.put(extensionType, cached);
+		}
+		return (List<E>) cached.extensions;
+	}
+
+	private <E extends Extension> List<E> collectExtensions(Class<E> extensionType, List<E> parentExtensions) {
+		List<E> extensions = parentExtensions == null ? new ArrayList<>() : new ArrayList<>(parentExtensions);
+		for (Extension extension : this.registeredExtensions) {
+			if (extensionType.isInstance(extension)) {
+				extensions.add(extensionType.cast(extension));
+			}
+		}
+		return Collections.unmodifiableList(extensions);
 	}
 
 	/**
@@ -181,6 +221,7 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 	private void registerDefaultExtension(Extension extension) {
 		this.registeredExtensions.add(extension);
 		this.registeredExtensionTypes.add(extension.getClass());
+		this.cachedExtensions.clear();
 	}
 
 	private void registerExtension(Extension extension) {
@@ -195,6 +236,23 @@ public class MutableExtensionRegistry implements ExtensionRegistry, ExtensionReg
 		logger.trace(() -> String.format("Registering extension [%s] from source [%s].", extension, source));
 
 		this.registeredExtensions.add(extension);
+		this.cachedExtensions.clear();
+	}
+
+	/**
+	 * Extensions of a single type together with the list of extensions of the
+	 * parent registry they were computed from.
+	 */
+	private static class CachedExtensions {
+
+		private final List<?> parentExtensions;
+		private final List<?> extensions;
+
+		CachedExtensions(List<?> parentExtensions, List<?> extensions) {
+			this.parentExtensions = parentExtensions;
+			this.extensions = extensions;
+		}
+
 	}
 
 }
@@ -18,6 +18,8 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
 import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+import static org.junit.jupiter.engine.Constants.DYNAMIC_STREAMING_ENABLED_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.DYNAMIC_STREAMING_MAX_PENDING_PROPERTY_NAME;
 import static org.junit.jupiter.engine.descriptor.TestFactoryTestDescriptor.DYNAMIC_CONTAINER_SEGMENT_TYPE;
 import static org.junit.jupiter.engine.descriptor.TestFactoryTestDescriptor.DYNAMIC_TEST_SEGMENT_TYPE;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
@@ -35,12 +37,20 @@ import static org.junit.platform.testkit.engine.EventConditions.started;
 import static org.junit.platform.testkit.engine.EventConditions.test;
 import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
 import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -48,7 +58,10 @@ import org.junit.jupiter.api.DynamicNode;
 import org.junit.jupiter.api.DynamicTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestFactory;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 import org.junit.platform.testkit.engine.EngineExecutionResults;
@@ -404,6 +417,32 @@ class DynamicNodeGenerationTests extends AbstractJupiterTestEngineTests {
 			event(engine(), finishedSuccessfully()));
 	}
 
+	@Test
+	void dynamicTestsAreStreamedWhenStreamingIsEnabled() {
+		LauncherDiscoveryRequest request = request() //
+				.selectors(selectMethod(StreamingDynamicTestCase.class, "lazilyGeneratedTests")) //
+				.configurationParameter(DYNAMIC_STREAMING_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(DYNAMIC_STREAMING_MAX_PENDING_PROPERTY_NAME, "1") //
+				.build();
+		AtomicInteger maxChildrenOfFactory = new AtomicInteger();
+		EngineExecutionListener listener = mock(EngineExecutionListener.class);
+		doAnswer(invocation -> {
+			TestDescriptor dynamicTestDescriptor = invocation.getArgument(0);
+			int children = dynamicTestDescriptor.getParent().orElseThrow(AssertionError::new).getChildren().size();
+			maxChildrenOfFactory.accumulateAndGet(children, Math::max);
+			return null;
+		}).when(listener).dynamicTestRegistered(any());
+
+		new JupiterTestEngine().execute(
+			new ExecutionRequest(discoverTests(request), listener, request.getConfigurationParameters()));
+
+		verify(listener, times(1000)).dynamicTestRegistered(any());
+		verify(listener, times(1000)).executionFinished(argThat(TestDescriptor::isTest),
+			eq(TestExecutionResult.successful()));
+		// finished dynamic tests have been removed from the factory while its stream was being consumed
+		assertThat(maxChildrenOfFactory.get()).isBetween(1, 2);
+	}
+
 	static class MyDynamicTestCase {
 
 		private static final List<DynamicTest> list = Arrays.asList(
@@ -477,4 +516,13 @@ class DynamicNodeGenerationTests extends AbstractJupiterTestEngineTests {
 
 	}
 
+	static class StreamingDynamicTestCase {
+
+		@TestFactory
+		Stream<DynamicTest> lazilyGeneratedTests() {
+			return Stream.generate(() -> dynamicTest("test", () -> assertTrue(true))).limit(1000);
+		}
+
+	}
+
 }
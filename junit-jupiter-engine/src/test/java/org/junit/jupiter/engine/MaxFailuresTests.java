@@ -0,0 +1,80 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine;
+
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.engine.Constants.MAX_FAILURES_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+import static org.junit.platform.testkit.engine.EventConditions.event;
+import static org.junit.platform.testkit.engine.EventConditions.skippedWithReason;
+import static org.junit.platform.testkit.engine.EventConditions.test;
+
+import org.junit.jupiter.api.MethodOrderer.OrderAnnotation;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.junit.platform.testkit.engine.Events;
+
+/**
+ * Integration tests for {@link Constants#MAX_FAILURES_PROPERTY_NAME}.
+ *
+ * @since 5.6
+ */
+class MaxFailuresTests extends AbstractJupiterTestEngineTests {
+
+	@Test
+	void remainingTestsAreSkippedAfterReachingMaximumNumberOfFailures() {
+		Events testEvents = executeTests(request() //
+				.selectors(selectClass(FailingTestCase.class)) //
+				.configurationParameter(MAX_FAILURES_PROPERTY_NAME, "2") //
+				.build()).testEvents();
+
+		testEvents.assertStatistics(stats -> stats.started(3).succeeded(1).failed(2).skipped(1));
+		testEvents.assertThatEvents().haveExactly(1, event(test("fourth"),
+			skippedWithReason("Execution stopped after reaching the maximum of 2 failures")));
+	}
+
+	@Test
+	void allTestsAreExecutedByDefault() {
+		executeTestsForClass(FailingTestCase.class).testEvents().assertStatistics(
+			stats -> stats.started(4).succeeded(1).failed(3).skipped(0));
+	}
+
+	@TestMethodOrder(OrderAnnotation.class)
+	static class FailingTestCase {
+
+		@Test
+		@Order(1)
+		void first() {
+			fail("first");
+		}
+
+		@Test
+		@Order(2)
+		void second() {
+		}
+
+		@Test
+		@Order(3)
+		void third() {
+			fail("third");
+		}
+
+		@Test
+		@Order(4)
+		void fourth() {
+			fail("fourth");
+		}
+
+	}
+
+}
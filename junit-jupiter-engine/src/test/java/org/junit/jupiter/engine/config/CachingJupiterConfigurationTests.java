@@ -18,7 +18,10 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -26,6 +29,7 @@ import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.api.extension.ExecutionCondition;
 import org.junit.jupiter.api.parallel.ExecutionMode;
 import org.junit.jupiter.engine.descriptor.CustomDisplayNameGenerator;
+import org.junit.jupiter.engine.execution.MethodInvocationStrategy;
 
 /**
  * Unit tests for {@link CachingJupiterConfiguration}.
@@ -45,6 +49,16 @@ class CachingJupiterConfigurationTests {
 		verify(delegate, only()).getDefaultExecutionMode();
 	}
 
+	@Test
+	void cachesParallelExecutor() {
+		when(delegate.getParallelExecutor()).thenReturn(ParallelExecutor.VIRTUAL_THREADS);
+
+		assertThat(cache.getParallelExecutor()).isEqualTo(ParallelExecutor.VIRTUAL_THREADS);
+		assertThat(cache.getParallelExecutor()).isEqualTo(ParallelExecutor.VIRTUAL_THREADS);
+
+		verify(delegate, only()).getParallelExecutor();
+	}
+
 	@Test
 	void cachesDefaultTestInstanceLifecycle() {
 		when(delegate.getDefaultTestInstanceLifecycle()).thenReturn(Lifecycle.PER_CLASS);
@@ -86,6 +100,52 @@ class CachingJupiterConfigurationTests {
 		verify(delegate, only()).isParallelExecutionEnabled();
 	}
 
+	@Test
+	void cachesParameterResolutionCacheEnabled() {
+		when(delegate.isParameterResolutionCacheEnabled()).thenReturn(true);
+
+		assertThat(cache.isParameterResolutionCacheEnabled()).isTrue();
+		assertThat(cache.isParameterResolutionCacheEnabled()).isTrue();
+
+		verify(delegate, only()).isParameterResolutionCacheEnabled();
+	}
+
+	@Test
+	void cachesDynamicTestStreamingSettings() {
+		when(delegate.isDynamicTestStreamingEnabled()).thenReturn(true);
+		when(delegate.getMaxPendingDynamicTests()).thenReturn(42);
+
+		assertThat(cache.isDynamicTestStreamingEnabled()).isTrue();
+		assertThat(cache.isDynamicTestStreamingEnabled()).isTrue();
+		assertThat(cache.getMaxPendingDynamicTests()).isEqualTo(42);
+		assertThat(cache.getMaxPendingDynamicTests()).isEqualTo(42);
+
+		verify(delegate).isDynamicTestStreamingEnabled();
+		verify(delegate).getMaxPendingDynamicTests();
+		verifyNoMoreInteractions(delegate);
+	}
+
+	@Test
+	void cachesMaxFailures() {
+		when(delegate.getMaxFailures()).thenReturn(OptionalInt.of(3));
+
+		assertThat(cache.getMaxFailures()).hasValue(3);
+		assertThat(cache.getMaxFailures()).hasValue(3);
+
+		verify(delegate, only()).getMaxFailures();
+	}
+
+	@Test
+	void cachesExecutionDurationsFile() {
+		Path file = Paths.get("durations.txt");
+		when(delegate.getExecutionDurationsFile()).thenReturn(Optional.of(file));
+
+		assertThat(cache.getExecutionDurationsFile()).contains(file);
+		assertThat(cache.getExecutionDurationsFile()).contains(file);
+
+		verify(delegate, only()).getExecutionDurationsFile();
+	}
+
 	@Test
 	void cachesDefaultDisplayNameGenerator() {
 		CustomDisplayNameGenerator customDisplayNameGenerator = new CustomDisplayNameGenerator();
@@ -98,6 +158,16 @@ class CachingJupiterConfigurationTests {
 		verify(delegate, only()).getDefaultDisplayNameGenerator();
 	}
 
+	@Test
+	void cachesMethodInvocationStrategy() {
+		when(delegate.getMethodInvocationStrategy()).thenReturn(MethodInvocationStrategy.METHOD_HANDLES);
+
+		assertThat(cache.getMethodInvocationStrategy()).isEqualTo(MethodInvocationStrategy.METHOD_HANDLES);
+		assertThat(cache.getMethodInvocationStrategy()).isEqualTo(MethodInvocationStrategy.METHOD_HANDLES);
+
+		verify(delegate, only()).getMethodInvocationStrategy();
+	}
+
 	@Test
 	void doesNotCacheRawParameters() {
 		when(delegate.getRawConfigurationParameter("foo")).thenReturn(Optional.of("bar")).thenReturn(
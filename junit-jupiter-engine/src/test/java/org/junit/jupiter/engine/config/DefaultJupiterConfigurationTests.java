@@ -19,6 +19,7 @@ import static org.junit.jupiter.engine.Constants.DEFAULT_TEST_INSTANCE_LIFECYCLE
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Paths;
 import java.util.Optional;
 
 import org.junit.jupiter.api.DisplayNameGenerator;
@@ -26,6 +27,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestInstance.Lifecycle;
 import org.junit.jupiter.engine.Constants;
 import org.junit.jupiter.engine.descriptor.CustomDisplayNameGenerator;
+import org.junit.jupiter.engine.execution.MethodInvocationStrategy;
 import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.engine.ConfigurationParameters;
 
@@ -86,6 +88,91 @@ class DefaultJupiterConfigurationTests {
 		assertThat(defaultDisplayNameGenerator).isInstanceOf(DisplayNameGenerator.Standard.class);
 	}
 
+	@Test
+	void getParallelExecutorWithConfigParamSet() {
+		assertAll(//
+			() -> assertParallelExecutor(null, ParallelExecutor.FORK_JOIN_POOL), //
+			() -> assertParallelExecutor("bogus", ParallelExecutor.FORK_JOIN_POOL), //
+			() -> assertParallelExecutor(" deferring_fork_join_pool ", ParallelExecutor.DEFERRING_FORK_JOIN_POOL), //
+			() -> assertParallelExecutor("VIRTUAL_THREADS", ParallelExecutor.VIRTUAL_THREADS) //
+		);
+	}
+
+	@Test
+	void dynamicTestStreamingIsDisabledByDefault() {
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(mock(ConfigurationParameters.class));
+
+		assertThat(configuration.isDynamicTestStreamingEnabled()).isFalse();
+		assertThat(configuration.getMaxPendingDynamicTests()).isEqualTo(256);
+	}
+
+	@Test
+	void getMaxPendingDynamicTestsWithConfigParamSet() {
+		assertAll(//
+			() -> assertMaxPendingDynamicTests(" 42 ", 42), //
+			() -> assertMaxPendingDynamicTests("bogus", 256), //
+			() -> assertMaxPendingDynamicTests("0", 256), //
+			() -> assertMaxPendingDynamicTests("-1", 256) //
+		);
+	}
+
+	@Test
+	void getMaxFailuresWithConfigParamSet() {
+		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+		when(configParams.get(Constants.MAX_FAILURES_PROPERTY_NAME)).thenReturn(Optional.of(" 3 ")).thenReturn(
+			Optional.of("three")).thenReturn(Optional.of("0"));
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(configParams);
+
+		assertThat(configuration.getMaxFailures()).hasValue(3);
+		assertThat(configuration.getMaxFailures()).isEmpty();
+		assertThat(configuration.getMaxFailures()).isEmpty();
+	}
+
+	@Test
+	void getExecutionDurationsFileWithConfigParamSet() {
+		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+		when(configParams.get(Constants.PARALLEL_DURATIONS_FILE_PROPERTY_NAME)).thenReturn(
+			Optional.of(" build/durations.txt ")).thenReturn(Optional.of("invalid\0path"));
+		JupiterConfiguration configuration = new DefaultJupiterConfiguration(configParams);
+
+		assertThat(configuration.getExecutionDurationsFile()).contains(Paths.get("build", "durations.txt"));
+		assertThat(configuration.getExecutionDurationsFile()).isEmpty();
+	}
+
+	@Test
+	void getMethodInvocationStrategyWithConfigParamSet() {
+		assertAll(//
+			() -> assertMethodInvocationStrategy(null, MethodInvocationStrategy.REFLECTION), //
+			() -> assertMethodInvocationStrategy("bogus", MethodInvocationStrategy.REFLECTION), //
+			() -> assertMethodInvocationStrategy(" method_handles ", MethodInvocationStrategy.METHOD_HANDLES), //
+			() -> assertMethodInvocationStrategy("REFLECTION", MethodInvocationStrategy.REFLECTION) //
+		);
+	}
+
+	private void assertMethodInvocationStrategy(String configValue, MethodInvocationStrategy expected) {
+		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+		when(configParams.get(Constants.METHOD_INVOCATION_STRATEGY_PROPERTY_NAME)).thenReturn(
+			Optional.ofNullable(configValue));
+		MethodInvocationStrategy strategy = new DefaultJupiterConfiguration(configParams).getMethodInvocationStrategy();
+		assertThat(strategy).isEqualTo(expected);
+	}
+
+	private void assertMaxPendingDynamicTests(String configValue, int expected) {
+		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+		when(configParams.get(Constants.DYNAMIC_STREAMING_MAX_PENDING_PROPERTY_NAME)).thenReturn(
+			Optional.of(configValue));
+		int maxPending = new DefaultJupiterConfiguration(configParams).getMaxPendingDynamicTests();
+		assertThat(maxPending).isEqualTo(expected);
+	}
+
+	private void assertParallelExecutor(String configValue, ParallelExecutor expected) {
+		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+		when(configParams.get(Constants.PARALLEL_CONFIG_EXECUTOR_PROPERTY_NAME)).thenReturn(
+			Optional.ofNullable(configValue));
+		ParallelExecutor parallelExecutor = new DefaultJupiterConfiguration(configParams).getParallelExecutor();
+		assertThat(parallelExecutor).isEqualTo(expected);
+	}
+
 	private void assertDefaultConfigParam(String configValue, Lifecycle expected) {
 		ConfigurationParameters configParams = mock(ConfigurationParameters.class);
 		when(configParams.get(KEY)).thenReturn(Optional.ofNullable(configValue));
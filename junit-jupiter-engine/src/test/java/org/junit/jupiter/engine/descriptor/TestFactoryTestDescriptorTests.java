@@ -30,6 +30,7 @@ import org.junit.jupiter.api.TestFactory;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.engine.config.JupiterConfiguration;
 import org.junit.jupiter.engine.execution.JupiterEngineExecutionContext;
+import org.junit.jupiter.engine.execution.MethodInvocationStrategy;
 import org.junit.jupiter.engine.extension.MutableExtensionRegistry;
 import org.junit.platform.engine.TestSource;
 import org.junit.platform.engine.UniqueId;
@@ -136,11 +137,12 @@ class TestFactoryTestDescriptorTests {
 		void before() throws Exception {
 			jupiterConfiguration = mock(JupiterConfiguration.class);
 			when(jupiterConfiguration.getDefaultDisplayNameGenerator()).thenReturn(new DisplayNameGenerator.Standard());
+			when(jupiterConfiguration.getMethodInvocationStrategy()).thenReturn(MethodInvocationStrategy.REFLECTION);
 
 			extensionContext = mock(ExtensionContext.class);
 			isClosed = false;
 
-			context = new JupiterEngineExecutionContext(null, null) //
+			context = new JupiterEngineExecutionContext(null, jupiterConfiguration) //
 					.extend() //
 					.withThrowableCollector(new OpenTest4JAwareThrowableCollector()) //
 					.withExtensionContext(extensionContext) //
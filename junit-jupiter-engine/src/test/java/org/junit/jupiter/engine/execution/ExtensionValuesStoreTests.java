@@ -80,6 +80,14 @@ public class ExtensionValuesStoreTests {
 			assertEquals(value, store.get(namespace, key));
 		}
 
+		@Test
+		void removeWithUnknownNamespaceReturnsNull() {
+			store.put(namespace, key, value);
+
+			assertNull(store.remove(Namespace.create("unknown"), key));
+			assertEquals(value, store.get(namespace, key));
+		}
+
 		@Test
 		void valueIsNotComputedIfPresentLocally() {
 			store.put(namespace, key, value);
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.execution;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.engine.Constants.METHOD_INVOCATION_STRATEGY_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+import org.junit.platform.commons.PreconditionViolationException;
+
+/**
+ * Unit and integration tests for {@link MethodInvocationStrategy}.
+ *
+ * @since 5.6
+ */
+class MethodInvocationStrategyTests extends AbstractJupiterTestEngineTests {
+
+	private final SampleClass instance = new SampleClass();
+
+	@Test
+	void invokesInstanceMethodsWithArguments() throws Exception {
+		Method method = SampleClass.class.getDeclaredMethod("add", int.class, Integer.class);
+
+		for (MethodInvocationStrategy strategy : MethodInvocationStrategy.values()) {
+			assertEquals(42, strategy.invoke(method, instance, new Object[] { 40, 2 }), strategy.name());
+		}
+	}
+
+	@Test
+	void invokesStaticMethodsWithoutTarget() throws Exception {
+		Method method = SampleClass.class.getDeclaredMethod("concat", String.class, long.class);
+
+		for (MethodInvocationStrategy strategy : MethodInvocationStrategy.values()) {
+			assertEquals("answer42", strategy.invoke(method, null, new Object[] { "answer", 42L }), strategy.name());
+		}
+	}
+
+	@Test
+	void returnsNullForVoidMethods() throws Exception {
+		Method method = SampleClass.class.getDeclaredMethod("doNothing");
+
+		for (MethodInvocationStrategy strategy : MethodInvocationStrategy.values()) {
+			assertNull(strategy.invoke(method, instance, new Object[0]), strategy.name());
+		}
+	}
+
+	@Test
+	void rethrowsExceptionsThrownByMethodsUnchanged() throws Exception {
+		Method method = SampleClass.class.getDeclaredMethod("throwException");
+
+		for (MethodInvocationStrategy strategy : MethodInvocationStrategy.values()) {
+			IOException exception = assertThrows(IOException.class,
+				() -> strategy.invoke(method, instance, new Object[0]), strategy.name());
+			assertSame(SampleClass.EXCEPTION, exception);
+		}
+	}
+
+	@Test
+	void rejectsNullTargetForInstanceMethods() throws Exception {
+		Method method = SampleClass.class.getDeclaredMethod("doNothing");
+
+		for (MethodInvocationStrategy strategy : MethodInvocationStrategy.values()) {
+			assertThrows(PreconditionViolationException.class, () -> strategy.invoke(method, null, new Object[0]),
+				strategy.name());
+		}
+	}
+
+	@Test
+	void executesTestAndLifecycleMethodsUsingMethodHandles() {
+		executeTests(request() //
+				.selectors(selectClass(LifecycleTestCase.class)) //
+				.configurationParameter(METHOD_INVOCATION_STRATEGY_PROPERTY_NAME, "method_handles") //
+				.build()).testEvents().assertStatistics(stats -> stats.started(2).succeeded(1).failed(1));
+	}
+
+	@Test
+	void executesTestAndLifecycleMethodsUsingReflectionForInvalidStrategy() {
+		executeTests(request() //
+				.selectors(selectClass(LifecycleTestCase.class)) //
+				.configurationParameter(METHOD_INVOCATION_STRATEGY_PROPERTY_NAME, "bogus") //
+				.build()).testEvents().assertStatistics(stats -> stats.started(2).succeeded(1).failed(1));
+	}
+
+	@SuppressWarnings("unused")
+	private static class SampleClass {
+
+		static final IOException EXCEPTION = new IOException("expected");
+
+		private int add(int a, Integer b) {
+			return a + b;
+		}
+
+		static String concat(String value, long number) {
+			return value + number;
+		}
+
+		void doNothing() {
+		}
+
+		void throwException() throws IOException {
+			throw EXCEPTION;
+		}
+
+	}
+
+	static class LifecycleTestCase {
+
+		private String value;
+
+		@BeforeEach
+		void initialize(TestInfo testInfo) {
+			value = testInfo.getDisplayName();
+		}
+
+		@Test
+		void succeeding() {
+			assertEquals("succeeding()", value);
+		}
+
+		@Test
+		void failing() {
+			assertNull(value);
+		}
+
+		@AfterAll
+		static void afterAll() {
+		}
+
+	}
+
+}
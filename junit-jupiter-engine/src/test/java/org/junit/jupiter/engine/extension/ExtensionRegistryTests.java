@@ -15,6 +15,8 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.engine.extension.MutableExtensionRegistry.createRegistryFrom;
 import static org.junit.jupiter.engine.extension.MutableExtensionRegistry.createRegistryWithDefaultExtensions;
@@ -146,6 +148,63 @@ class ExtensionRegistryTests {
 		assertTrue(hasRun.get());
 	}
 
+	@Test
+	void lookupReflectsExtensionsRegisteredAfterPreviousLookup() {
+		assertEquals(0, countExtensions(registry, MyExtensionApi.class));
+
+		registry.registerExtension(MyExtension.class);
+		assertEquals(1, countExtensions(registry, MyExtensionApi.class));
+
+		registry.registerExtension(new YourExtension(), this);
+		assertEquals(2, countExtensions(registry, MyExtensionApi.class));
+	}
+
+	@Test
+	void lookupInChildReflectsExtensionsRegisteredInParentAfterPreviousLookup() {
+		MutableExtensionRegistry parent = registry;
+		MutableExtensionRegistry child = createRegistryFrom(parent, singletonList(YourExtension.class));
+		ExtensionRegistry grandChild = createRegistryFrom(child, emptyList());
+		assertEquals(1, countExtensions(grandChild, MyExtensionApi.class));
+
+		parent.registerExtension(MyExtension.class);
+
+		List<MyExtensionApi> extensions = grandChild.getExtensions(MyExtensionApi.class);
+		assertEquals(2, extensions.size());
+		assertEquals(MyExtension.class, extensions.get(0).getClass());
+		assertEquals(YourExtension.class, extensions.get(1).getClass());
+	}
+
+	@Test
+	void modifyingReturnedListsDoesNotAffectRegistry() {
+		registry.registerExtension(MyExtension.class);
+		registry.registerExtension(YourExtension.class);
+
+		registry.getExtensions(MyExtensionApi.class).clear();
+		List<MyExtensionApi> reversedExtensions = registry.getReversedExtensions(MyExtensionApi.class);
+
+		assertEquals(2, reversedExtensions.size());
+		assertEquals(YourExtension.class, reversedExtensions.get(0).getClass());
+		assertEquals(MyExtension.class, reversedExtensions.get(1).getClass());
+		assertEquals(2, registry.getExtensions(MyExtensionApi.class).size());
+	}
+
+	@Test
+	void unmodifiableListIsReusedUntilAnotherExtensionIsRegistered() {
+		registry.registerExtension(MyExtension.class);
+		MutableExtensionRegistry child = createRegistryFrom(registry, emptyList());
+
+		List<MyExtensionApi> extensions = child.getUnmodifiableExtensions(MyExtensionApi.class);
+		assertSame(extensions, child.getUnmodifiableExtensions(MyExtensionApi.class));
+		assertThrows(UnsupportedOperationException.class, extensions::clear);
+
+		registry.registerExtension(YourExtension.class);
+
+		List<MyExtensionApi> updatedExtensions = child.getUnmodifiableExtensions(MyExtensionApi.class);
+		assertEquals(1, extensions.size());
+		assertEquals(2, updatedExtensions.size());
+		assertSame(updatedExtensions, child.getUnmodifiableExtensions(MyExtensionApi.class));
+	}
+
 	private long countExtensions(ExtensionRegistry registry, Class<? extends Extension> extensionType) {
 		return registry.stream(extensionType).count();
 	}
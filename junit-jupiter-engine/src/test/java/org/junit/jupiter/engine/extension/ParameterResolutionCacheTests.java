@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.engine.extension;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.engine.Constants.PARAMETER_RESOLUTION_CACHE_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.RepetitionInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInfo;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.engine.AbstractJupiterTestEngineTests;
+import org.junit.platform.testkit.engine.Events;
+
+/**
+ * Integration tests for {@link org.junit.jupiter.engine.Constants#PARAMETER_RESOLUTION_CACHE_ENABLED_PROPERTY_NAME}.
+ *
+ * @since 5.6
+ */
+class ParameterResolutionCacheTests extends AbstractJupiterTestEngineTests {
+
+	@BeforeEach
+	void resetCounters() {
+		CountingParameterResolver.supportsParameterCalls.set(0);
+		CountingParameterResolver.resolveParameterCalls.set(0);
+	}
+
+	@Test
+	void supportingResolversAreDeterminedOnlyForFirstInvocationWhenCacheIsEnabled() {
+		Events testEvents = executeTests(request() //
+				.selectors(selectClass(RepeatedTestCase.class)) //
+				.configurationParameter(PARAMETER_RESOLUTION_CACHE_ENABLED_PROPERTY_NAME, "true") //
+				.build()).testEvents();
+
+		testEvents.assertStatistics(stats -> stats.started(5).succeeded(5));
+		// once for each of the three parameters of the first repetition
+		assertEquals(3, CountingParameterResolver.supportsParameterCalls.get());
+		assertEquals(5, CountingParameterResolver.resolveParameterCalls.get());
+	}
+
+	@Test
+	void supportingResolversAreDeterminedForEachInvocationByDefault() {
+		executeTestsForClass(RepeatedTestCase.class).testEvents().assertStatistics(
+			stats -> stats.started(5).succeeded(5));
+
+		assertEquals(5 * 3, CountingParameterResolver.supportsParameterCalls.get());
+		assertEquals(5, CountingParameterResolver.resolveParameterCalls.get());
+	}
+
+	@ExtendWith(CountingParameterResolver.class)
+	static class RepeatedTestCase {
+
+		@RepeatedTest(5)
+		void test(String value, RepetitionInfo repetitionInfo, TestInfo testInfo) {
+			assertEquals("value", value);
+			assertEquals(testInfo.getDisplayName(), "repetition " + repetitionInfo.getCurrentRepetition() + " of 5");
+		}
+
+	}
+
+	static class CountingParameterResolver implements ParameterResolver {
+
+		static final AtomicInteger supportsParameterCalls = new AtomicInteger();
+		static final AtomicInteger resolveParameterCalls = new AtomicInteger();
+
+		@Override
+		public boolean supportsParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			supportsParameterCalls.incrementAndGet();
+			return parameterContext.getParameter().getType() == String.class;
+		}
+
+		@Override
+		public Object resolveParameter(ParameterContext parameterContext, ExtensionContext extensionContext) {
+			resolveParameterCalls.incrementAndGet();
+			return "value";
+		}
+
+	}
+
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Executable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Parameter;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Index of the annotations that have been found on annotated elements by
+ * {@link AnnotationUtils}.
+ *
+ * <p>Finding an annotation involves searching the meta-annotations,
+ * interfaces, and superclasses of an element recursively. Since the same
+ * elements are queried for many different annotations, e.g. for
+ * {@code @Tag}, {@code @Disabled}, {@code @ExtendWith}, and
+ * {@code @DisplayName} by JUnit Jupiter, the results of these searches are
+ * indexed per element and annotation type so that repeated lookups only
+ * require two hash lookups.
+ *
+ * <p>The index is stored via a {@link ClassValue} for the class that
+ * declares the annotated element so that it does not prevent that class or
+ * its class loader from being garbage collected. Elements other than
+ * classes, executables, fields, and parameters are not indexed, nor are
+ * annotation types that are not visible to the class loader of the declaring
+ * class.
+ *
+ * @since 1.6
+ * @see AnnotationUtils#findAnnotation(AnnotatedElement, Class)
+ * @see AnnotationUtils#findRepeatableAnnotations(AnnotatedElement, Class)
+ */
+final class AnnotationIndex {
+
+	private static final IndexPerClass annotations = new IndexPerClass();
+	private static final IndexPerClass repeatableAnnotations = new IndexPerClass();
+
+	private AnnotationIndex() {
+		/* no-op */
+	}
+
+	/**
+	 * Get the indexed result of searching the supplied element for an
+	 * annotation of the supplied type, searching it via the supplied finder
+	 * if necessary.
+	 */
+	static <A extends Annotation> Optional<A> findAnnotation(AnnotatedElement element, Class<A> annotationType,
+			Supplier<Optional<A>> finder) {
+		return get(annotations, element, annotationType, finder);
+	}
+
+	/**
+	 * Get the indexed result of searching the supplied element for repeatable
+	 * annotations of the supplied type, searching it via the supplied finder
+	 * if necessary.
+	 */
+	static <A extends Annotation> List<A> findRepeatableAnnotations(AnnotatedElement element, Class<A> annotationType,
+			Supplier<List<A>> finder) {
+		return get(repeatableAnnotations, element, annotationType, finder);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T get(IndexPerClass index, AnnotatedElement element, Class<? extends Annotation> annotationType,
+			Supplier<T> finder) {
+
+		Class<?> declaringClass = getDeclaringClass(element);
+		if (declaringClass == null || !isVisible(annotationType, declaringClass)) {
+			return finder.get();
+		}
+		ConcurrentMap<AnnotatedElement, ConcurrentMap<Class<? extends Annotation>, Object>> elements = index.get(
+			declaringClass);
+		ConcurrentMap<Class<? extends Annotation>, Object> results = elements.get(element);
+		if (results == null) {
+			results = elements.computeIfAbsent(element, key -> new ConcurrentHashMap<>(8));
+		}
+		Object result = results.get(annotationType);
+		if (result == null) {
+			result = finder.get();
+			Object previous = results.putIfAbsent(annotationType, result);
+			if (previous != null) {
+				result = previous;
+			}
+		}
+		return (T) result;
+	}
+
+	private static Class<?> getDeclaringClass(AnnotatedElement element) {
+		if (element instanceof Class) {
+			return (Class<?>) element;
+		}
+		if (element instanceof Executable) {
+			return ((Executable) element).getDeclaringClass();
+		}
+		if (element instanceof Field) {
+			return ((Field) element).getDeclaringClass();
+		}
+		if (element instanceof Parameter) {
+			return ((Parameter) element).getDeclaringExecutable().getDeclaringClass();
+		}
+		return null;
+	}
+
+	/**
+	 * Determine if the supplied annotation type is loaded by the class loader
+	 * of the supplied class or one of its ancestors. Otherwise, indexing the
+	 * result would prevent the class loader of the annotation type from being
+	 * garbage collected for as long as the class is loaded.
+	 */
+	private static boolean isVisible(Class<? extends Annotation> annotationType, Class<?> declaringClass) {
+		ClassLoader annotationClassLoader = annotationType.getClassLoader();
+		if (annotationClassLoader == null) {
+			return true;
+		}
+		ClassLoader classLoader = declaringClass.getClassLoader();
+		while (classLoader != null) {
+			if (classLoader == annotationClassLoader) {
+				return true;
+			}
+			classLoader = classLoader.getParent();
+		}
+		return false;
+	}
+
+	private static class IndexPerClass
+			extends ClassValue<ConcurrentMap<AnnotatedElement, ConcurrentMap<Class<? extends Annotation>, Object>>> {
+
+		@Override
+		protected ConcurrentMap<AnnotatedElement, ConcurrentMap<Class<? extends Annotation>, Object>> computeValue(
+				Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+
+	}
+
+}
@@ -111,8 +111,15 @@ public final class AnnotationUtils {
 	 */
 	public static <A extends Annotation> Optional<A> findAnnotation(AnnotatedElement element, Class<A> annotationType) {
 		Preconditions.notNull(annotationType, "annotationType must not be null");
-		boolean inherited = annotationType.isAnnotationPresent(Inherited.class);
-		return findAnnotation(element, annotationType, inherited, new HashSet<>());
+
+		if (element == null) {
+			return Optional.empty();
+		}
+
+		return AnnotationIndex.findAnnotation(element, annotationType, () -> {
+			boolean inherited = annotationType.isAnnotationPresent(Inherited.class);
+			return findAnnotation(element, annotationType, inherited, new HashSet<>());
+		});
 	}
 
 	private static <A extends Annotation> Optional<A> findAnnotation(AnnotatedElement element, Class<A> annotationType,
@@ -214,12 +221,14 @@ public final class AnnotationUtils {
 			return Collections.emptyList();
 		}
 
-		// We use a LinkedHashSet because the search algorithm may discover
-		// duplicates, but we need to maintain the original order.
-		Set<A> found = new LinkedHashSet<>(16);
-		findRepeatableAnnotations(element, annotationType, containerType, inherited, found, new HashSet<>(16));
-		// unmodifiable since returned from public, non-internal method(s)
-		return Collections.unmodifiableList(new ArrayList<>(found));
+		return AnnotationIndex.findRepeatableAnnotations(element, annotationType, () -> {
+			// We use a LinkedHashSet because the search algorithm may discover
+			// duplicates, but we need to maintain the original order.
+			Set<A> found = new LinkedHashSet<>(16);
+			findRepeatableAnnotations(element, annotationType, containerType, inherited, found, new HashSet<>(16));
+			// unmodifiable since returned from public, non-internal method(s)
+			return Collections.unmodifiableList(new ArrayList<>(found));
+		});
 	}
 
 	private static <A extends Annotation> void findRepeatableAnnotations(AnnotatedElement element,
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.apiguardian.api.API;
+
+/**
+ * Cache for the results of applying a {@link ClassFilter} to the classes
+ * defined by class files found during classpath scanning.
+ *
+ * <p>Implementations may be accessed concurrently when classpath scanning is
+ * performed in parallel and must therefore be thread-safe.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.6
+ * @see ClassFilter#withClassFileCache(ClassFileCache)
+ */
+@API(status = INTERNAL, since = "1.6")
+public interface ClassFileCache {
+
+	/**
+	 * Look up the cached result for the supplied class file.
+	 *
+	 * <p>If a result is present, it must still be valid for the current
+	 * contents of the class file. If the cached result is {@code false}, the
+	 * class will not be loaded.
+	 *
+	 * @param classFile the class file; never {@code null}
+	 * @return the cached result; never {@code null} but potentially empty
+	 */
+	Optional<Boolean> lookup(Path classFile);
+
+	/**
+	 * Record the result of applying the class predicate of a
+	 * {@link ClassFilter} to the class loaded from the supplied class file.
+	 *
+	 * @param classFile the class file; never {@code null}
+	 * @param clazz the class loaded from the class file; never {@code null}
+	 * @param matched whether the class matched the predicate
+	 */
+	void record(Path classFile, Class<?> clazz, boolean matched);
+
+}
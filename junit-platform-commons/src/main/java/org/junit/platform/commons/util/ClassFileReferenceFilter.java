@@ -0,0 +1,240 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.stream.Collectors.toList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Lightweight pre-filter that inspects the raw bytes of a class file in order
+ * to decide whether the corresponding class needs to be loaded at all.
+ *
+ * <p>Only the constant pool and the class header (i.e., the {@code this_class},
+ * {@code super_class}, and {@code interfaces} items) are inspected. A class
+ * file is considered a potential match if at least one of the following
+ * conditions is met.
+ *
+ * <ul>
+ * <li>Its constant pool contains the type descriptor of at least one of the
+ * configured annotations &mdash; for example, {@code Lorg/junit/jupiter/api/Test;}.</li>
+ * <li>It extends a class other than {@link Object} or implements at least one
+ * interface, since it might inherit annotated members.</li>
+ * <li>It references a class that might be nested within it, since the nested
+ * class might contain annotated members.</li>
+ * <li>It cannot be parsed by this filter, in which case the decision is
+ * deferred to the class loader.</li>
+ * </ul>
+ *
+ * <p>Annotations that are only present as meta-annotations on a composed
+ * annotation declared by the class itself are not detected.
+ *
+ * @since 1.6
+ */
+final class ClassFileReferenceFilter {
+
+	private static final int MAGIC = 0xCAFEBABE;
+	private static final String JAVA_LANG_OBJECT = "java/lang/Object";
+
+	private static final int CONSTANT_UTF8 = 1;
+	private static final int CONSTANT_INTEGER = 3;
+	private static final int CONSTANT_FLOAT = 4;
+	private static final int CONSTANT_LONG = 5;
+	private static final int CONSTANT_DOUBLE = 6;
+	private static final int CONSTANT_CLASS = 7;
+	private static final int CONSTANT_STRING = 8;
+	private static final int CONSTANT_FIELD_REF = 9;
+	private static final int CONSTANT_METHOD_REF = 10;
+	private static final int CONSTANT_INTERFACE_METHOD_REF = 11;
+	private static final int CONSTANT_NAME_AND_TYPE = 12;
+	private static final int CONSTANT_METHOD_HANDLE = 15;
+	private static final int CONSTANT_METHOD_TYPE = 16;
+	private static final int CONSTANT_DYNAMIC = 17;
+	private static final int CONSTANT_INVOKE_DYNAMIC = 18;
+	private static final int CONSTANT_MODULE = 19;
+	private static final int CONSTANT_PACKAGE = 20;
+
+	private static final byte[] JAVA_LANG_OBJECT_BYTES = encode(JAVA_LANG_OBJECT);
+
+	private final List<byte[]> descriptors;
+
+	/**
+	 * Create a new filter for the supplied fully qualified annotation names.
+	 */
+	ClassFileReferenceFilter(Collection<String> annotationNames) {
+		Preconditions.notEmpty(annotationNames, "annotationNames must not be null or empty");
+		Preconditions.containsNoNullElements(annotationNames, "annotationNames must not contain null elements");
+		// @formatter:off
+		this.descriptors = annotationNames.stream()
+				.map(name -> 'L' + name.replace('.', '/') + ';')
+				.map(ClassFileReferenceFilter::encode)
+				.collect(toList());
+		// @formatter:on
+	}
+
+	/**
+	 * Determine if the class defined by the supplied class file bytes might
+	 * match and should therefore be loaded.
+	 */
+	boolean mightMatch(byte[] classFile) {
+		try {
+			return parseAndMatch(classFile);
+		}
+		catch (IndexOutOfBoundsException ex) {
+			// Truncated or otherwise malformed class file: let the class loader decide.
+			return true;
+		}
+	}
+
+	private boolean parseAndMatch(byte[] bytes) {
+		if (readInt(bytes, 0) != MAGIC) {
+			return true;
+		}
+		int constantPoolCount = readUnsignedShort(bytes, 8);
+		// Offsets of the CONSTANT_Utf8 entries and the name indexes of the
+		// CONSTANT_Class entries; both indexed by constant pool index.
+		int[] utf8Offsets = new int[constantPoolCount];
+		int[] classNameIndexes = new int[constantPoolCount];
+		int offset = 10;
+		for (int index = 1; index < constantPoolCount; index++) {
+			int tag = bytes[offset];
+			switch (tag) {
+				case CONSTANT_UTF8:
+					int length = readUnsignedShort(bytes, offset + 1);
+					if (matchesAnyDescriptor(bytes, offset + 3, length)) {
+						return true;
+					}
+					utf8Offsets[index] = offset + 1;
+					offset += 3 + length;
+					break;
+				case CONSTANT_CLASS:
+					classNameIndexes[index] = readUnsignedShort(bytes, offset + 1);
+					offset += 3;
+					break;
+				case CONSTANT_STRING:
+				case CONSTANT_METHOD_TYPE:
+				case CONSTANT_MODULE:
+				case CONSTANT_PACKAGE:
+					offset += 3;
+					break;
+				case CONSTANT_METHOD_HANDLE:
+					offset += 4;
+					break;
+				case CONSTANT_INTEGER:
+				case CONSTANT_FLOAT:
+				case CONSTANT_FIELD_REF:
+				case CONSTANT_METHOD_REF:
+				case CONSTANT_INTERFACE_METHOD_REF:
+				case CONSTANT_NAME_AND_TYPE:
+				case CONSTANT_DYNAMIC:
+				case CONSTANT_INVOKE_DYNAMIC:
+					offset += 5;
+					break;
+				case CONSTANT_LONG:
+				case CONSTANT_DOUBLE:
+					offset += 9;
+					index++;
+					break;
+				default:
+					// Unknown constant pool tag, probably from a newer class file version.
+					return true;
+			}
+		}
+
+		int thisClass = readUnsignedShort(bytes, offset + 2);
+		int superClass = readUnsignedShort(bytes, offset + 4);
+		int interfacesCount = readUnsignedShort(bytes, offset + 6);
+		if (interfacesCount > 0) {
+			return true;
+		}
+		if (superClass != 0
+				&& !utf8Equals(bytes, utf8Offsets[classNameIndexes[superClass]], JAVA_LANG_OBJECT_BYTES)) {
+			return true;
+		}
+		return referencesPotentiallyNestedClass(bytes, utf8Offsets, classNameIndexes, thisClass);
+	}
+
+	private boolean matchesAnyDescriptor(byte[] bytes, int start, int length) {
+		for (byte[] descriptor : this.descriptors) {
+			if (descriptor.length == length && regionMatches(bytes, start, descriptor)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean referencesPotentiallyNestedClass(byte[] bytes, int[] utf8Offsets, int[] classNameIndexes,
+			int thisClass) {
+		int thisNameOffset = utf8Offsets[classNameIndexes[thisClass]];
+		int thisNameLength = readUnsignedShort(bytes, thisNameOffset);
+		for (int index = 1; index < classNameIndexes.length; index++) {
+			if (classNameIndexes[index] == 0 || index == thisClass) {
+				continue;
+			}
+			int nameOffset = utf8Offsets[classNameIndexes[index]];
+			int nameLength = readUnsignedShort(bytes, nameOffset);
+			if (nameLength > thisNameLength + 1 && bytes[nameOffset + 2 + thisNameLength] == '$'
+					&& regionMatches(bytes, nameOffset + 2, bytes, thisNameOffset + 2, thisNameLength)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean utf8Equals(byte[] bytes, int utf8Offset, byte[] expected) {
+		return readUnsignedShort(bytes, utf8Offset) == expected.length
+				&& regionMatches(bytes, utf8Offset + 2, expected);
+	}
+
+	private static boolean regionMatches(byte[] bytes, int start, byte[] expected) {
+		return regionMatches(bytes, start, expected, 0, expected.length);
+	}
+
+	private static boolean regionMatches(byte[] bytes, int start, byte[] other, int otherStart, int length) {
+		for (int i = 0; i < length; i++) {
+			if (bytes[start + i] != other[otherStart + i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int readUnsignedShort(byte[] bytes, int offset) {
+		return ((bytes[offset] & 0xFF) << 8) | (bytes[offset + 1] & 0xFF);
+	}
+
+	private static int readInt(byte[] bytes, int offset) {
+		return (readUnsignedShort(bytes, offset) << 16) | readUnsignedShort(bytes, offset + 2);
+	}
+
+	/**
+	 * Encode the supplied string using the <em>modified UTF-8</em> encoding
+	 * used in class files, without the leading length bytes.
+	 */
+	private static byte[] encode(String value) {
+		try {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			new DataOutputStream(out).writeUTF(value);
+			byte[] bytes = out.toByteArray();
+			return Arrays.copyOfRange(bytes, 2, bytes.length);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+}
@@ -41,7 +41,7 @@ class ClassFileVisitor extends SimpleFileVisitor<Path> {
 
 	@Override
 	public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
-		if (isNotPackageInfo(file) && isNotModuleInfo(file) && isClassFile(file)) {
+		if (isCandidateClassFile(file)) {
 			classFileConsumer.accept(file);
 		}
 		return CONTINUE;
@@ -61,16 +61,27 @@ class ClassFileVisitor extends SimpleFileVisitor<Path> {
 		return CONTINUE;
 	}
 
-	private static boolean isNotPackageInfo(Path path) {
-		return !path.endsWith(PACKAGE_INFO_FILE_NAME);
+	/**
+	 * Determine if the supplied file is a class file that should be considered
+	 * during classpath scanning, i.e. it is neither a {@code package-info}
+	 * nor a {@code module-info} class file.
+	 *
+	 * @since 1.6
+	 */
+	static boolean isCandidateClassFile(Path file) {
+		return isCandidateClassFileName(file.getFileName().toString());
 	}
 
-	private static boolean isNotModuleInfo(Path path) {
-		return !path.endsWith(MODULE_INFO_FILE_NAME);
-	}
-
-	private static boolean isClassFile(Path file) {
-		return file.getFileName().toString().endsWith(CLASS_FILE_SUFFIX);
+	/**
+	 * Determine if the supplied file name denotes a class file that should be
+	 * considered during classpath scanning.
+	 *
+	 * @since 1.6
+	 * @see #isCandidateClassFile(Path)
+	 */
+	static boolean isCandidateClassFileName(String fileName) {
+		return !PACKAGE_INFO_FILE_NAME.equals(fileName) && !MODULE_INFO_FILE_NAME.equals(fileName)
+				&& fileName.endsWith(CLASS_FILE_SUFFIX);
 	}
 
 }
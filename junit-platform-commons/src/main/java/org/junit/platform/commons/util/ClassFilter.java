@@ -12,6 +12,8 @@ package org.junit.platform.commons.util;
 
 import static org.apiguardian.api.API.Status.INTERNAL;
 
+import java.nio.file.Path;
+import java.util.Collection;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -41,15 +43,51 @@ public class ClassFilter implements Predicate<Class<?>> {
 	 * Create a {@link ClassFilter} instance that filters by names and classes.
 	 */
 	public static ClassFilter of(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate) {
-		return new ClassFilter(namePredicate, classPredicate);
+		return new ClassFilter(namePredicate, null, classPredicate, null);
+	}
+
+	/**
+	 * Create a {@link ClassFilter} instance that filters by names, class file
+	 * contents, and classes.
+	 *
+	 * <p>Before a class is loaded during classpath scanning, its class file is
+	 * inspected and the class is only loaded if the class file references at
+	 * least one of the supplied annotations or might inherit or contain
+	 * members annotated with them.
+	 *
+	 * @param annotationNames the fully qualified names of the annotations to
+	 * look for in class files; never {@code null} or empty
+	 * @since 1.6
+	 */
+	public static ClassFilter of(Predicate<String> namePredicate, Collection<String> annotationNames,
+			Predicate<Class<?>> classPredicate) {
+		return new ClassFilter(namePredicate, new ClassFileReferenceFilter(annotationNames), classPredicate, null);
 	}
 
 	private final Predicate<String> namePredicate;
+	private final ClassFileReferenceFilter classFileFilter;
 	private final Predicate<Class<?>> classPredicate;
+	private final ClassFileCache classFileCache;
 
-	private ClassFilter(Predicate<String> namePredicate, Predicate<Class<?>> classPredicate) {
+	private ClassFilter(Predicate<String> namePredicate, ClassFileReferenceFilter classFileFilter,
+			Predicate<Class<?>> classPredicate, ClassFileCache classFileCache) {
 		this.namePredicate = Preconditions.notNull(namePredicate, "name predicate must not be null");
+		this.classFileFilter = classFileFilter;
 		this.classPredicate = Preconditions.notNull(classPredicate, "class predicate must not be null");
+		this.classFileCache = classFileCache;
+	}
+
+	/**
+	 * Create a copy of this {@link ClassFilter} that consults the supplied
+	 * {@link ClassFileCache} during classpath scanning in order to avoid
+	 * loading classes that are already known not to match.
+	 *
+	 * @param classFileCache the cache to use; never {@code null}
+	 * @since 1.6
+	 */
+	public ClassFilter withClassFileCache(ClassFileCache classFileCache) {
+		Preconditions.notNull(classFileCache, "classFileCache must not be null");
+		return new ClassFilter(namePredicate, classFileFilter, classPredicate, classFileCache);
 	}
 
 	/**
@@ -59,6 +97,49 @@ public class ClassFilter implements Predicate<Class<?>> {
 		return namePredicate.test(name);
 	}
 
+	/**
+	 * Determine if this filter inspects class files before classes are loaded.
+	 *
+	 * @since 1.6
+	 * @see #matchClassFile(byte[])
+	 */
+	boolean hasClassFileFilter() {
+		return classFileFilter != null;
+	}
+
+	/**
+	 * Test the contents of a class file using the stored class file filter.
+	 *
+	 * @since 1.6
+	 */
+	boolean matchClassFile(byte[] classFile) {
+		return classFileFilter == null || classFileFilter.mightMatch(classFile);
+	}
+
+	/**
+	 * Determine if the stored class file cache, if any, knows that the class
+	 * defined by the supplied class file does not match.
+	 *
+	 * @since 1.6
+	 */
+	boolean isKnownMismatch(Path classFile) {
+		return classFileCache != null && !classFileCache.lookup(classFile).orElse(true);
+	}
+
+	/**
+	 * Test the supplied class loaded from the supplied class file and record
+	 * the result in the stored class file cache, if any.
+	 *
+	 * @since 1.6
+	 */
+	boolean testAndRecord(Path classFile, Class<?> type) {
+		boolean matched = test(type);
+		if (classFileCache != null) {
+			classFileCache.record(classFile, type, matched);
+		}
+		return matched;
+	}
+
 	/**
 	 * Test class using the stored class predicate.
 	 */
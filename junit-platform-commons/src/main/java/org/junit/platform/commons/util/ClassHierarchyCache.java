@@ -0,0 +1,96 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.Collections.unmodifiableList;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode;
+
+/**
+ * Cache for the methods and fields found in the type hierarchy of a class.
+ *
+ * <p>Searching the type hierarchy of a class involves sorting the declared
+ * members of each class and checking for overridden methods and shadowed
+ * fields. Since the same classes are searched repeatedly, e.g. for test
+ * methods during discovery and for lifecycle methods and annotated fields
+ * during execution, the results are cached per class and
+ * {@link HierarchyTraversalMode}.
+ *
+ * <p>The results are stored via a {@link ClassValue} so that they are
+ * associated with the class itself: the amount of cached data is bounded by
+ * the number of loaded classes that have been searched, and a cached entry
+ * does not prevent its class or class loader from being garbage collected.
+ *
+ * @since 1.6
+ * @see ReflectionUtils#findMethods(Class, java.util.function.Predicate, HierarchyTraversalMode)
+ * @see ReflectionUtils#findFields(Class, java.util.function.Predicate, HierarchyTraversalMode)
+ */
+final class ClassHierarchyCache {
+
+	private static final int METHODS = 0;
+	private static final int FIELDS = HierarchyTraversalMode.values().length;
+
+	private static final HierarchyMembers hierarchyMembers = new HierarchyMembers();
+
+	private ClassHierarchyCache() {
+		/* no-op */
+	}
+
+	/**
+	 * Get the cached methods in the type hierarchy of the supplied class,
+	 * computing them via the supplied finder if necessary.
+	 *
+	 * @return an unmodifiable list of the methods
+	 */
+	static List<Method> getMethods(Class<?> clazz, HierarchyTraversalMode traversalMode,
+			Supplier<List<Method>> finder) {
+		return get(clazz, METHODS + traversalMode.ordinal(), finder);
+	}
+
+	/**
+	 * Get the cached fields in the type hierarchy of the supplied class,
+	 * computing them via the supplied finder if necessary.
+	 *
+	 * @return an unmodifiable list of the fields
+	 */
+	static List<Field> getFields(Class<?> clazz, HierarchyTraversalMode traversalMode,
+			Supplier<List<Field>> finder) {
+		return get(clazz, FIELDS + traversalMode.ordinal(), finder);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> List<T> get(Class<?> clazz, int index, Supplier<List<T>> finder) {
+		AtomicReferenceArray<List<?>> members = hierarchyMembers.get(clazz);
+		List<T> result = (List<T>) members.get(index);
+		if (result == null) {
+			// Concurrent threads may compute the same result; the first one wins.
+			members.compareAndSet(index, null, unmodifiableList(finder.get()));
+			result = (List<T>) members.get(index);
+		}
+		return result;
+	}
+
+	private static class HierarchyMembers extends ClassValue<AtomicReferenceArray<List<?>>> {
+
+		@Override
+		protected AtomicReferenceArray<List<?>> computeValue(Class<?> type) {
+			return new AtomicReferenceArray<>(2 * HierarchyTraversalMode.values().length);
+		}
+
+	}
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static org.apiguardian.api.API.Status.INTERNAL;
+
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+
+/**
+ * Cache for the central directories of archives (e.g., JAR files) that are
+ * scanned for classes.
+ *
+ * <p>The central directory of each archive is read at most once per cache so
+ * that scanning several packages located in the same archive, e.g. for
+ * multiple package selectors of a single discovery request, does not
+ * repeatedly read it. Archives are not held open while their central
+ * directories are cached.
+ *
+ * <p>In addition, the cache holds the {@link ForkJoinPool} that is used when
+ * scanning in parallel so that all scans sharing the cache also share its
+ * threads instead of creating a new pool per scan. Instances are thread-safe
+ * and should be {@linkplain #close() closed} once scanning is finished.
+ *
+ * <h3>DISCLAIMER</h3>
+ *
+ * <p>These utilities are intended solely for usage within the JUnit framework
+ * itself. <strong>Any usage by external parties is not supported.</strong>
+ * Use at your own risk!
+ *
+ * @since 1.6
+ * @see ReflectionUtils#findAllClassesInPackage(String, ClassFilter, int, ClasspathArchiveCache)
+ */
+@API(status = INTERNAL, since = "1.6")
+public final class ClasspathArchiveCache implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(ClasspathArchiveCache.class);
+
+	private final Map<Path, Optional<ZipCentralDirectory>> centralDirectories = new ConcurrentHashMap<>();
+	private final Map<Integer, ForkJoinPool> forkJoinPools = new ConcurrentHashMap<>();
+
+	/**
+	 * Get the central directory of the supplied archive, opening it if
+	 * necessary.
+	 *
+	 * @return the central directory; empty if the archive could not be read
+	 * or its format is not supported
+	 */
+	Optional<ZipCentralDirectory> get(Path archive) {
+		return this.centralDirectories.computeIfAbsent(archive.toAbsolutePath().normalize(), this::open);
+	}
+
+	private Optional<ZipCentralDirectory> open(Path archive) {
+		try {
+			return ZipCentralDirectory.open(archive);
+		}
+		catch (Exception ex) {
+			logger.debug(ex, () -> "Failed to read central directory of archive " + archive);
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Get the {@link ForkJoinPool} with the supplied parallelism for scanning
+	 * in parallel, creating it if necessary.
+	 */
+	ForkJoinPool getForkJoinPool(int parallelism) {
+		return this.forkJoinPools.computeIfAbsent(parallelism, ForkJoinPool::new);
+	}
+
+	/**
+	 * Release all cached central directories and shut down the
+	 * {@link ForkJoinPool ForkJoinPools} used for scanning in parallel.
+	 */
+	@Override
+	public void close() {
+		this.centralDirectories.clear();
+		this.forkJoinPools.values().forEach(ForkJoinPool::shutdownNow);
+		this.forkJoinPools.clear();
+	}
+
+}
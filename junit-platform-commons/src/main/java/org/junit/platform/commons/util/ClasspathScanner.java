@@ -11,6 +11,7 @@
 package org.junit.platform.commons.util;
 
 import static java.lang.String.format;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
 import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
@@ -20,14 +21,21 @@ import static org.junit.platform.commons.util.ClassFileVisitor.CLASS_FILE_SUFFIX
 import java.io.IOException;
 import java.net.URI;
 import java.net.URL;
+import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 
@@ -58,6 +66,8 @@ class ClasspathScanner {
 	 */
 	private static final String MALFORMED_CLASS_NAME_ERROR_MESSAGE = "Malformed class name";
 
+	private static final Comparator<Path> PATH_COMPARATOR = Comparator.comparing(Path::toString);
+
 	private final Supplier<ClassLoader> classLoaderSupplier;
 
 	private final BiFunction<String, ClassLoader, Try<Class<?>>> loadClass;
@@ -70,37 +80,131 @@ class ClasspathScanner {
 	}
 
 	List<Class<?>> scanForClassesInPackage(String basePackageName, ClassFilter classFilter) {
+		return scanForClassesInPackage(basePackageName, classFilter, 1);
+	}
+
+	/**
+	 * @since 1.6
+	 */
+	List<Class<?>> scanForClassesInPackage(String basePackageName, ClassFilter classFilter, int parallelism) {
+		try (ClasspathArchiveCache archiveCache = new ClasspathArchiveCache()) {
+			return scanForClassesInPackage(basePackageName, classFilter, parallelism, archiveCache);
+		}
+	}
+
+	/**
+	 * @since 1.6
+	 */
+	List<Class<?>> scanForClassesInPackage(String basePackageName, ClassFilter classFilter, int parallelism,
+			ClasspathArchiveCache archiveCache) {
 
 		PackageUtils.assertPackageNameIsValid(basePackageName);
 		Preconditions.notNull(classFilter, "classFilter must not be null");
+		Preconditions.condition(parallelism > 0, "parallelism must be greater than 0");
+		Preconditions.notNull(archiveCache, "archiveCache must not be null");
 		basePackageName = basePackageName.trim();
 
-		return findClassesForUris(getRootUrisForPackage(basePackageName), basePackageName, classFilter);
+		List<URI> rootUris = getRootUrisForPackage(basePackageName);
+		if (parallelism == 1) {
+			return findClassesForUris(rootUris, basePackageName, classFilter, archiveCache);
+		}
+		return findClassesForUrisInParallel(rootUris, basePackageName, classFilter,
+			archiveCache.getForkJoinPool(parallelism), archiveCache);
 	}
 
 	List<Class<?>> scanForClassesInClasspathRoot(URI root, ClassFilter classFilter) {
+		return scanForClassesInClasspathRoot(root, classFilter, 1);
+	}
+
+	/**
+	 * @since 1.6
+	 */
+	List<Class<?>> scanForClassesInClasspathRoot(URI root, ClassFilter classFilter, int parallelism) {
+		try (ClasspathArchiveCache archiveCache = new ClasspathArchiveCache()) {
+			return scanForClassesInClasspathRoot(root, classFilter, parallelism, archiveCache);
+		}
+	}
+
+	/**
+	 * @since 1.6
+	 */
+	List<Class<?>> scanForClassesInClasspathRoot(URI root, ClassFilter classFilter, int parallelism,
+			ClasspathArchiveCache archiveCache) {
+
 		Preconditions.notNull(root, "root must not be null");
 		Preconditions.notNull(classFilter, "classFilter must not be null");
+		Preconditions.condition(parallelism > 0, "parallelism must be greater than 0");
+		Preconditions.notNull(archiveCache, "archiveCache must not be null");
 
-		return findClassesForUri(root, PackageUtils.DEFAULT_PACKAGE_NAME, classFilter);
+		if (parallelism == 1) {
+			return findClassesForUri(root, PackageUtils.DEFAULT_PACKAGE_NAME, classFilter, null, archiveCache);
+		}
+		ClassLoader classLoader = getClassLoader();
+		return archiveCache.getForkJoinPool(parallelism).submit(() -> findClassesForUri(root,
+			PackageUtils.DEFAULT_PACKAGE_NAME, classFilter, classLoader, archiveCache)).join();
 	}
 
 	/**
 	 * Recursively scan for classes in all of the supplied source directories.
 	 */
-	private List<Class<?>> findClassesForUris(List<URI> baseUris, String basePackageName, ClassFilter classFilter) {
+	private List<Class<?>> findClassesForUris(List<URI> baseUris, String basePackageName, ClassFilter classFilter,
+			ClasspathArchiveCache archiveCache) {
 		// @formatter:off
 		return baseUris.stream()
-				.map(baseUri -> findClassesForUri(baseUri, basePackageName, classFilter))
+				.map(baseUri -> findClassesForUri(baseUri, basePackageName, classFilter, null, archiveCache))
+				.flatMap(Collection::stream)
+				.distinct()
+				.collect(toList());
+		// @formatter:on
+	}
+
+	/**
+	 * Recursively scan for classes in all of the supplied source directories
+	 * using the supplied {@link ForkJoinPool}.
+	 *
+	 * <p>Source directories and their subdirectories are walked concurrently.
+	 * The results are merged in the order of the supplied URIs and, within
+	 * each source directory, in lexicographical order of the visited paths
+	 * (or, within each archive, in the order of its central directory) so
+	 * that the returned list is deterministic.
+	 */
+	private List<Class<?>> findClassesForUrisInParallel(List<URI> baseUris, String basePackageName,
+			ClassFilter classFilter, ForkJoinPool forkJoinPool, ClasspathArchiveCache archiveCache) {
+
+		ClassLoader classLoader = getClassLoader();
+		// @formatter:off
+		List<ForkJoinTask<List<Class<?>>>> tasks = baseUris.stream()
+				.map(baseUri -> forkJoinPool.submit(
+						() -> findClassesForUri(baseUri, basePackageName, classFilter, classLoader, archiveCache)))
+				.collect(toList());
+		return tasks.stream()
+				.map(ForkJoinTask::join)
 				.flatMap(Collection::stream)
 				.distinct()
 				.collect(toList());
 		// @formatter:on
 	}
 
-	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter) {
+	/**
+	 * @param classLoader the {@link ClassLoader} to use when scanning in
+	 * parallel; {@code null} to scan sequentially on the calling thread
+	 */
+	private List<Class<?>> findClassesForUri(URI baseUri, String basePackageName, ClassFilter classFilter,
+			ClassLoader classLoader, ClasspathArchiveCache archiveCache) {
+
+		Optional<ZipCentralDirectory> archive = CloseablePath.findArchive(baseUri).flatMap(archiveCache::get);
+		if (archive.isPresent()) {
+			Optional<List<Class<?>>> classes = findClassesInArchive(archive.get(), basePackageName, classFilter,
+				classLoader);
+			if (classes.isPresent()) {
+				return classes.get();
+			}
+		}
 		try (CloseablePath closeablePath = CloseablePath.create(baseUri)) {
 			Path baseDir = closeablePath.getPath();
+			if (classLoader != null) {
+				return findClassesForPathInParallel(baseDir, basePackageName, classFilter, classLoader);
+			}
 			return findClassesForPath(baseDir, basePackageName, classFilter);
 		}
 		catch (PreconditionViolationException ex) {
@@ -116,8 +220,8 @@ class ClasspathScanner {
 		Preconditions.condition(Files.exists(baseDir), () -> "baseDir must exist: " + baseDir);
 		List<Class<?>> classes = new ArrayList<>();
 		try {
-			Files.walkFileTree(baseDir, new ClassFileVisitor(
-				classFile -> processClassFileSafely(baseDir, basePackageName, classFilter, classFile, classes::add)));
+			Files.walkFileTree(baseDir, new ClassFileVisitor(classFile -> processClassFileSafely(baseDir,
+				basePackageName, classFilter, classFile, getClassLoader(), classes::add)));
 		}
 		catch (IOException ex) {
 			logger.warn(ex, () -> "I/O error scanning files in " + baseDir);
@@ -125,29 +229,115 @@ class ClasspathScanner {
 		return classes;
 	}
 
+	private List<Class<?>> findClassesForPathInParallel(Path baseDir, String basePackageName,
+			ClassFilter classFilter, ClassLoader classLoader) {
+		Preconditions.condition(Files.exists(baseDir), () -> "baseDir must exist: " + baseDir);
+		return new DirectoryScanTask(baseDir, baseDir, basePackageName, classFilter, classLoader).invoke();
+	}
+
+	/**
+	 * Scan for classes in the entries of the supplied archive that are
+	 * located in the supplied base package, without creating a
+	 * {@link java.nio.file.FileSystem} for the archive.
+	 *
+	 * @param classLoader the {@link ClassLoader} to use when scanning in
+	 * parallel; {@code null} to scan sequentially on the calling thread
+	 * @return the classes found; empty if the central directory of the
+	 * archive is malformed
+	 * @since 1.6
+	 */
+	private Optional<List<Class<?>>> findClassesInArchive(ZipCentralDirectory archive, String basePackageName,
+			ClassFilter classFilter, ClassLoader classLoader) {
+
+		String entryPrefix = basePackageName.isEmpty() ? ""
+				: packagePath(basePackageName) + CLASSPATH_RESOURCE_PATH_SEPARATOR;
+		List<ZipCentralDirectory.Entry> entries;
+		try {
+			entries = archive.findEntries(entryPrefix);
+		}
+		catch (IOException ex) {
+			logger.debug(ex, () -> "Failed to read central directory of archive " + archive.getZipFile());
+			return Optional.empty();
+		}
+		// @formatter:off
+		List<ZipCentralDirectory.Entry> classFileEntries = entries.stream()
+				.filter(entry -> ClassFileVisitor.isCandidateClassFileName(simpleEntryName(entry)))
+				.collect(toList());
+		// @formatter:on
+		if (classLoader != null) {
+			return Optional.of(
+				new ArchiveScanTask(archive, classFileEntries, 0, classFileEntries.size(), classFilter, classLoader)
+						.invoke());
+		}
+		List<Class<?>> classes = new ArrayList<>();
+		ClassLoader defaultClassLoader = getClassLoader();
+		for (ZipCentralDirectory.Entry entry : classFileEntries) {
+			processArchiveEntrySafely(archive, entry, classFilter, defaultClassLoader, classes::add);
+		}
+		return Optional.of(classes);
+	}
+
 	private void processClassFileSafely(Path baseDir, String basePackageName, ClassFilter classFilter, Path classFile,
-			Consumer<Class<?>> classConsumer) {
+			ClassLoader classLoader, Consumer<Class<?>> classConsumer) {
 		try {
 			String fullyQualifiedClassName = determineFullyQualifiedClassName(baseDir, basePackageName, classFile);
-			if (classFilter.match(fullyQualifiedClassName)) {
-				try {
-					// @formatter:off
-					loadClass.apply(fullyQualifiedClassName, getClassLoader())
-							.toOptional()
-							.filter(classFilter) // Always use ".filter(classFilter)" to include future predicates.
-							.ifPresent(classConsumer);
-					// @formatter:on
-				}
-				catch (InternalError internalError) {
-					handleInternalError(classFile, fullyQualifiedClassName, internalError);
-				}
+			if (classFilter.match(fullyQualifiedClassName) && !classFilter.isKnownMismatch(classFile)
+					&& matchClassFile(classFilter, () -> Files.readAllBytes(classFile))) {
+				loadMatchingClass(fullyQualifiedClassName, classLoader,
+					clazz -> classFilter.testAndRecord(classFile, clazz), classConsumer,
+					() -> classFile.toAbsolutePath().toString());
+			}
+		}
+		catch (Throwable throwable) {
+			handleThrowable(classFile.toAbsolutePath().toString(), throwable);
+		}
+	}
+
+	private void processArchiveEntrySafely(ZipCentralDirectory archive, ZipCentralDirectory.Entry entry,
+			ClassFilter classFilter, ClassLoader classLoader, Consumer<Class<?>> classConsumer) {
+		try {
+			String entryName = entry.getName();
+			String fullyQualifiedClassName = entryName.substring(0, entryName.length() - CLASS_FILE_SUFFIX.length())
+					.replace(CLASSPATH_RESOURCE_PATH_SEPARATOR, PACKAGE_SEPARATOR_CHAR);
+			if (classFilter.match(fullyQualifiedClassName) && matchClassFile(classFilter, () -> archive.read(entry))) {
+				loadMatchingClass(fullyQualifiedClassName, classLoader, classFilter, classConsumer,
+					() -> describeArchiveEntry(archive, entry));
 			}
 		}
 		catch (Throwable throwable) {
-			handleThrowable(classFile, throwable);
+			handleThrowable(describeArchiveEntry(archive, entry), throwable);
 		}
 	}
 
+	private void loadMatchingClass(String fullyQualifiedClassName, ClassLoader classLoader,
+			Predicate<Class<?>> classPredicate, Consumer<Class<?>> classConsumer, Supplier<String> classFileLocation) {
+		try {
+			// @formatter:off
+			loadClass.apply(fullyQualifiedClassName, classLoader)
+					.toOptional()
+					// Always use "classFilter.test()" to include future predicates.
+					.filter(classPredicate)
+					.ifPresent(classConsumer);
+			// @formatter:on
+		}
+		catch (InternalError internalError) {
+			handleInternalError(classFileLocation.get(), fullyQualifiedClassName, internalError);
+		}
+	}
+
+	private boolean matchClassFile(ClassFilter classFilter, ClassFileContents classFileContents) throws IOException {
+		return !classFilter.hasClassFileFilter() || classFilter.matchClassFile(classFileContents.read());
+	}
+
+	private static String simpleEntryName(ZipCentralDirectory.Entry entry) {
+		String entryName = entry.getName();
+		return entryName.substring(entryName.lastIndexOf(CLASSPATH_RESOURCE_PATH_SEPARATOR) + 1);
+	}
+
+	private static String describeArchiveEntry(ZipCentralDirectory archive, ZipCentralDirectory.Entry entry) {
+		return archive.getZipFile().toAbsolutePath() + "!" + CLASSPATH_RESOURCE_PATH_SEPARATOR + entry.getName();
+	}
+
 	private String determineFullyQualifiedClassName(Path baseDir, String basePackageName, Path classFile) {
 		// @formatter:off
 		return Stream.of(
@@ -176,35 +366,35 @@ class ClasspathScanner {
 		return subpackageName;
 	}
 
-	private void handleInternalError(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void handleInternalError(String classFileLocation, String fullyQualifiedClassName, InternalError ex) {
 		if (MALFORMED_CLASS_NAME_ERROR_MESSAGE.equals(ex.getMessage())) {
-			logMalformedClassName(classFile, fullyQualifiedClassName, ex);
+			logMalformedClassName(classFileLocation, fullyQualifiedClassName, ex);
 		}
 		else {
-			logGenericFileProcessingException(classFile, ex);
+			logGenericFileProcessingException(classFileLocation, ex);
 		}
 	}
 
-	private void handleThrowable(Path classFile, Throwable throwable) {
+	private void handleThrowable(String classFileLocation, Throwable throwable) {
 		rethrowIfBlacklisted(throwable);
-		logGenericFileProcessingException(classFile, throwable);
+		logGenericFileProcessingException(classFileLocation, throwable);
 	}
 
-	private void logMalformedClassName(Path classFile, String fullyQualifiedClassName, InternalError ex) {
+	private void logMalformedClassName(String classFileLocation, String fullyQualifiedClassName, InternalError ex) {
 		try {
 			logger.debug(ex, () -> format("The java.lang.Class loaded from path [%s] has a malformed class name [%s].",
-				classFile.toAbsolutePath(), fullyQualifiedClassName));
+				classFileLocation, fullyQualifiedClassName));
 		}
 		catch (Throwable t) {
 			rethrowIfBlacklisted(t);
 			ex.addSuppressed(t);
-			logGenericFileProcessingException(classFile, ex);
+			logGenericFileProcessingException(classFileLocation, ex);
 		}
 	}
 
-	private void logGenericFileProcessingException(Path classFile, Throwable throwable) {
+	private void logGenericFileProcessingException(String classFileLocation, Throwable throwable) {
 		logger.debug(throwable, () -> format("Failed to load java.lang.Class for path [%s] during classpath scanning.",
-			classFile.toAbsolutePath()));
+			classFileLocation));
 	}
 
 	private ClassLoader getClassLoader() {
@@ -231,4 +421,133 @@ class ClasspathScanner {
 		}
 	}
 
+	/**
+	 * Scans a single directory for class files and forks a subtask for each of
+	 * its subdirectories.
+	 *
+	 * <p>Symbolic links are not followed, analogous to the sequential
+	 * {@link Files#walkFileTree(Path, java.nio.file.FileVisitor)} based scan.
+	 *
+	 * @since 1.6
+	 */
+	@SuppressWarnings("serial")
+	private class DirectoryScanTask extends RecursiveTask<List<Class<?>>> {
+
+		private final Path baseDir;
+		private final Path directory;
+		private final String basePackageName;
+		private final ClassFilter classFilter;
+		private final ClassLoader classLoader;
+
+		DirectoryScanTask(Path baseDir, Path directory, String basePackageName, ClassFilter classFilter,
+				ClassLoader classLoader) {
+			this.baseDir = baseDir;
+			this.directory = directory;
+			this.basePackageName = basePackageName;
+			this.classFilter = classFilter;
+			this.classLoader = classLoader;
+		}
+
+		@Override
+		protected List<Class<?>> compute() {
+			List<Path> subdirectories = new ArrayList<>();
+			List<Path> classFiles = new ArrayList<>();
+			try (DirectoryStream<Path> entries = Files.newDirectoryStream(this.directory)) {
+				for (Path entry : entries) {
+					if (Files.isDirectory(entry, NOFOLLOW_LINKS)) {
+						subdirectories.add(entry);
+					}
+					else if (ClassFileVisitor.isCandidateClassFile(entry)) {
+						classFiles.add(entry);
+					}
+				}
+			}
+			catch (IOException ex) {
+				logger.warn(ex, () -> "I/O error visiting directory: " + this.directory);
+			}
+			subdirectories.sort(PATH_COMPARATOR);
+			classFiles.sort(PATH_COMPARATOR);
+
+			List<DirectoryScanTask> subtasks = new ArrayList<>(subdirectories.size());
+			for (Path subdirectory : subdirectories) {
+				DirectoryScanTask subtask = new DirectoryScanTask(this.baseDir, subdirectory, this.basePackageName,
+					this.classFilter, this.classLoader);
+				subtask.fork();
+				subtasks.add(subtask);
+			}
+
+			List<Class<?>> classes = new ArrayList<>();
+			for (Path classFile : classFiles) {
+				processClassFileSafely(this.baseDir, this.basePackageName, this.classFilter, classFile,
+					this.classLoader, classes::add);
+			}
+			for (DirectoryScanTask subtask : subtasks) {
+				classes.addAll(subtask.join());
+			}
+			return classes;
+		}
+
+	}
+
+	/**
+	 * Processes a range of class file entries of an archive and splits it
+	 * into subtasks if it is too large.
+	 *
+	 * @since 1.6
+	 */
+	@SuppressWarnings("serial")
+	private class ArchiveScanTask extends RecursiveTask<List<Class<?>>> {
+
+		private static final int THRESHOLD = 32;
+
+		private final ZipCentralDirectory archive;
+		private final List<ZipCentralDirectory.Entry> entries;
+		private final int from;
+		private final int to;
+		private final ClassFilter classFilter;
+		private final ClassLoader classLoader;
+
+		ArchiveScanTask(ZipCentralDirectory archive, List<ZipCentralDirectory.Entry> entries, int from, int to,
+				ClassFilter classFilter, ClassLoader classLoader) {
+			this.archive = archive;
+			this.entries = entries;
+			this.from = from;
+			this.to = to;
+			this.classFilter = classFilter;
+			this.classLoader = classLoader;
+		}
+
+		@Override
+		protected List<Class<?>> compute() {
+			if (this.to - this.from > THRESHOLD) {
+				int middle = (this.from + this.to) >>> 1;
+				ArchiveScanTask second = new ArchiveScanTask(this.archive, this.entries, middle, this.to,
+					this.classFilter, this.classLoader);
+				second.fork();
+				List<Class<?>> classes = new ArchiveScanTask(this.archive, this.entries, this.from, middle,
+					this.classFilter, this.classLoader).compute();
+				classes.addAll(second.join());
+				return classes;
+			}
+			List<Class<?>> classes = new ArrayList<>();
+			for (ZipCentralDirectory.Entry entry : this.entries.subList(this.from, this.to)) {
+				processArchiveEntrySafely(this.archive, entry, this.classFilter, this.classLoader, classes::add);
+			}
+			return classes;
+		}
+
+	}
+
+	/**
+	 * Supplies the contents of a class file.
+	 *
+	 * @since 1.6
+	 */
+	@FunctionalInterface
+	private interface ClassFileContents {
+
+		byte[] read() throws IOException;
+
+	}
+
 }
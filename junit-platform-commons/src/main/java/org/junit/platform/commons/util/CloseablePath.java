@@ -20,6 +20,7 @@ import java.nio.file.FileSystem;
 import java.nio.file.FileSystems;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Optional;
 import java.util.function.Function;
 
 /**
@@ -52,6 +53,35 @@ final class CloseablePath implements Closeable {
 		return new CloseablePath(Paths.get(uri), NULL_CLOSEABLE);
 	}
 
+	/**
+	 * Determine the archive in the default file system that the supplied URI
+	 * refers to, either directly or via a {@code jar:} URI of one of its
+	 * entries.
+	 *
+	 * @return the path of the archive; empty if the URI does not refer to a
+	 * local JAR file or to an entry of a nested archive
+	 * @since 1.6
+	 */
+	static Optional<Path> findArchive(URI uri) {
+		try {
+			if (JAR_URI_SCHEME.equals(uri.getScheme())) {
+				String[] parts = uri.toString().split(JAR_URI_SEPARATOR);
+				URI archiveUri = new URI(parts[0].substring(JAR_URI_SCHEME.length() + 1));
+				if (parts.length == 2 && FILE_URI_SCHEME.equals(archiveUri.getScheme())) {
+					return Optional.of(Paths.get(archiveUri));
+				}
+				return Optional.empty();
+			}
+			if (FILE_URI_SCHEME.equals(uri.getScheme()) && uri.getPath().endsWith(JAR_FILE_EXTENSION)) {
+				return Optional.of(Paths.get(uri));
+			}
+		}
+		catch (Exception ignore) {
+			// fall back to a file system for the URI
+		}
+		return Optional.empty();
+	}
+
 	private static CloseablePath createForJarFileSystem(URI jarUri, Function<FileSystem, Path> pathProvider)
 			throws IOException {
 		FileSystem fileSystem = FileSystems.newFileSystem(jarUri, emptyMap());
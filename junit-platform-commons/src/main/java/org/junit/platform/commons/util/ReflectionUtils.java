@@ -952,6 +952,33 @@ public final class ReflectionUtils {
 		return Collections.unmodifiableList(classpathScanner.scanForClassesInClasspathRoot(root, classFilter));
 	}
 
+	/**
+	 * Find all classes in the supplied classpath root, walking its directory
+	 * tree concurrently using the supplied parallelism.
+	 *
+	 * <p>A {@code parallelism} of {@code 1} results in the same sequential
+	 * scan as {@link #findAllClassesInClasspathRoot(URI, ClassFilter)}.
+	 *
+	 * @since 1.6
+	 */
+	public static List<Class<?>> findAllClassesInClasspathRoot(URI root, ClassFilter classFilter, int parallelism) {
+		return Collections.unmodifiableList(
+			classpathScanner.scanForClassesInClasspathRoot(root, classFilter, parallelism));
+	}
+
+	/**
+	 * Find all classes in the supplied classpath root using the supplied
+	 * parallelism, reading the central directory of the root if it is an
+	 * archive via the supplied {@link ClasspathArchiveCache}.
+	 *
+	 * @since 1.6
+	 */
+	public static List<Class<?>> findAllClassesInClasspathRoot(URI root, ClassFilter classFilter, int parallelism,
+			ClasspathArchiveCache archiveCache) {
+		return Collections.unmodifiableList(
+			classpathScanner.scanForClassesInClasspathRoot(root, classFilter, parallelism, archiveCache));
+	}
+
 	/**
 	 * @see org.junit.platform.commons.support.ReflectionSupport#findAllClassesInPackage(String, Predicate, Predicate)
 	 */
@@ -968,6 +995,40 @@ public final class ReflectionUtils {
 		return Collections.unmodifiableList(classpathScanner.scanForClassesInPackage(basePackageName, classFilter));
 	}
 
+	/**
+	 * Find all classes in the supplied package, walking all of its classpath
+	 * roots and their directory trees concurrently using the supplied
+	 * parallelism.
+	 *
+	 * <p>A {@code parallelism} of {@code 1} results in the same sequential
+	 * scan as {@link #findAllClassesInPackage(String, ClassFilter)}.
+	 *
+	 * @since 1.6
+	 */
+	public static List<Class<?>> findAllClassesInPackage(String basePackageName, ClassFilter classFilter,
+			int parallelism) {
+		return Collections.unmodifiableList(
+			classpathScanner.scanForClassesInPackage(basePackageName, classFilter, parallelism));
+	}
+
+	/**
+	 * Find all classes in the supplied package using the supplied
+	 * parallelism, reading the central directories of classpath roots that
+	 * are archives via the supplied {@link ClasspathArchiveCache}.
+	 *
+	 * <p>Sharing the cache across invocations avoids reading the central
+	 * directory of an archive more than once, e.g. when scanning several
+	 * packages located in the same JAR file, and lets parallel scans reuse
+	 * the same threads.
+	 *
+	 * @since 1.6
+	 */
+	public static List<Class<?>> findAllClassesInPackage(String basePackageName, ClassFilter classFilter,
+			int parallelism, ClasspathArchiveCache archiveCache) {
+		return Collections.unmodifiableList(
+			classpathScanner.scanForClassesInPackage(basePackageName, classFilter, parallelism, archiveCache));
+	}
+
 	/**
 	 * @since 1.1.1
 	 * @see org.junit.platform.commons.support.ReflectionSupport#findAllClassesInModule(String, Predicate, Predicate)
@@ -1090,6 +1151,11 @@ public final class ReflectionUtils {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		return ClassHierarchyCache.getFields(clazz, traversalMode,
+			() -> computeAllFieldsInHierarchy(clazz, traversalMode));
+	}
+
+	private static List<Field> computeAllFieldsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		List<Field> localFields = getDeclaredFields(clazz).stream()
 				.filter(field -> !field.isSynthetic())
@@ -1290,11 +1356,19 @@ public final class ReflectionUtils {
 	/**
 	 * Find all non-synthetic methods in the superclass and interface hierarchy,
 	 * excluding Object.
+	 *
+	 * <p>The methods are computed once per class and traversal mode and
+	 * cached in the {@link ClassHierarchyCache}.
 	 */
 	private static List<Method> findAllMethodsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		Preconditions.notNull(clazz, "Class must not be null");
 		Preconditions.notNull(traversalMode, "HierarchyTraversalMode must not be null");
 
+		return ClassHierarchyCache.getMethods(clazz, traversalMode,
+			() -> computeAllMethodsInHierarchy(clazz, traversalMode));
+	}
+
+	private static List<Method> computeAllMethodsInHierarchy(Class<?> clazz, HierarchyTraversalMode traversalMode) {
 		// @formatter:off
 		List<Method> localMethods = getDeclaredMethods(clazz, traversalMode).stream()
 				.filter(method -> !method.isSynthetic())
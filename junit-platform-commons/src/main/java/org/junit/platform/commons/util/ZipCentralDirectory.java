@@ -0,0 +1,283 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Read-only view of the central directory of a ZIP archive (e.g., a JAR file).
+ *
+ * <p>Only the central directory is read into memory, and the archive is closed
+ * right away so that it is never held open or mapped while it is cached, which
+ * would prevent it from being deleted or replaced on Windows. In contrast to a
+ * {@link java.nio.file.FileSystem ZIP file system}, entry names are only
+ * decoded for entries whose names start with a requested prefix, and entry
+ * contents are only read on demand.
+ *
+ * <p>ZIP64 archives and multi-disk archives are not supported.
+ *
+ * @since 1.6
+ * @see ClasspathArchiveCache
+ */
+final class ZipCentralDirectory {
+
+	private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+	private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+	private static final int MAX_COMMENT_LENGTH = 0xFFFF;
+
+	private static final int CENTRAL_DIRECTORY_HEADER_SIGNATURE = 0x02014b50;
+	private static final int CENTRAL_DIRECTORY_HEADER_SIZE = 46;
+
+	private static final int LOCAL_FILE_HEADER_SIGNATURE = 0x04034b50;
+	private static final int LOCAL_FILE_HEADER_SIZE = 30;
+
+	private static final int ZIP64_MAGIC_COUNT = 0xFFFF;
+	private static final long ZIP64_MAGIC_OFFSET = 0xFFFFFFFFL;
+
+	private static final int FLAG_ENCRYPTED = 0x1;
+
+	private static final int METHOD_STORED = 0;
+	private static final int METHOD_DEFLATED = 8;
+
+	private final Path zipFile;
+	private final ByteBuffer buffer;
+	private final int entryCount;
+
+	/**
+	 * Open the supplied ZIP archive and read its central directory.
+	 *
+	 * @return the central directory of the archive, or an empty
+	 * {@code Optional} if the archive's format is not supported
+	 */
+	static Optional<ZipCentralDirectory> open(Path zipFile) throws IOException {
+		try (FileChannel channel = FileChannel.open(zipFile, READ)) {
+			long size = channel.size();
+			if (size < END_OF_CENTRAL_DIRECTORY_SIZE) {
+				return Optional.empty();
+			}
+			long tailOffset = Math.max(0, size - END_OF_CENTRAL_DIRECTORY_SIZE - MAX_COMMENT_LENGTH);
+			ByteBuffer tail = read(channel, tailOffset, (int) (size - tailOffset));
+			int endOfCentralDirectory = findEndOfCentralDirectory(tail);
+			if (endOfCentralDirectory < 0) {
+				return Optional.empty();
+			}
+			int diskNumber = unsignedShort(tail, endOfCentralDirectory + 4);
+			int centralDirectoryDisk = unsignedShort(tail, endOfCentralDirectory + 6);
+			int entryCount = unsignedShort(tail, endOfCentralDirectory + 10);
+			long centralDirectorySize = unsignedInt(tail, endOfCentralDirectory + 12);
+			long centralDirectoryOffset = unsignedInt(tail, endOfCentralDirectory + 16);
+			if (diskNumber != 0 || centralDirectoryDisk != 0 || entryCount == ZIP64_MAGIC_COUNT
+					|| centralDirectoryOffset == ZIP64_MAGIC_OFFSET || centralDirectorySize > Integer.MAX_VALUE
+					|| centralDirectoryOffset + centralDirectorySize > tailOffset + endOfCentralDirectory) {
+				return Optional.empty();
+			}
+			ByteBuffer centralDirectory = read(channel, centralDirectoryOffset, (int) centralDirectorySize);
+			return Optional.of(new ZipCentralDirectory(zipFile, centralDirectory, entryCount));
+		}
+	}
+
+	private static ByteBuffer read(FileChannel channel, long offset, int length) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+		while (buffer.hasRemaining()) {
+			if (channel.read(buffer, offset + buffer.position()) < 0) {
+				throw new EOFException();
+			}
+		}
+		buffer.flip();
+		return buffer;
+	}
+
+	private static int findEndOfCentralDirectory(ByteBuffer buffer) {
+		for (int position = buffer.limit() - END_OF_CENTRAL_DIRECTORY_SIZE; position >= 0; position--) {
+			if (buffer.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+				return position;
+			}
+		}
+		return -1;
+	}
+
+	private ZipCentralDirectory(Path zipFile, ByteBuffer buffer, int entryCount) {
+		this.zipFile = zipFile;
+		this.buffer = buffer;
+		this.entryCount = entryCount;
+	}
+
+	Path getZipFile() {
+		return this.zipFile;
+	}
+
+	/**
+	 * Find all file entries whose names start with the supplied prefix.
+	 *
+	 * @param prefix the prefix of the entry names, using {@code /} as
+	 * separator; never {@code null} but potentially empty
+	 * @return the matching entries in the order of the central directory
+	 */
+	List<Entry> findEntries(String prefix) throws ZipException {
+		byte[] prefixBytes = prefix.getBytes(UTF_8);
+		List<Entry> entries = new ArrayList<>();
+		int position = 0;
+		for (int i = 0; i < this.entryCount; i++) {
+			if (position + CENTRAL_DIRECTORY_HEADER_SIZE > this.buffer.limit()
+					|| this.buffer.getInt(position) != CENTRAL_DIRECTORY_HEADER_SIGNATURE) {
+				throw new ZipException("Invalid central directory header in " + this.zipFile);
+			}
+			int nameLength = unsignedShort(this.buffer, position + 28);
+			int extraLength = unsignedShort(this.buffer, position + 30);
+			int commentLength = unsignedShort(this.buffer, position + 32);
+			int nameOffset = position + CENTRAL_DIRECTORY_HEADER_SIZE;
+			int nextPosition = nameOffset + nameLength + extraLength + commentLength;
+			if (nextPosition > this.buffer.limit()) {
+				throw new ZipException("Invalid central directory header in " + this.zipFile);
+			}
+			if (nameLength >= prefixBytes.length && startsWith(nameOffset, prefixBytes)
+					&& this.buffer.get(nameOffset + nameLength - 1) != '/') {
+				entries.add(new Entry(decodeName(nameOffset, nameLength), position));
+			}
+			position = nextPosition;
+		}
+		return entries;
+	}
+
+	/**
+	 * Read the uncompressed contents of the supplied entry.
+	 *
+	 * <p>The archive is opened for the duration of this method only.
+	 */
+	byte[] read(Entry entry) throws IOException {
+		int header = entry.centralDirectoryHeaderOffset;
+		int flags = unsignedShort(this.buffer, header + 8);
+		int method = unsignedShort(this.buffer, header + 10);
+		long compressedSize = unsignedInt(this.buffer, header + 20);
+		long uncompressedSize = unsignedInt(this.buffer, header + 24);
+		long localHeaderOffset = unsignedInt(this.buffer, header + 42);
+		if ((flags & FLAG_ENCRYPTED) != 0) {
+			throw new ZipException("Encrypted entry " + entry.getName() + " in " + this.zipFile);
+		}
+		if (compressedSize > Integer.MAX_VALUE || uncompressedSize > Integer.MAX_VALUE) {
+			throw new ZipException("Invalid size of " + entry.getName() + " in " + this.zipFile);
+		}
+		ByteBuffer data;
+		try (FileChannel channel = FileChannel.open(this.zipFile, READ)) {
+			if (localHeaderOffset + LOCAL_FILE_HEADER_SIZE > channel.size()) {
+				throw new ZipException("Invalid local file header for " + entry.getName() + " in " + this.zipFile);
+			}
+			ByteBuffer localHeader = read(channel, localHeaderOffset, LOCAL_FILE_HEADER_SIZE);
+			if (localHeader.getInt(0) != LOCAL_FILE_HEADER_SIGNATURE) {
+				throw new ZipException("Invalid local file header for " + entry.getName() + " in " + this.zipFile);
+			}
+			long dataOffset = localHeaderOffset + LOCAL_FILE_HEADER_SIZE + unsignedShort(localHeader, 26)
+					+ unsignedShort(localHeader, 28);
+			if (dataOffset + compressedSize > channel.size()) {
+				throw new ZipException("Invalid size of " + entry.getName() + " in " + this.zipFile);
+			}
+			data = read(channel, dataOffset, (int) compressedSize);
+		}
+		byte[] contents = new byte[(int) uncompressedSize];
+		switch (method) {
+			case METHOD_STORED:
+				data.get(contents);
+				return contents;
+			case METHOD_DEFLATED:
+				return inflate(entry, data.array(), contents);
+			default:
+				throw new ZipException(
+					"Unsupported compression method " + method + " of " + entry.getName() + " in " + this.zipFile);
+		}
+	}
+
+	private byte[] inflate(Entry entry, byte[] compressed, byte[] contents) throws ZipException {
+		Inflater inflater = new Inflater(true);
+		try {
+			inflater.setInput(compressed);
+			int length = 0;
+			while (length < contents.length && !inflater.finished()) {
+				int inflated = inflater.inflate(contents, length, contents.length - length);
+				if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					break;
+				}
+				length += inflated;
+			}
+			if (length != contents.length) {
+				throw new ZipException("Truncated entry " + entry.getName() + " in " + this.zipFile);
+			}
+			return contents;
+		}
+		catch (DataFormatException ex) {
+			ZipException zipException = new ZipException(
+				"Invalid compressed data of " + entry.getName() + " in " + this.zipFile);
+			zipException.initCause(ex);
+			throw zipException;
+		}
+		finally {
+			inflater.end();
+		}
+	}
+
+	private boolean startsWith(int offset, byte[] prefix) {
+		for (int i = 0; i < prefix.length; i++) {
+			if (this.buffer.get(offset + i) != prefix[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private String decodeName(int offset, int length) {
+		byte[] name = new byte[length];
+		ByteBuffer slice = this.buffer.duplicate();
+		slice.position(offset);
+		slice.get(name);
+		return new String(name, UTF_8);
+	}
+
+	private static int unsignedShort(ByteBuffer buffer, int offset) {
+		return buffer.getShort(offset) & 0xFFFF;
+	}
+
+	private static long unsignedInt(ByteBuffer buffer, int offset) {
+		return buffer.getInt(offset) & 0xFFFFFFFFL;
+	}
+
+	/**
+	 * Entry of a {@link ZipCentralDirectory}.
+	 */
+	static final class Entry {
+
+		private final String name;
+		private final int centralDirectoryHeaderOffset;
+
+		private Entry(String name, int centralDirectoryHeaderOffset) {
+			this.name = name;
+			this.centralDirectoryHeaderOffset = centralDirectoryHeaderOffset;
+		}
+
+		String getName() {
+			return this.name;
+		}
+
+	}
+
+}
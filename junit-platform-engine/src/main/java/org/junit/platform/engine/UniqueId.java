@@ -83,6 +83,11 @@ public class UniqueId implements Cloneable, Serializable {
 	private final UniqueIdFormat uniqueIdFormat;
 	private final List<Segment> segments;
 
+	// Lazily computed by hashCode() and toString(); racy single-check idiom
+	// like String.hashCode() since both values are immutable.
+	private transient int hashCode;
+	private transient String toString;
+
 	private UniqueId(UniqueIdFormat uniqueIdFormat, Segment segment) {
 		this.uniqueIdFormat = uniqueIdFormat;
 		this.segments = singletonList(segment);
@@ -152,7 +157,8 @@ public class UniqueId implements Cloneable, Serializable {
 	@API(status = STABLE, since = "1.1")
 	public final UniqueId append(Segment segment) {
 		Preconditions.notNull(segment, "segment must not be null");
-		List<Segment> baseSegments = new ArrayList<>(this.segments);
+		List<Segment> baseSegments = new ArrayList<>(this.segments.size() + 1);
+		baseSegments.addAll(this.segments);
 		baseSegments.add(segment);
 		return new UniqueId(this.uniqueIdFormat, baseSegments);
 	}
@@ -216,21 +222,33 @@ public class UniqueId implements Cloneable, Serializable {
 		}
 
 		UniqueId that = (UniqueId) o;
-		return this.segments.equals(that.segments);
+		return hashCode() == that.hashCode() && this.segments.equals(that.segments);
 	}
 
 	@Override
 	public int hashCode() {
-		return this.segments.hashCode();
+		int value = this.hashCode;
+		if (value == 0) {
+			value = this.segments.hashCode();
+			this.hashCode = value;
+		}
+		return value;
 	}
 
 	/**
 	 * Generate the unique, formatted string representation of this {@code UniqueId}
 	 * using the configured {@link UniqueIdFormat}.
+	 *
+	 * <p>The string representation is computed once and cached.
 	 */
 	@Override
 	public String toString() {
-		return this.uniqueIdFormat.format(this);
+		String value = this.toString;
+		if (value == null) {
+			value = this.uniqueIdFormat.format(this);
+			this.toString = value;
+		}
+		return value;
 	}
 
 	/**
@@ -275,7 +293,8 @@ public class UniqueId implements Cloneable, Serializable {
 
 		@Override
 		public int hashCode() {
-			return Objects.hash(this.type, this.value);
+			// same value as Objects.hash(type, value) without allocating an array
+			return 31 * (31 + this.type.hashCode()) + this.value.hashCode();
 		}
 
 		@Override
@@ -10,7 +10,6 @@
 
 package org.junit.platform.engine;
 
-import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
 import java.io.Serializable;
@@ -124,21 +123,23 @@ class UniqueIdFormat implements Serializable {
 	 * Format and return the string representation of the supplied {@code UniqueId}.
 	 */
 	String format(UniqueId uniqueId) {
-		// @formatter:off
-		return uniqueId.getSegments().stream()
-			.map(this::describe)
-			.collect(joining(String.valueOf(this.segmentDelimiter)));
-		// @formatter:on
-	}
-
-	private String describe(Segment segment) {
-		String body = encode(segment.getType()) + typeValueSeparator + encode(segment.getValue());
-		return openSegment + body + closeSegment;
+		StringBuilder builder = new StringBuilder(64);
+		for (Segment segment : uniqueId.getSegments()) {
+			if (builder.length() > 0) {
+				builder.append(this.segmentDelimiter);
+			}
+			builder.append(this.openSegment);
+			encode(segment.getType(), builder);
+			builder.append(this.typeValueSeparator);
+			encode(segment.getValue(), builder);
+			builder.append(this.closeSegment);
+		}
+		return builder.toString();
 	}
 
-	private String encode(String s) {
-		StringBuilder builder = new StringBuilder();
-		for (char c : s.toCharArray()) {
+	private void encode(String s, StringBuilder builder) {
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
 			String value = encodedCharacterMap.get(c);
 			if (value == null) {
 				builder.append(c);
@@ -146,7 +147,6 @@ class UniqueIdFormat implements Serializable {
 			}
 			builder.append(value);
 		}
-		return builder.toString();
 	}
 
 	private static String decode(String s) {
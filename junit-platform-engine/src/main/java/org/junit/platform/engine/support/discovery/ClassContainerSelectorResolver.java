@@ -11,14 +11,25 @@
 package org.junit.platform.engine.support.discovery;
 
 import static java.util.stream.Collectors.toSet;
-import static org.junit.platform.commons.support.ReflectionSupport.findAllClassesInClasspathRoot;
 import static org.junit.platform.commons.support.ReflectionSupport.findAllClassesInModule;
-import static org.junit.platform.commons.support.ReflectionSupport.findAllClassesInPackage;
+import static org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver.CLASS_FILE_PRE_FILTERING_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver.DISCOVERY_INDEX_DIRECTORY_PROPERTY_NAME;
+import static org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver.DISCOVERY_INDEX_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver.PARALLEL_CLASSPATH_SCANNING_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.engine.support.discovery.EngineDiscoveryRequestResolver.PARALLEL_CLASSPATH_SCANNING_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.engine.support.discovery.SelectorResolver.Resolution.selectors;
 
+import java.nio.file.Paths;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Predicate;
 
+import org.junit.platform.commons.util.ClassFilter;
+import org.junit.platform.commons.util.ClasspathArchiveCache;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.commons.util.ReflectionUtils;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.discovery.ClasspathRootSelector;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.engine.discovery.ModuleSelector;
@@ -29,17 +40,62 @@ import org.junit.platform.engine.discovery.PackageSelector;
  */
 class ClassContainerSelectorResolver implements SelectorResolver {
 
+	static final String DEFAULT_DISCOVERY_INDEX_DIRECTORY = "build/junit-platform/discovery-index";
+
+	private static final String DISCOVERY_INDEX_FILE_EXTENSION = ".index";
+
 	private final Predicate<Class<?>> classFilter;
 	private final Predicate<String> classNameFilter;
+	private final Collection<String> annotationNames;
+	private final int scanningParallelism;
+	private final DiscoveryIndex discoveryIndex;
+	private final ClasspathArchiveCache archiveCache = new ClasspathArchiveCache();
 
-	ClassContainerSelectorResolver(Predicate<Class<?>> classFilter, Predicate<String> classNameFilter) {
+	ClassContainerSelectorResolver(Predicate<Class<?>> classFilter, Collection<String> annotationNames,
+			EngineDiscoveryRequestResolver.InitializationContext<?> context) {
+		ConfigurationParameters configurationParameters = context.getDiscoveryRequest().getConfigurationParameters();
 		this.classFilter = classFilter;
-		this.classNameFilter = classNameFilter;
+		this.classNameFilter = context.getClassNameFilter();
+		this.annotationNames = isClassFilePreFilteringEnabled(annotationNames, configurationParameters)
+				? annotationNames
+				: null;
+		this.scanningParallelism = determineScanningParallelism(configurationParameters);
+		this.discoveryIndex = loadDiscoveryIndex(configurationParameters, context.getEngineDescriptor().getUniqueId());
+	}
+
+	private static DiscoveryIndex loadDiscoveryIndex(ConfigurationParameters configurationParameters,
+			UniqueId engineUniqueId) {
+		if (!configurationParameters.getBoolean(DISCOVERY_INDEX_ENABLED_PROPERTY_NAME).orElse(false)) {
+			return null;
+		}
+		String directory = configurationParameters.get(DISCOVERY_INDEX_DIRECTORY_PROPERTY_NAME).orElse(
+			DEFAULT_DISCOVERY_INDEX_DIRECTORY);
+		String fileName = engineUniqueId.getLastSegment().getValue() + DISCOVERY_INDEX_FILE_EXTENSION;
+		return DiscoveryIndex.load(Paths.get(directory).resolve(fileName));
+	}
+
+	private static boolean isClassFilePreFilteringEnabled(Collection<String> annotationNames,
+			ConfigurationParameters configurationParameters) {
+		return !annotationNames.isEmpty()
+				&& configurationParameters.getBoolean(CLASS_FILE_PRE_FILTERING_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
+	private static int determineScanningParallelism(ConfigurationParameters configurationParameters) {
+		if (!configurationParameters.getBoolean(PARALLEL_CLASSPATH_SCANNING_ENABLED_PROPERTY_NAME).orElse(false)) {
+			return 1;
+		}
+		int parallelism = configurationParameters.get(PARALLEL_CLASSPATH_SCANNING_PARALLELISM_PROPERTY_NAME,
+			Integer::valueOf).orElseGet(() -> Runtime.getRuntime().availableProcessors());
+		Preconditions.condition(parallelism > 0, () -> String.format(
+			"Invalid value for configuration parameter '%s': parallelism must be greater than 0 but was %d",
+			PARALLEL_CLASSPATH_SCANNING_PARALLELISM_PROPERTY_NAME, parallelism));
+		return parallelism;
 	}
 
 	@Override
 	public Resolution resolve(ClasspathRootSelector selector, Context context) {
-		return classSelectors(findAllClassesInClasspathRoot(selector.getClasspathRoot(), classFilter, classNameFilter));
+		return classSelectors(ReflectionUtils.findAllClassesInClasspathRoot(selector.getClasspathRoot(),
+			createClassFilter(), scanningParallelism, archiveCache));
 	}
 
 	@Override
@@ -49,7 +105,28 @@ class ClassContainerSelectorResolver implements SelectorResolver {
 
 	@Override
 	public Resolution resolve(PackageSelector selector, Context context) {
-		return classSelectors(findAllClassesInPackage(selector.getPackageName(), classFilter, classNameFilter));
+		return classSelectors(ReflectionUtils.findAllClassesInPackage(selector.getPackageName(),
+			createClassFilter(), scanningParallelism, archiveCache));
+	}
+
+	private ClassFilter createClassFilter() {
+		ClassFilter filter = annotationNames == null ? ClassFilter.of(classNameFilter, classFilter)
+				: ClassFilter.of(classNameFilter, annotationNames, classFilter);
+		return discoveryIndex == null ? filter : filter.withClassFileCache(discoveryIndex);
+	}
+
+	/**
+	 * Store the discovery index, if enabled, and release the central
+	 * directories of scanned archives after all selectors of the current
+	 * discovery request have been resolved.
+	 *
+	 * @since 1.6
+	 */
+	void discoveryFinished() {
+		archiveCache.close();
+		if (discoveryIndex != null) {
+			discoveryIndex.store();
+		}
 	}
 
 	private Resolution classSelectors(List<Class<?>> classes) {
@@ -0,0 +1,338 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.discovery;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static org.junit.platform.commons.util.BlacklistedExceptions.rethrowIfBlacklisted;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ClassFileCache;
+
+/**
+ * Persistent, file-based {@link ClassFileCache} that records which class files
+ * found during classpath scanning define classes that do not match the class
+ * predicate of an engine.
+ *
+ * <p>Each entry is keyed by the URI of the class file and stores its size and
+ * last modification time as well as the sizes and last modification times of
+ * the class files (or archives) of all supertypes and nested classes of the
+ * recorded class, since a change to any of them might turn the class into a
+ * matching one. Entries are only considered valid if none of these have
+ * changed.
+ *
+ * <p>Only non-matching classes are recorded since matching classes need to be
+ * loaded anyway. Moreover, only class files in the default file system are
+ * recorded; class files in archives are not, since build tools commonly
+ * normalize the timestamps of archive entries.
+ *
+ * @since 1.6
+ */
+class DiscoveryIndex implements ClassFileCache {
+
+	private static final Logger logger = LoggerFactory.getLogger(DiscoveryIndex.class);
+
+	private static final String HEADER = "# JUnit Platform discovery index v1";
+	private static final String SEPARATOR = "\t";
+
+	private static final String FILE_URI_SCHEME = "file";
+	private static final String JAR_URI_SCHEME = "jar";
+	private static final String JAR_URI_SEPARATOR = "!/";
+	private static final String JRT_URI_SCHEME = "jrt";
+
+	private final Path indexFile;
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+	private volatile boolean modified;
+
+	static DiscoveryIndex load(Path indexFile) {
+		DiscoveryIndex index = new DiscoveryIndex(indexFile);
+		try (BufferedReader reader = Files.newBufferedReader(indexFile, UTF_8)) {
+			String line = reader.readLine();
+			if (!HEADER.equals(line)) {
+				logger.config(() -> "Ignoring discovery index with unknown format: " + indexFile);
+				return index;
+			}
+			while ((line = reader.readLine()) != null) {
+				Entry.parse(line).ifPresent(entry -> index.entries.put(entry.fingerprint.uri, entry));
+			}
+		}
+		catch (NoSuchFileException ignore) {
+			// no index has been stored yet
+		}
+		catch (Exception ex) {
+			rethrowIfBlacklisted(ex);
+			logger.warn(ex, () -> "Failed to read discovery index " + indexFile);
+			index.entries.clear();
+		}
+		return index;
+	}
+
+	private DiscoveryIndex(Path indexFile) {
+		this.indexFile = indexFile;
+	}
+
+	@Override
+	public Optional<Boolean> lookup(Path classFile) {
+		if (!isSupported(classFile)) {
+			return Optional.empty();
+		}
+		Entry entry = this.entries.get(classFile.toUri().toString());
+		if (entry != null && entry.isUpToDate(classFile)) {
+			return Optional.of(false);
+		}
+		return Optional.empty();
+	}
+
+	@Override
+	public void record(Path classFile, Class<?> clazz, boolean matched) {
+		if (!isSupported(classFile)) {
+			return;
+		}
+		String key = classFile.toUri().toString();
+		if (matched) {
+			if (this.entries.remove(key) != null) {
+				this.modified = true;
+			}
+			return;
+		}
+		try {
+			Fingerprint fingerprint = Fingerprint.of(key, classFile);
+			List<Fingerprint> dependencies = new ArrayList<>();
+			for (Class<?> dependency : collectDependencies(clazz)) {
+				Optional<Fingerprint> dependencyFingerprint = fingerprintOf(dependency);
+				if (!dependencyFingerprint.isPresent()) {
+					// unable to detect changes to the dependency, so don't record the class
+					return;
+				}
+				dependencyFingerprint.filter(Fingerprint::isPresent).ifPresent(dependencies::add);
+			}
+			this.entries.put(key, new Entry(fingerprint, dependencies));
+			this.modified = true;
+		}
+		catch (Throwable t) {
+			rethrowIfBlacklisted(t);
+			logger.debug(t, () -> "Failed to record " + classFile + " in discovery index");
+		}
+	}
+
+	/**
+	 * Store this index if it has been modified since it was loaded.
+	 */
+	void store() {
+		if (!this.modified) {
+			return;
+		}
+		try {
+			Path parent = this.indexFile.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			// use a unique temporary file since other JVMs might store the same index concurrently
+			Path tempFile = Files.createTempFile(parent, this.indexFile.getFileName().toString(), ".tmp");
+			try {
+				write(tempFile);
+				try {
+					Files.move(tempFile, this.indexFile, REPLACE_EXISTING, ATOMIC_MOVE);
+				}
+				catch (AtomicMoveNotSupportedException ex) {
+					Files.move(tempFile, this.indexFile, REPLACE_EXISTING);
+				}
+			}
+			finally {
+				Files.deleteIfExists(tempFile);
+			}
+			this.modified = false;
+		}
+		catch (Exception ex) {
+			rethrowIfBlacklisted(ex);
+			logger.warn(ex, () -> "Failed to store discovery index " + this.indexFile);
+		}
+	}
+
+	private void write(Path file) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(file, UTF_8)) {
+			writer.write(HEADER);
+			writer.newLine();
+			for (Entry entry : this.entries.values()) {
+				writer.write(entry.format());
+				writer.newLine();
+			}
+		}
+	}
+
+	private static boolean isSupported(Path classFile) {
+		return classFile.getFileSystem() == FileSystems.getDefault();
+	}
+
+	private static Set<Class<?>> collectDependencies(Class<?> clazz) {
+		Set<Class<?>> dependencies = new LinkedHashSet<>();
+		collectSupertypes(clazz, dependencies);
+		dependencies.addAll(Arrays.asList(clazz.getDeclaredClasses()));
+		return dependencies;
+	}
+
+	private static void collectSupertypes(Class<?> clazz, Set<Class<?>> supertypes) {
+		Class<?> superclass = clazz.getSuperclass();
+		if (superclass != null && superclass != Object.class && supertypes.add(superclass)) {
+			collectSupertypes(superclass, supertypes);
+		}
+		for (Class<?> ifc : clazz.getInterfaces()) {
+			if (supertypes.add(ifc)) {
+				collectSupertypes(ifc, supertypes);
+			}
+		}
+	}
+
+	/**
+	 * Determine the fingerprint of the class file or archive that defines
+	 * the supplied class.
+	 *
+	 * @return the fingerprint; {@link Fingerprint#ABSENT} if the class is
+	 * provided by the Java runtime, or an empty {@code Optional} if the
+	 * location of the class cannot be determined
+	 */
+	private static Optional<Fingerprint> fingerprintOf(Class<?> clazz) throws Exception {
+		ClassLoader classLoader = clazz.getClassLoader();
+		if (classLoader == null) {
+			return Optional.of(Fingerprint.ABSENT);
+		}
+		URL resource = classLoader.getResource(clazz.getName().replace('.', '/') + ".class");
+		if (resource == null) {
+			return Optional.empty();
+		}
+		URI uri = resource.toURI();
+		switch (uri.getScheme()) {
+			case FILE_URI_SCHEME:
+				return Optional.of(Fingerprint.of(uri.toString(), Paths.get(uri)));
+			case JAR_URI_SCHEME:
+				String jarUri = uri.getRawSchemeSpecificPart();
+				int separatorIndex = jarUri.indexOf(JAR_URI_SEPARATOR);
+				if (separatorIndex < 0) {
+					return Optional.empty();
+				}
+				URI archiveUri = new URI(jarUri.substring(0, separatorIndex));
+				if (!FILE_URI_SCHEME.equals(archiveUri.getScheme())) {
+					return Optional.empty();
+				}
+				return Optional.of(Fingerprint.of(archiveUri.toString(), Paths.get(archiveUri)));
+			case JRT_URI_SCHEME:
+				return Optional.of(Fingerprint.ABSENT);
+			default:
+				return Optional.empty();
+		}
+	}
+
+	private static class Entry {
+
+		private final Fingerprint fingerprint;
+		private final List<Fingerprint> dependencies;
+
+		Entry(Fingerprint fingerprint, List<Fingerprint> dependencies) {
+			this.fingerprint = fingerprint;
+			this.dependencies = dependencies;
+		}
+
+		static Optional<Entry> parse(String line) {
+			String[] parts = line.split(SEPARATOR);
+			if (parts.length < 3 || parts.length % 3 != 0) {
+				return Optional.empty();
+			}
+			List<Fingerprint> fingerprints = new ArrayList<>(parts.length / 3);
+			for (int i = 0; i < parts.length; i += 3) {
+				fingerprints.add(new Fingerprint(parts[i], Long.parseLong(parts[i + 1]), Long.parseLong(parts[i + 2])));
+			}
+			return Optional.of(new Entry(fingerprints.get(0), fingerprints.subList(1, fingerprints.size())));
+		}
+
+		boolean isUpToDate(Path classFile) {
+			if (!this.fingerprint.matches(classFile)) {
+				return false;
+			}
+			for (Fingerprint dependency : this.dependencies) {
+				if (!dependency.matches(Paths.get(URI.create(dependency.uri)))) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		String format() {
+			StringBuilder builder = new StringBuilder(this.fingerprint.format());
+			for (Fingerprint dependency : this.dependencies) {
+				builder.append(SEPARATOR).append(dependency.format());
+			}
+			return builder.toString();
+		}
+
+	}
+
+	private static class Fingerprint {
+
+		static final Fingerprint ABSENT = new Fingerprint("", -1, -1);
+
+		private final String uri;
+		private final long size;
+		private final long lastModified;
+
+		static Fingerprint of(String uri, Path path) throws IOException {
+			BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+			return new Fingerprint(uri, attributes.size(), attributes.lastModifiedTime().toMillis());
+		}
+
+		Fingerprint(String uri, long size, long lastModified) {
+			this.uri = uri;
+			this.size = size;
+			this.lastModified = lastModified;
+		}
+
+		boolean isPresent() {
+			return this != ABSENT;
+		}
+
+		boolean matches(Path path) {
+			try {
+				BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+				return attributes.size() == this.size && attributes.lastModifiedTime().toMillis() == this.lastModified;
+			}
+			catch (Exception ex) {
+				rethrowIfBlacklisted(ex);
+				return false;
+			}
+		}
+
+		String format() {
+			return this.uri + SEPARATOR + this.size + SEPARATOR + this.lastModified;
+		}
+
+	}
+
+}
@@ -10,10 +10,12 @@
 
 package org.junit.platform.engine.support.discovery;
 
+import static java.util.Collections.emptyList;
 import static java.util.stream.Collectors.toCollection;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -48,6 +50,98 @@ import org.junit.platform.engine.support.discovery.SelectorResolver.Resolution;
 @API(status = EXPERIMENTAL, since = "1.5")
 public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 
+	/**
+	 * Property name used to enable parallel classpath scanning when resolving
+	 * {@link ClasspathRootSelector ClasspathRootSelectors} and
+	 * {@link PackageSelector PackageSelectors} via the resolver added by
+	 * {@link Builder#addClassContainerSelectorResolver(Predicate)}: {@value}
+	 *
+	 * <p>When enabled, all classpath roots of a package and all of their
+	 * subdirectories are walked concurrently on a dedicated, bounded
+	 * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}. The resulting
+	 * classes are merged in a deterministic order.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 1.6
+	 * @see #PARALLEL_CLASSPATH_SCANNING_PARALLELISM_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String PARALLEL_CLASSPATH_SCANNING_ENABLED_PROPERTY_NAME = "junit.platform.discovery.classpath.scanning.parallel.enabled";
+
+	/**
+	 * Property name used to configure the maximum number of threads used for
+	 * parallel classpath scanning: {@value}
+	 *
+	 * <p>Only taken into account if parallel classpath scanning has been
+	 * enabled via {@link #PARALLEL_CLASSPATH_SCANNING_ENABLED_PROPERTY_NAME}.
+	 * The value must be a positive integer.
+	 *
+	 * <p>Defaults to the number of available processors.
+	 *
+	 * @since 1.6
+	 * @see #PARALLEL_CLASSPATH_SCANNING_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String PARALLEL_CLASSPATH_SCANNING_PARALLELISM_PROPERTY_NAME = "junit.platform.discovery.classpath.scanning.parallel.parallelism";
+
+	/**
+	 * Property name used to enable pre-filtering of class files during
+	 * classpath scanning: {@value}
+	 *
+	 * <p>When enabled, the class files found while scanning for
+	 * {@link ClasspathRootSelector ClasspathRootSelectors} and
+	 * {@link PackageSelector PackageSelectors} are inspected before the
+	 * corresponding classes are loaded. A class is only loaded if its class
+	 * file directly references at least one of the annotations supplied to
+	 * {@link Builder#addClassContainerSelectorResolver(Predicate, Collection)},
+	 * extends a class other than {@code Object}, implements an interface, or
+	 * might contain nested classes. Classes that only declare tests via
+	 * composed annotations are therefore not discovered via classpath
+	 * scanning when this feature is enabled.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String CLASS_FILE_PRE_FILTERING_ENABLED_PROPERTY_NAME = "junit.platform.discovery.classpath.scanning.prefilter.enabled";
+
+	/**
+	 * Property name used to enable the persistent discovery index: {@value}
+	 *
+	 * <p>When enabled, the resolver added by
+	 * {@link Builder#addClassContainerSelectorResolver(Predicate)} records
+	 * which class files found during classpath scanning define classes that
+	 * do not satisfy the engine's class predicate. In subsequent discovery
+	 * requests, such classes are skipped without being loaded as long as
+	 * neither their class files nor the class files of their supertypes and
+	 * nested classes have changed, as determined by their sizes and last
+	 * modification times.
+	 *
+	 * <p>Defaults to {@code false}.
+	 *
+	 * @since 1.6
+	 * @see #DISCOVERY_INDEX_DIRECTORY_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String DISCOVERY_INDEX_ENABLED_PROPERTY_NAME = "junit.platform.discovery.index.enabled";
+
+	/**
+	 * Property name used to configure the directory the discovery index is
+	 * stored in: {@value}
+	 *
+	 * <p>Relative paths are resolved against the current working directory.
+	 * Each engine stores its index in a separate file within this directory.
+	 *
+	 * <p>Defaults to {@code build/junit-platform/discovery-index}.
+	 *
+	 * @since 1.6
+	 * @see #DISCOVERY_INDEX_ENABLED_PROPERTY_NAME
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String DISCOVERY_INDEX_DIRECTORY_PROPERTY_NAME = "junit.platform.discovery.index.directory";
+
 	private static final Logger logger = LoggerFactory.getLogger(EngineDiscoveryRequestResolver.class);
 
 	private final List<Function<InitializationContext<T>, SelectorResolver>> resolverCreators;
@@ -109,7 +203,17 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 		InitializationContext<T> initializationContext = new DefaultInitializationContext<>(request, engineDescriptor);
 		List<SelectorResolver> resolvers = instantiate(resolverCreators, initializationContext);
 		List<TestDescriptor.Visitor> visitors = instantiate(visitorCreators, initializationContext);
-		new EngineDiscoveryRequestResolution(logger, request, engineDescriptor, resolvers, visitors).run();
+		try {
+			new EngineDiscoveryRequestResolution(logger, request, engineDescriptor, resolvers, visitors).run();
+		}
+		finally {
+			// @formatter:off
+			resolvers.stream()
+					.filter(ClassContainerSelectorResolver.class::isInstance)
+					.map(ClassContainerSelectorResolver.class::cast)
+					.forEach(ClassContainerSelectorResolver::discoveryFinished);
+			// @formatter:on
+		}
 	}
 
 	private <R> List<R> instantiate(List<Function<InitializationContext<T>, R>> creators,
@@ -149,14 +253,48 @@ public class EngineDiscoveryRequestResolver<T extends TestDescriptor> {
 		 * ClassSelectors} by scanning for classes that satisfy the supplied
 		 * predicate in the respective class containers to this builder.
 		 *
+		 * <p>Classpath scanning may be performed in parallel by enabling the
+		 * {@value EngineDiscoveryRequestResolver#PARALLEL_CLASSPATH_SCANNING_ENABLED_PROPERTY_NAME}
+		 * configuration parameter.
+		 *
 		 * @param classFilter predicate the resolved classes must satisfy; never
 		 * {@code null}
 		 * @return this builder for method chaining
 		 */
 		public Builder<T> addClassContainerSelectorResolver(Predicate<Class<?>> classFilter) {
+			return addClassContainerSelectorResolver(classFilter, emptyList());
+		}
+
+		/**
+		 * Add a predefined resolver that resolves {@link ClasspathRootSelector
+		 * ClasspathRootSelectors}, {@link ModuleSelector ModuleSelectors}, and
+		 * {@link PackageSelector PackageSelectors} into {@link ClassSelector
+		 * ClassSelectors} by scanning for classes that satisfy the supplied
+		 * predicate in the respective class containers to this builder.
+		 *
+		 * <p>If the
+		 * {@value EngineDiscoveryRequestResolver#CLASS_FILE_PRE_FILTERING_ENABLED_PROPERTY_NAME}
+		 * configuration parameter is set to {@code true}, classes whose class
+		 * files do not reference any of the supplied annotations are skipped
+		 * without being loaded unless they might inherit or contain annotated
+		 * members.
+		 *
+		 * @param classFilter predicate the resolved classes must satisfy; never
+		 * {@code null}
+		 * @param annotationNames the fully qualified names of the annotations
+		 * that indicate that a class might satisfy the supplied predicate;
+		 * never {@code null} but potentially empty
+		 * @return this builder for method chaining
+		 * @since 1.6
+		 */
+		@API(status = EXPERIMENTAL, since = "1.6")
+		public Builder<T> addClassContainerSelectorResolver(Predicate<Class<?>> classFilter,
+				Collection<String> annotationNames) {
 			Preconditions.notNull(classFilter, "classFilter must not be null");
-			return addSelectorResolver(
-				context -> new ClassContainerSelectorResolver(classFilter, context.getClassNameFilter()));
+			Preconditions.notNull(annotationNames, "annotationNames must not be null");
+			Preconditions.containsNoNullElements(annotationNames, "annotationNames must not contain null elements");
+			List<String> names = new ArrayList<>(annotationNames);
+			return addSelectorResolver(context -> new ClassContainerSelectorResolver(classFilter, names, context));
 		}
 
 		/**
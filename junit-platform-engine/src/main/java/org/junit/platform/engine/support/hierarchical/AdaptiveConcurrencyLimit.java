@@ -0,0 +1,192 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.support.hierarchical.LoadMonitor.Load;
+
+/**
+ * Limits the number of test tasks a {@link ForkJoinPoolHierarchicalTestExecutorService}
+ * forks and adapts that limit to the current {@linkplain LoadMonitor load}.
+ *
+ * <p>The limit is the number of tasks that may be executed concurrently,
+ * including the one that forks, and starts at the maximum. While the machine
+ * or the JVM is {@linkplain Load#isOverloaded() overloaded}, the limit is
+ * reduced by a quarter at every sample; while there is
+ * {@linkplain Load#hasSpareCapacity() spare capacity}, it is increased by one.
+ *
+ * <p>Each forked task holds a permit until it has been executed, except while
+ * the thread executing it waits for other tasks, e.g. a container for its
+ * children, since that thread then only executes tasks that hold permits of
+ * their own. Tasks that cannot be forked are executed in the forking thread
+ * instead; hence, a lower limit never blocks any thread.
+ *
+ * @since 1.6
+ * @see DefaultParallelExecutionConfigurationStrategy#ADAPTIVE
+ */
+class AdaptiveConcurrencyLimit implements AutoCloseable {
+
+	private static final Logger logger = LoggerFactory.getLogger(AdaptiveConcurrencyLimit.class);
+
+	private final int maximum;
+	private final AtomicInteger permitsInUse = new AtomicInteger();
+	private final ThreadLocal<Permit> permitOfCurrentThread = new ThreadLocal<>();
+	private volatile int limit;
+	private ScheduledExecutorService sampler;
+
+	AdaptiveConcurrencyLimit(int maximum) {
+		this.maximum = maximum;
+		this.limit = maximum;
+	}
+
+	/**
+	 * Sample the supplied {@link LoadMonitor} at the supplied interval and
+	 * adjust the limit accordingly until this limit is closed.
+	 */
+	AdaptiveConcurrencyLimit startSampling(LoadMonitor loadMonitor, long interval, TimeUnit unit) {
+		this.sampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "junit-platform-adaptive-concurrency-limit");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.sampler.scheduleWithFixedDelay(() -> {
+			try {
+				adjust(loadMonitor.sample());
+			}
+			catch (Exception e) {
+				logger.debug(e, () -> "Failed to sample load");
+			}
+		}, interval, interval, unit);
+		return this;
+	}
+
+	int getLimit() {
+		return this.limit;
+	}
+
+	/**
+	 * Try to acquire a permit for forking a task.
+	 *
+	 * @return {@code true} if the task may be forked, in which case it must
+	 * be {@linkplain #executeWithAcquiredPermit(Runnable) executed} with the
+	 * acquired permit
+	 */
+	boolean tryAcquire() {
+		while (true) {
+			int current = this.permitsInUse.get();
+			if (current >= this.limit - 1) {
+				return false;
+			}
+			if (this.permitsInUse.compareAndSet(current, current + 1)) {
+				return true;
+			}
+		}
+	}
+
+	void release() {
+		this.permitsInUse.decrementAndGet();
+	}
+
+	/**
+	 * Execute the supplied forked task in the current thread and release its
+	 * permit afterwards, unless it is still suspended.
+	 *
+	 * @see #suspendPermitOfCurrentThread()
+	 */
+	void executeWithAcquiredPermit(Runnable task) {
+		Permit previous = this.permitOfCurrentThread.get();
+		Permit permit = new Permit();
+		this.permitOfCurrentThread.set(permit);
+		try {
+			task.run();
+		}
+		finally {
+			if (permit.held) {
+				release();
+			}
+			if (previous == null) {
+				this.permitOfCurrentThread.remove();
+			}
+			else {
+				this.permitOfCurrentThread.set(previous);
+			}
+		}
+	}
+
+	/**
+	 * Release the permit of the forked task executed by the current thread, if
+	 * any, while that thread waits for other tasks.
+	 *
+	 * @return {@code true} if a permit was released, in which case
+	 * {@link #resumePermitOfCurrentThread()} must be called once waiting is
+	 * over
+	 */
+	boolean suspendPermitOfCurrentThread() {
+		Permit permit = this.permitOfCurrentThread.get();
+		if (permit == null || !permit.held) {
+			return false;
+		}
+		permit.held = false;
+		release();
+		return true;
+	}
+
+	/**
+	 * Reacquire the permit released by
+	 * {@link #suspendPermitOfCurrentThread()} regardless of the current
+	 * limit since the task is already being executed.
+	 */
+	void resumePermitOfCurrentThread() {
+		this.permitOfCurrentThread.get().held = true;
+		this.permitsInUse.incrementAndGet();
+	}
+
+	void adjust(Load load) {
+		int current = this.limit;
+		int adjusted = current;
+		if (load.isOverloaded()) {
+			adjusted = Math.max(1, current - Math.max(1, current / 4));
+		}
+		else if (load.hasSpareCapacity()) {
+			adjusted = Math.min(this.maximum, current + 1);
+		}
+		if (adjusted != current) {
+			this.limit = adjusted;
+			int newLimit = adjusted;
+			logger.debug(() -> String.format("Adjusted concurrency limit from %d to %d based on %s", current,
+				newLimit, load));
+		}
+	}
+
+	@Override
+	public void close() {
+		if (this.sampler != null) {
+			this.sampler.shutdownNow();
+		}
+	}
+
+	/**
+	 * Permit of a forked task that is being executed; only accessed by the
+	 * executing thread.
+	 */
+	private static class Permit {
+
+		private boolean held = true;
+
+	}
+
+}
@@ -54,18 +54,33 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	DYNAMIC {
 		@Override
 		public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
-			BigDecimal factor = configurationParameters.get(CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME,
-				BigDecimal::new).orElse(BigDecimal.ONE);
-
-			Preconditions.condition(factor.compareTo(BigDecimal.ZERO) > 0,
-				() -> String.format("Factor '%s' specified via configuration parameter '%s' must be greater than 0",
-					factor, CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME));
-
-			int parallelism = Math.max(1,
-				factor.multiply(BigDecimal.valueOf(Runtime.getRuntime().availableProcessors())).intValue());
+			return createDynamicConfiguration(configurationParameters, CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME);
+		}
+	},
 
-			return new DefaultParallelExecutionConfiguration(parallelism, parallelism, 256 + parallelism, parallelism,
-				KEEP_ALIVE_SECONDS);
+	/**
+	 * Computes the maximum parallelism based on the number of available
+	 * processors/cores multiplied by the {@value CONFIG_ADAPTIVE_FACTOR_PROPERTY_NAME}
+	 * configuration parameter and adapts the number of concurrently executing
+	 * tasks to the load of the machine and the JVM during execution.
+	 *
+	 * <p>The number of concurrently executing tasks is reduced while the CPUs
+	 * of the machine are saturated, e.g. by other processes, garbage
+	 * collection takes up a significant share of time, or the heap is almost
+	 * full; it is increased again up to the maximum parallelism once the load
+	 * has decreased.
+	 *
+	 * <p>Only {@link ForkJoinPoolHierarchicalTestExecutorService} adapts the
+	 * number of concurrently executing tasks; other executor services use the
+	 * maximum parallelism.
+	 *
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	ADAPTIVE {
+		@Override
+		public ParallelExecutionConfiguration createConfiguration(ConfigurationParameters configurationParameters) {
+			return createDynamicConfiguration(configurationParameters, CONFIG_ADAPTIVE_FACTOR_PROPERTY_NAME);
 		}
 	},
 
@@ -98,8 +113,8 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	/**
 	 * Property name used to determine the desired configuration strategy.
 	 *
-	 * <p>Value must be one of {@code dynamic}, {@code fixed}, or
-	 * {@code custom}.
+	 * <p>Value must be one of {@code dynamic}, {@code fixed},
+	 * {@code adaptive}, or {@code custom}.
 	 */
 	public static final String CONFIG_STRATEGY_PROPERTY_NAME = "strategy";
 
@@ -123,6 +138,18 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	 */
 	public static final String CONFIG_DYNAMIC_FACTOR_PROPERTY_NAME = "dynamic.factor";
 
+	/**
+	 * Property name of the factor used to determine the maximum parallelism
+	 * for the {@link #ADAPTIVE} configuration strategy.
+	 *
+	 * <p>Value must be a decimal number; defaults to {@code 1}.
+	 *
+	 * @since 1.6
+	 * @see #ADAPTIVE
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String CONFIG_ADAPTIVE_FACTOR_PROPERTY_NAME = "adaptive.factor";
+
 	/**
 	 * Property name used to specify the fully qualified class name of the
 	 * {@link ParallelExecutionConfigurationStrategy} to be used by the
@@ -132,6 +159,21 @@ public enum DefaultParallelExecutionConfigurationStrategy implements ParallelExe
 	 */
 	public static final String CONFIG_CUSTOM_CLASS_PROPERTY_NAME = "custom.class";
 
+	private static ParallelExecutionConfiguration createDynamicConfiguration(
+			ConfigurationParameters configurationParameters, String factorPropertyName) {
+		BigDecimal factor = configurationParameters.get(factorPropertyName, BigDecimal::new).orElse(BigDecimal.ONE);
+
+		Preconditions.condition(factor.compareTo(BigDecimal.ZERO) > 0,
+			() -> String.format("Factor '%s' specified via configuration parameter '%s' must be greater than 0", factor,
+				factorPropertyName));
+
+		int parallelism = Math.max(1,
+			factor.multiply(BigDecimal.valueOf(Runtime.getRuntime().availableProcessors())).intValue());
+
+		return new DefaultParallelExecutionConfiguration(parallelism, parallelism, 256 + parallelism, parallelism,
+			KEEP_ALIVE_SECONDS);
+	}
+
 	static ParallelExecutionConfigurationStrategy getStrategy(ConfigurationParameters configurationParameters) {
 		return valueOf(configurationParameters.get(CONFIG_STRATEGY_PROPERTY_NAME).orElse("dynamic").toUpperCase());
 	}
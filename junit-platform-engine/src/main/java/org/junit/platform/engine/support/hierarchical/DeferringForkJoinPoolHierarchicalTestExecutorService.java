@@ -0,0 +1,370 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+
+import java.util.Deque;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.engine.ConfigurationParameters;
+
+/**
+ * A {@link ForkJoinPool}-based
+ * {@linkplain HierarchicalTestExecutorService executor service} that does not
+ * block worker threads while waiting for {@linkplain ResourceLock resource
+ * locks} of concurrent {@linkplain TestTask test tasks}.
+ *
+ * <p>If the resource lock of a {@linkplain Node.ExecutionMode#CONCURRENT
+ * concurrent} test task cannot be {@linkplain ResourceLock#tryAcquire()
+ * acquired immediately}, the task is deferred and the worker thread is free to
+ * execute other tasks. A deferred task waits for the lock it failed to
+ * acquire and is resubmitted to the pool once that lock is released; each
+ * release resubmits a single task waiting for the released lock. Test tasks
+ * that must be executed in
+ * the {@linkplain Node.ExecutionMode#SAME_THREAD same thread} still wait for
+ * their resource lock in the calling thread.
+ *
+ * <p>This executor service is configured in the same way as
+ * {@link ForkJoinPoolHierarchicalTestExecutorService}.
+ *
+ * @see ForkJoinPoolHierarchicalTestExecutorService
+ * @see DefaultParallelExecutionConfigurationStrategy
+ * @since 1.6
+ */
+@API(status = EXPERIMENTAL, since = "1.6")
+public class DeferringForkJoinPoolHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+	private final Map<Object, Queue<DeferrableTask>> deferredTasksByLock = new ConcurrentHashMap<>();
+	private final Queue<DeferrableTask> deferredTasksWithUnknownLocks = new ConcurrentLinkedQueue<>();
+	private final AtomicLong releasedLockCount = new AtomicLong();
+	private final AtomicLong retryCount = new AtomicLong();
+	private final ForkJoinPool forkJoinPool;
+	private final int parallelism;
+
+	/**
+	 * Create a new {@code DeferringForkJoinPoolHierarchicalTestExecutorService}
+	 * based on the supplied {@link ConfigurationParameters}.
+	 *
+	 * @see DefaultParallelExecutionConfigurationStrategy
+	 */
+	public DeferringForkJoinPoolHierarchicalTestExecutorService(ConfigurationParameters configurationParameters) {
+		forkJoinPool = ForkJoinPoolHierarchicalTestExecutorService.createForkJoinPool(configurationParameters);
+		parallelism = forkJoinPool.getParallelism();
+		LoggerFactory.getLogger(getClass()).config(
+			() -> "Using ForkJoinPool with parallelism of " + parallelism + " and deferred resource locking");
+	}
+
+	@Override
+	public Future<Void> submit(TestTask testTask) {
+		DeferrableTask deferrableTask = new DeferrableTask(testTask);
+		if (!isAlreadyRunningInForkJoinPool()) {
+			return forkJoinPool.submit(deferrableTask);
+		}
+		// see ForkJoinPoolHierarchicalTestExecutorService for why queued work is limited
+		if (testTask.getExecutionMode() == CONCURRENT && ForkJoinTask.getSurplusQueuedTaskCount() < parallelism) {
+			return deferrableTask.fork();
+		}
+		deferrableTask.executeInCurrentThread();
+		return completedFuture(null);
+	}
+
+	private boolean isAlreadyRunningInForkJoinPool() {
+		return ForkJoinTask.getPool() == forkJoinPool;
+	}
+
+	@Override
+	public void invokeAll(List<? extends TestTask> tasks) {
+		if (tasks.size() == 1) {
+			new DeferrableTask(tasks.get(0)).executeInCurrentThread();
+			return;
+		}
+		Deque<DeferrableTask> nonConcurrentTasks = new LinkedList<>();
+		Deque<DeferrableTask> concurrentTasksInReverseOrder = new LinkedList<>();
+		for (TestTask testTask : tasks) {
+			DeferrableTask deferrableTask = new DeferrableTask(testTask);
+			if (testTask.getExecutionMode() == CONCURRENT) {
+				deferrableTask.fork();
+				concurrentTasksInReverseOrder.addFirst(deferrableTask);
+			}
+			else {
+				nonConcurrentTasks.add(deferrableTask);
+			}
+		}
+		for (DeferrableTask task : nonConcurrentTasks) {
+			task.executeInCurrentThread();
+		}
+		for (DeferrableTask forkedTask : concurrentTasksInReverseOrder) {
+			forkedTask.join();
+		}
+	}
+
+	@Override
+	public void close() {
+		forkJoinPool.shutdownNow();
+	}
+
+	// for tests only
+	long getRetryCount() {
+		return retryCount.get();
+	}
+
+	/**
+	 * Get the {@link Lock Locks} the supplied resource lock consists of, or
+	 * {@code null} if they are unknown.
+	 */
+	private static List<Lock> getLocks(ResourceLock resourceLock) {
+		if (resourceLock instanceof SingleLock) {
+			return singletonList(((SingleLock) resourceLock).getLock());
+		}
+		if (resourceLock instanceof CompositeLock) {
+			return ((CompositeLock) resourceLock).getLocks();
+		}
+		if (resourceLock == NopLock.INSTANCE) {
+			return emptyList();
+		}
+		return null;
+	}
+
+	/**
+	 * Try to acquire all supplied locks in order without blocking.
+	 *
+	 * @return {@code null} if all locks were acquired; otherwise, the lock
+	 * that could not be acquired, in which case no lock is held
+	 */
+	private Lock tryAcquireAll(List<Lock> locks) {
+		for (int i = 0; i < locks.size(); i++) {
+			Lock lock = locks.get(i);
+			if (!lock.tryLock()) {
+				releaseAll(locks.subList(0, i));
+				return lock;
+			}
+		}
+		return null;
+	}
+
+	private void releaseAll(List<Lock> locks) {
+		if (locks.isEmpty()) {
+			return;
+		}
+		for (int i = locks.size() - 1; i >= 0; i--) {
+			Lock lock = locks.get(i);
+			lock.unlock();
+			resubmitDeferredTask(lock);
+		}
+		resubmitDeferredTasksWithUnknownLocks();
+	}
+
+	/**
+	 * Defer the supplied task until the supplied lock is released.
+	 *
+	 * <p>Tasks waiting for the read or the write lock of the same
+	 * {@link ResourceReadWriteLock} share a queue. If the lock has been
+	 * released in the meantime, a task waiting for it is resubmitted
+	 * immediately so that no release goes unnoticed.
+	 */
+	private void defer(DeferrableTask task, Lock unavailableLock) {
+		Object key = ResourceReadWriteLock.getOwner(unavailableLock);
+		deferredTasksByLock.computeIfAbsent(key, k -> new ConcurrentLinkedQueue<>()).add(task);
+		if (unavailableLock.tryLock()) {
+			unavailableLock.unlock();
+			resubmitDeferredTask(unavailableLock);
+		}
+	}
+
+	/**
+	 * Defer the supplied task until the next resource lock is released.
+	 *
+	 * <p>Used for resource locks whose underlying locks are unknown. If a
+	 * resource lock has been released since the supplied task tried to acquire
+	 * its own lock, all such tasks are resubmitted immediately so that no
+	 * release goes unnoticed.
+	 */
+	private void defer(DeferrableTask task, long releasedLockCountBeforeAttempt) {
+		deferredTasksWithUnknownLocks.add(task);
+		if (releasedLockCount.get() != releasedLockCountBeforeAttempt) {
+			resubmitDeferredTasksWithUnknownLocks();
+		}
+	}
+
+	private void resubmitDeferredTask(Lock releasedLock) {
+		Queue<DeferrableTask> deferredTasks = deferredTasksByLock.get(ResourceReadWriteLock.getOwner(releasedLock));
+		DeferrableTask task = deferredTasks == null ? null : deferredTasks.poll();
+		if (task != null) {
+			resubmit(task);
+		}
+	}
+
+	private void resubmitDeferredTasksWithUnknownLocks() {
+		releasedLockCount.incrementAndGet();
+		DeferrableTask task;
+		while ((task = deferredTasksWithUnknownLocks.poll()) != null) {
+			resubmit(task);
+		}
+	}
+
+	private void resubmit(DeferrableTask task) {
+		RetryAction retryAction = new RetryAction(task);
+		if (isAlreadyRunningInForkJoinPool()) {
+			retryAction.fork();
+		}
+		else {
+			forkJoinPool.execute(retryAction);
+		}
+	}
+
+	// this class cannot not be serialized because TestTask is not Serializable
+	@SuppressWarnings("serial")
+	class DeferrableTask extends ForkJoinTask<Void> {
+
+		private final TestTask testTask;
+
+		DeferrableTask(TestTask testTask) {
+			this.testTask = testTask;
+		}
+
+		@Override
+		public Void getRawResult() {
+			return null;
+		}
+
+		@Override
+		protected void setRawResult(Void value) {
+		}
+
+		/**
+		 * Make a first attempt to execute this task; if its resource lock is
+		 * not available, this task remains incomplete until a later attempt
+		 * made by a {@link RetryAction} succeeds.
+		 */
+		@Override
+		protected boolean exec() {
+			return tryExecute(false);
+		}
+
+		/**
+		 * Execute this task if its resource lock can be acquired without
+		 * blocking; otherwise, defer it.
+		 *
+		 * <p>If a retried task acquires its locks, another task waiting for
+		 * them is resubmitted since they may be shared, e.g. read locks.
+		 *
+		 * @param retry whether this task has been deferred before
+		 * @return {@code true} if this task was executed
+		 */
+		boolean tryExecute(boolean retry) {
+			ResourceLock resourceLock = testTask.getResourceLock();
+			List<Lock> locks = getLocks(resourceLock);
+			if (locks == null) {
+				long releasedLockCountBeforeAttempt = releasedLockCount.get();
+				if (!resourceLock.tryAcquire()) {
+					defer(this, releasedLockCountBeforeAttempt);
+					return false;
+				}
+			}
+			else {
+				Lock unavailableLock = tryAcquireAll(locks);
+				if (unavailableLock != null) {
+					defer(this, unavailableLock);
+					return false;
+				}
+				if (retry) {
+					locks.forEach(DeferringForkJoinPoolHierarchicalTestExecutorService.this::resubmitDeferredTask);
+				}
+			}
+			executeAndRelease(resourceLock);
+			return true;
+		}
+
+		/**
+		 * Execute this task in the current thread.
+		 *
+		 * <p>Concurrent tasks are invoked so that the current thread may
+		 * execute other tasks while this task is deferred. All other tasks
+		 * wait for their resource lock in the current thread.
+		 */
+		void executeInCurrentThread() {
+			if (testTask.getExecutionMode() == CONCURRENT) {
+				invoke();
+				return;
+			}
+			ResourceLock resourceLock = testTask.getResourceLock();
+			try {
+				resourceLock.acquire();
+			}
+			catch (InterruptedException e) {
+				ExceptionUtils.throwAsUncheckedException(e);
+			}
+			executeAndRelease(resourceLock);
+		}
+
+		private void executeAndRelease(ResourceLock resourceLock) {
+			try {
+				testTask.execute();
+			}
+			finally {
+				List<Lock> locks = getLocks(resourceLock);
+				if (locks == null) {
+					resourceLock.release();
+					resubmitDeferredTasksWithUnknownLocks();
+				}
+				else {
+					releaseAll(locks);
+				}
+			}
+		}
+
+	}
+
+	// this class cannot not be serialized because TestTask is not Serializable
+	@SuppressWarnings("serial")
+	class RetryAction extends RecursiveAction {
+
+		private final DeferrableTask deferredTask;
+
+		RetryAction(DeferrableTask deferredTask) {
+			this.deferredTask = deferredTask;
+		}
+
+		@Override
+		protected void compute() {
+			retryCount.incrementAndGet();
+			try {
+				if (deferredTask.tryExecute(true)) {
+					deferredTask.complete(null);
+				}
+			}
+			catch (Throwable t) {
+				deferredTask.completeExceptionally(t);
+			}
+		}
+
+	}
+
+}
@@ -23,6 +23,12 @@ import org.junit.platform.commons.util.ToStringBuilder;
  * An exclusive resource identified by a key with a lock mode that is used to
  * synchronize access to shared resources when executing nodes in parallel.
  *
+ * <p>By default, a resource has a single permit, i.e. nodes that require
+ * {@link LockMode#READ_WRITE READ_WRITE} access are executed exclusively.
+ * Resources that can safely be used by a limited number of nodes at the same
+ * time, such as a pool of connections to a local service, may declare more
+ * {@linkplain #getPermits() permits}.
+ *
  * @see Node#getExecutionMode()
  * @since 1.3
  */
@@ -31,6 +37,7 @@ public class ExclusiveResource {
 
 	private final String key;
 	private final LockMode lockMode;
+	private final int permits;
 	private int hash;
 
 	/**
@@ -41,8 +48,27 @@ public class ExclusiveResource {
 	 * resource; never {@code null}
 	 */
 	public ExclusiveResource(String key, LockMode lockMode) {
+		this(key, lockMode, 1);
+	}
+
+	/**
+	 * Create a new {@code ExclusiveResource} that may be accessed by up to the
+	 * supplied number of nodes at the same time.
+	 *
+	 * @param key the identifier of the resource; never {@code null} or blank
+	 * @param lockMode the lock mode to use to synchronize access to the
+	 * resource; never {@code null}
+	 * @param permits the number of permits of the resource; must be greater
+	 * than zero
+	 * @since 1.6
+	 * @see #getPermits()
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public ExclusiveResource(String key, LockMode lockMode, int permits) {
 		this.key = Preconditions.notBlank(key, "key must not be blank");
 		this.lockMode = Preconditions.notNull(lockMode, "lockMode must not be null");
+		Preconditions.condition(permits > 0, () -> "permits must be greater than 0 but was " + permits);
+		this.permits = permits;
 	}
 
 	/**
@@ -59,6 +85,22 @@ public class ExclusiveResource {
 		return lockMode;
 	}
 
+	/**
+	 * Get the number of permits of this resource.
+	 *
+	 * <p>If a resource has more than one permit, up to that many nodes may
+	 * access it at the same time, regardless of their {@linkplain LockMode
+	 * lock mode}. All nodes that declare a resource with the same key must
+	 * declare the same number of permits; otherwise, a node with a deviating
+	 * declaration is reported as failed instead of being executed.
+	 *
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public int getPermits() {
+		return permits;
+	}
+
 	@Override
 	public boolean equals(Object o) {
 		if (this == o) {
@@ -68,27 +110,36 @@ public class ExclusiveResource {
 			return false;
 		}
 		ExclusiveResource that = (ExclusiveResource) o;
-		return Objects.equals(key, that.key) && lockMode == that.lockMode;
+		return Objects.equals(key, that.key) && lockMode == that.lockMode && permits == that.permits;
 	}
 
 	@Override
 	public int hashCode() {
 		int h = hash;
 		if (h == 0) {
-			h = hash = Objects.hash(key, lockMode);
+			h = hash = Objects.hash(key, lockMode, permits);
 		}
 		return h;
 	}
 
 	@Override
 	public String toString() {
-		return new ToStringBuilder(this).append("key", key).append("lockMode", lockMode).toString();
+		// @formatter:off
+		return new ToStringBuilder(this)
+				.append("key", key)
+				.append("lockMode", lockMode)
+				.append("permits", permits)
+				.toString();
+		// @formatter:on
 	}
 
 	/**
 	 * {@code LockMode} translates to the respective {@link ReadWriteLock}
 	 * locks.
 	 *
+	 * <p>The lock mode is ignored for resources with more than one
+	 * {@linkplain ExclusiveResource#getPermits() permit}.
+	 *
 	 * @implNote Enum order is important, since it can be used to sort locks, so
 	 * the stronger mode has to be first.
 	 */
@@ -0,0 +1,220 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Comparator.comparingLong;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+
+/**
+ * Execution durations of test descriptors recorded in previous runs and
+ * persisted in a file.
+ *
+ * <p>The durations are used to start the
+ * {@linkplain Node.ExecutionMode#CONCURRENT concurrent} children of a node in
+ * descending order of their previous durations (longest processing time
+ * first) so that long-running children do not end up at the tail of a
+ * parallel run. Durations of the current run are recorded by a
+ * {@linkplain #createRecordingListener listener} and {@linkplain #save()
+ * saved} once all tests have been executed.
+ *
+ * <p>The file contains one line per test descriptor consisting of the
+ * duration in nanoseconds, a tab, and the unique ID of the descriptor.
+ *
+ * @since 1.6
+ * @see HierarchicalTestEngine#getExecutionDurationsFile
+ */
+class ExecutionDurations {
+
+	private static final Logger logger = LoggerFactory.getLogger(ExecutionDurations.class);
+
+	private static final long UNKNOWN_DURATION = Long.MAX_VALUE;
+
+	private final Path file;
+	private final Map<String, Long> previousDurations;
+	private final Map<String, Long> startTimes = new ConcurrentHashMap<>();
+	private final Map<String, Long> recordedDurations = new ConcurrentHashMap<>();
+	private final Set<String> skippedIds = ConcurrentHashMap.newKeySet();
+	private final Set<String> dynamicIds = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Load the durations stored in the supplied file, if it exists.
+	 */
+	static ExecutionDurations load(Path file) {
+		Map<String, Long> durations = new HashMap<>();
+		if (Files.exists(file)) {
+			try {
+				for (String line : Files.readAllLines(file, UTF_8)) {
+					int separator = line.indexOf('\t');
+					if (separator > 0) {
+						try {
+							durations.put(line.substring(separator + 1), Long.parseLong(line.substring(0, separator)));
+						}
+						catch (NumberFormatException ex) {
+							logger.debug(() -> "Ignoring malformed line in execution durations file: " + line);
+						}
+					}
+				}
+			}
+			catch (IOException ex) {
+				logger.warn(ex, () -> "Failed to read execution durations from " + file);
+			}
+		}
+		return new ExecutionDurations(file, durations);
+	}
+
+	private ExecutionDurations(Path file, Map<String, Long> previousDurations) {
+		this.file = file;
+		this.previousDurations = previousDurations;
+	}
+
+	/**
+	 * Reorder the concurrent tasks in the supplied list so that those that took
+	 * longest in previous runs come first.
+	 *
+	 * <p>Tasks without recorded durations are considered to be the longest
+	 * ones. The positions of all other tasks remain unchanged.
+	 */
+	<T extends NodeTestTask<?>> void orderConcurrentTasksByDescendingDuration(List<T> tasks) {
+		if (previousDurations.isEmpty()) {
+			return;
+		}
+		List<Integer> concurrentTaskIndices = new ArrayList<>();
+		List<T> concurrentTasks = new ArrayList<>();
+		for (int i = 0; i < tasks.size(); i++) {
+			T task = tasks.get(i);
+			if (task.getExecutionMode() == CONCURRENT) {
+				concurrentTaskIndices.add(i);
+				concurrentTasks.add(task);
+			}
+		}
+		concurrentTasks.sort(comparingLong((T task) -> getPreviousDuration(task.getTestDescriptor())).reversed());
+		for (int i = 0; i < concurrentTasks.size(); i++) {
+			tasks.set(concurrentTaskIndices.get(i), concurrentTasks.get(i));
+		}
+	}
+
+	private long getPreviousDuration(TestDescriptor testDescriptor) {
+		return previousDurations.getOrDefault(testDescriptor.getUniqueId().toString(), UNKNOWN_DURATION);
+	}
+
+	/**
+	 * Create a listener that records the durations of all test descriptors
+	 * and forwards all events to the supplied delegate.
+	 */
+	EngineExecutionListener createRecordingListener(EngineExecutionListener delegate) {
+		return new RecordingEngineExecutionListener(delegate);
+	}
+
+	/**
+	 * Save the durations recorded in the current run to the file, retaining
+	 * the previous durations of test descriptors that have been skipped.
+	 *
+	 * <p>Durations of test descriptors that were not part of the current run
+	 * are discarded so that the file does not grow indefinitely. Durations of
+	 * dynamically registered test descriptors are never recorded.
+	 */
+	void save() {
+		Map<String, Long> durations = new TreeMap<>(recordedDurations);
+		for (String skippedId : skippedIds) {
+			Long previousDuration = previousDurations.get(skippedId);
+			if (previousDuration != null) {
+				durations.putIfAbsent(skippedId, previousDuration);
+			}
+		}
+		try {
+			Path parent = file.toAbsolutePath().getParent();
+			Files.createDirectories(parent);
+			Path tempFile = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+			try (BufferedWriter writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+				for (Map.Entry<String, Long> entry : durations.entrySet()) {
+					writer.write(entry.getValue() + "\t" + entry.getKey());
+					writer.newLine();
+				}
+			}
+			Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+		}
+		catch (IOException ex) {
+			logger.warn(ex, () -> "Failed to write execution durations to " + file);
+		}
+	}
+
+	private class RecordingEngineExecutionListener implements EngineExecutionListener {
+
+		private final EngineExecutionListener delegate;
+
+		RecordingEngineExecutionListener(EngineExecutionListener delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+			dynamicIds.add(testDescriptor.getUniqueId().toString());
+			delegate.dynamicTestRegistered(testDescriptor);
+		}
+
+		@Override
+		public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+			String uniqueId = testDescriptor.getUniqueId().toString();
+			if (!dynamicIds.remove(uniqueId)) {
+				skippedIds.add(uniqueId);
+			}
+			delegate.executionSkipped(testDescriptor, reason);
+		}
+
+		@Override
+		public void executionStarted(TestDescriptor testDescriptor) {
+			String uniqueId = testDescriptor.getUniqueId().toString();
+			if (!dynamicIds.contains(uniqueId)) {
+				startTimes.put(uniqueId, System.nanoTime());
+			}
+			delegate.executionStarted(testDescriptor);
+		}
+
+		@Override
+		public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+			String uniqueId = testDescriptor.getUniqueId().toString();
+			dynamicIds.remove(uniqueId);
+			Long startTime = startTimes.remove(uniqueId);
+			if (startTime != null) {
+				recordedDurations.put(uniqueId, System.nanoTime() - startTime);
+			}
+			delegate.executionFinished(testDescriptor, testExecutionResult);
+		}
+
+		@Override
+		public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+			delegate.reportingEntryPublished(testDescriptor, entry);
+		}
+
+	}
+
+}
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.support.hierarchical.Node.SkipResult;
+
+/**
+ * Counts the failures that occur during an execution and decides whether
+ * remaining nodes should be skipped because the maximum number of failures
+ * has been reached.
+ *
+ * @since 1.6
+ * @see HierarchicalTestEngine#getMaxFailures
+ */
+class FailureThreshold {
+
+	private final int maxFailures;
+	private final AtomicInteger failures = new AtomicInteger();
+	private final SkipResult skipResult;
+
+	FailureThreshold(int maxFailures) {
+		Preconditions.condition(maxFailures > 0, "maximum number of failures must be greater than 0");
+		this.maxFailures = maxFailures;
+		this.skipResult = SkipResult.skip(String.format("Execution stopped after reaching the maximum of %d failure%s",
+			maxFailures, maxFailures == 1 ? "" : "s"));
+	}
+
+	void recordFailure() {
+		failures.incrementAndGet();
+	}
+
+	boolean isReached() {
+		return failures.get() >= maxFailures;
+	}
+
+	/**
+	 * Get the result that is used to skip nodes that have not been started
+	 * before the threshold has been {@linkplain #isReached() reached}.
+	 */
+	SkipResult getSkipResult() {
+		return skipResult;
+	}
+
+}
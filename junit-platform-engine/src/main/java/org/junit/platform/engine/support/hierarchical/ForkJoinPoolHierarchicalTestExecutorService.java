@@ -19,6 +19,7 @@ import java.lang.reflect.Constructor;
 import java.util.Deque;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
 import java.util.concurrent.ForkJoinTask;
@@ -26,6 +27,7 @@ import java.util.concurrent.ForkJoinWorkerThread;
 import java.util.concurrent.Future;
 import java.util.concurrent.RecursiveAction;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Predicate;
 
 import org.apiguardian.api.API;
@@ -47,8 +49,11 @@ import org.junit.platform.engine.ConfigurationParameters;
 @API(status = EXPERIMENTAL, since = "1.3")
 public class ForkJoinPoolHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
 
+	private static final long LOAD_SAMPLING_INTERVAL_MILLIS = 1000;
+
 	private final ForkJoinPool forkJoinPool;
 	private final int parallelism;
+	private final AdaptiveConcurrencyLimit concurrencyLimit;
 
 	/**
 	 * Create a new {@code ForkJoinPoolHierarchicalTestExecutorService} based on
@@ -57,15 +62,39 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	 * @see DefaultParallelExecutionConfigurationStrategy
 	 */
 	public ForkJoinPoolHierarchicalTestExecutorService(ConfigurationParameters configurationParameters) {
-		forkJoinPool = createForkJoinPool(configurationParameters);
+		this(configurationParameters, new LoadMonitor());
+	}
+
+	// for tests only
+	ForkJoinPoolHierarchicalTestExecutorService(ConfigurationParameters configurationParameters,
+			LoadMonitor loadMonitor) {
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.getStrategy(
+			configurationParameters);
+		forkJoinPool = createForkJoinPool(strategy.createConfiguration(configurationParameters));
 		parallelism = forkJoinPool.getParallelism();
-		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with parallelism of " + parallelism);
+		if (strategy == DefaultParallelExecutionConfigurationStrategy.ADAPTIVE) {
+			concurrencyLimit = new AdaptiveConcurrencyLimit(parallelism).startSampling(loadMonitor,
+				LOAD_SAMPLING_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+		}
+		else {
+			concurrencyLimit = null;
+		}
+		LoggerFactory.getLogger(getClass()).config(() -> "Using ForkJoinPool with "
+				+ (concurrencyLimit == null ? "" : "adaptive ") + "parallelism of " + parallelism);
+	}
+
+	// for tests only
+	AdaptiveConcurrencyLimit getConcurrencyLimit() {
+		return concurrencyLimit;
 	}
 
-	private ForkJoinPool createForkJoinPool(ConfigurationParameters configurationParameters) {
+	static ForkJoinPool createForkJoinPool(ConfigurationParameters configurationParameters) {
 		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.getStrategy(
 			configurationParameters);
-		ParallelExecutionConfiguration configuration = strategy.createConfiguration(configurationParameters);
+		return createForkJoinPool(strategy.createConfiguration(configurationParameters));
+	}
+
+	private static ForkJoinPool createForkJoinPool(ParallelExecutionConfiguration configuration) {
 		ForkJoinWorkerThreadFactory threadFactory = new WorkerThreadFactory();
 		return Try.call(() -> {
 			// Try to use constructor available in Java >= 9
@@ -98,13 +127,31 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		// can be stolen by otherwise idle workers and the new task takes significantly
 		// longer, parallelism will drop. However, that only happens if the enclosing test
 		// task is the only one remaining which should rarely be the case.
-		if (testTask.getExecutionMode() == CONCURRENT && ForkJoinTask.getSurplusQueuedTaskCount() < parallelism) {
-			return exclusiveTask.fork();
+		if (testTask.getExecutionMode() == CONCURRENT && ForkJoinTask.getSurplusQueuedTaskCount() < parallelism
+				&& tryFork(exclusiveTask)) {
+			return concurrencyLimit == null ? exclusiveTask : new PermitSuspendingFuture(exclusiveTask);
 		}
 		exclusiveTask.compute();
 		return completedFuture(null);
 	}
 
+	/**
+	 * Fork the supplied task unless the adaptive concurrency limit, if any,
+	 * has been reached.
+	 *
+	 * @return {@code true} if the task was forked
+	 */
+	private boolean tryFork(ExclusiveTask exclusiveTask) {
+		if (concurrencyLimit != null) {
+			if (!concurrencyLimit.tryAcquire()) {
+				return false;
+			}
+			exclusiveTask.executeWithPermitOf(concurrencyLimit);
+		}
+		exclusiveTask.fork();
+		return true;
+	}
+
 	private boolean isAlreadyRunningInForkJoinPool() {
 		return ForkJoinTask.getPool() == forkJoinPool;
 	}
@@ -116,19 +163,25 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 			return;
 		}
 		Deque<ExclusiveTask> nonConcurrentTasks = new LinkedList<>();
+		Deque<ExclusiveTask> unforkedConcurrentTasks = new LinkedList<>();
 		Deque<ExclusiveTask> concurrentTasksInReverseOrder = new LinkedList<>();
-		forkConcurrentTasks(tasks, nonConcurrentTasks, concurrentTasksInReverseOrder);
+		forkConcurrentTasks(tasks, nonConcurrentTasks, unforkedConcurrentTasks, concurrentTasksInReverseOrder);
 		executeNonConcurrentTasks(nonConcurrentTasks);
+		forkOrExecuteUnforkedConcurrentTasks(unforkedConcurrentTasks, concurrentTasksInReverseOrder);
 		joinConcurrentTasksInReverseOrderToEnableWorkStealing(concurrentTasksInReverseOrder);
 	}
 
 	private void forkConcurrentTasks(List<? extends TestTask> tasks, Deque<ExclusiveTask> nonConcurrentTasks,
-			Deque<ExclusiveTask> concurrentTasksInReverseOrder) {
+			Deque<ExclusiveTask> unforkedConcurrentTasks, Deque<ExclusiveTask> concurrentTasksInReverseOrder) {
 		for (TestTask testTask : tasks) {
 			ExclusiveTask exclusiveTask = new ExclusiveTask(testTask);
 			if (testTask.getExecutionMode() == CONCURRENT) {
-				exclusiveTask.fork();
-				concurrentTasksInReverseOrder.addFirst(exclusiveTask);
+				if (tryFork(exclusiveTask)) {
+					concurrentTasksInReverseOrder.addFirst(exclusiveTask);
+				}
+				else {
+					unforkedConcurrentTasks.add(exclusiveTask);
+				}
 			}
 			else {
 				nonConcurrentTasks.add(exclusiveTask);
@@ -142,16 +195,105 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 		}
 	}
 
+	/**
+	 * Retry forking each concurrent task that exceeded the adaptive
+	 * concurrency limit and execute it in the current thread if the limit
+	 * still does not allow it, so that tasks are forked again as soon as
+	 * previously forked ones have been executed.
+	 */
+	private void forkOrExecuteUnforkedConcurrentTasks(Deque<ExclusiveTask> unforkedConcurrentTasks,
+			Deque<ExclusiveTask> concurrentTasksInReverseOrder) {
+		for (ExclusiveTask task : unforkedConcurrentTasks) {
+			if (tryFork(task)) {
+				concurrentTasksInReverseOrder.addFirst(task);
+			}
+			else {
+				task.compute();
+			}
+		}
+	}
+
 	private void joinConcurrentTasksInReverseOrderToEnableWorkStealing(
 			Deque<ExclusiveTask> concurrentTasksInReverseOrder) {
-		for (ExclusiveTask forkedTask : concurrentTasksInReverseOrder) {
-			forkedTask.join();
+		boolean permitSuspended = suspendPermitOfCurrentThread();
+		try {
+			for (ExclusiveTask forkedTask : concurrentTasksInReverseOrder) {
+				forkedTask.join();
+			}
+		}
+		finally {
+			if (permitSuspended) {
+				concurrencyLimit.resumePermitOfCurrentThread();
+			}
 		}
 	}
 
+	private boolean suspendPermitOfCurrentThread() {
+		return concurrencyLimit != null && concurrencyLimit.suspendPermitOfCurrentThread();
+	}
+
 	@Override
 	public void close() {
 		forkJoinPool.shutdownNow();
+		if (concurrencyLimit != null) {
+			concurrencyLimit.close();
+		}
+	}
+
+	/**
+	 * Future of a forked task that suspends the permit of the waiting thread,
+	 * e.g. one executing a container with dynamic children.
+	 */
+	private class PermitSuspendingFuture implements Future<Void> {
+
+		private final ExclusiveTask task;
+
+		PermitSuspendingFuture(ExclusiveTask task) {
+			this.task = task;
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+			return task.cancel(mayInterruptIfRunning);
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return task.isCancelled();
+		}
+
+		@Override
+		public boolean isDone() {
+			return task.isDone();
+		}
+
+		@Override
+		public Void get() throws InterruptedException, ExecutionException {
+			boolean permitSuspended = suspendPermitOfCurrentThread();
+			try {
+				return task.get();
+			}
+			finally {
+				if (permitSuspended) {
+					concurrencyLimit.resumePermitOfCurrentThread();
+				}
+			}
+		}
+
+		@Override
+		public Void get(long timeout, TimeUnit unit)
+				throws InterruptedException, ExecutionException, TimeoutException {
+			boolean permitSuspended = suspendPermitOfCurrentThread();
+			try {
+				return task.get(timeout, unit);
+			}
+			finally {
+				if (permitSuspended) {
+					concurrencyLimit.resumePermitOfCurrentThread();
+				}
+			}
+		}
+
 	}
 
 	// this class cannot not be serialized because TestTask is not Serializable
@@ -159,14 +301,32 @@ public class ForkJoinPoolHierarchicalTestExecutorService implements Hierarchical
 	static class ExclusiveTask extends RecursiveAction {
 
 		private final TestTask testTask;
+		private AdaptiveConcurrencyLimit concurrencyLimit;
 
 		ExclusiveTask(TestTask testTask) {
 			this.testTask = testTask;
 		}
 
-		@SuppressWarnings("try")
+		/**
+		 * Execute this task with a permit of the supplied limit that has been
+		 * acquired for it; must be called before this task is forked.
+		 */
+		void executeWithPermitOf(AdaptiveConcurrencyLimit concurrencyLimit) {
+			this.concurrencyLimit = concurrencyLimit;
+		}
+
 		@Override
 		public void compute() {
+			if (concurrencyLimit == null) {
+				execute();
+			}
+			else {
+				concurrencyLimit.executeWithAcquiredPermit(this::execute);
+			}
+		}
+
+		@SuppressWarnings("try")
+		private void execute() {
 			try (ResourceLock lock = testTask.getResourceLock().acquire()) {
 				testTask.execute();
 			}
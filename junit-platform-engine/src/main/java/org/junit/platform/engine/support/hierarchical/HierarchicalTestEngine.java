@@ -13,6 +13,10 @@ package org.junit.platform.engine.support.hierarchical;
 import static org.apiguardian.api.API.Status.EXPERIMENTAL;
 import static org.apiguardian.api.API.Status.MAINTAINED;
 
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.OptionalInt;
+
 import org.apiguardian.api.API;
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.engine.ExecutionRequest;
@@ -38,17 +42,28 @@ public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> i
 	 * its {@linkplain ExecutionRequest#getEngineExecutionListener() execution
 	 * listener} of test execution events.
 	 *
+	 * <p>If an {@linkplain #getExecutionDurationsFile execution durations file}
+	 * is configured, the durations it contains are used to schedule concurrent
+	 * nodes and are updated with the durations of this execution afterwards.
+	 *
 	 * @see Node
 	 * @see #createExecutorService
 	 * @see #createExecutionContext
+	 * @see #getExecutionDurationsFile
+	 * @see #getMaxPendingDynamicTests
+	 * @see #getMaxFailures
 	 */
 	@Override
 	public final void execute(ExecutionRequest request) {
 		try (HierarchicalTestExecutorService executorService = createExecutorService(request)) {
 			C executionContext = createExecutionContext(request);
 			ThrowableCollector.Factory throwableCollectorFactory = createThrowableCollectorFactory(request);
-			new HierarchicalTestExecutor<>(request, executionContext, executorService,
-				throwableCollectorFactory).execute().get();
+			Optional<ExecutionDurations> executionDurations = getExecutionDurationsFile(request).map(
+				ExecutionDurations::load);
+			new HierarchicalTestExecutor<>(request, executionContext, executorService, throwableCollectorFactory,
+				executionDurations.orElse(null), getMaxPendingDynamicTests(request),
+				getMaxFailures(request)).execute().get();
+			executionDurations.ifPresent(ExecutionDurations::save);
 		}
 		catch (Exception exception) {
 			throw new JUnitException("Error executing tests for engine " + getId(), exception);
@@ -100,6 +115,81 @@ public abstract class HierarchicalTestEngine<C extends EngineExecutionContext> i
 		return OpenTest4JAwareThrowableCollector::new;
 	}
 
+	/**
+	 * Get the file that stores the execution durations of the nodes of the
+	 * supplied {@linkplain ExecutionRequest request} across executions.
+	 *
+	 * <p>If present, the durations recorded in previous executions are used to
+	 * start {@linkplain Node.ExecutionMode#CONCURRENT concurrent} children of a
+	 * node in descending order of their durations so that long-running nodes
+	 * are started first rather than delaying the end of the execution. After
+	 * all nodes have been executed, their durations are written to the file.
+	 * The file does not need to exist prior to the first execution.
+	 *
+	 * <p>By default, this method returns an empty {@code Optional}; thus,
+	 * durations are neither used nor recorded.
+	 *
+	 * @param request the request about to be executed
+	 * @return an {@code Optional} containing the path of the durations file;
+	 * never {@code null} but potentially empty
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	protected Optional<Path> getExecutionDurationsFile(ExecutionRequest request) {
+		return Optional.empty();
+	}
+
+	/**
+	 * Get the maximum number of dynamic tests per node that may be pending,
+	 * i.e. submitted via a {@link Node.DynamicTestExecutor} but not yet
+	 * finished, while executing the supplied {@linkplain ExecutionRequest
+	 * request}.
+	 *
+	 * <p>If present, dynamic tests are executed in <em>streaming mode</em>:
+	 * {@link Node.DynamicTestExecutor#execute(org.junit.platform.engine.TestDescriptor)
+	 * DynamicTestExecutor.execute()} blocks while the maximum number of dynamic
+	 * tests is pending, and the descriptors of finished dynamic tests are
+	 * {@linkplain org.junit.platform.engine.TestDescriptor#removeFromHierarchy()
+	 * removed from the hierarchy}. Thus, nodes that register a very large
+	 * number of dynamic tests can be executed with bounded memory.
+	 *
+	 * <p>By default, this method returns an empty {@code OptionalInt}; thus,
+	 * the number of pending dynamic tests is not limited and their descriptors
+	 * remain part of the hierarchy.
+	 *
+	 * @param request the request about to be executed
+	 * @return an {@code OptionalInt} containing the positive maximum number of
+	 * pending dynamic tests per node; never {@code null} but potentially empty
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	protected OptionalInt getMaxPendingDynamicTests(ExecutionRequest request) {
+		return OptionalInt.empty();
+	}
+
+	/**
+	 * Get the maximum number of failures after which the execution of the
+	 * supplied {@linkplain ExecutionRequest request} should be stopped.
+	 *
+	 * <p>If present, nodes that have not been started by the time the given
+	 * number of nodes has finished with a
+	 * {@linkplain org.junit.platform.engine.TestExecutionResult.Status#FAILED
+	 * failed} result are reported as skipped instead of being executed. Nodes
+	 * that are already executing are allowed to finish.
+	 *
+	 * <p>By default, this method returns an empty {@code OptionalInt}; thus,
+	 * all nodes are executed regardless of the number of failures.
+	 *
+	 * @param request the request about to be executed
+	 * @return an {@code OptionalInt} containing the positive maximum number of
+	 * failures; never {@code null} but potentially empty
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	protected OptionalInt getMaxFailures(ExecutionRequest request) {
+		return OptionalInt.empty();
+	}
+
 	/**
 	 * Create the initial execution context for executing the supplied
 	 * {@linkplain ExecutionRequest request}.
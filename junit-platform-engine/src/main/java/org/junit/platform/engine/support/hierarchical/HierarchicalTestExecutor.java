@@ -10,8 +10,10 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import java.util.OptionalInt;
 import java.util.concurrent.Future;
 
+import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.TestDescriptor;
@@ -37,21 +39,43 @@ class HierarchicalTestExecutor<C extends EngineExecutionContext> {
 	private final C rootContext;
 	private final HierarchicalTestExecutorService executorService;
 	private final ThrowableCollector.Factory throwableCollectorFactory;
+	private final ExecutionDurations executionDurations;
+	private final OptionalInt maxPendingDynamicTests;
+	private final OptionalInt maxFailures;
 
 	HierarchicalTestExecutor(ExecutionRequest request, C rootContext, HierarchicalTestExecutorService executorService,
 			ThrowableCollector.Factory throwableCollectorFactory) {
+		this(request, rootContext, executorService, throwableCollectorFactory, null, OptionalInt.empty(),
+			OptionalInt.empty());
+	}
+
+	HierarchicalTestExecutor(ExecutionRequest request, C rootContext, HierarchicalTestExecutorService executorService,
+			ThrowableCollector.Factory throwableCollectorFactory, ExecutionDurations executionDurations,
+			OptionalInt maxPendingDynamicTests, OptionalInt maxFailures) {
+		Preconditions.condition(!maxPendingDynamicTests.isPresent() || maxPendingDynamicTests.getAsInt() > 0,
+			"maximum number of pending dynamic tests must be greater than 0");
 		this.request = request;
 		this.rootContext = rootContext;
 		this.executorService = executorService;
 		this.throwableCollectorFactory = throwableCollectorFactory;
+		this.executionDurations = executionDurations;
+		this.maxPendingDynamicTests = maxPendingDynamicTests;
+		this.maxFailures = maxFailures;
 	}
 
 	Future<Void> execute() {
 		TestDescriptor rootTestDescriptor = this.request.getRootTestDescriptor();
 		EngineExecutionListener executionListener = this.request.getEngineExecutionListener();
+		if (this.executionDurations != null) {
+			executionListener = this.executionDurations.createRecordingListener(executionListener);
+		}
 		NodeExecutionAdvisor executionAdvisor = new NodeTreeWalker().walk(rootTestDescriptor);
+		FailureThreshold failureThreshold = this.maxFailures.isPresent()
+				? new FailureThreshold(this.maxFailures.getAsInt())
+				: null;
 		NodeTestTaskContext taskContext = new NodeTestTaskContext(executionListener, this.executorService,
-			this.throwableCollectorFactory, executionAdvisor);
+			this.throwableCollectorFactory, executionAdvisor, this.executionDurations, this.maxPendingDynamicTests,
+			failureThreshold);
 		NodeTestTask<C> rootTestTask = new NodeTestTask<>(taskContext, rootTestDescriptor);
 		rootTestTask.setParentContext(this.rootContext);
 		return this.executorService.submit(rootTestTask);
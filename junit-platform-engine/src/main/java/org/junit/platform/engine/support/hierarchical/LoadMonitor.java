@@ -0,0 +1,235 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.stream.Collectors.toList;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.lang.management.OperatingSystemMXBean;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.platform.commons.function.Try;
+import org.junit.platform.commons.util.ToStringBuilder;
+
+/**
+ * Samples the load of the machine and of the JVM via the platform MXBeans.
+ *
+ * <p>The CPU load is the load caused by processes other than this JVM, i.e.
+ * the load of the whole machine minus the load of this process, so that tests
+ * saturating the CPUs by themselves do not cause the limit to be reduced. Both
+ * are determined via {@code com.sun.management.OperatingSystemMXBean}; if it is
+ * not available, the load of the machine is approximated by the system load
+ * average, and if the load of this process is unknown, so is the CPU load.
+ *
+ * <p>The share of time spent on garbage collection is computed for the period
+ * since the previous sample and only takes collectors into account whose
+ * collection time does not include concurrent phases, e.g. not the cycles of
+ * ZGC or Shenandoah, which run alongside the application. The heap occupancy
+ * is based on the usage of the heap memory pools after their most recent
+ * collection so that garbage that has not been collected yet is not counted.
+ *
+ * @since 1.6
+ * @see AdaptiveConcurrencyLimit
+ */
+class LoadMonitor {
+
+	private final OperatingSystemMXBean operatingSystem = ManagementFactory.getOperatingSystemMXBean();
+	private final List<GarbageCollectorMXBean> garbageCollectors = findGarbageCollectors();
+	private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+	private final List<MemoryPoolMXBean> heapMemoryPools = findHeapMemoryPools();
+	private final Method systemCpuLoadMethod = findCpuLoadMethod(operatingSystem, "getSystemCpuLoad");
+	private final Method processCpuLoadMethod = findCpuLoadMethod(operatingSystem, "getProcessCpuLoad");
+
+	private long lastSampleNanos;
+	private long lastCollectionTimeMillis;
+
+	LoadMonitor() {
+		this.lastSampleNanos = System.nanoTime();
+		this.lastCollectionTimeMillis = getCollectionTimeMillis();
+	}
+
+	private static List<GarbageCollectorMXBean> findGarbageCollectors() {
+		// @formatter:off
+		return ManagementFactory.getGarbageCollectorMXBeans().stream()
+				.filter(garbageCollector -> !isConcurrentCollector(garbageCollector.getName()))
+				.collect(toList());
+		// @formatter:on
+	}
+
+	/**
+	 * Determine whether the collection time of the garbage collector with the
+	 * supplied name includes phases that run concurrently with the application,
+	 * e.g. {@code ZGC Cycles}, {@code Shenandoah Cycles}, {@code G1 Concurrent GC},
+	 * or {@code ZGC} prior to Java 17.
+	 */
+	static boolean isConcurrentCollector(String name) {
+		return name.endsWith("Cycles") || name.contains("Concurrent") || "ZGC".equals(name);
+	}
+
+	private static List<MemoryPoolMXBean> findHeapMemoryPools() {
+		// @formatter:off
+		return ManagementFactory.getMemoryPoolMXBeans().stream()
+				.filter(memoryPool -> memoryPool.getType() == MemoryType.HEAP)
+				.collect(toList());
+		// @formatter:on
+	}
+
+	private static Method findCpuLoadMethod(OperatingSystemMXBean operatingSystem, String name) {
+		return Try.call(() -> {
+			Class<?> type = Class.forName("com.sun.management.OperatingSystemMXBean");
+			return type.isInstance(operatingSystem) ? type.getMethod(name) : null;
+		}).toOptional().orElse(null);
+	}
+
+	/**
+	 * Sample the current load.
+	 *
+	 * <p>Not thread-safe; must only be called by a single thread.
+	 */
+	Load sample() {
+		long sampleNanos = System.nanoTime();
+		long collectionTimeMillis = getCollectionTimeMillis();
+		long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(sampleNanos - this.lastSampleNanos);
+		double gcTimeRatio = elapsedMillis <= 0 ? 0
+				: (double) (collectionTimeMillis - this.lastCollectionTimeMillis) / elapsedMillis;
+		this.lastSampleNanos = sampleNanos;
+		this.lastCollectionTimeMillis = collectionTimeMillis;
+		return new Load(getCpuLoad(), gcTimeRatio, getHeapOccupancy());
+	}
+
+	private double getCpuLoad() {
+		double systemCpuLoad = getSystemCpuLoad();
+		double processCpuLoad = getProcessCpuLoad();
+		if (systemCpuLoad < 0 || processCpuLoad < 0) {
+			return -1;
+		}
+		return Math.max(0, systemCpuLoad - processCpuLoad);
+	}
+
+	/**
+	 * Get the CPU load of the whole machine between {@code 0} and {@code 1},
+	 * or a negative value if unknown.
+	 */
+	double getSystemCpuLoad() {
+		double cpuLoad = invokeCpuLoadMethod(this.systemCpuLoadMethod);
+		if (cpuLoad >= 0) {
+			return cpuLoad;
+		}
+		double loadAverage = this.operatingSystem.getSystemLoadAverage();
+		return loadAverage < 0 ? -1 : Math.min(1, loadAverage / this.operatingSystem.getAvailableProcessors());
+	}
+
+	/**
+	 * Get the CPU load of this JVM relative to the whole machine between
+	 * {@code 0} and {@code 1}, or a negative value if unknown.
+	 */
+	double getProcessCpuLoad() {
+		return invokeCpuLoadMethod(this.processCpuLoadMethod);
+	}
+
+	private double invokeCpuLoadMethod(Method method) {
+		if (method == null) {
+			return -1;
+		}
+		return Try.call(() -> (Double) method.invoke(this.operatingSystem)).toOptional().orElse(-1d);
+	}
+
+	private long getCollectionTimeMillis() {
+		long collectionTimeMillis = 0;
+		for (GarbageCollectorMXBean garbageCollector : this.garbageCollectors) {
+			collectionTimeMillis += Math.max(0, garbageCollector.getCollectionTime());
+		}
+		return collectionTimeMillis;
+	}
+
+	private double getHeapOccupancy() {
+		MemoryUsage heapUsage = this.memory.getHeapMemoryUsage();
+		long max = heapUsage.getMax() > 0 ? heapUsage.getMax() : heapUsage.getCommitted();
+		return max > 0 ? (double) getHeapUsedAfterCollection(heapUsage) / max : 0;
+	}
+
+	/**
+	 * Get the heap usage after the most recent collection of each heap memory
+	 * pool, or the current usage if no pool supports collection usage.
+	 */
+	private long getHeapUsedAfterCollection(MemoryUsage heapUsage) {
+		long used = 0;
+		boolean collectionUsageSupported = false;
+		for (MemoryPoolMXBean memoryPool : this.heapMemoryPools) {
+			MemoryUsage collectionUsage = memoryPool.getCollectionUsage();
+			if (collectionUsage != null) {
+				used += collectionUsage.getUsed();
+				collectionUsageSupported = true;
+			}
+		}
+		return collectionUsageSupported ? used : heapUsage.getUsed();
+	}
+
+	/**
+	 * A sample of the load of the machine and of the JVM.
+	 */
+	static class Load {
+
+		private final double cpuLoad;
+		private final double gcTimeRatio;
+		private final double heapOccupancy;
+
+		/**
+		 * @param cpuLoad the CPU load caused by other processes than this JVM
+		 * between {@code 0} and {@code 1}, or a negative value if unknown
+		 * @param gcTimeRatio the share of time spent on garbage collection
+		 * @param heapOccupancy the share of the maximum heap size in use after
+		 * the most recent collection
+		 */
+		Load(double cpuLoad, double gcTimeRatio, double heapOccupancy) {
+			this.cpuLoad = cpuLoad;
+			this.gcTimeRatio = gcTimeRatio;
+			this.heapOccupancy = heapOccupancy;
+		}
+
+		/**
+		 * Determine whether other processes saturate the CPUs, garbage
+		 * collection takes up a significant share of time, or the heap is
+		 * almost full.
+		 */
+		boolean isOverloaded() {
+			return cpuLoad > 0.9 || gcTimeRatio > 0.1 || heapOccupancy > 0.9;
+		}
+
+		/**
+		 * Determine whether there is enough headroom on all accounts to
+		 * execute more tasks concurrently.
+		 */
+		boolean hasSpareCapacity() {
+			return cpuLoad < 0.75 && gcTimeRatio < 0.05 && heapOccupancy < 0.75;
+		}
+
+		@Override
+		public String toString() {
+			// @formatter:off
+			return new ToStringBuilder(this)
+					.append("cpuLoad", cpuLoad)
+					.append("gcTimeRatio", gcTimeRatio)
+					.append("heapOccupancy", heapOccupancy)
+					.toString();
+			// @formatter:on
+		}
+
+	}
+
+}
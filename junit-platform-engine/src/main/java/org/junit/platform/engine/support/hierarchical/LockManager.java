@@ -10,6 +10,7 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Collections.singleton;
 import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
@@ -17,13 +18,14 @@ import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.L
 
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 /**
  * @since 1.3
@@ -34,10 +36,22 @@ class LockManager {
 		ExclusiveResource::getLockMode);
 
 	private final Map<String, ReadWriteLock> locksByKey = new ConcurrentHashMap<>();
+	private final Map<String, Lock> boundedLocksByKey = new ConcurrentHashMap<>();
+	private final Map<ExclusiveResource, ResourceLock> singleResourceLocks = new ConcurrentHashMap<>();
+	private final Map<Set<ExclusiveResource>, ResourceLock> multipleResourceLocks = new ConcurrentHashMap<>();
 
 	ResourceLock getLockForResources(Collection<ExclusiveResource> resources) {
-		List<Lock> locks = getDistinctSortedLocks(resources);
-		return toResourceLock(locks);
+		// Locks are stateless views of the shared locks per key and can be cached
+		// since many nodes usually declare the same resources.
+		if (resources.isEmpty()) {
+			return NopLock.INSTANCE;
+		}
+		if (resources.size() == 1) {
+			return singleResourceLocks.computeIfAbsent(resources.iterator().next(),
+				resource -> toResourceLock(getDistinctSortedLocks(singleton(resource))));
+		}
+		return multipleResourceLocks.computeIfAbsent(new HashSet<>(resources),
+			distinctResources -> toResourceLock(getDistinctSortedLocks(distinctResources)));
 	}
 
 	private List<Lock> getDistinctSortedLocks(Collection<ExclusiveResource> resources) {
@@ -49,15 +63,28 @@ class LockManager {
 
 		return resourcesByKey.values().stream()
 				.map(resourcesWithSameKey -> resourcesWithSameKey.get(0))
-				.map(resource -> {
-					ReadWriteLock lock = this.locksByKey.computeIfAbsent(resource.getKey(),
-							key -> new ReentrantReadWriteLock());
-					return resource.getLockMode() == READ ? lock.readLock() : lock.writeLock();
-				})
+				.map(this::getLock)
 				.collect(toList());
 		// @formatter:on
 	}
 
+	/**
+	 * Get the shared lock for the key of the supplied resource.
+	 *
+	 * <p>Resources with more than one permit are backed by a
+	 * {@link SemaphoreLock} that is created with the number of permits of the
+	 * first resource with that key; all other resources are backed by a
+	 * {@link ResourceReadWriteLock}.
+	 */
+	private Lock getLock(ExclusiveResource resource) {
+		if (resource.getPermits() > 1) {
+			return this.boundedLocksByKey.computeIfAbsent(resource.getKey(),
+				key -> new SemaphoreLock(resource.getPermits()));
+		}
+		ReadWriteLock lock = this.locksByKey.computeIfAbsent(resource.getKey(), key -> new ResourceReadWriteLock());
+		return resource.getLockMode() == READ ? lock.readLock() : lock.writeLock();
+	}
+
 	private ResourceLock toResourceLock(List<Lock> locks) {
 		int size = locks.size();
 		if (size == 0) {
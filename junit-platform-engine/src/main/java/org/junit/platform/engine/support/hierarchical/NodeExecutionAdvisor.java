@@ -24,6 +24,7 @@ class NodeExecutionAdvisor {
 
 	private final Map<TestDescriptor, ExecutionMode> forcedDescendantExecutionModeByTestDescriptor = new HashMap<>();
 	private final Map<TestDescriptor, ResourceLock> resourceLocksByTestDescriptor = new HashMap<>();
+	private final Map<TestDescriptor, Throwable> failuresByTestDescriptor = new HashMap<>();
 
 	void forceDescendantExecutionMode(TestDescriptor testDescriptor, ExecutionMode executionMode) {
 		forcedDescendantExecutionModeByTestDescriptor.put(testDescriptor, executionMode);
@@ -33,19 +34,30 @@ class NodeExecutionAdvisor {
 		resourceLocksByTestDescriptor.put(testDescriptor, resourceLock);
 	}
 
-	Optional<ExecutionMode> getForcedExecutionMode(TestDescriptor testDescriptor) {
-		return testDescriptor.getParent().flatMap(this::lookupExecutionModeForcedByAncestor);
+	void failWith(TestDescriptor testDescriptor, Throwable failure) {
+		failuresByTestDescriptor.put(testDescriptor, failure);
 	}
 
-	private Optional<ExecutionMode> lookupExecutionModeForcedByAncestor(TestDescriptor testDescriptor) {
-		ExecutionMode value = forcedDescendantExecutionModeByTestDescriptor.get(testDescriptor);
-		if (value != null) {
-			return Optional.of(value);
+	Optional<ExecutionMode> getForcedExecutionMode(TestDescriptor testDescriptor) {
+		if (forcedDescendantExecutionModeByTestDescriptor.isEmpty()) {
+			return Optional.empty();
+		}
+		Optional<TestDescriptor> ancestor = testDescriptor.getParent();
+		while (ancestor.isPresent()) {
+			ExecutionMode value = forcedDescendantExecutionModeByTestDescriptor.get(ancestor.get());
+			if (value != null) {
+				return Optional.of(value);
+			}
+			ancestor = ancestor.get().getParent();
 		}
-		return testDescriptor.getParent().flatMap(this::lookupExecutionModeForcedByAncestor);
+		return Optional.empty();
 	}
 
 	ResourceLock getResourceLock(TestDescriptor testDescriptor) {
 		return resourceLocksByTestDescriptor.getOrDefault(testDescriptor, NopLock.INSTANCE);
 	}
+
+	Optional<Throwable> getFailure(TestDescriptor testDescriptor) {
+		return Optional.ofNullable(failuresByTestDescriptor.get(testDescriptor));
+	}
 }
@@ -11,10 +11,14 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.stream.Collectors.toCollection;
+import static org.junit.platform.engine.TestExecutionResult.Status.FAILED;
 import static org.junit.platform.engine.TestExecutionResult.failed;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
@@ -25,6 +29,7 @@ import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.BlacklistedExceptions;
 import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
 import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
 import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
@@ -64,6 +69,10 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 		return taskContext.getExecutionAdvisor().getForcedExecutionMode(testDescriptor).orElse(node.getExecutionMode());
 	}
 
+	TestDescriptor getTestDescriptor() {
+		return testDescriptor;
+	}
+
 	void setParentContext(C parentContext) {
 		this.parentContext = parentContext;
 	}
@@ -104,7 +113,15 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 	}
 
 	private void prepare() {
-		throwableCollector.execute(() -> context = node.prepare(parentContext));
+		Optional<Throwable> failure = taskContext.getExecutionAdvisor().getFailure(testDescriptor);
+		if (failure.isPresent()) {
+			throwableCollector.execute(() -> {
+				throw failure.get();
+			});
+		}
+		else {
+			throwableCollector.execute(() -> context = node.prepare(parentContext));
+		}
 
 		// Clear reference to parent context to allow it to be garbage collected.
 		// See https://github.com/junit-team/junit5/issues/1578
@@ -112,6 +129,12 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 	}
 
 	private void checkWhetherSkipped() {
+		Optional<FailureThreshold> reachedFailureThreshold = taskContext.getFailureThreshold().filter(
+			FailureThreshold::isReached);
+		if (reachedFailureThreshold.isPresent()) {
+			skipResult = reachedFailureThreshold.get().getSkipResult();
+			return;
+		}
 		throwableCollector.execute(() -> skipResult = node.shouldBeSkipped(context));
 	}
 
@@ -136,6 +159,8 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 
 					if (!children.isEmpty()) {
 						children.forEach(child -> child.setParentContext(context));
+						taskContext.getExecutionDurations().ifPresent(
+							durations -> durations.orderConcurrentTasksByDescendingDuration(children));
 						taskContext.getExecutorService().invokeAll(children);
 					}
 
@@ -168,48 +193,108 @@ class NodeTestTask<C extends EngineExecutionContext> implements TestTask {
 			// Call executionStarted first to comply with the contract of EngineExecutionListener.
 			taskContext.getListener().executionStarted(testDescriptor);
 		}
+		TestExecutionResult testExecutionResult = throwableCollector.toTestExecutionResult();
 		try {
-			node.nodeFinished(context, testDescriptor, throwableCollector.toTestExecutionResult());
+			node.nodeFinished(context, testDescriptor, testExecutionResult);
 		}
 		catch (Throwable throwable) {
 			BlacklistedExceptions.rethrowIfBlacklisted(throwable);
 			logger.debug(throwable,
 				() -> String.format("Failed to invoke nodeFinished() on Node %s", testDescriptor.getUniqueId()));
 		}
-		taskContext.getListener().executionFinished(testDescriptor, throwableCollector.toTestExecutionResult());
+		if (testExecutionResult.getStatus() == FAILED) {
+			taskContext.getFailureThreshold().ifPresent(FailureThreshold::recordFailure);
+		}
+		taskContext.getListener().executionFinished(testDescriptor, testExecutionResult);
 		throwableCollector = null;
 	}
 
 	private class DefaultDynamicTestExecutor implements DynamicTestExecutor {
-		private final List<Future<?>> futures = new ArrayList<>();
+		private final Deque<SubmittedDynamicTest> submittedDynamicTests = new ArrayDeque<>();
 
 		@Override
 		public void execute(TestDescriptor dynamicTestDescriptor) {
+			awaitCapacity();
 			taskContext.getListener().dynamicTestRegistered(dynamicTestDescriptor);
 			Set<ExclusiveResource> exclusiveResources = NodeUtils.asNode(dynamicTestDescriptor).getExclusiveResources();
 			if (!exclusiveResources.isEmpty()) {
 				taskContext.getListener().executionStarted(dynamicTestDescriptor);
 				String message = "Dynamic test descriptors must not declare exclusive resources: " + exclusiveResources;
 				taskContext.getListener().executionFinished(dynamicTestDescriptor, failed(new JUnitException(message)));
+				detachIfStreaming(dynamicTestDescriptor);
 			}
 			else {
 				NodeTestTask<C> nodeTestTask = new NodeTestTask<>(taskContext, dynamicTestDescriptor);
 				nodeTestTask.setParentContext(context);
-				futures.add(taskContext.getExecutorService().submit(nodeTestTask));
+				Future<Void> future = taskContext.getExecutorService().submit(nodeTestTask);
+				submittedDynamicTests.add(new SubmittedDynamicTest(dynamicTestDescriptor, future));
+				reapFinished();
 			}
 		}
 
-		@Override
-		public void awaitFinished() throws InterruptedException {
-			for (Future<?> future : futures) {
-				try {
-					future.get();
+		/**
+		 * Block until fewer dynamic tests than the configured maximum are
+		 * pending so that the source of dynamic tests is not consumed too far
+		 * ahead of their execution.
+		 */
+		private void awaitCapacity() {
+			taskContext.getMaxPendingDynamicTests().ifPresent(maxPendingDynamicTests -> {
+				while (submittedDynamicTests.size() >= maxPendingDynamicTests) {
+					awaitFinished(submittedDynamicTests.poll());
 				}
-				catch (ExecutionException e) {
-					ExceptionUtils.throwAsUncheckedException(e.getCause());
+			});
+		}
+
+		/**
+		 * Release dynamic tests that have finished in the order in which they
+		 * were submitted so that they can be garbage collected.
+		 */
+		private void reapFinished() {
+			if (taskContext.getMaxPendingDynamicTests().isPresent()) {
+				while (!submittedDynamicTests.isEmpty() && submittedDynamicTests.peek().future.isDone()) {
+					awaitFinished(submittedDynamicTests.poll());
 				}
 			}
 		}
+
+		@Override
+		public void awaitFinished() throws InterruptedException {
+			SubmittedDynamicTest submittedDynamicTest;
+			while ((submittedDynamicTest = submittedDynamicTests.poll()) != null) {
+				awaitFinished(submittedDynamicTest);
+			}
+		}
+
+		private void awaitFinished(SubmittedDynamicTest submittedDynamicTest) {
+			try {
+				submittedDynamicTest.future.get();
+			}
+			catch (ExecutionException e) {
+				ExceptionUtils.throwAsUncheckedException(e.getCause());
+			}
+			catch (InterruptedException e) {
+				ExceptionUtils.throwAsUncheckedException(e);
+			}
+			detachIfStreaming(submittedDynamicTest.testDescriptor);
+		}
+
+		private void detachIfStreaming(TestDescriptor dynamicTestDescriptor) {
+			if (taskContext.getMaxPendingDynamicTests().isPresent() && !dynamicTestDescriptor.isRoot()) {
+				dynamicTestDescriptor.removeFromHierarchy();
+			}
+		}
+	}
+
+	private static class SubmittedDynamicTest {
+
+		private final TestDescriptor testDescriptor;
+		private final Future<Void> future;
+
+		SubmittedDynamicTest(TestDescriptor testDescriptor, Future<Void> future) {
+			this.testDescriptor = testDescriptor;
+			this.future = future;
+		}
+
 	}
 
 }
@@ -10,6 +10,9 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import java.util.Optional;
+import java.util.OptionalInt;
+
 import org.junit.platform.engine.EngineExecutionListener;
 
 /**
@@ -21,13 +24,26 @@ class NodeTestTaskContext {
 	private final HierarchicalTestExecutorService executorService;
 	private final ThrowableCollector.Factory throwableCollectorFactory;
 	private final NodeExecutionAdvisor executionAdvisor;
+	private final ExecutionDurations executionDurations;
+	private final OptionalInt maxPendingDynamicTests;
+	private final FailureThreshold failureThreshold;
 
 	public NodeTestTaskContext(EngineExecutionListener listener, HierarchicalTestExecutorService executorService,
 			ThrowableCollector.Factory throwableCollectorFactory, NodeExecutionAdvisor executionAdvisor) {
+		this(listener, executorService, throwableCollectorFactory, executionAdvisor, null, OptionalInt.empty(), null);
+	}
+
+	public NodeTestTaskContext(EngineExecutionListener listener, HierarchicalTestExecutorService executorService,
+			ThrowableCollector.Factory throwableCollectorFactory, NodeExecutionAdvisor executionAdvisor,
+			ExecutionDurations executionDurations, OptionalInt maxPendingDynamicTests,
+			FailureThreshold failureThreshold) {
 		this.listener = listener;
 		this.executorService = executorService;
 		this.throwableCollectorFactory = throwableCollectorFactory;
 		this.executionAdvisor = executionAdvisor;
+		this.executionDurations = executionDurations;
+		this.maxPendingDynamicTests = maxPendingDynamicTests;
+		this.failureThreshold = failureThreshold;
 	}
 
 	EngineExecutionListener getListener() {
@@ -45,4 +61,16 @@ class NodeTestTaskContext {
 	NodeExecutionAdvisor getExecutionAdvisor() {
 		return executionAdvisor;
 	}
+
+	Optional<ExecutionDurations> getExecutionDurations() {
+		return Optional.ofNullable(executionDurations);
+	}
+
+	OptionalInt getMaxPendingDynamicTests() {
+		return maxPendingDynamicTests;
+	}
+
+	Optional<FailureThreshold> getFailureThreshold() {
+		return Optional.ofNullable(failureThreshold);
+	}
 }
@@ -10,12 +10,18 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.Collections.emptySet;
+import static org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode.READ_WRITE;
 import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.function.Consumer;
 
+import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.engine.TestDescriptor;
 
 /**
@@ -27,35 +33,145 @@ class NodeTreeWalker {
 
 	NodeExecutionAdvisor walk(TestDescriptor testDescriptor) {
 		NodeExecutionAdvisor advisor = new NodeExecutionAdvisor();
-		walk(testDescriptor, advisor);
+		List<LockingDescriptor> lockingDescriptors = new ArrayList<>();
+		Map<String, Integer> permitsByKey = new HashMap<>();
+		walk(testDescriptor, null, advisor, lockingDescriptors, permitsByKey);
+		Set<String> contendedKeys = getContendedKeys(lockingDescriptors, permitsByKey);
+		for (LockingDescriptor lockingDescriptor : lockingDescriptors) {
+			Set<ExclusiveResource> resources = retainContendedResources(lockingDescriptor.resources, contendedKeys);
+			if (!resources.isEmpty()) {
+				advisor.useResourceLock(lockingDescriptor.testDescriptor, lockManager.getLockForResources(resources));
+			}
+		}
 		return advisor;
 	}
 
-	private void walk(TestDescriptor testDescriptor, NodeExecutionAdvisor advisor) {
-		Set<ExclusiveResource> exclusiveResources = getExclusiveResources(testDescriptor);
-		if (exclusiveResources.isEmpty()) {
-			testDescriptor.getChildren().forEach(child -> walk(child, advisor));
+	/**
+	 * Walk the supplied descriptor and all of its descendants in a single pass.
+	 *
+	 * <p>The topmost descriptors that declare exclusive resources become
+	 * locking descriptors: the resources declared in their subtree are
+	 * collected into a single set while it is being walked, and their
+	 * descendants are forced to be executed in the same thread. Since
+	 * {@link NodeExecutionAdvisor#getForcedExecutionMode(TestDescriptor)} looks
+	 * up the forced execution mode on the ancestors of a descriptor, it only
+	 * needs to be recorded for descriptors that have children.
+	 *
+	 * @param lockedResources the resources of the enclosing locking
+	 * descriptor, or {@code null} if there is none
+	 * @param permitsByKey the number of permits of each resource declared so
+	 * far
+	 */
+	private void walk(TestDescriptor testDescriptor, Set<ExclusiveResource> lockedResources,
+			NodeExecutionAdvisor advisor, List<LockingDescriptor> lockingDescriptors,
+			Map<String, Integer> permitsByKey) {
+		Set<ExclusiveResource> exclusiveResources = getExclusiveResources(testDescriptor, advisor, permitsByKey);
+		Set<? extends TestDescriptor> children = testDescriptor.getChildren();
+		if (lockedResources != null) {
+			lockedResources.addAll(exclusiveResources);
+			if (!children.isEmpty()) {
+				advisor.forceDescendantExecutionMode(testDescriptor, SAME_THREAD);
+			}
+			for (TestDescriptor child : children) {
+				walk(child, lockedResources, advisor, lockingDescriptors, permitsByKey);
+			}
+		}
+		else if (exclusiveResources.isEmpty()) {
+			for (TestDescriptor child : children) {
+				walk(child, null, advisor, lockingDescriptors, permitsByKey);
+			}
 		}
 		else {
 			Set<ExclusiveResource> allResources = new HashSet<>(exclusiveResources);
 			advisor.forceDescendantExecutionMode(testDescriptor, SAME_THREAD);
-			doForChildrenRecursively(testDescriptor, child -> {
-				allResources.addAll(getExclusiveResources(child));
-				advisor.forceDescendantExecutionMode(child, SAME_THREAD);
-			});
-			advisor.useResourceLock(testDescriptor, lockManager.getLockForResources(allResources));
+			for (TestDescriptor child : children) {
+				walk(child, allResources, advisor, lockingDescriptors, permitsByKey);
+			}
+			lockingDescriptors.add(new LockingDescriptor(testDescriptor, allResources));
+		}
+	}
+
+	/**
+	 * Determine the keys of all resources that actually require locking.
+	 *
+	 * <p>Only the topmost descriptors that declare resources acquire locks, so
+	 * a resource that is declared by a single one of them or that is only ever
+	 * read can never be accessed concurrently in a conflicting way. Likewise, a
+	 * resource with more than one permit only requires locking if more of them
+	 * declare it than it has permits.
+	 */
+	private static Set<String> getContendedKeys(List<LockingDescriptor> lockingDescriptors,
+			Map<String, Integer> permitsByKey) {
+		Map<String, Integer> lockingDescriptorCounts = new HashMap<>();
+		Set<String> writtenKeys = new HashSet<>();
+		for (LockingDescriptor lockingDescriptor : lockingDescriptors) {
+			Set<String> keys = new HashSet<>();
+			for (ExclusiveResource resource : lockingDescriptor.resources) {
+				keys.add(resource.getKey());
+				if (resource.getLockMode() == READ_WRITE) {
+					writtenKeys.add(resource.getKey());
+				}
+			}
+			keys.forEach(key -> lockingDescriptorCounts.merge(key, 1, Integer::sum));
 		}
+		Set<String> contendedKeys = new HashSet<>();
+		lockingDescriptorCounts.forEach((key, count) -> {
+			int permits = permitsByKey.get(key);
+			if (permits > 1 ? count > permits : count > 1 && writtenKeys.contains(key)) {
+				contendedKeys.add(key);
+			}
+		});
+		return contendedKeys;
 	}
 
-	private Set<ExclusiveResource> getExclusiveResources(TestDescriptor testDescriptor) {
-		return NodeUtils.asNode(testDescriptor).getExclusiveResources();
+	private static Set<ExclusiveResource> retainContendedResources(Set<ExclusiveResource> resources,
+			Set<String> contendedKeys) {
+		if (contendedKeys.isEmpty()) {
+			return emptySet();
+		}
+		Set<ExclusiveResource> contendedResources = new HashSet<>(resources);
+		contendedResources.removeIf(resource -> !contendedKeys.contains(resource.getKey()));
+		return contendedResources;
 	}
 
-	private void doForChildrenRecursively(TestDescriptor parent, Consumer<TestDescriptor> consumer) {
-		parent.getChildren().forEach(child -> {
-			consumer.accept(child);
-			doForChildrenRecursively(child, consumer);
-		});
+	/**
+	 * Get the exclusive resources declared by the supplied descriptor.
+	 *
+	 * <p>If it declares a resource with a different number of permits than
+	 * previously walked descriptors, the descriptor is advised to fail instead
+	 * of being executed, and its resources are ignored.
+	 */
+	private static Set<ExclusiveResource> getExclusiveResources(TestDescriptor testDescriptor,
+			NodeExecutionAdvisor advisor, Map<String, Integer> permitsByKey) {
+		Set<ExclusiveResource> exclusiveResources = NodeUtils.asNode(testDescriptor).getExclusiveResources();
+		Map<String, Integer> declaredPermitsByKey = new HashMap<>();
+		for (ExclusiveResource resource : exclusiveResources) {
+			Integer permits = permitsByKey.get(resource.getKey());
+			if (permits == null) {
+				permits = declaredPermitsByKey.putIfAbsent(resource.getKey(), resource.getPermits());
+			}
+			if (permits != null && permits != resource.getPermits()) {
+				advisor.failWith(testDescriptor, new PreconditionViolationException(String.format(
+					"Exclusive resource '%s' must always be declared with the same number of permits, "
+							+ "but was declared with %d and %d permits",
+					resource.getKey(), permits, resource.getPermits())));
+				return emptySet();
+			}
+		}
+		permitsByKey.putAll(declaredPermitsByKey);
+		return exclusiveResources;
+	}
+
+	private static class LockingDescriptor {
+
+		private final TestDescriptor testDescriptor;
+		private final Set<ExclusiveResource> resources;
+
+		LockingDescriptor(TestDescriptor testDescriptor, Set<ExclusiveResource> resources) {
+			this.testDescriptor = testDescriptor;
+			this.resources = resources;
+		}
+
 	}
 
 }
@@ -34,6 +34,34 @@ public interface ResourceLock extends AutoCloseable {
 	 */
 	ResourceLock acquire() throws InterruptedException;
 
+	/**
+	 * Try to acquire this resource lock without waiting for other threads to
+	 * release it.
+	 *
+	 * <p>If this method returns {@code true}, the lock has been acquired and
+	 * must be {@linkplain #release() released} by the caller. Otherwise, the
+	 * lock has not been acquired and the caller may try again later.
+	 *
+	 * <p>The default implementation delegates to {@link #acquire()} and may
+	 * therefore block. Implementations should override this method if they
+	 * are able to acquire the lock without blocking.
+	 *
+	 * @return {@code true} if the lock was acquired
+	 * @since 1.6
+	 * @see DeferringForkJoinPoolHierarchicalTestExecutorService
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	default boolean tryAcquire() {
+		try {
+			acquire();
+			return true;
+		}
+		catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
 	/**
 	 * Release this resource lock.
 	 */
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * {@link ReentrantReadWriteLock} of an {@link ExclusiveResource} whose
+ * {@linkplain #readLock() read lock} and {@linkplain #writeLock() write lock}
+ * know the lock they belong to.
+ *
+ * <p>Allows the {@link DeferringForkJoinPoolHierarchicalTestExecutorService}
+ * to resubmit tasks waiting for the read lock when the write lock is released
+ * and vice versa.
+ *
+ * @since 1.6
+ * @see LockManager
+ */
+// this class is never serialized
+@SuppressWarnings("serial")
+class ResourceReadWriteLock extends ReentrantReadWriteLock {
+
+	private final ReadLock readLock = new OwnedReadLock(this);
+	private final WriteLock writeLock = new OwnedWriteLock(this);
+
+	/**
+	 * Get the {@code ResourceReadWriteLock} the supplied lock belongs to, or
+	 * the supplied lock itself if it does not belong to one.
+	 */
+	static Object getOwner(Lock lock) {
+		if (lock instanceof OwnedReadLock) {
+			return ((OwnedReadLock) lock).owner;
+		}
+		if (lock instanceof OwnedWriteLock) {
+			return ((OwnedWriteLock) lock).owner;
+		}
+		return lock;
+	}
+
+	@Override
+	public ReadLock readLock() {
+		return readLock;
+	}
+
+	@Override
+	public WriteLock writeLock() {
+		return writeLock;
+	}
+
+	private static class OwnedReadLock extends ReadLock {
+
+		private final ResourceReadWriteLock owner;
+
+		OwnedReadLock(ResourceReadWriteLock owner) {
+			super(owner);
+			this.owner = owner;
+		}
+
+	}
+
+	private static class OwnedWriteLock extends WriteLock {
+
+		private final ResourceReadWriteLock owner;
+
+		OwnedWriteLock(ResourceReadWriteLock owner) {
+			super(owner);
+			this.owner = owner;
+		}
+
+	}
+
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * {@link Lock} that may be held by a limited number of threads at the same
+ * time, backed by a fair {@link Semaphore}.
+ *
+ * <p>Each successful acquisition takes one permit which is returned when the
+ * lock is {@linkplain #unlock() unlocked}. In contrast to the locks of a
+ * {@link java.util.concurrent.locks.ReentrantReadWriteLock}, this lock is not
+ * reentrant. That is not a problem since the descendants of a node that
+ * acquires a lock never acquire locks themselves.
+ *
+ * @since 1.6
+ * @see ExclusiveResource#getPermits()
+ */
+class SemaphoreLock implements Lock {
+
+	private final Semaphore semaphore;
+	private final int permits;
+
+	SemaphoreLock(int permits) {
+		this.semaphore = new Semaphore(permits, true);
+		this.permits = permits;
+	}
+
+	// for tests only
+	int getPermits() {
+		return permits;
+	}
+
+	@Override
+	public void lock() {
+		semaphore.acquireUninterruptibly();
+	}
+
+	@Override
+	public void lockInterruptibly() throws InterruptedException {
+		semaphore.acquire();
+	}
+
+	@Override
+	public boolean tryLock() {
+		return semaphore.tryAcquire();
+	}
+
+	@Override
+	public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+		return semaphore.tryAcquire(time, unit);
+	}
+
+	@Override
+	public void unlock() {
+		semaphore.release();
+	}
+
+	@Override
+	public Condition newCondition() {
+		throw new UnsupportedOperationException();
+	}
+
+}
@@ -24,7 +24,6 @@ class SingleLock implements ResourceLock {
 		this.lock = lock;
 	}
 
-	// for tests only
 	Lock getLock() {
 		return lock;
 	}
@@ -35,6 +34,11 @@ class SingleLock implements ResourceLock {
 		return this;
 	}
 
+	@Override
+	public boolean tryAcquire() {
+		return lock.tryLock();
+	}
+
 	@Override
 	public void release() {
 		lock.unlock();
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static org.apiguardian.api.API.Status.EXPERIMENTAL;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apiguardian.api.API;
+import org.junit.platform.commons.function.Try;
+import org.junit.platform.commons.logging.Logger;
+import org.junit.platform.commons.logging.LoggerFactory;
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.commons.util.Preconditions;
+import org.junit.platform.engine.ConfigurationParameters;
+
+/**
+ * A {@linkplain HierarchicalTestExecutorService executor service} that
+ * executes each {@linkplain Node.ExecutionMode#CONCURRENT concurrent}
+ * {@linkplain TestTask test task} in its own thread.
+ *
+ * <p>On Java runtimes that support virtual threads, each task is executed in
+ * a new virtual thread; otherwise, a pool of platform threads that grows on
+ * demand is used. In contrast to {@link ForkJoinPoolHierarchicalTestExecutorService},
+ * threads that are blocked, e.g. on I/O or while waiting for
+ * {@linkplain ResourceLock resource locks}, do not reduce the number of tasks
+ * that can make progress.
+ *
+ * <p>The number of concurrently executing tasks is limited by the
+ * {@value #CONFIG_MAX_CONCURRENCY_PROPERTY_NAME} configuration parameter. If
+ * the limit has been reached, tasks are executed in the thread that submitted
+ * them instead of waiting for other tasks to finish, which avoids deadlocks
+ * between parent tasks waiting for their children.
+ *
+ * @see ForkJoinPoolHierarchicalTestExecutorService
+ * @since 1.6
+ */
+@API(status = EXPERIMENTAL, since = "1.6")
+public class VirtualThreadHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+	private static final Logger logger = LoggerFactory.getLogger(VirtualThreadHierarchicalTestExecutorService.class);
+
+	private static final AtomicInteger executorServiceCounter = new AtomicInteger();
+
+	/**
+	 * Property name used to determine the maximum number of concurrently
+	 * executing test tasks.
+	 *
+	 * <p>Value must be a positive integer; defaults to the
+	 * {@linkplain ParallelExecutionConfiguration#getMaxPoolSize() maximum pool
+	 * size} of the configured {@link ParallelExecutionConfigurationStrategy}.
+	 */
+	public static final String CONFIG_MAX_CONCURRENCY_PROPERTY_NAME = "virtual.max-concurrency";
+
+	private final ExecutorService executorService;
+	private final Semaphore permits;
+
+	/**
+	 * Create a new {@code VirtualThreadHierarchicalTestExecutorService} based
+	 * on the supplied {@link ConfigurationParameters}.
+	 *
+	 * @see #CONFIG_MAX_CONCURRENCY_PROPERTY_NAME
+	 * @see DefaultParallelExecutionConfigurationStrategy
+	 */
+	public VirtualThreadHierarchicalTestExecutorService(ConfigurationParameters configurationParameters) {
+		int maxConcurrency = getMaxConcurrency(configurationParameters);
+		String threadNamePrefix = "junit-platform-executor-" + executorServiceCounter.incrementAndGet() + "-thread-";
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		Optional<ExecutorService> virtualThreadExecutorService = createVirtualThreadExecutorService(threadNamePrefix,
+			contextClassLoader);
+		executorService = virtualThreadExecutorService.orElseGet(
+			() -> Executors.newCachedThreadPool(new PlatformThreadFactory(threadNamePrefix, contextClassLoader)));
+		permits = new Semaphore(maxConcurrency);
+		logger.config(() -> String.format("Using %s threads with maximum concurrency of %d",
+			virtualThreadExecutorService.isPresent() ? "virtual" : "platform", maxConcurrency));
+	}
+
+	private static int getMaxConcurrency(ConfigurationParameters configurationParameters) {
+		Optional<Integer> maxConcurrency = configurationParameters.get(CONFIG_MAX_CONCURRENCY_PROPERTY_NAME,
+			Integer::valueOf);
+		if (!maxConcurrency.isPresent()) {
+			ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.getStrategy(
+				configurationParameters);
+			return strategy.createConfiguration(configurationParameters).getMaxPoolSize();
+		}
+		Preconditions.condition(maxConcurrency.get() > 0,
+			() -> String.format("Configuration parameter '%s' must be greater than 0 but was %d",
+				CONFIG_MAX_CONCURRENCY_PROPERTY_NAME, maxConcurrency.get()));
+		return maxConcurrency.get();
+	}
+
+	private static Optional<ExecutorService> createVirtualThreadExecutorService(String threadNamePrefix,
+			ClassLoader contextClassLoader) {
+		return Try.call(() -> {
+			// Virtual threads are only available in Java >= 21
+			Class<?> builderType = Class.forName("java.lang.Thread$Builder");
+			Object builder = Thread.class.getMethod("ofVirtual").invoke(null);
+			builder = builderType.getMethod("name", String.class, Long.TYPE).invoke(builder, threadNamePrefix, 0L);
+			ThreadFactory virtualThreadFactory = (ThreadFactory) builderType.getMethod("factory").invoke(builder);
+			ThreadFactory threadFactory = runnable -> {
+				Thread thread = virtualThreadFactory.newThread(runnable);
+				thread.setContextClassLoader(contextClassLoader);
+				return thread;
+			};
+			return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor",
+				ThreadFactory.class).invoke(null, threadFactory);
+		}).ifFailure(cause -> logger.debug(cause, () -> "Virtual threads are not supported")).toOptional();
+	}
+
+	@Override
+	public Future<Void> submit(TestTask testTask) {
+		if (testTask.getExecutionMode() == CONCURRENT && permits.tryAcquire()) {
+			return executeInNewThread(testTask);
+		}
+		executeInCurrentThread(testTask);
+		return completedFuture(null);
+	}
+
+	@Override
+	public void invokeAll(List<? extends TestTask> tasks) {
+		if (tasks.size() == 1) {
+			executeInCurrentThread(tasks.get(0));
+			return;
+		}
+		List<Future<Void>> futures = new ArrayList<>();
+		List<TestTask> nonConcurrentTasks = new ArrayList<>();
+		for (TestTask testTask : tasks) {
+			if (testTask.getExecutionMode() != CONCURRENT) {
+				nonConcurrentTasks.add(testTask);
+			}
+			else if (permits.tryAcquire()) {
+				futures.add(executeInNewThread(testTask));
+			}
+			else {
+				// the limit has been reached, so don't wait but make progress ourselves
+				executeInCurrentThread(testTask);
+			}
+		}
+		nonConcurrentTasks.forEach(this::executeInCurrentThread);
+		futures.forEach(VirtualThreadHierarchicalTestExecutorService::await);
+	}
+
+	/**
+	 * Execute the supplied task in a new thread; the caller must have acquired
+	 * a permit which is released once the task has been executed.
+	 */
+	private Future<Void> executeInNewThread(TestTask testTask) {
+		try {
+			return executorService.submit(() -> {
+				try {
+					executeInCurrentThread(testTask);
+				}
+				finally {
+					permits.release();
+				}
+				return null;
+			});
+		}
+		catch (RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	@SuppressWarnings("try")
+	private void executeInCurrentThread(TestTask testTask) {
+		try (ResourceLock lock = testTask.getResourceLock().acquire()) {
+			testTask.execute();
+		}
+		catch (InterruptedException e) {
+			ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+
+	private static void await(Future<Void> future) {
+		try {
+			future.get();
+		}
+		catch (ExecutionException e) {
+			ExceptionUtils.throwAsUncheckedException(e.getCause());
+		}
+		catch (InterruptedException e) {
+			ExceptionUtils.throwAsUncheckedException(e);
+		}
+	}
+
+	@Override
+	public void close() {
+		executorService.shutdownNow();
+	}
+
+	static class PlatformThreadFactory implements ThreadFactory {
+
+		private final AtomicInteger threadCounter = new AtomicInteger();
+		private final String threadNamePrefix;
+		private final ClassLoader contextClassLoader;
+
+		PlatformThreadFactory(String threadNamePrefix, ClassLoader contextClassLoader) {
+			this.threadNamePrefix = threadNamePrefix;
+			this.contextClassLoader = contextClassLoader;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, threadNamePrefix + threadCounter.getAndIncrement());
+			thread.setDaemon(true);
+			thread.setContextClassLoader(contextClassLoader);
+			return thread;
+		}
+
+	}
+
+}
@@ -9,6 +9,7 @@
  */
 
 module org.junit.platform.engine {
+	requires java.management;
 	requires transitive org.apiguardian.api;
 	requires transitive org.junit.platform.commons;
 	requires transitive org.opentest4j;
@@ -77,6 +77,27 @@ public class LauncherConstants {
 	 */
 	public static final int CAPTURE_MAX_BUFFER_DEFAULT = 4 * 1024 * 1024;
 
+	/**
+	 * Property name used to enable non-blocking output capturing: {@value}
+	 *
+	 * <p>By default, threads that write to an intercepted {@link System#out}
+	 * or {@link System#err} concurrently are serialized while their output is
+	 * captured and written to the original stream.
+	 *
+	 * <p>If enabled, the output of each thread is encoded and captured
+	 * independently of other threads, and threads do not wait for each other
+	 * to write their output to the original stream. The output of each thread
+	 * is still written to the original stream in order. Enabling this mode is
+	 * recommended if tests that write to {@link System#out} or
+	 * {@link System#err} are executed in parallel.
+	 *
+	 * @see #CAPTURE_STDOUT_PROPERTY_NAME
+	 * @see #CAPTURE_STDERR_PROPERTY_NAME
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String CAPTURE_NON_BLOCKING_ENABLED_PROPERTY_NAME = "junit.platform.output.capture.nonblocking.enabled";
+
 	/**
 	 * Key used to publish captured output to {@link System#out} as part of a
 	 * {@link ReportEntry}: {@value}
@@ -89,6 +110,111 @@ public class LauncherConstants {
 	 */
 	public static final String STDERR_REPORT_ENTRY_KEY = "stderr";
 
+	/**
+	 * Property name used to enable concurrent test discovery across test
+	 * engines: {@value}
+	 *
+	 * <p>By default, test engines discover their tests one after another.
+	 *
+	 * <p>If enabled, the {@link org.junit.platform.launcher.Launcher Launcher}
+	 * invokes {@link org.junit.platform.engine.TestEngine#discover
+	 * TestEngine.discover()} for all engines concurrently, each in a dedicated
+	 * thread that uses the context class loader of the calling thread. The
+	 * resulting {@link TestPlan} is identical to the one produced by sequential
+	 * discovery; in particular, its roots are ordered the same way. Enabling
+	 * this mode requires all test engines to be able to discover their tests
+	 * concurrently with other engines.
+	 *
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String PARALLEL_ENGINE_DISCOVERY_ENABLED_PROPERTY_NAME = "junit.platform.discovery.engines.parallel.enabled";
+
+	/**
+	 * Property name used to enable concurrent test execution across test
+	 * engines: {@value}
+	 *
+	 * <p>By default, test engines execute their tests one after another.
+	 *
+	 * <p>If enabled, the {@link org.junit.platform.launcher.Launcher Launcher}
+	 * invokes {@link org.junit.platform.engine.TestEngine#execute
+	 * TestEngine.execute()} for multiple engines concurrently, each in a
+	 * dedicated thread. Notifications of registered
+	 * {@link TestExecutionListener TestExecutionListeners} are serialized so
+	 * that listeners are never notified concurrently by different engines.
+	 *
+	 * @see #PARALLEL_ENGINE_EXECUTION_PARALLELISM_PROPERTY_NAME
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String PARALLEL_ENGINE_EXECUTION_ENABLED_PROPERTY_NAME = "junit.platform.execution.engines.parallel.enabled";
+
+	/**
+	 * Property name used to configure the maximum number of test engines that
+	 * execute their tests concurrently if concurrent test execution across
+	 * test engines is enabled: {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to the number of available
+	 * processors. Engines that execute their tests in parallel themselves
+	 * should be configured so that the sum of their parallelism does not
+	 * exceed the available processors.
+	 *
+	 * @see #PARALLEL_ENGINE_EXECUTION_ENABLED_PROPERTY_NAME
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String PARALLEL_ENGINE_EXECUTION_PARALLELISM_PROPERTY_NAME = "junit.platform.execution.engines.parallel.parallelism";
+
+	/**
+	 * Property name used to enable asynchronous notification of registered
+	 * {@link TestExecutionListener TestExecutionListeners}: {@value}
+	 *
+	 * <p>By default, listeners are notified synchronously by the thread that
+	 * executes the corresponding test or container.
+	 *
+	 * <p>If enabled, each listener is notified by a dedicated thread so that
+	 * slow listeners do not delay the execution of tests. Each listener
+	 * receives its notifications in the same order as it would if it were
+	 * notified synchronously. Pending notifications are buffered, and threads
+	 * that execute tests only block if the buffer of a listener is full.
+	 * {@link TestExecutionListener#testPlanExecutionFinished
+	 * testPlanExecutionFinished()} does not return before all listeners have
+	 * been notified. Listeners must not rely on being notified by the thread
+	 * that executes a test, e.g. to inspect thread-local state.
+	 *
+	 * @see #ASYNC_LISTENER_NOTIFICATION_BUFFER_SIZE_PROPERTY_NAME
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String ASYNC_LISTENER_NOTIFICATION_ENABLED_PROPERTY_NAME = "junit.platform.execution.listeners.async.enabled";
+
+	/**
+	 * Property name used to configure the maximum number of pending
+	 * notifications per listener if asynchronous notification of
+	 * {@link TestExecutionListener TestExecutionListeners} is enabled:
+	 * {@value}
+	 *
+	 * <p>Value must be a positive integer; defaults to
+	 * {@value ASYNC_LISTENER_NOTIFICATION_BUFFER_SIZE_DEFAULT}.
+	 *
+	 * @see #ASYNC_LISTENER_NOTIFICATION_ENABLED_PROPERTY_NAME
+	 * @see #ASYNC_LISTENER_NOTIFICATION_BUFFER_SIZE_DEFAULT
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final String ASYNC_LISTENER_NOTIFICATION_BUFFER_SIZE_PROPERTY_NAME = "junit.platform.execution.listeners.async.bufferSize";
+
+	/**
+	 * Default maximum number of pending notifications per listener if
+	 * asynchronous notification of
+	 * {@link TestExecutionListener TestExecutionListeners} is enabled.
+	 *
+	 * @see #ASYNC_LISTENER_NOTIFICATION_BUFFER_SIZE_PROPERTY_NAME
+	 * @since 1.6
+	 */
+	@API(status = EXPERIMENTAL, since = "1.6")
+	public static final int ASYNC_LISTENER_NOTIFICATION_BUFFER_SIZE_DEFAULT = 1024;
+
 	private LauncherConstants() {
 		/* no-op */
 	}
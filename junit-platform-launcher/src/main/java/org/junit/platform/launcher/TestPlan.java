@@ -16,9 +16,11 @@ import static org.apiguardian.api.API.Status.DEPRECATED;
 import static org.apiguardian.api.API.Status.INTERNAL;
 import static org.apiguardian.api.API.Status.STABLE;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -65,6 +67,10 @@ public class TestPlan {
 
 	private final boolean containsTests;
 
+	private final Object indexLock = new Object();
+
+	private volatile TestPlanIndex index;
+
 	/**
 	 * Construct a new {@code TestPlan} from the supplied collection of
 	 * {@link TestDescriptor TestDescriptors}.
@@ -82,6 +88,7 @@ public class TestPlan {
 		TestPlan testPlan = new TestPlan(engineDescriptors.stream().anyMatch(TestDescriptor::containsTests));
 		Visitor visitor = descriptor -> testPlan.add(TestIdentifier.from(descriptor));
 		engineDescriptors.forEach(engineDescriptor -> engineDescriptor.accept(visitor));
+		testPlan.getIndex();
 		return testPlan;
 	}
 
@@ -111,6 +118,16 @@ public class TestPlan {
 		else {
 			roots.add(testIdentifier);
 		}
+		synchronized (this.indexLock) {
+			if (this.index != null) {
+				this.index.addLate(testIdentifier, this::getParentId);
+			}
+		}
+	}
+
+	private String getParentId(String uniqueId) {
+		TestIdentifier testIdentifier = allIdentifiers.get(uniqueId);
+		return testIdentifier == null ? null : testIdentifier.getParentId().orElse(null);
 	}
 
 	/**
@@ -196,6 +213,10 @@ public class TestPlan {
 	 */
 	public Set<TestIdentifier> getDescendants(TestIdentifier parent) {
 		Preconditions.notNull(parent, "parent must not be null");
+		Set<TestIdentifier> indexedDescendants = getIndex().getDescendants(parent);
+		if (indexedDescendants != null) {
+			return indexedDescendants;
+		}
 		Set<TestIdentifier> result = new LinkedHashSet<>(16);
 		Set<TestIdentifier> children = getChildren(parent);
 		result.addAll(children);
@@ -205,6 +226,43 @@ public class TestPlan {
 		return unmodifiableSet(result);
 	}
 
+	/**
+	 * Get the index of this test plan, building it on first access.
+	 *
+	 * <p>Test plans created via {@link #from(Collection)} build their index
+	 * eagerly so that it is never built while tests are being executed.
+	 *
+	 * <p>Identifiers added afterwards are added to the index as late
+	 * descendants of their ancestors; see {@link #add(TestIdentifier)}.
+	 */
+	TestPlanIndex getIndex() {
+		TestPlanIndex index = this.index;
+		if (index == null) {
+			synchronized (this.indexLock) {
+				index = this.index;
+				if (index == null) {
+					List<TestIdentifier> rootsSnapshot;
+					synchronized (this.roots) {
+						rootsSnapshot = new ArrayList<>(this.roots);
+					}
+					index = TestPlanIndex.build(rootsSnapshot, this::getChildrenSnapshot, allIdentifiers.size());
+					this.index = index;
+				}
+			}
+		}
+		return index;
+	}
+
+	private Collection<TestIdentifier> getChildrenSnapshot(TestIdentifier parent) {
+		Set<TestIdentifier> directChildren = children.get(parent.getUniqueId());
+		if (directChildren == null) {
+			return emptySet();
+		}
+		synchronized (directChildren) {
+			return new ArrayList<>(directChildren);
+		}
+	}
+
 	/**
 	 * Return whether this test plan contains any tests.
 	 *
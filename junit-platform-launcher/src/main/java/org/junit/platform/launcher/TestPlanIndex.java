@@ -0,0 +1,226 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.synchronizedList;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Array-backed index of the {@link TestIdentifier TestIdentifiers} of a
+ * {@link TestPlan}.
+ *
+ * <p>All identifiers are stored in a single array so that the descendants of
+ * each identifier occupy a contiguous range: first its children, followed by
+ * the descendants of each child in turn. This is the same order in which
+ * {@link TestPlan#getDescendants(TestIdentifier)} has always returned them.
+ * Hence, the descendants of an identifier can be returned as a view of that
+ * range, and determining whether an identifier is a descendant of another
+ * one only requires a range check.
+ *
+ * <p>Identifiers that are added to the test plan after this index has been
+ * built, e.g. dynamic tests, are {@linkplain #addLate added} to a list of
+ * late descendants of each of their ancestors. The descendants of an
+ * identifier comprise its contiguous range followed by its late descendants
+ * in the order in which they were added.
+ *
+ * @since 1.6
+ */
+class TestPlanIndex {
+
+	private static final TestIdentifier[] NO_IDENTIFIERS = new TestIdentifier[0];
+
+	private final Map<String, Integer> positions;
+	private final Set<String> lateIds = ConcurrentHashMap.newKeySet();
+	private final Map<String, List<TestIdentifier>> lateDescendants = new ConcurrentHashMap<>();
+
+	private TestIdentifier[] identifiers;
+	private int[] descendantsStart;
+	private int[] descendantsEnd;
+	private int size;
+
+	/**
+	 * Build an index of the supplied roots and their descendants.
+	 *
+	 * @param childrenLookup function that returns a snapshot of the children
+	 * of an identifier
+	 * @param expectedSize the expected number of identifiers
+	 */
+	static TestPlanIndex build(Collection<TestIdentifier> roots,
+			Function<TestIdentifier, Collection<TestIdentifier>> childrenLookup, int expectedSize) {
+		TestPlanIndex index = new TestPlanIndex(Math.max(expectedSize, roots.size()));
+		for (TestIdentifier root : roots) {
+			index.add(root);
+		}
+		for (int position = 0; position < roots.size(); position++) {
+			index.layoutDescendants(position, childrenLookup);
+		}
+		return index;
+	}
+
+	private TestPlanIndex(int expectedSize) {
+		this.positions = new HashMap<>(expectedSize * 4 / 3 + 1);
+		this.identifiers = new TestIdentifier[expectedSize];
+		this.descendantsStart = new int[expectedSize];
+		this.descendantsEnd = new int[expectedSize];
+	}
+
+	private void layoutDescendants(int position,
+			Function<TestIdentifier, Collection<TestIdentifier>> childrenLookup) {
+		int start = this.size;
+		for (TestIdentifier child : childrenLookup.apply(this.identifiers[position])) {
+			add(child);
+		}
+		int childrenEnd = this.size;
+		for (int childPosition = start; childPosition < childrenEnd; childPosition++) {
+			layoutDescendants(childPosition, childrenLookup);
+		}
+		this.descendantsStart[position] = start;
+		this.descendantsEnd[position] = this.size;
+	}
+
+	private void add(TestIdentifier identifier) {
+		if (this.size == this.identifiers.length) {
+			int capacity = Math.max(16, this.size * 2);
+			this.identifiers = Arrays.copyOf(this.identifiers, capacity);
+			this.descendantsStart = Arrays.copyOf(this.descendantsStart, capacity);
+			this.descendantsEnd = Arrays.copyOf(this.descendantsEnd, capacity);
+		}
+		this.positions.put(identifier.getUniqueId(), this.size);
+		this.identifiers[this.size++] = identifier;
+	}
+
+	/**
+	 * Add the supplied identifier, which has been added to the test plan after
+	 * this index has been built, to the late descendants of all of its
+	 * ancestors.
+	 *
+	 * <p>Must not be called concurrently for identifiers of the same test
+	 * plan.
+	 *
+	 * @param parentLookup function that returns the unique ID of the parent
+	 * of the identifier with the supplied unique ID, or {@code null} for
+	 * roots
+	 */
+	void addLate(TestIdentifier identifier, Function<String, String> parentLookup) {
+		String uniqueId = identifier.getUniqueId();
+		if (this.positions.containsKey(uniqueId) || !this.lateIds.add(uniqueId)) {
+			return;
+		}
+		String ancestorId = identifier.getParentId().orElse(null);
+		while (ancestorId != null) {
+			this.lateDescendants.computeIfAbsent(ancestorId, key -> synchronizedList(new ArrayList<>())).add(
+				identifier);
+			ancestorId = parentLookup.apply(ancestorId);
+		}
+	}
+
+	/**
+	 * Get the indexed descendants of the supplied identifier.
+	 *
+	 * @return an unmodifiable set of the descendants, or {@code null} if the
+	 * identifier is not part of this index
+	 */
+	Set<TestIdentifier> getDescendants(TestIdentifier parent) {
+		String uniqueId = parent.getUniqueId();
+		Integer position = this.positions.get(uniqueId);
+		if (position == null && !this.lateIds.contains(uniqueId)) {
+			return null;
+		}
+		int start = position == null ? 0 : this.descendantsStart[position];
+		int end = position == null ? 0 : this.descendantsEnd[position];
+		TestIdentifier[] late = getLateDescendants(uniqueId);
+		return start == end && late.length == 0 ? emptySet() : unmodifiableSet(new Descendants(start, end, late));
+	}
+
+	private TestIdentifier[] getLateDescendants(String uniqueId) {
+		List<TestIdentifier> late = this.lateDescendants.get(uniqueId);
+		if (late == null) {
+			return NO_IDENTIFIERS;
+		}
+		synchronized (late) {
+			return late.toArray(NO_IDENTIFIERS);
+		}
+	}
+
+	private class Descendants extends AbstractSet<TestIdentifier> {
+
+		private final int start;
+		private final int end;
+		private final TestIdentifier[] late;
+
+		Descendants(int start, int end, TestIdentifier[] late) {
+			this.start = start;
+			this.end = end;
+			this.late = late;
+		}
+
+		@Override
+		public int size() {
+			return this.end - this.start + this.late.length;
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			if (!(o instanceof TestIdentifier)) {
+				return false;
+			}
+			TestIdentifier identifier = (TestIdentifier) o;
+			Integer position = positions.get(identifier.getUniqueId());
+			if (position != null) {
+				return position >= this.start && position < this.end && identifiers[position].equals(identifier);
+			}
+			for (TestIdentifier candidate : this.late) {
+				if (candidate.equals(identifier)) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		@Override
+		public Iterator<TestIdentifier> iterator() {
+			return new Iterator<TestIdentifier>() {
+
+				private int next = start;
+
+				@Override
+				public boolean hasNext() {
+					return this.next < end + late.length;
+				}
+
+				@Override
+				public TestIdentifier next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+					int current = this.next++;
+					return current < end ? identifiers[current] : late[current - end];
+				}
+			};
+		}
+
+	}
+
+}
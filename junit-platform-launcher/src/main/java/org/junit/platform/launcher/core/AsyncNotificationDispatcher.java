@@ -0,0 +1,136 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.function.Consumer;
+
+import org.junit.platform.commons.util.ExceptionUtils;
+import org.junit.platform.launcher.TestExecutionListener;
+
+/**
+ * Notifies a single {@link TestExecutionListener} asynchronously.
+ *
+ * <p>Notifications are appended to a bounded buffer and invoked by a
+ * dedicated daemon thread in the order in which they were dispatched. The
+ * consumer thread takes all buffered notifications at once so that it does
+ * not have to synchronize with dispatching threads for every notification.
+ * Dispatching threads only block if the buffer is full.
+ *
+ * <p>If a notification throws an exception, all remaining notifications are
+ * discarded and the exception is rethrown by {@link #flush()}.
+ *
+ * @since 1.6
+ */
+class AsyncNotificationDispatcher {
+
+	private static final Runnable STOP = () -> {
+	};
+
+	private final TestExecutionListener listener;
+	private final BlockingQueue<Runnable> buffer;
+	private final Thread consumer;
+
+	private volatile Throwable failure;
+
+	AsyncNotificationDispatcher(TestExecutionListener listener, int bufferSize) {
+		this.listener = listener;
+		this.buffer = new ArrayBlockingQueue<>(bufferSize);
+		this.consumer = new Thread(this::consume, "junit-platform-listener-" + listener.getClass().getName());
+		this.consumer.setDaemon(true);
+		this.consumer.start();
+	}
+
+	/**
+	 * Dispatch the supplied notification to the listener of this dispatcher.
+	 *
+	 * <p>Blocks while the buffer is full, even if the calling thread is
+	 * interrupted; the interrupted status of the thread is preserved.
+	 */
+	void dispatch(Consumer<TestExecutionListener> notification) {
+		append(() -> notification.accept(this.listener));
+	}
+
+	/**
+	 * Wait until all notifications dispatched so far have been invoked and
+	 * stop the consumer thread, rethrowing the exception thrown by a
+	 * notification, if any.
+	 */
+	void flush() {
+		append(STOP);
+		boolean interrupted = false;
+		while (this.consumer.isAlive()) {
+			try {
+				this.consumer.join();
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+		Throwable failure = this.failure;
+		if (failure != null) {
+			ExceptionUtils.throwAsUncheckedException(failure);
+		}
+	}
+
+	private void append(Runnable notification) {
+		if (this.buffer.offer(notification)) {
+			return;
+		}
+		boolean interrupted = false;
+		while (true) {
+			try {
+				this.buffer.put(notification);
+				break;
+			}
+			catch (InterruptedException e) {
+				interrupted = true;
+			}
+		}
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void consume() {
+		List<Runnable> batch = new ArrayList<>();
+		while (true) {
+			try {
+				batch.add(this.buffer.take());
+			}
+			catch (InterruptedException e) {
+				continue;
+			}
+			this.buffer.drainTo(batch);
+			for (Runnable notification : batch) {
+				if (notification == STOP) {
+					return;
+				}
+				if (this.failure == null) {
+					try {
+						notification.run();
+					}
+					catch (Throwable throwable) {
+						this.failure = throwable;
+					}
+				}
+			}
+			batch.clear();
+		}
+	}
+
+}
@@ -10,17 +10,36 @@
 
 package org.junit.platform.launcher.core;
 
+import static java.util.stream.Collectors.toList;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_NOTIFICATION_BUFFER_SIZE_DEFAULT;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_NOTIFICATION_BUFFER_SIZE_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_NOTIFICATION_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PARALLEL_ENGINE_DISCOVERY_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PARALLEL_ENGINE_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PARALLEL_ENGINE_EXECUTION_PARALLELISM_PROPERTY_NAME;
+
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.junit.platform.commons.JUnitException;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.BlacklistedExceptions;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.commons.util.Preconditions;
 import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.EngineExecutionListener;
 import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.TestDescriptor;
@@ -144,6 +163,7 @@ class DefaultLauncher implements Launcher {
 	private Root discoverRoot(LauncherDiscoveryRequest discoveryRequest, String phase) {
 		Root root = new Root(discoveryRequest.getConfigurationParameters());
 
+		List<TestEngine> includedTestEngines = new ArrayList<>();
 		for (TestEngine testEngine : this.testEngines) {
 			// @formatter:off
 			boolean engineIsExcluded = discoveryRequest.getEngineFilters().stream()
@@ -157,20 +177,42 @@ class DefaultLauncher implements Launcher {
 					testEngine.getId(), phase));
 				continue;
 			}
+			includedTestEngines.add(testEngine);
+		}
 
-			logger.debug(() -> String.format("Discovering tests during Launcher %s phase in engine '%s'.", phase,
-				testEngine.getId()));
+		List<Optional<TestDescriptor>> engineRoots = discoverEngineRoots(includedTestEngines, discoveryRequest, phase);
 
-			Optional<TestDescriptor> engineRoot = discoverEngineRoot(testEngine, discoveryRequest);
-			engineRoot.ifPresent(rootDescriptor -> root.add(testEngine, rootDescriptor));
+		// Add engine roots in the order of the engines to keep the test plan deterministic.
+		for (int i = 0; i < includedTestEngines.size(); i++) {
+			TestEngine testEngine = includedTestEngines.get(i);
+			engineRoots.get(i).ifPresent(rootDescriptor -> root.add(testEngine, rootDescriptor));
 		}
 		root.applyPostDiscoveryFilters(discoveryRequest);
 		root.prune();
 		return root;
 	}
 
+	private List<Optional<TestDescriptor>> discoverEngineRoots(List<TestEngine> testEngines,
+			LauncherDiscoveryRequest discoveryRequest, String phase) {
+
+		Function<TestEngine, Optional<TestDescriptor>> discovery = testEngine -> discoverEngineRoot(testEngine,
+			discoveryRequest, phase);
+		if (isParallelEngineDiscoveryEnabled(discoveryRequest)) {
+			return invokeConcurrently(testEngines, discovery, testEngines.size());
+		}
+		return testEngines.stream().map(discovery).collect(toList());
+	}
+
+	private static boolean isParallelEngineDiscoveryEnabled(LauncherDiscoveryRequest discoveryRequest) {
+		return discoveryRequest.getConfigurationParameters().getBoolean(
+			PARALLEL_ENGINE_DISCOVERY_ENABLED_PROPERTY_NAME).orElse(false);
+	}
+
 	private Optional<TestDescriptor> discoverEngineRoot(TestEngine testEngine,
-			LauncherDiscoveryRequest discoveryRequest) {
+			LauncherDiscoveryRequest discoveryRequest, String phase) {
+
+		logger.debug(() -> String.format("Discovering tests during Launcher %s phase in engine '%s'.", phase,
+			testEngine.getId()));
 
 		UniqueId uniqueEngineId = UniqueId.forEngine(testEngine.getId());
 		try {
@@ -190,20 +232,77 @@ class DefaultLauncher implements Launcher {
 		TestExecutionListenerRegistry listenerRegistry = buildListenerRegistryForExecution(listeners);
 		withInterceptedStreams(configurationParameters, listenerRegistry, testExecutionListener -> {
 			testExecutionListener.testPlanExecutionStarted(internalTestPlan);
-			ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(internalTestPlan,
-				testExecutionListener);
-			for (TestEngine testEngine : root.getTestEngines()) {
-				TestDescriptor testDescriptor = root.getTestDescriptorFor(testEngine);
-				execute(testEngine,
-					new ExecutionRequest(testDescriptor, engineExecutionListener, configurationParameters));
+			List<TestEngine> testEngines = new ArrayList<>();
+			root.getTestEngines().forEach(testEngines::add);
+			int parallelism = Math.min(determineEngineExecutionParallelism(configurationParameters),
+				testEngines.size());
+			if (parallelism > 1) {
+				SynchronizedTestExecutionListener synchronizedListener = new SynchronizedTestExecutionListener(
+					testExecutionListener, testEngines.size());
+				ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(internalTestPlan,
+					synchronizedListener);
+				invokeConcurrently(testEngines, testEngine -> {
+					try {
+						execute(testEngine, root, engineExecutionListener, configurationParameters);
+					}
+					finally {
+						synchronizedListener.engineExecutionFinished();
+					}
+					return null;
+				}, parallelism);
+			}
+			else {
+				ExecutionListenerAdapter engineExecutionListener = new ExecutionListenerAdapter(internalTestPlan,
+					testExecutionListener);
+				testEngines.forEach(
+					testEngine -> execute(testEngine, root, engineExecutionListener, configurationParameters));
 			}
 			testExecutionListener.testPlanExecutionFinished(internalTestPlan);
 		});
 	}
 
+	private void execute(TestEngine testEngine, Root root, EngineExecutionListener engineExecutionListener,
+			ConfigurationParameters configurationParameters) {
+		TestDescriptor testDescriptor = root.getTestDescriptorFor(testEngine);
+		execute(testEngine, new ExecutionRequest(testDescriptor, engineExecutionListener, configurationParameters));
+	}
+
+		/**
+	 * @return the maximum number of test engines to execute concurrently;
+	 * {@code 1} if concurrent execution across test engines is disabled
+	 */
+	private static int determineEngineExecutionParallelism(ConfigurationParameters configurationParameters) {
+		if (!configurationParameters.getBoolean(PARALLEL_ENGINE_EXECUTION_ENABLED_PROPERTY_NAME).orElse(false)) {
+			return 1;
+		}
+		int parallelism = configurationParameters.get(PARALLEL_ENGINE_EXECUTION_PARALLELISM_PROPERTY_NAME,
+			Integer::valueOf).orElseGet(() -> Runtime.getRuntime().availableProcessors());
+		Preconditions.condition(parallelism > 0, () -> String.format(
+			"Invalid value for configuration parameter '%s': parallelism must be greater than 0 but was %d",
+			PARALLEL_ENGINE_EXECUTION_PARALLELISM_PROPERTY_NAME, parallelism));
+		return parallelism;
+	}
+
+	/**
+	 * @return the maximum number of pending notifications per listener;
+	 * {@code 0} if asynchronous notification of listeners is disabled
+	 */
+	private static int determineAsyncListenerBufferSize(ConfigurationParameters configurationParameters) {
+		if (!configurationParameters.getBoolean(ASYNC_LISTENER_NOTIFICATION_ENABLED_PROPERTY_NAME).orElse(false)) {
+			return 0;
+		}
+		int bufferSize = configurationParameters.get(ASYNC_LISTENER_NOTIFICATION_BUFFER_SIZE_PROPERTY_NAME,
+			Integer::valueOf).orElse(ASYNC_LISTENER_NOTIFICATION_BUFFER_SIZE_DEFAULT);
+		Preconditions.condition(bufferSize > 0, () -> String.format(
+			"Invalid value for configuration parameter '%s': buffer size must be greater than 0 but was %d",
+			ASYNC_LISTENER_NOTIFICATION_BUFFER_SIZE_PROPERTY_NAME, bufferSize));
+		return bufferSize;
+	}
+
 	private void withInterceptedStreams(ConfigurationParameters configurationParameters,
 			TestExecutionListenerRegistry listenerRegistry, Consumer<TestExecutionListener> action) {
-		TestExecutionListener testExecutionListener = listenerRegistry.getCompositeTestExecutionListener();
+		TestExecutionListener testExecutionListener = listenerRegistry.getCompositeTestExecutionListener(
+			determineAsyncListenerBufferSize(configurationParameters));
 		Optional<StreamInterceptingTestExecutionListener> streamInterceptingTestExecutionListener = StreamInterceptingTestExecutionListener.create(
 			configurationParameters, testExecutionListener::reportingEntryPublished);
 		streamInterceptingTestExecutionListener.ifPresent(listenerRegistry::registerListeners);
@@ -239,4 +338,77 @@ class DefaultLauncher implements Launcher {
 			() -> String.format("TestEngine with ID '%s' failed to %s tests", testEngine.getId(), phase));
 	}
 
+	/**
+	 * Apply the supplied action to each of the supplied test engines
+	 * concurrently, using at most {@code parallelism} dedicated threads.
+	 *
+	 * @return the results in the order of the supplied test engines
+	 * @since 1.6
+	 */
+	private static <T> List<T> invokeConcurrently(List<TestEngine> testEngines, Function<TestEngine, T> action,
+			int parallelism) {
+		int threadCount = Math.min(parallelism, testEngines.size());
+		if (threadCount < 2) {
+			return testEngines.stream().map(action).collect(toList());
+		}
+		ExecutorService executorService = Executors.newFixedThreadPool(threadCount,
+			new EngineThreadFactory(Thread.currentThread().getContextClassLoader()));
+		try {
+			// @formatter:off
+			List<Future<T>> futures = testEngines.stream()
+					.map(testEngine -> executorService.submit(() -> action.apply(testEngine)))
+					.collect(toList());
+			// @formatter:on
+			List<T> results = new ArrayList<>(futures.size());
+			for (Future<T> future : futures) {
+				results.add(getResult(future));
+			}
+			return results;
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private static <T> T getResult(Future<T> future) {
+		try {
+			return future.get();
+		}
+		catch (ExecutionException ex) {
+			throw ExceptionUtils.throwAsUncheckedException(ex.getCause());
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new JUnitException("Interrupted while waiting for test engines", ex);
+		}
+	}
+
+	/**
+	 * Creates daemon threads for invoking test engines that use the context
+	 * class loader of the launching thread.
+	 *
+	 * @since 1.6
+	 */
+	private static class EngineThreadFactory implements ThreadFactory {
+
+		private static final AtomicInteger poolNumber = new AtomicInteger();
+
+		private final ClassLoader contextClassLoader;
+		private final String namePrefix = "junit-platform-launcher-" + poolNumber.incrementAndGet() + "-engine-";
+		private final AtomicInteger threadNumber = new AtomicInteger();
+
+		EngineThreadFactory(ClassLoader contextClassLoader) {
+			this.contextClassLoader = contextClassLoader;
+		}
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, this.namePrefix + this.threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			thread.setContextClassLoader(this.contextClassLoader);
+			return thread;
+		}
+
+	}
+
 }
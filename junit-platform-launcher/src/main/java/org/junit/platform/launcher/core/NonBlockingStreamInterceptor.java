@@ -0,0 +1,288 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * {@link StreamInterceptor} that does not serialize threads that write to
+ * the intercepted stream concurrently.
+ *
+ * <p>The methods of {@link PrintStream} synchronize on the stream, which
+ * causes all threads that write to an intercepted {@link System#out} or
+ * {@link System#err} to block each other while their output is encoded,
+ * captured, and written to the original stream. Instead, this interceptor
+ * delegates to a {@link PrintStream} per thread that encodes the output of
+ * that thread into a buffer. Once an invocation completes, its bytes are
+ * captured and passed through to the original stream in a single write by
+ * whichever thread currently holds the write lock;
+ * threads that fail to acquire it hand over a copy of their bytes instead of
+ * waiting. The output of each thread is written to the original stream in
+ * order, and the output of a single invocation of a {@code print} method is
+ * never interleaved with the output of other threads.
+ *
+ * @since 1.6
+ */
+class NonBlockingStreamInterceptor extends StreamInterceptor {
+
+	private final PrintStream originalStream;
+	private final ReentrantLock writeLock = new ReentrantLock();
+	private final Queue<byte[]> pendingWrites = new ConcurrentLinkedQueue<>();
+
+	private final ThreadLocal<ThreadOutputStream> streams = ThreadLocal.withInitial(ThreadOutputStream::new);
+
+	NonBlockingStreamInterceptor(PrintStream originalStream, Consumer<PrintStream> unregisterAction,
+			int maxNumberOfBytesPerThread) {
+		super(originalStream, unregisterAction, maxNumberOfBytesPerThread);
+		this.originalStream = originalStream;
+	}
+
+	@Override
+	public void write(int b) {
+		writeAtomically(stream -> stream.write(b));
+	}
+
+	@Override
+	public void write(byte[] buf, int off, int len) {
+		writeAtomically(stream -> stream.write(buf, off, len));
+	}
+
+	@Override
+	public void print(boolean b) {
+		writeAtomically(stream -> stream.print(b));
+	}
+
+	@Override
+	public void print(char c) {
+		writeAtomically(stream -> stream.print(c));
+	}
+
+	@Override
+	public void print(int i) {
+		writeAtomically(stream -> stream.print(i));
+	}
+
+	@Override
+	public void print(long l) {
+		writeAtomically(stream -> stream.print(l));
+	}
+
+	@Override
+	public void print(float f) {
+		writeAtomically(stream -> stream.print(f));
+	}
+
+	@Override
+	public void print(double d) {
+		writeAtomically(stream -> stream.print(d));
+	}
+
+	@Override
+	public void print(char[] s) {
+		writeAtomically(stream -> stream.print(s));
+	}
+
+	@Override
+	public void print(String s) {
+		writeAtomically(stream -> stream.print(s));
+	}
+
+	@Override
+	public void print(Object obj) {
+		writeAtomically(stream -> stream.print(obj));
+	}
+
+	@Override
+	public void println() {
+		writeAtomically(stream -> stream.println());
+	}
+
+	@Override
+	public void println(boolean x) {
+		writeAtomically(stream -> stream.println(x));
+	}
+
+	@Override
+	public void println(char x) {
+		writeAtomically(stream -> stream.println(x));
+	}
+
+	@Override
+	public void println(int x) {
+		writeAtomically(stream -> stream.println(x));
+	}
+
+	@Override
+	public void println(long x) {
+		writeAtomically(stream -> stream.println(x));
+	}
+
+	@Override
+	public void println(float x) {
+		writeAtomically(stream -> stream.println(x));
+	}
+
+	@Override
+	public void println(double x) {
+		writeAtomically(stream -> stream.println(x));
+	}
+
+	@Override
+	public void println(char[] x) {
+		writeAtomically(stream -> stream.println(x));
+	}
+
+	@Override
+	public void println(String x) {
+		writeAtomically(stream -> stream.println(x));
+	}
+
+	@Override
+	public void println(Object x) {
+		writeAtomically(stream -> stream.println(x));
+	}
+
+	@Override
+	public PrintStream format(String format, Object... args) {
+		writeAtomically(stream -> stream.format(format, args));
+		return this;
+	}
+
+	@Override
+	public PrintStream format(Locale l, String format, Object... args) {
+		writeAtomically(stream -> stream.format(l, format, args));
+		return this;
+	}
+
+	@Override
+	public void flush() {
+		writeLock.lock();
+		try {
+			writePendingBytes();
+			originalStream.flush();
+		}
+		finally {
+			writeLock.unlock();
+		}
+		writePendingBytesIfUnlocked();
+	}
+
+	@Override
+	public void close() {
+		flush();
+		originalStream.close();
+	}
+
+	@Override
+	public boolean checkError() {
+		flush();
+		return originalStream.checkError();
+	}
+
+	/**
+	 * Perform the supplied action on the {@link PrintStream} of the current
+	 * thread and pass the resulting bytes through to the original stream at
+	 * once.
+	 *
+	 * <p>Methods such as {@link PrintStream#println(String)} write to their
+	 * underlying stream more than once, e.g. the string and the line separator
+	 * separately on Java 8; hence, the bytes are buffered per thread until the
+	 * outermost action completes, e.g. if {@link Object#toString()} of an
+	 * argument prints as well.
+	 */
+	private void writeAtomically(Consumer<PrintStream> action) {
+		ThreadOutputStream stream = streams.get();
+		stream.depth++;
+		try {
+			action.accept(stream.printStream);
+		}
+		finally {
+			if (--stream.depth == 0) {
+				stream.passThrough();
+			}
+		}
+	}
+
+	private void passThrough(byte[] buf, int off, int len) {
+		if (pendingWrites.isEmpty() && writeLock.tryLock()) {
+			try {
+				originalStream.write(buf, off, len);
+			}
+			finally {
+				writeLock.unlock();
+			}
+		}
+		else {
+			pendingWrites.add(Arrays.copyOfRange(buf, off, off + len));
+		}
+		writePendingBytesIfUnlocked();
+	}
+
+	/**
+	 * Write all pending bytes unless another thread holds the write lock.
+	 *
+	 * <p>Since every thread calls this method after releasing the lock, bytes
+	 * that are added while another thread holds the lock are written by that
+	 * thread.
+	 */
+	private void writePendingBytesIfUnlocked() {
+		while (!pendingWrites.isEmpty() && writeLock.tryLock()) {
+			try {
+				writePendingBytes();
+			}
+			finally {
+				writeLock.unlock();
+			}
+		}
+	}
+
+	private void writePendingBytes() {
+		byte[] bytes;
+		while ((bytes = pendingWrites.poll()) != null) {
+			originalStream.write(bytes, 0, bytes.length);
+		}
+	}
+
+	/**
+	 * Buffering sink of the {@link PrintStream} of a single thread.
+	 */
+	private class ThreadOutputStream extends ByteArrayOutputStream {
+
+		private static final int MAX_RETAINED_BUFFER_SIZE = 8192;
+
+		private final PrintStream printStream = new PrintStream(this);
+		private int depth;
+
+		/**
+		 * Capture all buffered bytes and pass them through to the original
+		 * stream in a single write.
+		 */
+		void passThrough() {
+			if (count > 0) {
+				captureBytes(buf, 0, count);
+				NonBlockingStreamInterceptor.this.passThrough(buf, 0, count);
+				reset();
+				if (buf.length > MAX_RETAINED_BUFFER_SIZE) {
+					buf = new byte[MAX_RETAINED_BUFFER_SIZE];
+				}
+			}
+		}
+
+	}
+
+}
@@ -12,6 +12,7 @@ package org.junit.platform.launcher.core;
 
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_MAX_BUFFER_DEFAULT;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_MAX_BUFFER_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.CAPTURE_NON_BLOCKING_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDERR_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDOUT_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.STDERR_REPORT_ENTRY_KEY;
@@ -49,10 +50,14 @@ class StreamInterceptingTestExecutionListener implements EagerTestExecutionListe
 
 		int maxSize = configurationParameters.get(CAPTURE_MAX_BUFFER_PROPERTY_NAME, Integer::valueOf) //
 				.orElse(CAPTURE_MAX_BUFFER_DEFAULT);
+		boolean nonBlocking = configurationParameters.getBoolean(CAPTURE_NON_BLOCKING_ENABLED_PROPERTY_NAME).orElse(
+			false);
 
-		Optional<StreamInterceptor> stdoutInterceptor = captureStdout ? StreamInterceptor.registerStdout(maxSize)
+		Optional<StreamInterceptor> stdoutInterceptor = captureStdout
+				? StreamInterceptor.registerStdout(maxSize, nonBlocking)
 				: Optional.empty();
-		Optional<StreamInterceptor> stderrInterceptor = captureStderr ? StreamInterceptor.registerStderr(maxSize)
+		Optional<StreamInterceptor> stderrInterceptor = captureStderr
+				? StreamInterceptor.registerStderr(maxSize, nonBlocking)
 				: Optional.empty();
 
 		if ((!stdoutInterceptor.isPresent() && captureStdout) || (!stderrInterceptor.isPresent() && captureStderr)) {
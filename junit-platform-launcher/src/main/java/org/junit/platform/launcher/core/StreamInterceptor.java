@@ -30,24 +30,43 @@ class StreamInterceptor extends PrintStream {
 		RewindableByteArrayOutputStream::new);
 
 	static Optional<StreamInterceptor> registerStdout(int maxNumberOfBytesPerThread) {
-		return register(System.out, System::setOut, maxNumberOfBytesPerThread);
+		return registerStdout(maxNumberOfBytesPerThread, false);
+	}
+
+	static Optional<StreamInterceptor> registerStdout(int maxNumberOfBytesPerThread, boolean nonBlocking) {
+		return register(System.out, System::setOut, maxNumberOfBytesPerThread, nonBlocking);
 	}
 
 	static Optional<StreamInterceptor> registerStderr(int maxNumberOfBytesPerThread) {
-		return register(System.err, System::setErr, maxNumberOfBytesPerThread);
+		return registerStderr(maxNumberOfBytesPerThread, false);
+	}
+
+	static Optional<StreamInterceptor> registerStderr(int maxNumberOfBytesPerThread, boolean nonBlocking) {
+		return register(System.err, System::setErr, maxNumberOfBytesPerThread, nonBlocking);
 	}
 
 	static Optional<StreamInterceptor> register(PrintStream originalStream, Consumer<PrintStream> streamSetter,
 			int maxNumberOfBytesPerThread) {
+		return register(originalStream, streamSetter, maxNumberOfBytesPerThread, false);
+	}
+
+	/**
+	 * @param nonBlocking whether to register a {@link NonBlockingStreamInterceptor}
+	 * @since 1.6
+	 */
+	static Optional<StreamInterceptor> register(PrintStream originalStream, Consumer<PrintStream> streamSetter,
+			int maxNumberOfBytesPerThread, boolean nonBlocking) {
 		if (originalStream instanceof StreamInterceptor) {
 			return Optional.empty();
 		}
-		StreamInterceptor interceptor = new StreamInterceptor(originalStream, streamSetter, maxNumberOfBytesPerThread);
+		StreamInterceptor interceptor = nonBlocking
+				? new NonBlockingStreamInterceptor(originalStream, streamSetter, maxNumberOfBytesPerThread)
+				: new StreamInterceptor(originalStream, streamSetter, maxNumberOfBytesPerThread);
 		streamSetter.accept(interceptor);
 		return Optional.of(interceptor);
 	}
 
-	private StreamInterceptor(PrintStream originalStream, Consumer<PrintStream> unregisterAction,
+	StreamInterceptor(PrintStream originalStream, Consumer<PrintStream> unregisterAction,
 			int maxNumberOfBytesPerThread) {
 		super(originalStream);
 		this.originalStream = originalStream;
@@ -69,10 +88,7 @@ class StreamInterceptor extends PrintStream {
 
 	@Override
 	public void write(int b) {
-		RewindableByteArrayOutputStream out = output.get();
-		if (out.isMarked() && out.size() < maxNumberOfBytesPerThread) {
-			out.write(b);
-		}
+		captureByte(b);
 		super.write(b);
 	}
 
@@ -83,6 +99,24 @@ class StreamInterceptor extends PrintStream {
 
 	@Override
 	public void write(byte[] buf, int off, int len) {
+		captureBytes(buf, off, len);
+		super.write(buf, off, len);
+	}
+
+	/**
+	 * Capture the supplied byte if capturing is active for the current thread.
+	 */
+	void captureByte(int b) {
+		RewindableByteArrayOutputStream out = output.get();
+		if (out.isMarked() && out.size() < maxNumberOfBytesPerThread) {
+			out.write(b);
+		}
+	}
+
+	/**
+	 * Capture the supplied bytes if capturing is active for the current thread.
+	 */
+	void captureBytes(byte[] buf, int off, int len) {
 		RewindableByteArrayOutputStream out = output.get();
 		if (out.isMarked()) {
 			int actualLength = Math.max(0, Math.min(len, maxNumberOfBytesPerThread - out.size()));
@@ -90,7 +124,6 @@ class StreamInterceptor extends PrintStream {
 				out.write(buf, off, actualLength);
 			}
 		}
-		super.write(buf, off, len);
 	}
 
 	class RewindableByteArrayOutputStream extends ByteArrayOutputStream {
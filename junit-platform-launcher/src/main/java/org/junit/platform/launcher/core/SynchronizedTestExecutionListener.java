@@ -0,0 +1,99 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+import org.junit.platform.launcher.TestPlan;
+
+/**
+ * {@link TestExecutionListener} that serializes all notifications to its
+ * delegate so that registered listeners are never notified concurrently by
+ * test engines that are executed in parallel.
+ *
+ * <p>Notifications are only serialized as long as more than one test engine
+ * has not finished its execution. Once all but one test engine are finished,
+ * notifications are forwarded without acquiring the lock since they can no
+ * longer interleave with notifications from other test engines.
+ *
+ * <p>Notifications are forwarded on the calling thread.
+ *
+ * @since 1.6
+ */
+class SynchronizedTestExecutionListener implements TestExecutionListener {
+
+	private final Object lock = new Object();
+	private final TestExecutionListener delegate;
+	private final AtomicInteger unfinishedEngines;
+
+	SynchronizedTestExecutionListener(TestExecutionListener delegate, int engineCount) {
+		this.delegate = delegate;
+		this.unfinishedEngines = new AtomicInteger(engineCount);
+	}
+
+	/**
+	 * Signal that a test engine has finished its execution.
+	 */
+	void engineExecutionFinished() {
+		this.unfinishedEngines.decrementAndGet();
+	}
+
+	@Override
+	public void testPlanExecutionStarted(TestPlan testPlan) {
+		notify(() -> this.delegate.testPlanExecutionStarted(testPlan));
+	}
+
+	@Override
+	public void testPlanExecutionFinished(TestPlan testPlan) {
+		notify(() -> this.delegate.testPlanExecutionFinished(testPlan));
+	}
+
+	@Override
+	public void dynamicTestRegistered(TestIdentifier testIdentifier) {
+		notify(() -> this.delegate.dynamicTestRegistered(testIdentifier));
+	}
+
+	@Override
+	public void executionSkipped(TestIdentifier testIdentifier, String reason) {
+		notify(() -> this.delegate.executionSkipped(testIdentifier, reason));
+	}
+
+	@Override
+	public void executionStarted(TestIdentifier testIdentifier) {
+		notify(() -> this.delegate.executionStarted(testIdentifier));
+	}
+
+	@Override
+	public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+		notify(() -> this.delegate.executionFinished(testIdentifier, testExecutionResult));
+	}
+
+	@Override
+	public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+		notify(() -> this.delegate.reportingEntryPublished(testIdentifier, entry));
+	}
+
+	private void notify(Runnable notification) {
+		if (this.unfinishedEngines.get() > 1) {
+			synchronized (this.lock) {
+				notification.run();
+			}
+		}
+		else {
+			notification.run();
+		}
+	}
+
+}
@@ -20,6 +20,7 @@ import java.util.function.Supplier;
 import org.junit.platform.commons.logging.Logger;
 import org.junit.platform.commons.logging.LoggerFactory;
 import org.junit.platform.commons.util.BlacklistedExceptions;
+import org.junit.platform.commons.util.ExceptionUtils;
 import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.reporting.ReportEntry;
 import org.junit.platform.launcher.TestExecutionListener;
@@ -62,33 +63,61 @@ class TestExecutionListenerRegistry {
 
 	private <T extends TestExecutionListener> void notifyEach(List<T> listeners, Consumer<T> consumer,
 			Supplier<String> description) {
-		listeners.forEach(listener -> {
-			try {
-				consumer.accept(listener);
-			}
-			catch (Throwable throwable) {
-				BlacklistedExceptions.rethrowIfBlacklisted(throwable);
-				logger.warn(throwable, () -> String.format("TestExecutionListener [%s] threw exception for method: %s",
-					listener.getClass().getName(), description.get()));
-			}
-		});
+		listeners.forEach(listener -> notifyListener(listener, consumer, description));
+	}
+
+	private static <T extends TestExecutionListener> void notifyListener(T listener, Consumer<T> consumer,
+			Supplier<String> description) {
+		try {
+			consumer.accept(listener);
+		}
+		catch (Throwable throwable) {
+			BlacklistedExceptions.rethrowIfBlacklisted(throwable);
+			logger.warn(throwable, () -> String.format("TestExecutionListener [%s] threw exception for method: %s",
+				listener.getClass().getName(), description.get()));
+		}
 	}
 
 	TestExecutionListener getCompositeTestExecutionListener() {
-		return new CompositeTestExecutionListener();
+		return getCompositeTestExecutionListener(0);
+	}
+
+	/**
+	 * Get a composite listener that notifies all registered listeners.
+	 *
+	 * <p>If the supplied buffer size is positive, registered listeners are
+	 * notified asynchronously from {@code testPlanExecutionStarted()} until
+	 * and including {@code testPlanExecutionFinished()}, which waits until all
+	 * of them have been notified. Each listener is notified by a dedicated
+	 * thread in the order of the notifications of the composite listener.
+	 * Eager notifications, i.e. {@code executionJustStarted()} and
+	 * {@code executionJustFinished()}, are always synchronous.
+	 *
+	 * @param asyncBufferSize the maximum number of pending notifications per
+	 * listener; {@code 0} to notify listeners synchronously
+	 */
+	TestExecutionListener getCompositeTestExecutionListener(int asyncBufferSize) {
+		return new CompositeTestExecutionListener(asyncBufferSize);
 	}
 
 	private class CompositeTestExecutionListener implements TestExecutionListener {
 
+		private final int asyncBufferSize;
+		private volatile List<AsyncNotificationDispatcher> dispatchers;
+
+		CompositeTestExecutionListener(int asyncBufferSize) {
+			this.asyncBufferSize = asyncBufferSize;
+		}
+
 		@Override
 		public void dynamicTestRegistered(TestIdentifier testIdentifier) {
-			notifyEach(testExecutionListeners, listener -> listener.dynamicTestRegistered(testIdentifier),
+			notifyListeners(listener -> listener.dynamicTestRegistered(testIdentifier),
 				() -> "dynamicTestRegistered(" + testIdentifier + ")");
 		}
 
 		@Override
 		public void executionSkipped(TestIdentifier testIdentifier, String reason) {
-			notifyEach(testExecutionListeners, listener -> listener.executionSkipped(testIdentifier, reason),
+			notifyListeners(listener -> listener.executionSkipped(testIdentifier, reason),
 				() -> "executionSkipped(" + testIdentifier + ", " + reason + ")");
 		}
 
@@ -96,7 +125,7 @@ class TestExecutionListenerRegistry {
 		public void executionStarted(TestIdentifier testIdentifier) {
 			notifyEach(eagerTestExecutionListeners, listener -> listener.executionJustStarted(testIdentifier),
 				() -> "executionJustStarted(" + testIdentifier + ")");
-			notifyEach(testExecutionListeners, listener -> listener.executionStarted(testIdentifier),
+			notifyListeners(listener -> listener.executionStarted(testIdentifier),
 				() -> "executionStarted(" + testIdentifier + ")");
 		}
 
@@ -105,29 +134,68 @@ class TestExecutionListenerRegistry {
 			notifyEach(eagerTestExecutionListeners,
 				listener -> listener.executionJustFinished(testIdentifier, testExecutionResult),
 				() -> "executionJustFinished(" + testIdentifier + ", " + testExecutionResult + ")");
-			notifyEach(testExecutionListeners,
-				listener -> listener.executionFinished(testIdentifier, testExecutionResult),
+			notifyListeners(listener -> listener.executionFinished(testIdentifier, testExecutionResult),
 				() -> "executionFinished(" + testIdentifier + ", " + testExecutionResult + ")");
 		}
 
 		@Override
 		public void testPlanExecutionStarted(TestPlan testPlan) {
-			notifyEach(testExecutionListeners, listener -> listener.testPlanExecutionStarted(testPlan),
+			if (this.asyncBufferSize > 0) {
+				List<AsyncNotificationDispatcher> dispatchers = new ArrayList<>(testExecutionListeners.size());
+				for (TestExecutionListener listener : testExecutionListeners) {
+					dispatchers.add(new AsyncNotificationDispatcher(listener, this.asyncBufferSize));
+				}
+				this.dispatchers = dispatchers;
+			}
+			notifyListeners(listener -> listener.testPlanExecutionStarted(testPlan),
 				() -> "testPlanExecutionStarted(" + testPlan + ")");
 		}
 
 		@Override
 		public void testPlanExecutionFinished(TestPlan testPlan) {
-			notifyEach(testExecutionListeners, listener -> listener.testPlanExecutionFinished(testPlan),
+			notifyListeners(listener -> listener.testPlanExecutionFinished(testPlan),
 				() -> "testPlanExecutionFinished(" + testPlan + ")");
+			List<AsyncNotificationDispatcher> dispatchers = this.dispatchers;
+			if (dispatchers != null) {
+				this.dispatchers = null;
+				flush(dispatchers);
+			}
 		}
 
 		@Override
 		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
-			notifyEach(testExecutionListeners, listener -> listener.reportingEntryPublished(testIdentifier, entry),
+			notifyListeners(listener -> listener.reportingEntryPublished(testIdentifier, entry),
 				() -> "reportingEntryPublished(" + testIdentifier + ", " + entry + ")");
 		}
 
+		private void notifyListeners(Consumer<TestExecutionListener> consumer, Supplier<String> description) {
+			List<AsyncNotificationDispatcher> dispatchers = this.dispatchers;
+			if (dispatchers == null) {
+				notifyEach(testExecutionListeners, consumer, description);
+				return;
+			}
+			for (AsyncNotificationDispatcher dispatcher : dispatchers) {
+				dispatcher.dispatch(listener -> notifyListener(listener, consumer, description));
+			}
+		}
+
+		private void flush(List<AsyncNotificationDispatcher> dispatchers) {
+			Throwable failure = null;
+			for (AsyncNotificationDispatcher dispatcher : dispatchers) {
+				try {
+					dispatcher.flush();
+				}
+				catch (Throwable throwable) {
+					if (failure == null) {
+						failure = throwable;
+					}
+				}
+			}
+			if (failure != null) {
+				ExceptionUtils.throwAsUncheckedException(failure);
+			}
+		}
+
 	}
 
 	interface EagerTestExecutionListener extends TestExecutionListener {
@@ -31,6 +31,8 @@ dependencies {
 	}
 	jmhAnnotationProcessor("org.openjdk.jmh:jmh-generator-annprocess:${Versions.jmh}")
 	jmh(project(":junit-jupiter-api"))
+	jmh(project(":junit-jupiter-engine"))
+	jmh(project(":junit-platform-engine"))
 	jmh("junit:junit:${Versions.junit4}")
 }
 
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+import org.junit.jupiter.api.extension.ExtensionContext.Store;
+import org.junit.jupiter.engine.execution.ExtensionValuesStore;
+import org.junit.jupiter.engine.execution.NamespaceAwareStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for looking up values in the {@link Store} of an
+ * {@link org.junit.jupiter.api.extension.ExtensionContext ExtensionContext}.
+ *
+ * <p>The stores mirror the hierarchy of a test method's extension context:
+ * the method's store has the class's store as parent which in turn has the
+ * engine's store as parent. Run with {@code -prof gc} to compare allocation
+ * rates.
+ *
+ * @since 5.6
+ */
+@State(Scope.Benchmark)
+public class ExtensionValuesStoreBenchmarks {
+
+	private static final Namespace NAMESPACE = Namespace.create(ExtensionValuesStoreBenchmarks.class);
+
+	private Store engineStore;
+	private Store classStore;
+	private Store methodStore;
+
+	@Setup
+	public void createStores() {
+		ExtensionValuesStore engineValues = new ExtensionValuesStore(null);
+		ExtensionValuesStore classValues = new ExtensionValuesStore(engineValues);
+		ExtensionValuesStore methodValues = new ExtensionValuesStore(classValues);
+		engineStore = new NamespaceAwareStore(engineValues, NAMESPACE);
+		classStore = new NamespaceAwareStore(classValues, NAMESPACE);
+		methodStore = new NamespaceAwareStore(methodValues, NAMESPACE);
+
+		engineStore.put("engine", "engine value");
+		classStore.put("class", "class value");
+		methodStore.put("method", "method value");
+		classStore.getOrComputeIfAbsent("computed", key -> "computed value");
+	}
+
+	@Benchmark
+	public Object getLocalValue() {
+		return methodStore.get("method");
+	}
+
+	@Benchmark
+	public Object getValueFromGrandParent() {
+		return methodStore.get("engine");
+	}
+
+	@Benchmark
+	public Object getMissingValue() {
+		return methodStore.get("missing");
+	}
+
+	@Benchmark
+	public String getOrComputeIfAbsentWithValueFromParent() {
+		return methodStore.getOrComputeIfAbsent("computed", key -> "computed value", String.class);
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import java.lang.reflect.Method;
+
+import org.junit.jupiter.engine.execution.MethodInvocationStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for invoking methods using the different
+ * {@linkplain MethodInvocationStrategy method invocation strategies}.
+ *
+ * @since 5.6
+ */
+@State(Scope.Benchmark)
+public class MethodInvocationStrategyBenchmarks {
+
+	private static final Object[] NO_ARGUMENTS = new Object[0];
+
+	@Param
+	public MethodInvocationStrategy strategy;
+
+	private final TestCase testCase = new TestCase();
+	private final Object[] arguments = { "value", 42 };
+
+	private Method methodWithoutParameters;
+	private Method methodWithParameters;
+	private Method staticMethod;
+
+	@Setup
+	public void findMethods() throws Exception {
+		methodWithoutParameters = TestCase.class.getDeclaredMethod("test");
+		methodWithParameters = TestCase.class.getDeclaredMethod("test", String.class, int.class);
+		staticMethod = TestCase.class.getDeclaredMethod("beforeAll");
+	}
+
+	@Benchmark
+	public Object invokeMethodWithoutParameters() {
+		return strategy.invoke(methodWithoutParameters, testCase, NO_ARGUMENTS);
+	}
+
+	@Benchmark
+	public Object invokeMethodWithParameters() {
+		return strategy.invoke(methodWithParameters, testCase, arguments);
+	}
+
+	@Benchmark
+	public Object invokeStaticMethod() {
+		return strategy.invoke(staticMethod, null, NO_ARGUMENTS);
+	}
+
+	static class TestCase {
+
+		private int invocations;
+
+		static void beforeAll() {
+		}
+
+		void test() {
+			invocations++;
+		}
+
+		void test(String value, int number) {
+			invocations += number;
+		}
+
+	}
+
+}
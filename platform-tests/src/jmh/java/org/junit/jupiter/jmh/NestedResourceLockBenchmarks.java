@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import static java.util.Collections.singleton;
+
+import java.util.Set;
+
+import org.junit.jupiter.jmh.ResourceLockBenchmarks.BenchmarkDescriptor;
+import org.junit.jupiter.jmh.ResourceLockBenchmarks.BenchmarkEngine;
+import org.junit.jupiter.jmh.ResourceLockBenchmarks.BenchmarkEngineDescriptor;
+import org.junit.jupiter.jmh.ResourceLockBenchmarks.EmptyConfigurationParameters;
+import org.junit.jupiter.jmh.ResourceLockBenchmarks.NoopEngineExecutionListener;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestDescriptor.Type;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for executing test suites that consist of deeply nested
+ * containers which all declare {@linkplain ExclusiveResource exclusive
+ * resources}, e.g. {@code @Nested} test classes annotated with
+ * {@code @ResourceLock}.
+ *
+ * <p>The resources of each nested container and its tests have to be pulled
+ * up to the topmost container and all of its descendants have to be executed
+ * in the same thread.
+ *
+ * @since 1.6
+ */
+@State(Scope.Benchmark)
+public class NestedResourceLockBenchmarks {
+
+	private static final int TOP_LEVEL_CONTAINERS = 20;
+	private static final int TESTS_PER_CONTAINER = 10;
+
+	/**
+	 * Number of nested containers below each top-level container.
+	 */
+	@Param({ "10", "100" })
+	public int depth;
+
+	private BenchmarkEngine engine;
+	private ExecutionRequest request;
+
+	@Setup
+	public void createTestSuite() {
+		EngineDescriptor engineDescriptor = new BenchmarkEngineDescriptor(UniqueId.forEngine("benchmark"));
+		for (int i = 0; i < TOP_LEVEL_CONTAINERS; i++) {
+			TestDescriptor parent = engineDescriptor;
+			for (int level = 0; level <= depth; level++) {
+				UniqueId containerId = parent.getUniqueId().append("container", String.valueOf(level));
+				BenchmarkDescriptor container = new BenchmarkDescriptor(containerId, Type.CONTAINER,
+					resource("level-" + level));
+				for (int j = 0; j < TESTS_PER_CONTAINER; j++) {
+					UniqueId testId = containerId.append("test", String.valueOf(j));
+					container.addChild(new BenchmarkDescriptor(testId, Type.TEST, resource("test-" + j)));
+				}
+				parent.addChild(container);
+				parent = container;
+			}
+		}
+		engine = new BenchmarkEngine();
+		request = new ExecutionRequest(engineDescriptor, new NoopEngineExecutionListener(),
+			new EmptyConfigurationParameters());
+	}
+
+	private static Set<ExclusiveResource> resource(String key) {
+		return singleton(new ExclusiveResource(key, LockMode.READ_WRITE));
+	}
+
+	@Benchmark
+	public void execute() {
+		engine.execute(request);
+	}
+
+}
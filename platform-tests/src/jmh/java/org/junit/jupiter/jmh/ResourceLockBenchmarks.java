@@ -0,0 +1,220 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.jupiter.jmh;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.EngineDiscoveryRequest;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.ExecutionRequest;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestDescriptor.Type;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.reporting.ReportEntry;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.engine.support.hierarchical.EngineExecutionContext;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource;
+import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestEngine;
+import org.junit.platform.engine.support.hierarchical.Node;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JMH benchmarks for executing large test suites whose tests declare
+ * {@linkplain ExclusiveResource exclusive resources}.
+ *
+ * <p>Every test of the suite declares a resource so that a resource lock has
+ * to be planned and acquired for each of them.
+ *
+ * @since 1.6
+ */
+@State(Scope.Benchmark)
+public class ResourceLockBenchmarks {
+
+	private static final int CONTAINERS = 200;
+	private static final int TESTS_PER_CONTAINER = 100;
+
+	/**
+	 * How the tests declare their resources.
+	 */
+	public enum Resources {
+
+		/**
+		 * No test declares a resource.
+		 */
+		NONE,
+
+		/**
+		 * Each test declares a resource of its own.
+		 */
+		UNCONTENDED,
+
+		/**
+		 * All tests declare read access to the same resource.
+		 */
+		READ_ONLY,
+
+		/**
+		 * All tests declare read and write access to the same resource.
+		 */
+		CONTENDED
+
+	}
+
+	@Param
+	public Resources resources;
+
+	private BenchmarkEngine engine;
+	private ExecutionRequest request;
+
+	@Setup
+	public void createTestSuite() {
+		EngineDescriptor engineDescriptor = new BenchmarkEngineDescriptor(UniqueId.forEngine("benchmark"));
+		for (int i = 0; i < CONTAINERS; i++) {
+			UniqueId containerId = engineDescriptor.getUniqueId().append("container", String.valueOf(i));
+			BenchmarkDescriptor container = new BenchmarkDescriptor(containerId, Type.CONTAINER, emptySet());
+			for (int j = 0; j < TESTS_PER_CONTAINER; j++) {
+				UniqueId testId = containerId.append("test", String.valueOf(j));
+				container.addChild(new BenchmarkDescriptor(testId, Type.TEST, getResources(testId)));
+			}
+			engineDescriptor.addChild(container);
+		}
+		engine = new BenchmarkEngine();
+		request = new ExecutionRequest(engineDescriptor, new NoopEngineExecutionListener(),
+			new EmptyConfigurationParameters());
+	}
+
+	private Set<ExclusiveResource> getResources(UniqueId testId) {
+		switch (resources) {
+			case UNCONTENDED:
+				return singleton(new ExclusiveResource(testId.toString(), LockMode.READ_WRITE));
+			case READ_ONLY:
+				return singleton(new ExclusiveResource("shared", LockMode.READ));
+			case CONTENDED:
+				return singleton(new ExclusiveResource("shared", LockMode.READ_WRITE));
+			default:
+				return emptySet();
+		}
+	}
+
+	@Benchmark
+	public void execute() {
+		engine.execute(request);
+	}
+
+	static class BenchmarkEngine extends HierarchicalTestEngine<BenchmarkExecutionContext> {
+
+		@Override
+		public String getId() {
+			return "benchmark";
+		}
+
+		@Override
+		public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+			throw new UnsupportedOperationException();
+		}
+
+		@Override
+		protected BenchmarkExecutionContext createExecutionContext(ExecutionRequest request) {
+			return new BenchmarkExecutionContext();
+		}
+
+	}
+
+	static class BenchmarkExecutionContext implements EngineExecutionContext {
+	}
+
+	static class BenchmarkEngineDescriptor extends EngineDescriptor implements Node<BenchmarkExecutionContext> {
+
+		BenchmarkEngineDescriptor(UniqueId uniqueId) {
+			super(uniqueId, "benchmark");
+		}
+
+	}
+
+	static class BenchmarkDescriptor extends AbstractTestDescriptor implements Node<BenchmarkExecutionContext> {
+
+		private final Type type;
+		private final Set<ExclusiveResource> exclusiveResources;
+
+		BenchmarkDescriptor(UniqueId uniqueId, Type type, Set<ExclusiveResource> exclusiveResources) {
+			super(uniqueId, uniqueId.toString());
+			this.type = type;
+			this.exclusiveResources = exclusiveResources;
+		}
+
+		@Override
+		public Type getType() {
+			return type;
+		}
+
+		@Override
+		public Set<ExclusiveResource> getExclusiveResources() {
+			return exclusiveResources;
+		}
+
+	}
+
+	static class NoopEngineExecutionListener implements EngineExecutionListener {
+
+		@Override
+		public void dynamicTestRegistered(TestDescriptor testDescriptor) {
+		}
+
+		@Override
+		public void executionSkipped(TestDescriptor testDescriptor, String reason) {
+		}
+
+		@Override
+		public void executionStarted(TestDescriptor testDescriptor) {
+		}
+
+		@Override
+		public void executionFinished(TestDescriptor testDescriptor, TestExecutionResult testExecutionResult) {
+		}
+
+		@Override
+		public void reportingEntryPublished(TestDescriptor testDescriptor, ReportEntry entry) {
+		}
+
+	}
+
+	static class EmptyConfigurationParameters implements ConfigurationParameters {
+
+		@Override
+		public Optional<String> get(String key) {
+			return Optional.empty();
+		}
+
+		@Override
+		public Optional<Boolean> getBoolean(String key) {
+			return Optional.empty();
+		}
+
+		@Override
+		public int size() {
+			return 0;
+		}
+
+	}
+
+}
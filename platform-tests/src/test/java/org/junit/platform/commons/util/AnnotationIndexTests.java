@@ -0,0 +1,135 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.reflect.AnnotatedElement;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AnnotationIndex}.
+ *
+ * @since 1.6
+ */
+class AnnotationIndexTests {
+
+	@Test
+	void searchesClassOncePerAnnotationType() {
+		AtomicInteger searches = new AtomicInteger();
+
+		for (int i = 0; i < 3; i++) {
+			assertThat(AnnotationIndex.findAnnotation(ClassTestCase.class, Marker.class, () -> {
+				searches.incrementAndGet();
+				return Optional.of(ClassTestCase.class.getAnnotation(Marker.class));
+			})).isPresent();
+			assertThat(AnnotationIndex.findAnnotation(ClassTestCase.class, Deprecated.class, () -> {
+				searches.incrementAndGet();
+				return Optional.empty();
+			})).isEmpty();
+		}
+
+		assertThat(searches).hasValue(2);
+	}
+
+	@Test
+	void indexesMethodsAndTheirParametersSeparately() throws Exception {
+		Method method = MethodTestCase.class.getDeclaredMethod("method", String.class);
+		AtomicInteger searches = new AtomicInteger();
+
+		for (int i = 0; i < 3; i++) {
+			AnnotationIndex.findAnnotation(method, Marker.class, () -> {
+				searches.incrementAndGet();
+				return Optional.empty();
+			});
+			AnnotationIndex.findAnnotation(method.getParameters()[0], Marker.class, () -> {
+				searches.incrementAndGet();
+				return Optional.empty();
+			});
+			// equal, but not identical
+			AnnotationIndex.findAnnotation(MethodTestCase.class.getDeclaredMethod("method", String.class),
+				Marker.class, () -> {
+					searches.incrementAndGet();
+					return Optional.empty();
+				});
+		}
+
+		assertThat(searches).hasValue(2);
+	}
+
+	@Test
+	void indexesAnnotationsAndRepeatableAnnotationsSeparately() {
+		AtomicInteger searches = new AtomicInteger();
+
+		for (int i = 0; i < 3; i++) {
+			AnnotationIndex.findAnnotation(RepeatableTestCase.class, Marker.class, () -> {
+				searches.incrementAndGet();
+				return Optional.empty();
+			});
+			AnnotationIndex.findRepeatableAnnotations(RepeatableTestCase.class, Marker.class, () -> {
+				searches.incrementAndGet();
+				return emptyList();
+			});
+		}
+
+		assertThat(searches).hasValue(2);
+	}
+
+	@Test
+	void doesNotIndexOtherAnnotatedElements() {
+		AnnotatedElement element = AnnotationIndexTests.class.getPackage();
+		AtomicInteger searches = new AtomicInteger();
+
+		for (int i = 0; i < 3; i++) {
+			AnnotationIndex.findAnnotation(element, Marker.class, () -> {
+				searches.incrementAndGet();
+				return Optional.empty();
+			});
+		}
+
+		assertThat(searches).hasValue(3);
+	}
+
+	@Test
+	void findAnnotationReturnsIndexedResult() {
+		Optional<Marker> first = AnnotationUtils.findAnnotation(ClassTestCase.class, Marker.class);
+		Optional<Marker> second = AnnotationUtils.findAnnotation(ClassTestCase.class, Marker.class);
+
+		assertThat(first).isPresent();
+		assertThat(second).isSameAs(first);
+	}
+
+	@Retention(RetentionPolicy.RUNTIME)
+	@interface Marker {
+	}
+
+	@Marker
+	static class ClassTestCase {
+	}
+
+	static class MethodTestCase {
+
+		@SuppressWarnings("unused")
+		void method(String parameter) {
+		}
+	}
+
+	static class RepeatableTestCase {
+	}
+
+}
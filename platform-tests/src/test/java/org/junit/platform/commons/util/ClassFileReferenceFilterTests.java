@@ -0,0 +1,118 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.commons.PreconditionViolationException;
+
+/**
+ * Unit tests for {@link ClassFileReferenceFilter}.
+ *
+ * @since 1.6
+ */
+class ClassFileReferenceFilterTests {
+
+	private final ClassFileReferenceFilter filter = new ClassFileReferenceFilter(
+		Arrays.asList(Test.class.getName(), Nested.class.getName()));
+
+	@Test
+	void matchesClassReferencingAnnotation() throws Exception {
+		assertThat(filter.mightMatch(classFile(AnnotatedTestCase.class))).isTrue();
+	}
+
+	@Test
+	void rejectsClassWithoutReferences() throws Exception {
+		assertThat(filter.mightMatch(classFile(PlainClass.class))).isFalse();
+	}
+
+	@Test
+	void matchesClassWithSuperclass() throws Exception {
+		assertThat(filter.mightMatch(classFile(SubclassTestCase.class))).isTrue();
+	}
+
+	@Test
+	void matchesClassImplementingInterface() throws Exception {
+		assertThat(filter.mightMatch(classFile(SerializableClass.class))).isTrue();
+	}
+
+	@Test
+	void matchesClassWithNestedClass() throws Exception {
+		assertThat(filter.mightMatch(classFile(EnclosingClass.class))).isTrue();
+	}
+
+	@Test
+	void matchesMalformedClassFile() {
+		assertThat(filter.mightMatch(new byte[] { (byte) 0xCA, (byte) 0xFE })).isTrue();
+		assertThat(filter.mightMatch(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 })).isTrue();
+	}
+
+	@Test
+	void requiresAnnotationNames() {
+		assertThrows(PreconditionViolationException.class, () -> new ClassFileReferenceFilter(emptyList()));
+		assertThrows(PreconditionViolationException.class,
+			() -> new ClassFileReferenceFilter(singletonList(null)));
+	}
+
+	private static byte[] classFile(Class<?> clazz) throws IOException {
+		String resourceName = clazz.getName().substring(clazz.getPackage().getName().length() + 1) + ".class";
+		try (InputStream in = clazz.getResourceAsStream(resourceName)) {
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			byte[] buffer = new byte[4096];
+			int read;
+			while ((read = in.read(buffer)) != -1) {
+				out.write(buffer, 0, read);
+			}
+			return out.toByteArray();
+		}
+	}
+
+	static class AnnotatedTestCase {
+
+		@Test
+		void test() {
+		}
+	}
+
+	static class PlainClass {
+
+		private final long number = 42L;
+
+		String describe() {
+			return "number: " + number;
+		}
+	}
+
+	static class SubclassTestCase extends AnnotatedTestCase {
+	}
+
+	@SuppressWarnings("serial")
+	static class SerializableClass implements Serializable {
+	}
+
+	static class EnclosingClass {
+
+		static class NestedClass {
+		}
+	}
+
+}
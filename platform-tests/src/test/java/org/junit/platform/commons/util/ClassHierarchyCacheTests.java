@@ -0,0 +1,129 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode.BOTTOM_UP;
+import static org.junit.platform.commons.util.ReflectionUtils.HierarchyTraversalMode.TOP_DOWN;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ClassHierarchyCache}.
+ *
+ * @since 1.6
+ */
+class ClassHierarchyCacheTests {
+
+	@Test
+	void computesMethodsOncePerClassAndTraversalMode() throws Exception {
+		Method method = MethodsTestCase.class.getDeclaredMethod("method");
+		AtomicInteger computations = new AtomicInteger();
+
+		for (int i = 0; i < 3; i++) {
+			List<Method> topDown = ClassHierarchyCache.getMethods(MethodsTestCase.class, TOP_DOWN, () -> {
+				computations.incrementAndGet();
+				return singletonList(method);
+			});
+			List<Method> bottomUp = ClassHierarchyCache.getMethods(MethodsTestCase.class, BOTTOM_UP, () -> {
+				computations.incrementAndGet();
+				return singletonList(method);
+			});
+			assertThat(topDown).containsExactly(method);
+			assertThat(bottomUp).containsExactly(method);
+		}
+
+		assertThat(computations).hasValue(2);
+	}
+
+	@Test
+	void cachesMethodsAndFieldsSeparately() throws Exception {
+		Method method = MembersTestCase.class.getDeclaredMethod("method");
+		Field field = MembersTestCase.class.getDeclaredField("field");
+
+		List<Method> methods = ClassHierarchyCache.getMethods(MembersTestCase.class, TOP_DOWN,
+			() -> singletonList(method));
+		List<Field> fields = ClassHierarchyCache.getFields(MembersTestCase.class, TOP_DOWN, () -> singletonList(field));
+
+		assertThat(methods).containsExactly(method);
+		assertThat(fields).containsExactly(field);
+	}
+
+	@Test
+	void returnsUnmodifiableLists() throws Exception {
+		Field field = MembersTestCase.class.getDeclaredField("field");
+
+		List<Field> fields = ClassHierarchyCache.getFields(UnmodifiableTestCase.class, BOTTOM_UP,
+			() -> singletonList(field));
+
+		assertThrows(UnsupportedOperationException.class, fields::clear);
+	}
+
+	@Test
+	void findMethodsReturnsSameResultsForRepeatedInvocations() {
+		List<String> first = methodNames(ReflectionUtils.findMethods(SubclassTestCase.class, method -> true));
+		List<String> second = methodNames(ReflectionUtils.findMethods(SubclassTestCase.class, method -> true));
+
+		assertThat(first).containsExactly("superclassMethod", "overriddenMethod", "subclassMethod");
+		assertThat(second).isEqualTo(first);
+	}
+
+	private static List<String> methodNames(List<Method> methods) {
+		return methods.stream().map(Method::getName).collect(toList());
+	}
+
+	@SuppressWarnings("unused")
+	static class MethodsTestCase {
+
+		void method() {
+		}
+	}
+
+	@SuppressWarnings("unused")
+	static class MembersTestCase {
+
+		String field;
+
+		void method() {
+		}
+	}
+
+	static class UnmodifiableTestCase {
+	}
+
+	static class SuperclassTestCase {
+
+		void superclassMethod() {
+		}
+
+		void overriddenMethod() {
+		}
+	}
+
+	static class SubclassTestCase extends SuperclassTestCase {
+
+		@Override
+		void overriddenMethod() {
+		}
+
+		void subclassMethod() {
+		}
+	}
+
+}
@@ -10,6 +10,7 @@
 
 package org.junit.platform.commons.util;
 
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -27,6 +28,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.logging.Level;
@@ -195,6 +197,27 @@ class ClasspathScannerTests {
 		}
 	}
 
+	@Test
+	void findAllClassesInPackagesWithinJarFileUsingSharedArchiveCache() throws Exception {
+		URL jarfile = getClass().getResource("/jartest.jar");
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jarfile });
+				ClasspathArchiveCache archiveCache = new ClasspathArchiveCache()) {
+			ClasspathScanner classpathScanner = new ClasspathScanner(() -> classLoader,
+				ReflectionUtils::tryToLoadClass);
+
+			List<Class<?>> included = classpathScanner.scanForClassesInPackage(
+				"org.junit.platform.jartest.included.recursive", allClasses, 1, archiveCache);
+			List<Class<?>> notIncluded = classpathScanner.scanForClassesInPackage(
+				"org.junit.platform.jartest.notincluded", allClasses, 1, archiveCache);
+
+			assertThat(included).extracting(Class::getName).containsExactly(
+				"org.junit.platform.jartest.included.recursive.RecursivelyIncluded");
+			assertThat(notIncluded).extracting(Class::getName).containsExactly(
+				"org.junit.platform.jartest.notincluded.NotIncluded");
+		}
+	}
+
 	@Test
 	void scanForClassesInDefaultPackage() {
 		ClassFilter classFilter = ClassFilter.of(this::inDefaultPackage);
@@ -247,6 +270,16 @@ class ClasspathScannerTests {
 		assertThat(loadedClasses).containsExactly(ClasspathScannerTests.class);
 	}
 
+	@Test
+	void scanForClassesInPackageWithClassFileFilterOnlyLoadsPotentiallyMatchingClasses() {
+		ClassFilter classFilter = ClassFilter.of(name -> true, singletonList(Test.class.getName()), type -> true);
+
+		classpathScanner.scanForClassesInPackage("org.junit.platform.commons.util", classFilter);
+
+		assertThat(loadedClasses).contains(ClasspathScannerTests.class, ClassFileReferenceFilterTests.class);
+		assertThat(loadedClasses).doesNotContain(ClassFileReferenceFilterTests.PlainClass.class);
+	}
+
 	@Test
 	void findAllClassesInClasspathRoot() throws Exception {
 		ClassFilter thisClassOnly = ClassFilter.of(clazz -> clazz == ClasspathScannerTests.class);
@@ -281,6 +314,92 @@ class ClasspathScannerTests {
 		assertThat(classes).isEmpty();
 	}
 
+	@Test
+	void scanForClassesInPackageInParallelFindsSameClassesAsSequentialScan() {
+		ClasspathScanner scanner = new ClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			ReflectionUtils::tryToLoadClass);
+
+		List<Class<?>> sequential = scanner.scanForClassesInPackage("org.junit.platform.commons", allClasses);
+		List<Class<?>> parallel = scanner.scanForClassesInPackage("org.junit.platform.commons", allClasses, 4);
+
+		assertThat(parallel).hasSameSizeAs(sequential).containsExactlyInAnyOrderElementsOf(sequential);
+	}
+
+	@Test
+	void scanForClassesInClasspathRootInParallelReturnsDeterministicOrder() throws Exception {
+		ClasspathScanner scanner = new ClasspathScanner(ClassLoaderUtils::getDefaultClassLoader,
+			ReflectionUtils::tryToLoadClass);
+		URI root = getTestClasspathRoot();
+
+		List<Class<?>> first = scanner.scanForClassesInClasspathRoot(root, allClasses, 4);
+		List<Class<?>> second = scanner.scanForClassesInClasspathRoot(root, allClasses, 2);
+
+		assertThat(first.size()).isGreaterThanOrEqualTo(150);
+		assertThat(second).containsExactlyElementsOf(first);
+	}
+
+	@Test
+	void scanForClassesInClasspathRootInParallelFindsSameClassesAsSequentialScan() throws Exception {
+		URI root = getTestClasspathRoot();
+
+		List<Class<?>> sequential = classpathScanner.scanForClassesInClasspathRoot(root, allClasses);
+		List<Class<?>> parallel = classpathScanner.scanForClassesInClasspathRoot(root, allClasses, 4);
+
+		assertThat(parallel).hasSameSizeAs(sequential).containsExactlyInAnyOrderElementsOf(sequential);
+	}
+
+	@Test
+	void scansInParallelSharingArchiveCacheUseSameForkJoinPool() throws Exception {
+		ForkJoinPool forkJoinPool;
+		try (ClasspathArchiveCache archiveCache = new ClasspathArchiveCache()) {
+			forkJoinPool = archiveCache.getForkJoinPool(4);
+
+			classpathScanner.scanForClassesInClasspathRoot(getTestClasspathRoot(), allClasses, 4, archiveCache);
+			classpathScanner.scanForClassesInPackage("org.junit.platform.commons", allClasses, 4, archiveCache);
+
+			assertThat(archiveCache.getForkJoinPool(4)).isSameAs(forkJoinPool);
+			assertThat(forkJoinPool.isShutdown()).isFalse();
+		}
+		assertThat(forkJoinPool.isShutdown()).isTrue();
+	}
+
+	@Test
+	void scanForClassesInClasspathRootWithinJarFileInParallel() throws Exception {
+		URL jarfile = getClass().getResource("/jartest.jar");
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { jarfile })) {
+			ClasspathScanner classpathScanner = new ClasspathScanner(() -> classLoader,
+				ReflectionUtils::tryToLoadClass);
+
+			List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoot(jarfile.toURI(), allClasses, 4);
+			List<String> classNames = classes.stream().map(Class::getName).collect(Collectors.toList());
+			assertThat(classNames).containsExactly("org.junit.platform.jartest.included.Included",
+				"org.junit.platform.jartest.included.recursive.RecursivelyIncluded",
+				"org.junit.platform.jartest.notincluded.NotIncluded");
+		}
+	}
+
+	@Test
+	void scanForClassesInPackageForNonPositiveParallelism() {
+		assertThrows(PreconditionViolationException.class,
+			() -> classpathScanner.scanForClassesInPackage("org.junit.platform.commons", allClasses, 0));
+	}
+
+	@Test
+	void doesNotLoopInfinitelyWithCircularSymlinksWhenScanningInParallel(@TempDir Path tempDir) throws Exception {
+
+		// Abort if running on Microsoft Windows since we are testing symbolic links
+		assumeFalse(System.getProperty("os.name").toLowerCase().contains("win"));
+
+		Path directory = Files.createDirectory(tempDir.resolve("directory"));
+		Path symlink1 = Files.createSymbolicLink(tempDir.resolve("symlink1"), directory);
+		Files.createSymbolicLink(directory.resolve("symlink2"), symlink1);
+
+		List<Class<?>> classes = classpathScanner.scanForClassesInClasspathRoot(symlink1.toUri(), allClasses, 2);
+
+		assertThat(classes).isEmpty();
+	}
+
 	private boolean inDefaultPackage(Class<?> clazz) {
 		// OpenJDK returns NULL for the default package.
 		Package pkg = clazz.getPackage();
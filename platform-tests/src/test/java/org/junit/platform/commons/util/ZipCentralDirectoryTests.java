@@ -0,0 +1,173 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.commons.util;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipException;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link ZipCentralDirectory}.
+ *
+ * @since 1.6
+ */
+class ZipCentralDirectoryTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void findsFileEntriesByPrefix() throws Exception {
+		Path archive = createArchive(ZipEntry.DEFLATED);
+
+		ZipCentralDirectory centralDirectory = ZipCentralDirectory.open(archive).get();
+
+		assertThat(entryNames(centralDirectory, "")).containsExactly("a/A.txt", "a/b/B.txt", "c/C.txt");
+		assertThat(entryNames(centralDirectory, "a/")).containsExactly("a/A.txt", "a/b/B.txt");
+		assertThat(entryNames(centralDirectory, "a/b/")).containsExactly("a/b/B.txt");
+		assertThat(entryNames(centralDirectory, "d/")).isEmpty();
+	}
+
+	@Test
+	void readsDeflatedEntries() throws Exception {
+		ZipCentralDirectory centralDirectory = ZipCentralDirectory.open(createArchive(ZipEntry.DEFLATED)).get();
+
+		assertThat(contents(centralDirectory, "a/b/")).isEqualTo("contents of a/b/B.txt");
+	}
+
+	@Test
+	void readsStoredEntries() throws Exception {
+		ZipCentralDirectory centralDirectory = ZipCentralDirectory.open(createArchive(ZipEntry.STORED)).get();
+
+		assertThat(contents(centralDirectory, "c/")).isEqualTo("contents of c/C.txt");
+	}
+
+	@Test
+	void doesNotSupportFilesWithoutCentralDirectory() throws Exception {
+		Path file = Files.write(tempDir.resolve("no.jar"), "not an archive".getBytes(UTF_8));
+
+		assertThat(ZipCentralDirectory.open(file)).isEmpty();
+	}
+
+	@Test
+	void doesNotKeepArchiveOpen() throws Exception {
+		Path archive = createArchive(ZipEntry.DEFLATED);
+		ZipCentralDirectory centralDirectory = ZipCentralDirectory.open(archive).get();
+		assertThat(contents(centralDirectory, "a/b/")).isEqualTo("contents of a/b/B.txt");
+
+		Files.delete(archive);
+
+		assertThat(entryNames(centralDirectory, "a/")).containsExactly("a/A.txt", "a/b/B.txt");
+	}
+
+	@Test
+	void keepsCentralDirectoryWhenArchiveIsTruncated() throws Exception {
+		Path archive = createArchive(ZipEntry.STORED);
+		ZipCentralDirectory centralDirectory = ZipCentralDirectory.open(archive).get();
+
+		Files.write(archive, new byte[0]);
+
+		assertThat(entryNames(centralDirectory, "c/")).containsExactly("c/C.txt");
+		assertThrows(ZipException.class, () -> centralDirectory.read(centralDirectory.findEntries("c/").get(0)));
+	}
+
+	@Test
+	void rejectsCentralDirectoryHeadersExceedingCentralDirectory() throws Exception {
+		Path archive = createArchive(ZipEntry.STORED);
+		byte[] bytes = Files.readAllBytes(archive);
+		int lastHeader = lastIndexOf(bytes, new byte[] { 'P', 'K', 1, 2 });
+		// name length of the last central directory header
+		bytes[lastHeader + 28] = (byte) 0xFF;
+		bytes[lastHeader + 29] = (byte) 0xFF;
+		Files.write(archive, bytes);
+
+		ZipCentralDirectory centralDirectory = ZipCentralDirectory.open(archive).get();
+
+		assertThrows(ZipException.class, () -> centralDirectory.findEntries(""));
+	}
+
+	@Test
+	void rejectsTruncatedCentralDirectoryHeaders() throws Exception {
+		Path archive = createArchive(ZipEntry.STORED);
+		byte[] bytes = Files.readAllBytes(archive);
+		int lastHeader = lastIndexOf(bytes, new byte[] { 'P', 'K', 1, 2 });
+		// extra field length of the last central directory header
+		bytes[lastHeader + 30] = 1;
+		Files.write(archive, bytes);
+
+		ZipCentralDirectory centralDirectory = ZipCentralDirectory.open(archive).get();
+
+		assertThrows(ZipException.class, () -> centralDirectory.findEntries("c/"));
+	}
+
+	private Path createArchive(int method) throws Exception {
+		Path archive = tempDir.resolve("test.jar");
+		try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(archive))) {
+			out.setMethod(method);
+			for (String name : new String[] { "a/", "a/A.txt", "a/b/", "a/b/B.txt", "c/C.txt" }) {
+				byte[] contents = name.endsWith("/") ? new byte[0] : ("contents of " + name).getBytes(UTF_8);
+				out.putNextEntry(createEntry(name, method, contents));
+				out.write(contents);
+				out.closeEntry();
+			}
+		}
+		return archive;
+	}
+
+	private static ZipEntry createEntry(String name, int method, byte[] contents) {
+		ZipEntry entry = new ZipEntry(name);
+		if (method == ZipEntry.STORED) {
+			CRC32 crc = new CRC32();
+			crc.update(contents);
+			entry.setSize(contents.length);
+			entry.setCompressedSize(contents.length);
+			entry.setCrc(crc.getValue());
+		}
+		return entry;
+	}
+
+	private static int lastIndexOf(byte[] bytes, byte[] pattern) {
+		for (int i = bytes.length - pattern.length; i >= 0; i--) {
+			int j = 0;
+			while (j < pattern.length && bytes[i + j] == pattern[j]) {
+				j++;
+			}
+			if (j == pattern.length) {
+				return i;
+			}
+		}
+		throw new AssertionError("pattern not found");
+	}
+
+	private static List<String> entryNames(ZipCentralDirectory centralDirectory, String prefix) throws Exception {
+		return centralDirectory.findEntries(prefix).stream().map(ZipCentralDirectory.Entry::getName).collect(
+			toList());
+	}
+
+	private static String contents(ZipCentralDirectory centralDirectory, String prefix) throws Exception {
+		List<ZipCentralDirectory.Entry> entries = centralDirectory.findEntries(prefix);
+		assertThat(entries).hasSize(1);
+		return new String(centralDirectory.read(entries.get(0)), UTF_8);
+	}
+
+}
@@ -16,7 +16,9 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.platform.commons.util.SerializationUtils.serializeAndDeserialize;
 
+import java.util.Objects;
 import java.util.Optional;
 
 import org.junit.jupiter.api.Nested;
@@ -165,6 +167,25 @@ class UniqueIdTests {
 		void ensureDefaultToStringAndParsingIsIdempotent(String expected) {
 			assertEquals(expected, UniqueId.parse(expected).toString());
 		}
+
+		@Test
+		void toStringIsCached() {
+			UniqueId uniqueId = UniqueId.forEngine(ENGINE_ID).append("class", "MyClass");
+
+			assertSame(uniqueId.toString(), uniqueId.toString());
+		}
+
+		@Test
+		void toStringOfDeserializedUniqueIdIsRecomputed() throws Exception {
+			UniqueId uniqueId = UniqueId.forEngine(ENGINE_ID).append("class", "MyClass");
+			String string = uniqueId.toString();
+
+			UniqueId deserialized = serializeAndDeserialize(uniqueId);
+
+			assertEquals(string, deserialized.toString());
+			assertEquals(uniqueId, deserialized);
+			assertEquals(uniqueId.hashCode(), deserialized.hashCode());
+		}
 	}
 
 	@Nested
@@ -208,6 +229,21 @@ class UniqueIdTests {
 			assertFalse(id2.equals(id1));
 		}
 
+		@Test
+		void hashCodeIsConsistentWithSegments() {
+			UniqueId uniqueId = UniqueId.root("engine", "junit-jupiter").append("t1", "v1");
+
+			assertEquals(uniqueId.getSegments().hashCode(), uniqueId.hashCode());
+			assertEquals(uniqueId.getSegments().hashCode(), uniqueId.hashCode());
+		}
+
+		@Test
+		void segmentHashCodeIsConsistentWithTypeAndValue() {
+			Segment segment = UniqueId.root("t1", "v1").getLastSegment();
+
+			assertEquals(Objects.hash("t1", "v1"), segment.hashCode());
+		}
+
 		@Test
 		void additionalSegmentMakesItNotEqual() {
 			UniqueId id1 = UniqueId.root("engine", "junit-jupiter").append("t1", "v1");
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.discovery;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Unit tests for {@link DiscoveryIndex}.
+ *
+ * @since 1.6
+ */
+class DiscoveryIndexTests {
+
+	@TempDir
+	Path tempDir;
+
+	@Test
+	void unknownClassFilesAreNotFound() throws Exception {
+		DiscoveryIndex index = DiscoveryIndex.load(tempDir.resolve("engine.index"));
+
+		assertThat(index.lookup(classFile(StandaloneClass.class))).isEmpty();
+	}
+
+	@Test
+	void recordedMismatchesAreFound() throws Exception {
+		DiscoveryIndex index = DiscoveryIndex.load(tempDir.resolve("engine.index"));
+		Path classFile = classFile(StandaloneClass.class);
+
+		index.record(classFile, StandaloneClass.class, false);
+
+		assertThat(index.lookup(classFile)).contains(false);
+	}
+
+	@Test
+	void matchesAreNotRecorded() throws Exception {
+		DiscoveryIndex index = DiscoveryIndex.load(tempDir.resolve("engine.index"));
+		Path classFile = classFile(StandaloneClass.class);
+
+		index.record(classFile, StandaloneClass.class, false);
+		index.record(classFile, StandaloneClass.class, true);
+
+		assertThat(index.lookup(classFile)).isEmpty();
+	}
+
+	@Test
+	void storedIndexCanBeLoaded() throws Exception {
+		Path indexFile = tempDir.resolve("nested").resolve("engine.index");
+		Path classFile = classFile(StandaloneClass.class);
+
+		DiscoveryIndex index = DiscoveryIndex.load(indexFile);
+		index.record(classFile, StandaloneClass.class, false);
+		index.store();
+
+		assertThat(indexFile).exists();
+		assertThat(DiscoveryIndex.load(indexFile).lookup(classFile)).contains(false);
+	}
+
+	@Test
+	void changedClassFilesAreNotFound() throws Exception {
+		Path classFile = copyClassFile(StandaloneClass.class);
+		DiscoveryIndex index = DiscoveryIndex.load(tempDir.resolve("engine.index"));
+		index.record(classFile, StandaloneClass.class, false);
+
+		Files.setLastModifiedTime(classFile, FileTime.fromMillis(0));
+
+		assertThat(index.lookup(classFile)).isEmpty();
+	}
+
+	@Test
+	void classesWithChangedSuperclassesAreNotFound() throws Exception {
+		Path classesDir = tempDir.resolve("classes");
+		Path superclassFile = copyClassFile(StandaloneClass.class, classesDir);
+		Path classFile = copyClassFile(Subclass.class, classesDir);
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[] { classesDir.toUri().toURL() }, null)) {
+			Class<?> subclass = classLoader.loadClass(Subclass.class.getName());
+			DiscoveryIndex index = DiscoveryIndex.load(tempDir.resolve("engine.index"));
+			index.record(classFile, subclass, false);
+			assertThat(index.lookup(classFile)).contains(false);
+
+			Files.setLastModifiedTime(superclassFile, FileTime.fromMillis(0));
+
+			assertThat(index.lookup(classFile)).isEmpty();
+		}
+	}
+
+	@Test
+	void storingDoesNotLeaveTemporaryFilesBehind() throws Exception {
+		Path indexFile = tempDir.resolve("engine.index");
+		DiscoveryIndex index = DiscoveryIndex.load(indexFile);
+		index.record(classFile(StandaloneClass.class), StandaloneClass.class, false);
+
+		index.store();
+
+		try (Stream<Path> files = Files.list(tempDir)) {
+			assertThat(files).containsExactly(indexFile);
+		}
+	}
+
+	@Test
+	void corruptIndexIsIgnored() throws Exception {
+		Path indexFile = Files.write(tempDir.resolve("engine.index"), "corrupt".getBytes());
+
+		DiscoveryIndex index = DiscoveryIndex.load(indexFile);
+
+		assertThat(index.lookup(classFile(StandaloneClass.class))).isEmpty();
+	}
+
+	private Path copyClassFile(Class<?> clazz) throws Exception {
+		return Files.copy(classFile(clazz), tempDir.resolve(clazz.getSimpleName() + ".class"));
+	}
+
+	private static Path copyClassFile(Class<?> clazz, Path classesDir) throws Exception {
+		Path target = classesDir.resolve(clazz.getName().replace('.', '/') + ".class");
+		Files.createDirectories(target.getParent());
+		return Files.copy(classFile(clazz), target);
+	}
+
+	private static Path classFile(Class<?> clazz) throws Exception {
+		String resourceName = clazz.getName().substring(clazz.getPackage().getName().length() + 1) + ".class";
+		return Paths.get(clazz.getResource(resourceName).toURI());
+	}
+
+	static class StandaloneClass {
+	}
+
+	static class Subclass extends StandaloneClass {
+	}
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.support.hierarchical.LoadMonitor.Load;
+
+/**
+ * @since 1.6
+ */
+class AdaptiveConcurrencyLimitTests {
+
+	private static final Load OVERLOADED_CPU = new Load(0.95, 0, 0.5);
+	private static final Load OVERLOADED_GC = new Load(0.5, 0.2, 0.5);
+	private static final Load OVERLOADED_HEAP = new Load(0.5, 0, 0.95);
+	private static final Load MODERATE = new Load(0.8, 0, 0.5);
+	private static final Load IDLE = new Load(0.1, 0, 0.1);
+
+	@Test
+	void permitsForkingAsManyTasksAsLimitAllowsBesidesForkingOne() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(3);
+
+		assertTrue(limit.tryAcquire());
+		assertTrue(limit.tryAcquire());
+		assertFalse(limit.tryAcquire());
+
+		limit.release();
+
+		assertTrue(limit.tryAcquire());
+	}
+
+	@Test
+	void neverPermitsForkingWithLimitOfOne() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(1);
+
+		assertFalse(limit.tryAcquire());
+	}
+
+	@Test
+	void suspendsPermitOfCurrentThreadWhileWaitingForOtherTasks() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(3);
+		assertTrue(limit.tryAcquire());
+		assertTrue(limit.tryAcquire());
+
+		limit.executeWithAcquiredPermit(() -> {
+			assertFalse(limit.tryAcquire());
+
+			assertTrue(limit.suspendPermitOfCurrentThread());
+			assertFalse(limit.suspendPermitOfCurrentThread());
+			assertTrue(limit.tryAcquire());
+			limit.executeWithAcquiredPermit(() -> assertFalse(limit.tryAcquire()));
+			limit.resumePermitOfCurrentThread();
+
+			assertFalse(limit.tryAcquire());
+		});
+
+		assertTrue(limit.tryAcquire());
+		assertFalse(limit.tryAcquire());
+	}
+
+	@Test
+	void doesNotSuspendPermitOfThreadThatDoesNotExecuteForkedTask() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(2);
+		assertTrue(limit.tryAcquire());
+
+		assertFalse(limit.suspendPermitOfCurrentThread());
+		assertFalse(limit.tryAcquire());
+	}
+
+	@Test
+	void shrinksByQuarterWhileOverloaded() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(16);
+
+		limit.adjust(OVERLOADED_CPU);
+		assertEquals(12, limit.getLimit());
+
+		limit.adjust(OVERLOADED_GC);
+		assertEquals(9, limit.getLimit());
+
+		limit.adjust(OVERLOADED_HEAP);
+		assertEquals(7, limit.getLimit());
+
+		for (int i = 0; i < 10; i++) {
+			limit.adjust(OVERLOADED_CPU);
+		}
+		assertEquals(1, limit.getLimit());
+	}
+
+	@Test
+	void growsByOneUpToMaximumWhileThereIsSpareCapacity() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4);
+		limit.adjust(OVERLOADED_CPU);
+		limit.adjust(OVERLOADED_CPU);
+		assertEquals(2, limit.getLimit());
+
+		limit.adjust(IDLE);
+		assertEquals(3, limit.getLimit());
+
+		limit.adjust(MODERATE);
+		assertEquals(3, limit.getLimit());
+
+		limit.adjust(IDLE);
+		limit.adjust(IDLE);
+		assertEquals(4, limit.getLimit());
+	}
+
+	@Test
+	void doesNotRevokePermitsWhenShrinking() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8);
+		for (int i = 0; i < 6; i++) {
+			assertTrue(limit.tryAcquire());
+		}
+
+		limit.adjust(OVERLOADED_CPU);
+		assertEquals(6, limit.getLimit());
+
+		assertFalse(limit.tryAcquire());
+		limit.release();
+		assertFalse(limit.tryAcquire());
+		limit.release();
+		assertTrue(limit.tryAcquire());
+	}
+
+	@Test
+	void samplesLoadUntilClosed() throws Exception {
+		AtomicInteger samples = new AtomicInteger();
+		try (AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(4)) {
+			limit.startSampling(new LoadMonitor() {
+				@Override
+				Load sample() {
+					samples.incrementAndGet();
+					return OVERLOADED_CPU;
+				}
+			}, 1, TimeUnit.MILLISECONDS);
+
+			long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+			while (limit.getLimit() > 1 && System.nanoTime() < deadline) {
+				Thread.sleep(1);
+			}
+
+			assertEquals(1, limit.getLimit());
+		}
+
+		// a sample that was in progress while closing may still complete
+		Thread.sleep(10);
+		int samplesAfterClosing = samples.get();
+		Thread.sleep(50);
+
+		assertEquals(samplesAfterClosing, samples.get());
+	}
+
+	@Test
+	void doesNotShrinkWhileOnlyTestsSaturateCpus() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8);
+		LoadMonitor loadMonitor = new CpuLoadStub(1.0, 0.97);
+
+		for (int i = 0; i < 10; i++) {
+			limit.adjust(loadMonitor.sample());
+		}
+
+		assertEquals(8, limit.getLimit());
+	}
+
+	@Test
+	void shrinksWhileOtherProcessesSaturateCpus() {
+		AdaptiveConcurrencyLimit limit = new AdaptiveConcurrencyLimit(8);
+		LoadMonitor loadMonitor = new CpuLoadStub(1.0, 0.05);
+
+		limit.adjust(loadMonitor.sample());
+
+		assertEquals(6, limit.getLimit());
+	}
+
+	@Test
+	void ignoresCollectionTimeOfConcurrentGarbageCollectors() {
+		assertTrue(LoadMonitor.isConcurrentCollector("ZGC Cycles"));
+		assertTrue(LoadMonitor.isConcurrentCollector("ZGC Major Cycles"));
+		assertTrue(LoadMonitor.isConcurrentCollector("Shenandoah Cycles"));
+		assertTrue(LoadMonitor.isConcurrentCollector("G1 Concurrent GC"));
+		assertTrue(LoadMonitor.isConcurrentCollector("ConcurrentMarkSweep"));
+		assertTrue(LoadMonitor.isConcurrentCollector("ZGC"));
+
+		assertFalse(LoadMonitor.isConcurrentCollector("ZGC Pauses"));
+		assertFalse(LoadMonitor.isConcurrentCollector("Shenandoah Pauses"));
+		assertFalse(LoadMonitor.isConcurrentCollector("G1 Young Generation"));
+		assertFalse(LoadMonitor.isConcurrentCollector("G1 Old Generation"));
+		assertFalse(LoadMonitor.isConcurrentCollector("PS MarkSweep"));
+		assertFalse(LoadMonitor.isConcurrentCollector("Copy"));
+	}
+
+	private static class CpuLoadStub extends LoadMonitor {
+
+		private final double systemCpuLoad;
+		private final double processCpuLoad;
+
+		CpuLoadStub(double systemCpuLoad, double processCpuLoad) {
+			this.systemCpuLoad = systemCpuLoad;
+			this.processCpuLoad = processCpuLoad;
+		}
+
+		@Override
+		double getSystemCpuLoad() {
+			return systemCpuLoad;
+		}
+
+		@Override
+		double getProcessCpuLoad() {
+			return processCpuLoad;
+		}
+
+	}
+
+}
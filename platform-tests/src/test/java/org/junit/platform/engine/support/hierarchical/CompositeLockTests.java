@@ -11,11 +11,14 @@
 package org.junit.platform.engine.support.hierarchical;
 
 import static java.util.Arrays.asList;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.locks.Lock;
@@ -82,6 +85,42 @@ class CompositeLockTests {
 		verify(unavailableLock, never()).unlock();
 	}
 
+	@Test
+	void tryAcquireAcquiresAllLocksInOrder() {
+		Lock lock1 = mockLock(true);
+		Lock lock2 = mockLock(true);
+
+		assertTrue(new CompositeLock(asList(lock1, lock2)).tryAcquire());
+
+		InOrder inOrder = inOrder(lock1, lock2);
+		inOrder.verify(lock1).tryLock();
+		inOrder.verify(lock2).tryLock();
+		verify(lock1, never()).unlock();
+		verify(lock2, never()).unlock();
+	}
+
+	@Test
+	void tryAcquireReleasesAcquiredLocksInReverseOrderIfLockIsUnavailable() {
+		Lock firstLock = mockLock(true);
+		Lock secondLock = mockLock(true);
+		Lock unavailableLock = mockLock(false);
+		Lock lastLock = mockLock(true);
+
+		assertFalse(new CompositeLock(asList(firstLock, secondLock, unavailableLock, lastLock)).tryAcquire());
+
+		InOrder inOrder = inOrder(firstLock, secondLock);
+		inOrder.verify(secondLock).unlock();
+		inOrder.verify(firstLock).unlock();
+		verify(unavailableLock, never()).unlock();
+		verify(lastLock, never()).tryLock();
+	}
+
+	private Lock mockLock(boolean available) {
+		Lock lock = mock(Lock.class);
+		when(lock.tryLock()).thenReturn(available);
+		return lock;
+	}
+
 	private Lock mockLock(String name, Executable lockAction) throws InterruptedException {
 		Lock lock = mock(Lock.class, name);
 		doAnswer(invocation -> {
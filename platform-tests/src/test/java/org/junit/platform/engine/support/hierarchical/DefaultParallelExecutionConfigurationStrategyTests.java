@@ -66,6 +66,21 @@ class DefaultParallelExecutionConfigurationStrategyTests {
 		assertThat(configuration.getKeepAliveSeconds()).isEqualTo(30);
 	}
 
+	@Test
+	void adaptiveStrategyCreatesValidConfiguration() {
+		when(configParams.get("adaptive.factor")).thenReturn(Optional.of("2.0"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		ParallelExecutionConfiguration configuration = strategy.createConfiguration(configParams);
+
+		int availableProcessors = Runtime.getRuntime().availableProcessors();
+		assertThat(configuration.getParallelism()).isEqualTo(availableProcessors * 2);
+		assertThat(configuration.getCorePoolSize()).isEqualTo(availableProcessors * 2);
+		assertThat(configuration.getMinimumRunnable()).isEqualTo(availableProcessors * 2);
+		assertThat(configuration.getMaxPoolSize()).isEqualTo(256 + (availableProcessors * 2));
+		assertThat(configuration.getKeepAliveSeconds()).isEqualTo(30);
+	}
+
 	@Test
 	void customStrategyCreatesValidConfiguration() {
 		when(configParams.get("custom.class")).thenReturn(
@@ -144,6 +159,14 @@ class DefaultParallelExecutionConfigurationStrategyTests {
 		assertThrows(JUnitException.class, () -> strategy.createConfiguration(configParams));
 	}
 
+	@Test
+	void adaptiveStrategyThrowsExceptionWhenFactorIsZero() {
+		when(configParams.get("adaptive.factor")).thenReturn(Optional.of("0"));
+
+		ParallelExecutionConfigurationStrategy strategy = DefaultParallelExecutionConfigurationStrategy.ADAPTIVE;
+		assertThrows(JUnitException.class, () -> strategy.createConfiguration(configParams));
+	}
+
 	@Test
 	void dynamicStrategyUsesAtLeastParallelismOfOneWhenPropertyIsTooSmall() {
 		when(configParams.get("dynamic.factor")).thenReturn(Optional.of("0.00000000001"));
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+
+/**
+ * @since 1.6
+ */
+class DeferringForkJoinPoolHierarchicalTestExecutorServiceTests {
+
+	private static final int NUMBER_OF_TASKS = 50;
+
+	private ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+
+	@BeforeEach
+	void setUp() {
+		when(configParams.get(any(), any())).thenCallRealMethod();
+		when(configParams.get("strategy")).thenReturn(Optional.of("fixed"));
+		when(configParams.get("fixed.parallelism")).thenReturn(Optional.of("4"));
+	}
+
+	@Test
+	void resubmitsSingleDeferredTaskPerReleaseOfContendedLock() throws Exception {
+		ResourceLock resourceLock = new SingleLock(new ResourceReadWriteLock().writeLock());
+		AtomicInteger concurrentExecutions = new AtomicInteger();
+		AtomicInteger maxConcurrentExecutions = new AtomicInteger();
+		AtomicInteger executions = new AtomicInteger();
+		List<TestTask> tasks = new ArrayList<>();
+		for (int i = 0; i < NUMBER_OF_TASKS; i++) {
+			tasks.add(new ConcurrentTestTask(resourceLock, () -> {
+				maxConcurrentExecutions.accumulateAndGet(concurrentExecutions.incrementAndGet(), Math::max);
+				Thread.sleep(1);
+				concurrentExecutions.decrementAndGet();
+				executions.incrementAndGet();
+			}));
+		}
+
+		long retryCount = invokeAll(tasks);
+
+		assertThat(executions).hasValue(NUMBER_OF_TASKS);
+		assertThat(maxConcurrentExecutions).hasValue(1);
+		// resubmitting all deferred tasks per release would take about NUMBER_OF_TASKS^2 / 2 retries
+		assertThat(retryCount).isLessThanOrEqualTo(3L * NUMBER_OF_TASKS);
+	}
+
+	@Test
+	void resubmitsTasksWaitingForReadLockWhenWriteLockIsReleased() throws Exception {
+		ResourceReadWriteLock lock = new ResourceReadWriteLock();
+		ResourceLock readLock = new SingleLock(lock.readLock());
+		ResourceLock writeLock = new SingleLock(lock.writeLock());
+		AtomicInteger concurrentReaders = new AtomicInteger();
+		AtomicInteger maxConcurrentReaders = new AtomicInteger();
+		AtomicInteger executions = new AtomicInteger();
+		List<TestTask> tasks = new ArrayList<>();
+		for (int i = 0; i < NUMBER_OF_TASKS; i++) {
+			if (i % 10 == 0) {
+				tasks.add(new ConcurrentTestTask(writeLock, () -> {
+					Thread.sleep(1);
+					executions.incrementAndGet();
+				}));
+			}
+			else {
+				tasks.add(new ConcurrentTestTask(readLock, () -> {
+					maxConcurrentReaders.accumulateAndGet(concurrentReaders.incrementAndGet(), Math::max);
+					Thread.sleep(1);
+					concurrentReaders.decrementAndGet();
+					executions.incrementAndGet();
+				}));
+			}
+		}
+
+		invokeAll(tasks);
+
+		assertThat(executions).hasValue(NUMBER_OF_TASKS);
+		assertThat(maxConcurrentReaders.get()).isGreaterThan(1);
+	}
+
+	@Test
+	void executesTasksWaitingForOverlappingCompositeLocks() throws Exception {
+		ResourceReadWriteLock a = new ResourceReadWriteLock();
+		ResourceReadWriteLock b = new ResourceReadWriteLock();
+		// @formatter:off
+		List<ResourceLock> resourceLocks = asList(
+			new SingleLock(a.writeLock()),
+			new SingleLock(b.writeLock()),
+			new CompositeLock(asList(a.writeLock(), b.writeLock())),
+			new CompositeLock(asList(a.readLock(), b.writeLock())),
+			new SingleLock(new SemaphoreLock(2)));
+		// @formatter:on
+		AtomicInteger executions = new AtomicInteger();
+		List<TestTask> tasks = new ArrayList<>();
+		for (int i = 0; i < NUMBER_OF_TASKS; i++) {
+			tasks.add(new ConcurrentTestTask(resourceLocks.get(i % resourceLocks.size()), () -> {
+				Thread.sleep(1);
+				executions.incrementAndGet();
+			}));
+		}
+
+		invokeAll(tasks);
+
+		assertThat(executions).hasValue(NUMBER_OF_TASKS);
+	}
+
+	private long invokeAll(List<TestTask> tasks) throws Exception {
+		try (DeferringForkJoinPoolHierarchicalTestExecutorService executorService //
+				= new DeferringForkJoinPoolHierarchicalTestExecutorService(configParams)) {
+			executorService.submit(new ConcurrentTestTask(NopLock.INSTANCE, () -> executorService.invokeAll(tasks))) //
+					.get(10, TimeUnit.SECONDS);
+			return executorService.getRetryCount();
+		}
+	}
+
+	private static class ConcurrentTestTask implements TestTask {
+
+		private final ResourceLock resourceLock;
+		private final Executable executable;
+
+		ConcurrentTestTask(ResourceLock resourceLock, Executable executable) {
+			this.resourceLock = resourceLock;
+			this.executable = executable;
+		}
+
+		@Override
+		public Node.ExecutionMode getExecutionMode() {
+			return CONCURRENT;
+		}
+
+		@Override
+		public ResourceLock getResourceLock() {
+			return resourceLock;
+		}
+
+		@Override
+		public void execute() {
+			try {
+				executable.execute();
+			}
+			catch (Throwable t) {
+				throw new AssertionError(t);
+			}
+		}
+
+	}
+
+}
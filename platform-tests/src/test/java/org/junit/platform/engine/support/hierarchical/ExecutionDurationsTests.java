@@ -0,0 +1,148 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.SAME_THREAD;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.platform.engine.EngineExecutionListener;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
+
+/**
+ * @since 1.6
+ */
+class ExecutionDurationsTests {
+
+	private final NodeTestTaskContext taskContext = new NodeTestTaskContext(mock(EngineExecutionListener.class),
+		new SameThreadHierarchicalTestExecutorService(), OpenTest4JAwareThrowableCollector::new,
+		new NodeExecutionAdvisor());
+
+	@Test
+	void recordsDurationsAndForwardsEvents(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("durations.txt");
+		EngineExecutionListener delegate = mock(EngineExecutionListener.class);
+		MyDescriptor descriptor = new MyDescriptor("test", CONCURRENT);
+
+		ExecutionDurations durations = ExecutionDurations.load(file);
+		EngineExecutionListener listener = durations.createRecordingListener(delegate);
+		listener.executionStarted(descriptor);
+		listener.executionFinished(descriptor, TestExecutionResult.successful());
+		durations.save();
+
+		verify(delegate).executionStarted(descriptor);
+		verify(delegate).executionFinished(descriptor, TestExecutionResult.successful());
+		assertThat(Files.readAllLines(file, UTF_8)).hasSize(1).allSatisfy(
+			line -> assertThat(line).matches("\\d+\t\\Q" + descriptor.getUniqueId() + "\\E"));
+	}
+
+	@Test
+	void retainsPreviousDurationsOnlyOfSkippedDescriptors(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("durations.txt");
+		Files.write(file, asList("42\t[test:skipped]", "23\t[test:removed]", "malformed line"), UTF_8);
+		MyDescriptor descriptor = new MyDescriptor("test", CONCURRENT);
+
+		ExecutionDurations durations = ExecutionDurations.load(file);
+		EngineExecutionListener listener = durations.createRecordingListener(mock(EngineExecutionListener.class));
+		listener.executionSkipped(new MyDescriptor("skipped", CONCURRENT), "reason");
+		listener.executionStarted(descriptor);
+		listener.executionFinished(descriptor, TestExecutionResult.successful());
+		durations.save();
+
+		assertThat(Files.readAllLines(file, UTF_8)).hasSize(2).contains("42\t[test:skipped]").noneMatch(
+			line -> line.contains("[test:removed]"));
+	}
+
+	@Test
+	void doesNotRecordDurationsOfDynamicDescriptors(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("durations.txt");
+		MyDescriptor descriptor = new MyDescriptor("dynamic", CONCURRENT);
+
+		ExecutionDurations durations = ExecutionDurations.load(file);
+		EngineExecutionListener listener = durations.createRecordingListener(mock(EngineExecutionListener.class));
+		listener.dynamicTestRegistered(descriptor);
+		listener.executionStarted(descriptor);
+		listener.executionFinished(descriptor, TestExecutionResult.successful());
+		durations.save();
+
+		assertThat(Files.readAllLines(file, UTF_8)).isEmpty();
+	}
+
+	@Test
+	void ordersConcurrentTasksByDescendingPreviousDuration(@TempDir Path tempDir) throws Exception {
+		Path file = tempDir.resolve("durations.txt");
+		Files.write(file, asList("10\t[test:a]", "30\t[test:b]", "20\t[test:d]", "40\t[test:e]"), UTF_8);
+		List<NodeTestTask<?>> tasks = new ArrayList<>();
+		tasks.add(createTask("a", CONCURRENT));
+		tasks.add(createTask("b", CONCURRENT));
+		tasks.add(createTask("c", CONCURRENT));
+		tasks.add(createTask("d", CONCURRENT));
+		tasks.add(createTask("e", SAME_THREAD));
+
+		ExecutionDurations.load(file).orderConcurrentTasksByDescendingDuration(tasks);
+
+		// tasks without previous durations come first, same-thread tasks keep their position
+		assertThat(tasks.stream().map(task -> task.getTestDescriptor().getDisplayName()).collect(toList())) //
+				.containsExactly("c", "b", "d", "a", "e");
+	}
+
+	@Test
+	void keepsOrderOfTasksWithoutPreviousDurations(@TempDir Path tempDir) {
+		List<NodeTestTask<?>> tasks = new ArrayList<>();
+		tasks.add(createTask("a", CONCURRENT));
+		tasks.add(createTask("b", CONCURRENT));
+
+		ExecutionDurations.load(tempDir.resolve("missing.txt")).orderConcurrentTasksByDescendingDuration(tasks);
+
+		assertThat(tasks.stream().map(task -> task.getTestDescriptor().getDisplayName()).collect(toList())) //
+				.containsExactly("a", "b");
+	}
+
+	private NodeTestTask<?> createTask(String name, Node.ExecutionMode executionMode) {
+		return new NodeTestTask<>(taskContext, new MyDescriptor(name, executionMode));
+	}
+
+	private static class MyDescriptor extends AbstractTestDescriptor implements Node<DemoEngineExecutionContext> {
+
+		private final ExecutionMode executionMode;
+
+		MyDescriptor(String name, ExecutionMode executionMode) {
+			super(UniqueId.root("test", name), name);
+			this.executionMode = executionMode;
+		}
+
+		@Override
+		public Type getType() {
+			return Type.TEST;
+		}
+
+		@Override
+		public ExecutionMode getExecutionMode() {
+			return executionMode;
+		}
+
+	}
+
+}
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+import org.junit.platform.engine.support.hierarchical.LoadMonitor.Load;
+
+/**
+ * @since 1.6
+ */
+class ForkJoinPoolHierarchicalTestExecutorServiceTests {
+
+	private static final int NUMBER_OF_TASKS = 20;
+
+	private static final Load OVERLOADED = new Load(0.95, 0, 0.5);
+	private static final Load MODERATE = new Load(0.8, 0, 0.5);
+
+	private ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+
+	private LoadMonitor moderateLoadMonitor = new LoadMonitor() {
+		@Override
+		Load sample() {
+			return MODERATE;
+		}
+	};
+
+	@BeforeEach
+	void setUp() {
+		when(configParams.get(any(), any())).thenCallRealMethod();
+		when(configParams.get("strategy")).thenReturn(Optional.of("adaptive"));
+		when(configParams.get("adaptive.factor")).thenReturn(
+			Optional.of(String.valueOf(Math.max(1, 8 / Runtime.getRuntime().availableProcessors()))));
+	}
+
+	@Test
+	void executesTasksConcurrentlyUpToMaximumLimit() throws Exception {
+		CountDownLatch latch = new CountDownLatch(3);
+		AtomicInteger tasksThatMetOthers = new AtomicInteger();
+		List<TestTask> tasks = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			tasks.add(new ConcurrentTestTask(() -> {
+				latch.countDown();
+				if (latch.await(5, TimeUnit.SECONDS)) {
+					tasksThatMetOthers.incrementAndGet();
+				}
+			}));
+		}
+
+		try (ForkJoinPoolHierarchicalTestExecutorService executorService = createExecutorService()) {
+			assertThat(executorService.getConcurrencyLimit().getLimit()).isGreaterThanOrEqualTo(4);
+
+			invokeAll(executorService, tasks);
+		}
+
+		assertThat(tasksThatMetOthers).hasValue(3);
+	}
+
+	@Test
+	void executesTasksWithinAdjustedLimit() throws Exception {
+		AtomicInteger concurrentExecutions = new AtomicInteger();
+		AtomicInteger maxConcurrentExecutions = new AtomicInteger();
+		AtomicInteger executions = new AtomicInteger();
+		List<TestTask> tasks = new ArrayList<>();
+		for (int i = 0; i < NUMBER_OF_TASKS; i++) {
+			tasks.add(new ConcurrentTestTask(() -> {
+				maxConcurrentExecutions.accumulateAndGet(concurrentExecutions.incrementAndGet(), Math::max);
+				Thread.sleep(10);
+				concurrentExecutions.decrementAndGet();
+				executions.incrementAndGet();
+			}));
+		}
+
+		try (ForkJoinPoolHierarchicalTestExecutorService executorService = createExecutorService()) {
+			AdaptiveConcurrencyLimit concurrencyLimit = executorService.getConcurrencyLimit();
+			while (concurrencyLimit.getLimit() > 2) {
+				concurrencyLimit.adjust(OVERLOADED);
+			}
+
+			invokeAll(executorService, tasks);
+		}
+
+		assertThat(executions).hasValue(NUMBER_OF_TASKS);
+		assertThat(maxConcurrentExecutions.get()).isBetween(1, 2);
+	}
+
+	private ForkJoinPoolHierarchicalTestExecutorService createExecutorService() {
+		return new ForkJoinPoolHierarchicalTestExecutorService(configParams, moderateLoadMonitor);
+	}
+
+	private void invokeAll(ForkJoinPoolHierarchicalTestExecutorService executorService, List<TestTask> tasks)
+			throws Exception {
+		executorService.submit(new ConcurrentTestTask(() -> executorService.invokeAll(tasks))) //
+				.get(10, TimeUnit.SECONDS);
+	}
+
+	private static class ConcurrentTestTask implements TestTask {
+
+		private final Executable executable;
+
+		ConcurrentTestTask(Executable executable) {
+			this.executable = executable;
+		}
+
+		@Override
+		public Node.ExecutionMode getExecutionMode() {
+			return CONCURRENT;
+		}
+
+		@Override
+		public ResourceLock getResourceLock() {
+			return NopLock.INSTANCE;
+		}
+
+		@Override
+		public void execute() {
+			try {
+				executable.execute();
+			}
+			catch (Throwable t) {
+				throw new AssertionError(t);
+			}
+		}
+
+	}
+
+}
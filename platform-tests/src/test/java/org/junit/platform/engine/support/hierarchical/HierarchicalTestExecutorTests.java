@@ -26,6 +26,13 @@ import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,6 +43,7 @@ import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
 import org.junit.platform.engine.support.hierarchical.ExclusiveResource.LockMode;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
 import org.junit.platform.engine.support.hierarchical.Node.DynamicTestExecutor;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
@@ -324,6 +332,26 @@ class HierarchicalTestExecutorTests {
 		assertThat(shouldBeSkippedException.getSuppressed()).containsExactly(cleanUpException);
 	}
 
+	@Test
+	void skipsRemainingNodesAfterReachingMaximumNumberOfFailures() throws Exception {
+
+		MyLeaf failingChild = spy(new MyLeaf(UniqueId.root("leaf", "failing leaf")));
+		when(failingChild.execute(eq(rootContext), any())).thenThrow(new RuntimeException("in test"));
+		MyLeaf remainingChild = spy(new MyLeaf(UniqueId.root("leaf", "remaining leaf")));
+		root.addChild(failingChild);
+		root.addChild(remainingChild);
+
+		ExecutionRequest request = new ExecutionRequest(root, listener, null);
+		new HierarchicalTestExecutor<>(request, rootContext, new SameThreadHierarchicalTestExecutorService(),
+			OpenTest4JAwareThrowableCollector::new, null, OptionalInt.empty(), OptionalInt.of(1)).execute().get();
+
+		verify(listener).executionFinished(eq(failingChild), any(TestExecutionResult.class));
+		verify(listener).executionSkipped(remainingChild, "Execution stopped after reaching the maximum of 1 failure");
+		verify(listener, never()).executionStarted(remainingChild);
+		verify(remainingChild, never()).execute(any(), any());
+		verify(listener).executionFinished(eq(root), any(TestExecutionResult.class));
+	}
+
 	@Test
 	void exceptionInLeafExecute() throws Exception {
 
@@ -516,6 +544,45 @@ class HierarchicalTestExecutorTests {
 			FAILED, SUCCESSFUL, SUCCESSFUL);
 	}
 
+	@Test
+	void limitsPendingDynamicTestsAndDetachesFinishedOnesInStreamingMode() throws Exception {
+
+		MyContainer child = spy(new MyContainer(UniqueId.root("container", "child container")));
+		List<MyLeaf> dynamicTestDescriptors = new ArrayList<>();
+		for (int i = 1; i <= 3; i++) {
+			dynamicTestDescriptors.add(new MyLeaf(child.getUniqueId().append("dynamic", "#" + i)));
+		}
+		when(child.execute(any(), any())).thenAnswer(invocation -> {
+			DynamicTestExecutor dynamicTestExecutor = invocation.getArgument(1);
+			for (MyLeaf dynamicTestDescriptor : dynamicTestDescriptors) {
+				child.addChild(dynamicTestDescriptor);
+				dynamicTestExecutor.execute(dynamicTestDescriptor);
+			}
+			return invocation.getArgument(0);
+		});
+		root.addChild(child);
+
+		InOrder inOrder = inOrder(listener);
+
+		ExecutionRequest request = new ExecutionRequest(root, listener, null);
+		new HierarchicalTestExecutor<>(request, rootContext, new LazyHierarchicalTestExecutorService(),
+			OpenTest4JAwareThrowableCollector::new, null, OptionalInt.of(2), OptionalInt.empty()).execute().get();
+
+		MyLeaf first = dynamicTestDescriptors.get(0);
+		MyLeaf second = dynamicTestDescriptors.get(1);
+		MyLeaf third = dynamicTestDescriptors.get(2);
+		inOrder.verify(listener).dynamicTestRegistered(first);
+		inOrder.verify(listener).dynamicTestRegistered(second);
+		inOrder.verify(listener).executionFinished(eq(first), any(TestExecutionResult.class));
+		inOrder.verify(listener).dynamicTestRegistered(third);
+		inOrder.verify(listener).executionFinished(eq(second), any(TestExecutionResult.class));
+		inOrder.verify(listener).executionFinished(eq(third), any(TestExecutionResult.class));
+		inOrder.verify(listener).executionFinished(eq(child), any(TestExecutionResult.class));
+
+		assertThat(child.getChildren()).isEmpty();
+		assertThat(dynamicTestDescriptors).allMatch(descriptor -> !descriptor.getParent().isPresent());
+	}
+
 	private Answer<Object> registerAndExecute(TestDescriptor dynamicChild) {
 		return invocation -> {
 			DynamicTestExecutor dynamicTestExecutor = invocation.getArgument(1);
@@ -677,6 +744,32 @@ class HierarchicalTestExecutorTests {
 		}
 	}
 
+	/**
+	 * Executes submitted tasks only once their result is requested.
+	 */
+	private static class LazyHierarchicalTestExecutorService implements HierarchicalTestExecutorService {
+
+		@Override
+		public Future<Void> submit(TestTask testTask) {
+			return new FutureTask<Void>(testTask::execute, null) {
+				@Override
+				public Void get() throws InterruptedException, ExecutionException {
+					run();
+					return super.get();
+				}
+			};
+		}
+
+		@Override
+		public void invokeAll(List<? extends TestTask> testTasks) {
+			testTasks.forEach(TestTask::execute);
+		}
+
+		@Override
+		public void close() {
+		}
+	}
+
 	private static class MyExecutor extends HierarchicalTestExecutor<MyEngineExecutionContext> {
 
 		MyExecutor(ExecutionRequest request, MyEngineExecutionContext rootContext) {
@@ -78,6 +78,18 @@ class LockManagerTests {
 		assertThat(locks1.get(0)).isSameAs(locks2.get(0));
 	}
 
+	@Test
+	void reusesSameResourceLockForSameExclusiveResources() {
+		ResourceLock singleLock = lockManager.getLockForResources(singleton(new ExclusiveResource("foo", READ)));
+		ResourceLock compositeLock = lockManager.getLockForResources(
+			asList(new ExclusiveResource("a", READ), new ExclusiveResource("b", READ_WRITE)));
+
+		assertThat(lockManager.getLockForResources(singleton(new ExclusiveResource("foo", READ)))).isSameAs(
+			singleLock);
+		assertThat(lockManager.getLockForResources(
+			asList(new ExclusiveResource("b", READ_WRITE), new ExclusiveResource("a", READ)))).isSameAs(compositeLock);
+	}
+
 	@Test
 	void returnsWriteLockForExclusiveResourceWithBothLockModes() {
 		Collection<ExclusiveResource> resources = asList( //
@@ -93,6 +105,30 @@ class LockManagerTests {
 		assertThat(locks.get(1)).isInstanceOf(WriteLock.class);
 	}
 
+	@Test
+	void returnsSemaphoreLockForExclusiveResourceWithMultiplePermits() {
+		Collection<ExclusiveResource> resources = asList( //
+			new ExclusiveResource("a", READ), //
+			new ExclusiveResource("b", READ_WRITE, 4));
+
+		List<Lock> locks = getLocks(resources, CompositeLock.class);
+
+		assertThat(locks).hasSize(2);
+		assertThat(locks.get(0)).isInstanceOf(ReadLock.class);
+		assertThat(locks.get(1)).isInstanceOf(SemaphoreLock.class);
+		assertThat(((SemaphoreLock) locks.get(1)).getPermits()).isEqualTo(4);
+	}
+
+	@Test
+	void reusesSameSemaphoreLockForExclusiveResourceWithSameKeyRegardlessOfLockMode() {
+		List<Lock> locks1 = getLocks(singleton(new ExclusiveResource("foo", READ, 2)), SingleLock.class);
+		List<Lock> locks2 = getLocks(singleton(new ExclusiveResource("foo", READ_WRITE, 2)), SingleLock.class);
+
+		assertThat(locks1).hasSize(1);
+		assertThat(locks2).hasSize(1);
+		assertThat(locks1.get(0)).isInstanceOf(SemaphoreLock.class).isSameAs(locks2.get(0));
+	}
+
 	private List<Lock> getLocks(Collection<ExclusiveResource> resources, Class<? extends ResourceLock> type) {
 		ResourceLock lock = lockManager.getLockForResources(resources);
 		assertThat(lock).isInstanceOf(type);
@@ -10,20 +10,25 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static java.util.stream.Collectors.toList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.parallel.ResourceAccessMode.READ;
 import static org.junit.platform.commons.util.CollectionUtils.getOnlyElement;
-import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 
+import java.util.Arrays;
 import java.util.Iterator;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.parallel.ResourceLock;
 import org.junit.jupiter.engine.JupiterTestEngine;
+import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
+import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.engine.support.hierarchical.Node.ExecutionMode;
+import org.junit.platform.fakes.TestDescriptorStub;
 import org.junit.platform.launcher.LauncherDiscoveryRequest;
 
 /**
@@ -33,10 +38,11 @@ class NodeTreeWalkerIntegrationTests {
 
 	@Test
 	void pullUpExclusiveChildResourcesToTestClass() {
-		TestDescriptor engineDescriptor = discover(TestCaseWithResourceLock.class);
+		TestDescriptor engineDescriptor = discover(TestCaseWithResourceLock.class,
+			TestCaseWithCompetingResourceLocks.class);
 		NodeExecutionAdvisor advisor = new NodeTreeWalker().walk(engineDescriptor);
 
-		TestDescriptor testClassDescriptor = getOnlyElement(engineDescriptor.getChildren());
+		TestDescriptor testClassDescriptor = engineDescriptor.getChildren().iterator().next();
 		assertThat(advisor.getResourceLock(testClassDescriptor)).isInstanceOf(CompositeLock.class);
 		assertThat(advisor.getForcedExecutionMode(testClassDescriptor)).isEmpty();
 
@@ -47,10 +53,11 @@ class NodeTreeWalkerIntegrationTests {
 
 	@Test
 	void leavesResourceLockOnTestMethodWhenClassDoesNotUseResource() {
-		TestDescriptor engineDescriptor = discover(TestCaseWithoutResourceLock.class);
+		TestDescriptor engineDescriptor = discover(TestCaseWithoutResourceLock.class,
+			TestCaseWithCompetingResourceLocks.class);
 		NodeExecutionAdvisor advisor = new NodeTreeWalker().walk(engineDescriptor);
 
-		TestDescriptor testClassDescriptor = getOnlyElement(engineDescriptor.getChildren());
+		TestDescriptor testClassDescriptor = engineDescriptor.getChildren().iterator().next();
 		assertThat(advisor.getResourceLock(testClassDescriptor)).isInstanceOf(NopLock.class);
 		assertThat(advisor.getForcedExecutionMode(testClassDescriptor)).isEmpty();
 
@@ -69,8 +76,104 @@ class NodeTreeWalkerIntegrationTests {
 		assertThat(advisor.getForcedExecutionMode(nestedTestMethodDescriptor)).contains(ExecutionMode.SAME_THREAD);
 	}
 
-	private TestDescriptor discover(Class<?> testClass) {
-		LauncherDiscoveryRequest discoveryRequest = request().selectors(selectClass(testClass)).build();
+	@Test
+	void doesNotLockResourcesDeclaredByOnlyOneTestClass() {
+		TestDescriptor engineDescriptor = discover(TestCaseWithResourceLock.class);
+		NodeExecutionAdvisor advisor = new NodeTreeWalker().walk(engineDescriptor);
+
+		TestDescriptor testClassDescriptor = getOnlyElement(engineDescriptor.getChildren());
+		assertThat(advisor.getResourceLock(testClassDescriptor)).isInstanceOf(NopLock.class);
+
+		TestDescriptor testMethodDescriptor = getOnlyElement(testClassDescriptor.getChildren());
+		assertThat(advisor.getResourceLock(testMethodDescriptor)).isInstanceOf(NopLock.class);
+		assertThat(advisor.getForcedExecutionMode(testMethodDescriptor)).contains(ExecutionMode.SAME_THREAD);
+	}
+
+	@Test
+	void doesNotLockResourcesThatAreOnlyRead() {
+		TestDescriptor engineDescriptor = discover(TestCaseWithReadOnlyResourceLock.class,
+			OtherTestCaseWithReadOnlyResourceLock.class);
+		NodeExecutionAdvisor advisor = new NodeTreeWalker().walk(engineDescriptor);
+
+		assertThat(engineDescriptor.getChildren()).hasSize(2);
+		engineDescriptor.getChildren().forEach(testClassDescriptor -> assertThat(
+			advisor.getResourceLock(testClassDescriptor)).isInstanceOf(NopLock.class));
+	}
+
+	@Test
+	void doesNotLockResourcesDeclaredByNoMoreTestClassesThanPermits() {
+		TestDescriptor engineDescriptor = discover(TestCaseWithResourceLockWithTwoPermits.class,
+			OtherTestCaseWithResourceLockWithTwoPermits.class);
+		NodeExecutionAdvisor advisor = new NodeTreeWalker().walk(engineDescriptor);
+
+		assertThat(engineDescriptor.getChildren()).hasSize(2);
+		engineDescriptor.getChildren().forEach(testClassDescriptor -> assertThat(
+			advisor.getResourceLock(testClassDescriptor)).isInstanceOf(NopLock.class));
+	}
+
+	@Test
+	void locksResourcesDeclaredByMoreTestClassesThanPermits() {
+		TestDescriptor engineDescriptor = discover(TestCaseWithResourceLockWithTwoPermits.class,
+			OtherTestCaseWithResourceLockWithTwoPermits.class, ThirdTestCaseWithResourceLockWithTwoPermits.class);
+		NodeExecutionAdvisor advisor = new NodeTreeWalker().walk(engineDescriptor);
+
+		assertThat(engineDescriptor.getChildren()).hasSize(3);
+		engineDescriptor.getChildren().forEach(testClassDescriptor -> {
+			assertThat(advisor.getResourceLock(testClassDescriptor)).isInstanceOf(SingleLock.class);
+			assertThat(((SingleLock) advisor.getResourceLock(testClassDescriptor)).getLock()) //
+					.isInstanceOf(SemaphoreLock.class);
+		});
+	}
+
+	@Test
+	void failsDescriptorsDeclaringResourcesWithDifferentNumbersOfPermits() {
+		TestDescriptor engineDescriptor = discover(TestCaseWithResourceLockWithTwoPermits.class,
+			TestCaseWithResourceLockWithThreePermits.class);
+		NodeExecutionAdvisor advisor = new NodeTreeWalker().walk(engineDescriptor);
+
+		Iterator<? extends TestDescriptor> testClassDescriptors = engineDescriptor.getChildren().iterator();
+		TestDescriptor firstTestClassDescriptor = testClassDescriptors.next();
+		assertThat(advisor.getFailure(firstTestClassDescriptor)).isEmpty();
+
+		TestDescriptor secondTestClassDescriptor = testClassDescriptors.next();
+		assertThat(advisor.getFailure(secondTestClassDescriptor)).hasValueSatisfying(
+			failure -> assertThat(failure).isInstanceOf(PreconditionViolationException.class) //
+					.hasMessageContaining("'a'") //
+					.hasMessageContaining("same number of permits"));
+		assertThat(advisor.getResourceLock(secondTestClassDescriptor)).isInstanceOf(NopLock.class);
+	}
+
+	@Test
+	void pullUpExclusiveResourcesOfDeeplyNestedTestClasses() {
+		TestDescriptor engineDescriptor = discover(TestCaseWithDeeplyNestedResourceLocks.class,
+			TestCaseWithCompetingResourceLocks.class);
+		NodeExecutionAdvisor advisor = new NodeTreeWalker().walk(engineDescriptor);
+
+		TestDescriptor testClassDescriptor = engineDescriptor.getChildren().iterator().next();
+		assertThat(advisor.getResourceLock(testClassDescriptor)).isInstanceOf(CompositeLock.class);
+		assertThat(advisor.getForcedExecutionMode(testClassDescriptor)).isEmpty();
+
+		TestDescriptor nestedTestClassDescriptor = getOnlyElement(testClassDescriptor.getChildren());
+		assertThat(advisor.getResourceLock(nestedTestClassDescriptor)).isInstanceOf(NopLock.class);
+		assertThat(advisor.getForcedExecutionMode(nestedTestClassDescriptor)).contains(ExecutionMode.SAME_THREAD);
+
+		TestDescriptor innermostTestClassDescriptor = getOnlyElement(nestedTestClassDescriptor.getChildren());
+		assertThat(advisor.getResourceLock(innermostTestClassDescriptor)).isInstanceOf(NopLock.class);
+		assertThat(advisor.getForcedExecutionMode(innermostTestClassDescriptor)).contains(ExecutionMode.SAME_THREAD);
+
+		TestDescriptor testMethodDescriptor = getOnlyElement(innermostTestClassDescriptor.getChildren());
+		assertThat(advisor.getResourceLock(testMethodDescriptor)).isInstanceOf(NopLock.class);
+		assertThat(advisor.getForcedExecutionMode(testMethodDescriptor)).contains(ExecutionMode.SAME_THREAD);
+
+		TestDescriptor dynamicTestDescriptor = new TestDescriptorStub(
+			testMethodDescriptor.getUniqueId().append("dynamic-test", "#1"), "dynamic");
+		testMethodDescriptor.addChild(dynamicTestDescriptor);
+		assertThat(advisor.getForcedExecutionMode(dynamicTestDescriptor)).contains(ExecutionMode.SAME_THREAD);
+	}
+
+	private TestDescriptor discover(Class<?>... testClasses) {
+		LauncherDiscoveryRequest discoveryRequest = request().selectors(
+			Arrays.stream(testClasses).map(DiscoverySelectors::selectClass).collect(toList())).build();
 		return new JupiterTestEngine().discover(discoveryRequest, UniqueId.forEngine("junit-jupiter"));
 	}
 
@@ -82,6 +185,74 @@ class NodeTreeWalkerIntegrationTests {
 		}
 	}
 
+	@ResourceLock(value = "a", mode = READ)
+	static class TestCaseWithReadOnlyResourceLock {
+		@Test
+		@ResourceLock(value = "b", mode = READ)
+		void test() {
+		}
+	}
+
+	@ResourceLock(value = "a", mode = READ)
+	static class OtherTestCaseWithReadOnlyResourceLock {
+		@Test
+		void test() {
+		}
+	}
+
+	@ResourceLock(value = "a", permits = 2)
+	static class TestCaseWithResourceLockWithTwoPermits {
+		@Test
+		void test() {
+		}
+	}
+
+	@ResourceLock(value = "a", permits = 2)
+	static class OtherTestCaseWithResourceLockWithTwoPermits {
+		@Test
+		@ResourceLock(value = "a", mode = READ, permits = 2)
+		void test() {
+		}
+	}
+
+	@ResourceLock(value = "a", mode = READ, permits = 2)
+	static class ThirdTestCaseWithResourceLockWithTwoPermits {
+		@Test
+		void test() {
+		}
+	}
+
+	@ResourceLock(value = "a", permits = 3)
+	static class TestCaseWithResourceLockWithThreePermits {
+		@Test
+		void test() {
+		}
+	}
+
+	@ResourceLock("a")
+	@ResourceLock("b")
+	@ResourceLock("c")
+	static class TestCaseWithCompetingResourceLocks {
+		@Test
+		void test() {
+		}
+	}
+
+	@ResourceLock("a")
+	static class TestCaseWithDeeplyNestedResourceLocks {
+		@Nested
+		@ResourceLock("b")
+		class NestedTestCaseWithResourceLock {
+			@Nested
+			@ResourceLock("c")
+			class InnermostTestCaseWithResourceLock {
+				@Test
+				void test() {
+				}
+			}
+		}
+	}
+
 	static class TestCaseWithoutResourceLock {
 		@Test
 		@ResourceLock("a")
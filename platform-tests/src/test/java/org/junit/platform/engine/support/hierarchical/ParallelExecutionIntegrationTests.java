@@ -20,6 +20,8 @@ import static org.junit.jupiter.api.parallel.ExecutionMode.CONCURRENT;
 import static org.junit.jupiter.api.parallel.ExecutionMode.SAME_THREAD;
 import static org.junit.jupiter.engine.Constants.DEFAULT_CLASSES_EXECUTION_MODE_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.DEFAULT_PARALLEL_EXECUTION_MODE;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_ADAPTIVE_FACTOR_PROPERTY_NAME;
+import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_EXECUTOR_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_FIXED_PARALLELISM_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME;
 import static org.junit.jupiter.engine.Constants.PARALLEL_EXECUTION_ENABLED_PROPERTY_NAME;
@@ -32,6 +34,8 @@ import static org.junit.platform.testkit.engine.EventConditions.started;
 import static org.junit.platform.testkit.engine.EventConditions.test;
 import static org.junit.platform.testkit.engine.EventConditions.type;
 import static org.junit.platform.testkit.engine.EventType.REPORTING_ENTRY_PUBLISHED;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.instanceOf;
+import static org.junit.platform.testkit.engine.TestExecutionResultConditions.message;
 
 import java.net.URL;
 import java.net.URLClassLoader;
@@ -62,6 +66,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.parallel.Execution;
 import org.junit.jupiter.api.parallel.ResourceLock;
+import org.junit.platform.commons.PreconditionViolationException;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.discovery.DiscoverySelectors;
 import org.junit.platform.engine.reporting.ReportEntry;
@@ -113,6 +118,24 @@ class ParallelExecutionIntegrationTests {
 		assertThat(ThreadReporter.getThreadNames(events)).hasSize(1);
 	}
 
+	@Test
+	void successfulTestWithMethodLockWithMultiplePermits() {
+		List<Event> events = executeConcurrently(4, SuccessfulWithMethodLockWithMultiplePermitsTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(4);
+	}
+
+	@Test
+	void failsOnlyTestThatDeclaresResourceLockWithDifferentNumberOfPermits() {
+		List<Event> events = executeConcurrently(3, TestCaseWithResourceLocksWithDifferentNumbersOfPermits.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(2);
+		assertThat(events.stream().filter(event(test("secondTest"),
+			finishedWithFailure(instanceOf(PreconditionViolationException.class),
+				message(message -> message.contains("'sharedResource'")
+						&& message.contains("same number of permits"))))::matches)).hasSize(1);
+	}
+
 	@Test
 	void testCaseWithFactory() {
 		List<Event> events = executeConcurrently(3, TestCaseWithTestFactory.class);
@@ -147,6 +170,62 @@ class ParallelExecutionIntegrationTests {
 		assertThat(ThreadReporter.getThreadNames(events).count()).isLessThanOrEqualTo(2);
 	}
 
+	@Test
+	void successfulTestWithMethodLockUsingDeferringExecutor() {
+		List<Event> events = executeConcurrentlyUsingExecutor("deferring_fork_join_pool", 3,
+			SuccessfulWithMethodLockTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(3);
+		assertThat(ThreadReporter.getThreadNames(events)).hasSize(3);
+	}
+
+	@RepeatedTest(10)
+	void mixingClassAndMethodLevelLocksUsingDeferringExecutor() {
+		List<Event> events = executeConcurrentlyUsingExecutor("deferring_fork_join_pool", 4,
+			TestCaseWithSortedLocks.class, TestCaseWithUnsortedLocks.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(6);
+		assertThat(ThreadReporter.getThreadNames(events).count()).isLessThanOrEqualTo(2);
+	}
+
+	@RepeatedTest(10)
+	void locksOnNestedTestsUsingDeferringExecutor() {
+		List<Event> events = executeConcurrentlyUsingExecutor("deferring_fork_join_pool", 3,
+			TestCaseWithNestedLocks.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(6);
+		assertThat(ThreadReporter.getThreadNames(events)).hasSize(1);
+	}
+
+	@Test
+	void successfulParallelTestUsingVirtualThreads() {
+		List<Event> events = executeConcurrentlyUsingExecutor("virtual_threads", 3, SuccessfulParallelTestCase.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(3);
+		assertThat(ThreadReporter.getThreadNames(events)).hasSize(3);
+	}
+
+	@Test
+	void successfulParallelTestUsingAdaptiveStrategy() {
+		// the limit starts at its maximum, i.e. at least 4, which permits executing all three tests concurrently
+		Map<String, String> configParams = Map.of(DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent",
+			PARALLEL_CONFIG_STRATEGY_PROPERTY_NAME, "adaptive", PARALLEL_CONFIG_ADAPTIVE_FACTOR_PROPERTY_NAME, "4");
+		List<Event> events = executeWithFixedParallelism(1, configParams,
+			SuccessfulParallelTestCase.class).allEvents().list();
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(3);
+		assertThat(ThreadReporter.getThreadNames(events)).hasSize(3);
+	}
+
+	@RepeatedTest(10)
+	void mixingClassAndMethodLevelLocksUsingVirtualThreads() {
+		List<Event> events = executeConcurrentlyUsingExecutor("virtual_threads", 4, TestCaseWithSortedLocks.class,
+			TestCaseWithUnsortedLocks.class);
+
+		assertThat(events.stream().filter(event(test(), finishedSuccessfully())::matches)).hasSize(6);
+		assertThat(ThreadReporter.getThreadNames(events).count()).isLessThanOrEqualTo(2);
+	}
+
 	@RepeatedTest(10)
 	void locksOnNestedTests() {
 		List<Event> events = executeConcurrently(3, TestCaseWithNestedLocks.class);
@@ -238,6 +317,12 @@ class ParallelExecutionIntegrationTests {
 			testClasses).allEvents().list();
 	}
 
+	private List<Event> executeConcurrentlyUsingExecutor(String executor, int parallelism, Class<?>... testClasses) {
+		Map<String, String> configParams = Map.of(DEFAULT_PARALLEL_EXECUTION_MODE, "concurrent",
+			PARALLEL_CONFIG_EXECUTOR_PROPERTY_NAME, executor);
+		return executeWithFixedParallelism(parallelism, configParams, testClasses).allEvents().list();
+	}
+
 	private EngineExecutionResults executeWithFixedParallelism(int parallelism, Map<String, String> configParams,
 			Class<?>... testClasses) {
 		// @formatter:off
@@ -341,6 +426,62 @@ class ParallelExecutionIntegrationTests {
 		}
 	}
 
+	@ExtendWith(ThreadReporter.class)
+	static class SuccessfulWithMethodLockWithMultiplePermitsTestCase {
+
+		static AtomicInteger sharedResource;
+		static CountDownLatch countDownLatch;
+
+		@BeforeAll
+		static void initialize() {
+			sharedResource = new AtomicInteger();
+			countDownLatch = new CountDownLatch(2);
+		}
+
+		@Test
+		@ResourceLock(value = "sharedResource", permits = 2)
+		void firstTest() throws Exception {
+			incrementBlockAndCheckPermits(sharedResource, countDownLatch, 2);
+		}
+
+		@Test
+		@ResourceLock(value = "sharedResource", permits = 2)
+		void secondTest() throws Exception {
+			incrementBlockAndCheckPermits(sharedResource, countDownLatch, 2);
+		}
+
+		@Test
+		@ResourceLock(value = "sharedResource", permits = 2)
+		void thirdTest() throws Exception {
+			incrementBlockAndCheckPermits(sharedResource, countDownLatch, 2);
+		}
+
+		@Test
+		@ResourceLock(value = "sharedResource", permits = 2)
+		void fourthTest() throws Exception {
+			incrementBlockAndCheckPermits(sharedResource, countDownLatch, 2);
+		}
+	}
+
+	@TestMethodOrder(Alphanumeric.class)
+	static class TestCaseWithResourceLocksWithDifferentNumbersOfPermits {
+
+		@Test
+		@ResourceLock(value = "sharedResource", permits = 2)
+		void firstTest() {
+		}
+
+		@Test
+		@ResourceLock(value = "sharedResource", permits = 3)
+		void secondTest() {
+		}
+
+		@Test
+		@ResourceLock(value = "sharedResource", permits = 2)
+		void thirdTest() {
+		}
+	}
+
 	@ExtendWith(ThreadReporter.class)
 	@ResourceLock("sharedResource")
 	static class SuccessfulWithClassLockTestCase {
@@ -598,6 +739,18 @@ class ParallelExecutionIntegrationTests {
 		assertEquals(value, sharedResource.get());
 	}
 
+	private static void incrementBlockAndCheckPermits(AtomicInteger sharedResource, CountDownLatch countDownLatch,
+			int permits) throws InterruptedException {
+		try {
+			int value = incrementAndBlock(sharedResource, countDownLatch);
+			assertTrue(value <= permits, () -> "concurrent users: " + value);
+			assertTrue(sharedResource.get() <= permits, () -> "concurrent users: " + sharedResource.get());
+		}
+		finally {
+			sharedResource.decrementAndGet();
+		}
+	}
+
 	private static int incrementAndBlock(AtomicInteger sharedResource, CountDownLatch countDownLatch)
 			throws InterruptedException {
 		int value = sharedResource.incrementAndGet();
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 1.6
+ */
+class SemaphoreLockTests {
+
+	@Test
+	void canBeHeldByAsManyThreadsAsItHasPermits() throws Exception {
+		SemaphoreLock lock = new SemaphoreLock(2);
+
+		assertTrue(tryLockInOtherThread(lock));
+		assertTrue(tryLockInOtherThread(lock));
+		assertFalse(tryLockInOtherThread(lock));
+	}
+
+	@Test
+	void unlockReturnsPermit() throws Exception {
+		SemaphoreLock lock = new SemaphoreLock(1);
+		lock.lock();
+
+		assertFalse(tryLockInOtherThread(lock));
+
+		lock.unlock();
+
+		assertTrue(tryLockInOtherThread(lock));
+	}
+
+	@Test
+	@SuppressWarnings("resource")
+	void limitsNumberOfConcurrentHoldersOfSingleLock() throws Exception {
+		SingleLock singleLock = new SingleLock(new SemaphoreLock(2));
+
+		singleLock.acquire();
+		assertTrue(singleLock.tryAcquire());
+		assertFalse(singleLock.tryAcquire());
+
+		singleLock.release();
+		assertTrue(singleLock.tryAcquire());
+	}
+
+	@Test
+	void doesNotSupportConditions() {
+		assertThrows(UnsupportedOperationException.class, () -> new SemaphoreLock(1).newCondition());
+	}
+
+	private static boolean tryLockInOtherThread(SemaphoreLock lock) throws InterruptedException {
+		AtomicBoolean acquired = new AtomicBoolean();
+		Thread thread = new Thread(() -> acquired.set(lock.tryLock()));
+		thread.start();
+		thread.join();
+		return acquired.get();
+	}
+
+}
@@ -10,9 +10,11 @@
 
 package org.junit.platform.engine.support.hierarchical;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.junit.jupiter.api.Test;
@@ -32,6 +34,30 @@ class SingleLockTests {
 		assertTrue(lock.isLocked());
 	}
 
+	@Test
+	void tryAcquire() {
+		ReentrantLock lock = new ReentrantLock();
+
+		assertTrue(new SingleLock(lock).tryAcquire());
+
+		assertTrue(lock.isLocked());
+	}
+
+	@Test
+	void tryAcquireDoesNotWaitForUnavailableLock() throws Exception {
+		ReentrantLock lock = new ReentrantLock();
+		lock.lock();
+
+		AtomicBoolean acquired = new AtomicBoolean(true);
+		Thread thread = new Thread(() -> acquired.set(new SingleLock(lock).tryAcquire()));
+		thread.start();
+		thread.join();
+
+		assertFalse(acquired.get());
+		assertTrue(lock.isHeldByCurrentThread());
+		assertEquals(1, lock.getHoldCount());
+	}
+
 	@Test
 	@SuppressWarnings("resource")
 	void release() throws Exception {
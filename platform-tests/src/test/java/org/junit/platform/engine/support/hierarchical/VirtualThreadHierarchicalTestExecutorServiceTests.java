@@ -0,0 +1,130 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.engine.support.hierarchical;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.platform.engine.support.hierarchical.Node.ExecutionMode.CONCURRENT;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.function.Executable;
+import org.junit.platform.commons.PreconditionViolationException;
+import org.junit.platform.engine.ConfigurationParameters;
+import org.junit.platform.engine.support.hierarchical.HierarchicalTestExecutorService.TestTask;
+
+/**
+ * @since 1.6
+ */
+class VirtualThreadHierarchicalTestExecutorServiceTests {
+
+	private ConfigurationParameters configParams = mock(ConfigurationParameters.class);
+
+	@BeforeEach
+	void setUp() {
+		when(configParams.get(any(), any())).thenCallRealMethod();
+	}
+
+	@Test
+	void executesConcurrentTasksInSeparateThreads() throws Exception {
+		when(configParams.get("virtual.max-concurrency")).thenReturn(Optional.of("10"));
+		Set<Thread> threads = ConcurrentHashMap.newKeySet();
+		List<TestTask> tasks = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			tasks.add(new ConcurrentTestTask(() -> {
+				threads.add(Thread.currentThread());
+				Thread.sleep(100);
+			}));
+		}
+
+		try (HierarchicalTestExecutorService executorService = new VirtualThreadHierarchicalTestExecutorService(
+			configParams)) {
+			executorService.submit(new ConcurrentTestTask(() -> executorService.invokeAll(tasks))).get();
+		}
+
+		assertThat(threads).hasSizeGreaterThan(1);
+	}
+
+	@Test
+	void doesNotExceedMaximumConcurrency() throws Exception {
+		when(configParams.get("virtual.max-concurrency")).thenReturn(Optional.of("2"));
+		AtomicInteger concurrentExecutions = new AtomicInteger();
+		AtomicInteger maxConcurrentExecutions = new AtomicInteger();
+		AtomicInteger executions = new AtomicInteger();
+		List<TestTask> tasks = new ArrayList<>();
+		for (int i = 0; i < 10; i++) {
+			tasks.add(new ConcurrentTestTask(() -> {
+				maxConcurrentExecutions.accumulateAndGet(concurrentExecutions.incrementAndGet(), Math::max);
+				Thread.sleep(10);
+				concurrentExecutions.decrementAndGet();
+				executions.incrementAndGet();
+			}));
+		}
+
+		try (HierarchicalTestExecutorService executorService = new VirtualThreadHierarchicalTestExecutorService(
+			configParams)) {
+			executorService.submit(new ConcurrentTestTask(() -> executorService.invokeAll(tasks))).get();
+		}
+
+		assertThat(executions).hasValue(10);
+		// tasks that cannot be started in a new thread are executed by the invoking thread
+		assertThat(maxConcurrentExecutions.get()).isLessThanOrEqualTo(2);
+	}
+
+	@Test
+	void rejectsNonPositiveMaximumConcurrency() {
+		when(configParams.get("virtual.max-concurrency")).thenReturn(Optional.of("0"));
+
+		assertThrows(PreconditionViolationException.class,
+			() -> new VirtualThreadHierarchicalTestExecutorService(configParams));
+	}
+
+	private static class ConcurrentTestTask implements TestTask {
+
+		private final Executable executable;
+
+		ConcurrentTestTask(Executable executable) {
+			this.executable = executable;
+		}
+
+		@Override
+		public Node.ExecutionMode getExecutionMode() {
+			return CONCURRENT;
+		}
+
+		@Override
+		public ResourceLock getResourceLock() {
+			return NopLock.INSTANCE;
+		}
+
+		@Override
+		public void execute() {
+			try {
+				executable.execute();
+			}
+			catch (Throwable t) {
+				throw new AssertionError(t);
+			}
+		}
+
+	}
+
+}
@@ -10,13 +10,19 @@
 
 package org.junit.platform.launcher;
 
+import static java.util.Arrays.asList;
 import static java.util.Collections.singleton;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.AbstractTestDescriptor;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
+import org.junit.platform.fakes.TestDescriptorStub;
 
 class TestPlanTests {
 
@@ -71,4 +77,108 @@ class TestPlanTests {
 
 		assertThat(testPlan.containsTests()).as("contains tests").isTrue();
 	}
+
+	@Test
+	void getDescendantsReturnsChildrenFollowedByTheirDescendants() {
+		TestDescriptor a = addChild(engineDescriptor, "a");
+		TestDescriptor b = addChild(engineDescriptor, "b");
+		addChild(a, "a1");
+		TestDescriptor a2 = addChild(a, "a2");
+		addChild(a2, "a21");
+		addChild(b, "b1");
+
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+
+		assertThat(testPlan.getDescendants(identifier(testPlan, engineDescriptor))) //
+				.extracting(TestIdentifier::getDisplayName) //
+				.containsExactly("a", "b", "a1", "a2", "a21", "b1");
+		assertThat(testPlan.getDescendants(identifier(testPlan, a))) //
+				.extracting(TestIdentifier::getDisplayName) //
+				.containsExactly("a1", "a2", "a21");
+		assertThat(testPlan.getDescendants(identifier(testPlan, b))) //
+				.extracting(TestIdentifier::getDisplayName) //
+				.containsExactly("b1");
+		assertThat(testPlan.getDescendants(identifier(testPlan, a2.getChildren().iterator().next()))).isEmpty();
+	}
+
+	@Test
+	void descendantsContainOnlyDescendants() {
+		TestDescriptor a = addChild(engineDescriptor, "a");
+		TestDescriptor b = addChild(engineDescriptor, "b");
+		TestDescriptor a1 = addChild(a, "a1");
+
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		Set<TestIdentifier> descendants = testPlan.getDescendants(identifier(testPlan, a));
+
+		assertThat(descendants.contains(identifier(testPlan, a1))).isTrue();
+		assertThat(descendants.contains(identifier(testPlan, a))).isFalse();
+		assertThat(descendants.contains(identifier(testPlan, b))).isFalse();
+		assertThat(descendants.contains(identifier(testPlan, engineDescriptor))).isFalse();
+		assertThat(descendants.contains("a1")).isFalse();
+		assertThrows(UnsupportedOperationException.class, () -> descendants.remove(identifier(testPlan, b)));
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	void getDescendantsReflectsIdentifiersAddedAfterwards() {
+		TestDescriptor a = addChild(engineDescriptor, "a");
+		TestDescriptor b = addChild(engineDescriptor, "b");
+		TestDescriptor a1 = addChild(a, "a1");
+		addChild(b, "b1");
+
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		TestIdentifier root = identifier(testPlan, engineDescriptor);
+		assertThat(testPlan.getDescendants(root)).hasSize(4);
+
+		testPlan.add(TestIdentifier.from(addChild(a1, "dynamic")));
+
+		assertThat(testPlan.getDescendants(root)) //
+				.extracting(TestIdentifier::getDisplayName) //
+				.containsExactly("a", "b", "a1", "b1", "dynamic");
+		assertThat(testPlan.getDescendants(identifier(testPlan, a))) //
+				.extracting(TestIdentifier::getDisplayName) //
+				.containsExactly("a1", "dynamic");
+		assertThat(testPlan.getDescendants(identifier(testPlan, b))) //
+				.extracting(TestIdentifier::getDisplayName) //
+				.containsExactly("b1");
+	}
+
+	@Test
+	@SuppressWarnings("deprecation")
+	void identifiersAddedAfterwardsAreServedFromIndex() {
+		TestDescriptor a = addChild(engineDescriptor, "a");
+		TestDescriptor a1 = addChild(a, "a1");
+
+		TestPlan testPlan = TestPlan.from(singleton(engineDescriptor));
+		TestDescriptor dynamicContainer = addChild(a1, "dynamicContainer");
+		testPlan.add(TestIdentifier.from(dynamicContainer));
+		testPlan.add(TestIdentifier.from(addChild(dynamicContainer, "dynamicTest")));
+		testPlan.add(TestIdentifier.from(dynamicContainer));
+
+		TestPlanIndex index = testPlan.getIndex();
+		for (TestDescriptor descriptor : asList(engineDescriptor, a, a1, dynamicContainer)) {
+			TestIdentifier identifier = identifier(testPlan, descriptor);
+			assertThat(index.getDescendants(identifier)).as(identifier.getDisplayName()).isNotNull();
+		}
+		Set<TestIdentifier> descendants = testPlan.getDescendants(identifier(testPlan, a));
+		assertThat(descendants) //
+				.extracting(TestIdentifier::getDisplayName) //
+				.containsExactly("a1", "dynamicContainer", "dynamicTest");
+		assertThat(descendants.contains(identifier(testPlan, dynamicContainer))).isTrue();
+		assertThat(descendants.contains(identifier(testPlan, a))).isFalse();
+		assertThat(testPlan.getDescendants(identifier(testPlan, dynamicContainer))) //
+				.extracting(TestIdentifier::getDisplayName) //
+				.containsExactly("dynamicTest");
+	}
+
+	private static TestDescriptor addChild(TestDescriptor parent, String name) {
+		TestDescriptor child = new TestDescriptorStub(parent.getUniqueId().append("child", name), name);
+		parent.addChild(child);
+		return child;
+	}
+
+	private static TestIdentifier identifier(TestPlan testPlan, TestDescriptor testDescriptor) {
+		return testPlan.getTestIdentifier(testDescriptor.getUniqueId().toString());
+	}
+
 }
@@ -21,6 +21,11 @@ import static org.junit.platform.engine.discovery.DiscoverySelectors.selectPacka
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
 import static org.junit.platform.launcher.EngineFilter.excludeEngines;
 import static org.junit.platform.launcher.EngineFilter.includeEngines;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_NOTIFICATION_BUFFER_SIZE_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.ASYNC_LISTENER_NOTIFICATION_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PARALLEL_ENGINE_DISCOVERY_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PARALLEL_ENGINE_EXECUTION_ENABLED_PROPERTY_NAME;
+import static org.junit.platform.launcher.LauncherConstants.PARALLEL_ENGINE_EXECUTION_PARALLELISM_PROPERTY_NAME;
 import static org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder.request;
 import static org.junit.platform.launcher.core.LauncherFactoryForTestingPurposesOnly.createLauncher;
 import static org.mockito.ArgumentMatchers.any;
@@ -31,7 +36,13 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -47,6 +58,7 @@ import org.junit.platform.engine.ExecutionRequest;
 import org.junit.platform.engine.FilterResult;
 import org.junit.platform.engine.TestDescriptor;
 import org.junit.platform.engine.TestEngine;
+import org.junit.platform.engine.TestExecutionResult;
 import org.junit.platform.engine.UniqueId;
 import org.junit.platform.engine.support.descriptor.EngineDescriptor;
 import org.junit.platform.engine.support.hierarchical.DemoHierarchicalTestDescriptor;
@@ -205,6 +217,129 @@ class DefaultLauncherTests {
 		assertThat(testPlan.getChildren(UniqueId.forEngine("engine2").toString())).hasSize(1);
 	}
 
+	@Test
+	void discoverTestPlanForMultipleEnginesInParallel() {
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+		List<ClassLoader> discoveryClassLoaders = new CopyOnWriteArrayList<>();
+		TestEngine firstEngine = new ConcurrentlyDiscoveringTestEngine("engine1", barrier, discoveryClassLoaders);
+		TestEngine secondEngine = new ConcurrentlyDiscoveringTestEngine("engine2", barrier, discoveryClassLoaders);
+
+		DefaultLauncher launcher = createLauncher(firstEngine, secondEngine);
+
+		TestPlan testPlan = launcher.discover(
+			request().configurationParameter(PARALLEL_ENGINE_DISCOVERY_ENABLED_PROPERTY_NAME, "true").build());
+
+		assertThat(testPlan.getRoots()).extracting(TestIdentifier::getUniqueId).containsExactly(
+			UniqueId.forEngine("engine1").toString(), UniqueId.forEngine("engine2").toString());
+		assertThat(discoveryClassLoaders).containsExactly(contextClassLoader, contextClassLoader);
+	}
+
+	@Test
+	void discoverTestPlanInParallelRethrowsBlacklistedExceptions() {
+		TestEngine engine = new TestEngineStub("engine1") {
+
+			@Override
+			public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+				throw new OutOfMemoryError("not ignored");
+			}
+		};
+
+		DefaultLauncher launcher = createLauncher(engine, new TestEngineStub("engine2"));
+
+		assertThrows(OutOfMemoryError.class, () -> launcher.discover(
+			request().configurationParameter(PARALLEL_ENGINE_DISCOVERY_ENABLED_PROPERTY_NAME, "true").build()));
+	}
+
+	@Test
+	void executesEnginesConcurrentlyAndSerializesListenerNotifications() {
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		TestEngine firstEngine = new ConcurrentlyExecutingTestEngine("engine1", barrier);
+		TestEngine secondEngine = new ConcurrentlyExecutingTestEngine("engine2", barrier);
+		AtomicInteger activeNotifications = new AtomicInteger();
+		AtomicInteger maxActiveNotifications = new AtomicInteger();
+		List<String> finishedIds = new CopyOnWriteArrayList<>();
+		TestExecutionListener listener = new TestExecutionListener() {
+
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				maxActiveNotifications.accumulateAndGet(activeNotifications.incrementAndGet(), Math::max);
+				try {
+					Thread.sleep(1);
+				}
+				catch (InterruptedException ignored) {
+				}
+				finishedIds.add(testIdentifier.getUniqueId());
+				activeNotifications.decrementAndGet();
+			}
+		};
+
+		DefaultLauncher launcher = createLauncher(firstEngine, secondEngine);
+		launcher.execute(request() //
+				.configurationParameter(PARALLEL_ENGINE_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(PARALLEL_ENGINE_EXECUTION_PARALLELISM_PROPERTY_NAME, "2") //
+				.build(), listener);
+
+		assertThat(finishedIds).hasSize(2 * ConcurrentlyExecutingTestEngine.NOTIFICATIONS).contains(
+			UniqueId.forEngine("engine1").toString(), UniqueId.forEngine("engine2").toString());
+		assertThat(maxActiveNotifications).hasValue(1);
+	}
+
+	@Test
+	void rejectsNonPositiveParallelismForConcurrentEngineExecution() {
+		DefaultLauncher launcher = createLauncher(new TestEngineStub("engine1"), new TestEngineStub("engine2"));
+
+		assertThrows(PreconditionViolationException.class, () -> launcher.execute(request() //
+				.configurationParameter(PARALLEL_ENGINE_EXECUTION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(PARALLEL_ENGINE_EXECUTION_PARALLELISM_PROPERTY_NAME, "0") //
+				.build()));
+	}
+
+	@Test
+	void notifiesListenersAsynchronouslyIfEnabled() {
+		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("myEngine");
+		engine.addTest("test1", noOp);
+		engine.addTest("test2", noOp);
+		Thread executingThread = Thread.currentThread();
+		List<String> events = new ArrayList<>();
+		List<Thread> notifyingThreads = new ArrayList<>();
+		TestExecutionListener listener = new TestExecutionListener() {
+
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				events.add("started " + testIdentifier.getDisplayName());
+				notifyingThreads.add(Thread.currentThread());
+			}
+
+			@Override
+			public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+				events.add("finished " + testIdentifier.getDisplayName());
+				notifyingThreads.add(Thread.currentThread());
+			}
+		};
+
+		DefaultLauncher launcher = createLauncher(engine);
+		launcher.execute(request() //
+				.selectors(selectUniqueId(engine.getEngineDescriptor().getUniqueId())) //
+				.configurationParameter(ASYNC_LISTENER_NOTIFICATION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(ASYNC_LISTENER_NOTIFICATION_BUFFER_SIZE_PROPERTY_NAME, "1") //
+				.build(), listener);
+
+		assertThat(events).containsExactly("started myEngine", "started test1", "finished test1", "started test2",
+			"finished test2", "finished myEngine");
+		assertThat(notifyingThreads).doesNotContain(executingThread);
+	}
+
+	@Test
+	void rejectsNonPositiveBufferSizeForAsynchronousListenerNotification() {
+		DefaultLauncher launcher = createLauncher(new TestEngineStub("engine1"));
+
+		assertThrows(PreconditionViolationException.class, () -> launcher.execute(request() //
+				.configurationParameter(ASYNC_LISTENER_NOTIFICATION_ENABLED_PROPERTY_NAME, "true") //
+				.configurationParameter(ASYNC_LISTENER_NOTIFICATION_BUFFER_SIZE_PROPERTY_NAME, "0") //
+				.build()));
+	}
+
 	@Test
 	void launcherWillNotExecuteEnginesIfNotIncludedByAnEngineFilter() {
 		DemoHierarchicalTestEngine firstEngine = new DemoHierarchicalTestEngine("first");
@@ -558,6 +693,57 @@ class DefaultLauncherTests {
 		assertImposter("junit-vintage");
 	}
 
+	private static class ConcurrentlyDiscoveringTestEngine extends TestEngineStub {
+
+		private final CyclicBarrier barrier;
+		private final List<ClassLoader> discoveryClassLoaders;
+
+		ConcurrentlyDiscoveringTestEngine(String id, CyclicBarrier barrier, List<ClassLoader> discoveryClassLoaders) {
+			super(id);
+			this.barrier = barrier;
+			this.discoveryClassLoaders = discoveryClassLoaders;
+		}
+
+		@Override
+		public TestDescriptor discover(EngineDiscoveryRequest discoveryRequest, UniqueId uniqueId) {
+			discoveryClassLoaders.add(Thread.currentThread().getContextClassLoader());
+			try {
+				// only passes if all engines discover their tests concurrently
+				barrier.await(10, TimeUnit.SECONDS);
+			}
+			catch (Exception ex) {
+				throw new AssertionError("engines did not discover tests concurrently", ex);
+			}
+			return super.discover(discoveryRequest, uniqueId);
+		}
+	}
+
+	private static class ConcurrentlyExecutingTestEngine extends TestEngineStub {
+
+		static final int NOTIFICATIONS = 20;
+
+		private final CyclicBarrier barrier;
+
+		ConcurrentlyExecutingTestEngine(String id, CyclicBarrier barrier) {
+			super(id);
+			this.barrier = barrier;
+		}
+
+		@Override
+		public void execute(ExecutionRequest request) {
+			try {
+				// only passes if all engines execute their tests concurrently
+				barrier.await(10, TimeUnit.SECONDS);
+			}
+			catch (Exception ex) {
+				throw new AssertionError("engines were not executed concurrently", ex);
+			}
+			for (int i = 0; i < NOTIFICATIONS; i++) {
+				request.getEngineExecutionListener().executionFinished(request.getRootTestDescriptor(), successful());
+			}
+		}
+	}
+
 	private void assertImposter(String id) {
 		TestEngine impostor = new TestEngineStub(id);
 		Exception exception = assertThrows(JUnitException.class, () -> createLauncher(impostor));
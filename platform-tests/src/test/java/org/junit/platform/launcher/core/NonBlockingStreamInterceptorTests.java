@@ -0,0 +1,164 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static java.util.stream.Collectors.toList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * @since 1.6
+ */
+class NonBlockingStreamInterceptorTests {
+
+	private ByteArrayOutputStream originalOut = new ByteArrayOutputStream();
+	private PrintStream targetStream = new PrintStream(originalOut);
+
+	@Test
+	void registersNonBlockingInterceptorIfRequested() {
+		StreamInterceptor streamInterceptor = register(3);
+
+		assertThat(streamInterceptor).isInstanceOf(NonBlockingStreamInterceptor.class).isSameAs(targetStream);
+	}
+
+	@Test
+	void interceptsWriteOperationsToStreamPerThread() {
+		StreamInterceptor streamInterceptor = register(3);
+		// @formatter:off
+		IntStream.range(0, 1000)
+				.parallel()
+				.peek(i -> targetStream.println(i))
+				.mapToObj(String::valueOf)
+				.peek(i -> streamInterceptor.capture())
+				.peek(i -> targetStream.println(i))
+				.forEach(i -> assertEquals(i, streamInterceptor.consume().trim()));
+		// @formatter:on
+	}
+
+	@Test
+	void forwardsOutputOfConcurrentThreadsWithoutInterleavingLines() {
+		StreamInterceptor streamInterceptor = register(100);
+
+		IntStream.range(0, 1000).parallel().forEach(i -> streamInterceptor.println("line " + i));
+		streamInterceptor.flush();
+
+		List<String> lines = Arrays.asList(originalOut.toString().split(System.lineSeparator()));
+		assertThat(lines).containsExactlyInAnyOrderElementsOf(
+			IntStream.range(0, 1000).mapToObj(i -> "line " + i).collect(toList()));
+	}
+
+	@Test
+	void forwardsOutputOfEachInvocationInSingleWrite() {
+		List<String> writes = new ArrayList<>();
+		targetStream = new PrintStream(new OutputStream() {
+			@Override
+			public void write(int b) {
+				write(new byte[] { (byte) b }, 0, 1);
+			}
+
+			@Override
+			public void write(byte[] buf, int off, int len) {
+				writes.add(new String(buf, off, len));
+			}
+		});
+		StreamInterceptor streamInterceptor = register(100);
+
+		streamInterceptor.println("a");
+		streamInterceptor.println(1);
+		streamInterceptor.println('b');
+		streamInterceptor.println(new char[] { 'c' });
+		streamInterceptor.println(new Object() {
+			@Override
+			public String toString() {
+				streamInterceptor.print("nested ");
+				return "d";
+			}
+		});
+		streamInterceptor.printf("%s-%s%n", "e", "f");
+		streamInterceptor.flush();
+
+		String lineSeparator = System.lineSeparator();
+		assertThat(writes).containsExactly("a" + lineSeparator, "1" + lineSeparator, "b" + lineSeparator,
+			"c" + lineSeparator, "nested d" + lineSeparator, "e-f" + lineSeparator);
+	}
+
+	@Test
+	void forwardsOutputOfSingleThreadInOrder() {
+		StreamInterceptor streamInterceptor = register(2);
+
+		streamInterceptor.write('a');
+		streamInterceptor.write("b".getBytes());
+		streamInterceptor.write("cd".getBytes(), 1, 1);
+		streamInterceptor.print(1);
+		streamInterceptor.print('e');
+		streamInterceptor.printf("%s", "f");
+		streamInterceptor.append("g");
+		streamInterceptor.flush();
+
+		assertEquals("abd1efg", originalOut.toString());
+	}
+
+	@Test
+	void handlesNestedCaptures() {
+		StreamInterceptor streamInterceptor = register(100);
+
+		String outermost, inner, innermost;
+
+		streamInterceptor.capture();
+		streamInterceptor.print("before outermost - ");
+		{
+			streamInterceptor.capture();
+			streamInterceptor.print("before inner - ");
+			{
+				streamInterceptor.capture();
+				streamInterceptor.print("innermost");
+				innermost = streamInterceptor.consume();
+			}
+			streamInterceptor.print("after inner");
+			inner = streamInterceptor.consume();
+		}
+		streamInterceptor.print("after outermost");
+		outermost = streamInterceptor.consume();
+
+		assertAll(//
+			() -> assertEquals("before outermost - after outermost", outermost), //
+			() -> assertEquals("before inner - after inner", inner), //
+			() -> assertEquals("innermost", innermost) //
+		);
+	}
+
+	@Test
+	void unregisterRestoresOriginalStream() {
+		PrintStream originalStream = targetStream;
+
+		StreamInterceptor streamInterceptor = register(3);
+		streamInterceptor.unregister();
+
+		assertThat(targetStream).isSameAs(originalStream);
+	}
+
+	private StreamInterceptor register(int maxNumberOfBytesPerThread) {
+		return StreamInterceptor.register(targetStream, newStream -> this.targetStream = newStream,
+			maxNumberOfBytesPerThread, true).orElseThrow(RuntimeException::new);
+	}
+
+}
@@ -15,6 +15,7 @@ import static org.assertj.core.api.Assertions.entry;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 import static org.junit.platform.engine.TestExecutionResult.successful;
 import static org.junit.platform.engine.discovery.DiscoverySelectors.selectUniqueId;
+import static org.junit.platform.launcher.LauncherConstants.CAPTURE_NON_BLOCKING_ENABLED_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDERR_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.CAPTURE_STDOUT_PROPERTY_NAME;
 import static org.junit.platform.launcher.LauncherConstants.STDERR_REPORT_ENTRY_KEY;
@@ -62,8 +63,25 @@ class StreamInterceptingTestExecutionListenerIntegrationTests {
 	@MethodSource("systemStreams")
 	@ExtendWith(HiddenSystemOutAndErr.class)
 	void interceptsStream(String configParam, Supplier<PrintStream> printStreamSupplier, String reportKey) {
+		assertInterceptsStream(configParam, printStreamSupplier, reportKey, false);
+	}
+
+	@ParameterizedTest(name = "{0}")
+	@MethodSource("systemStreams")
+	@ExtendWith(HiddenSystemOutAndErr.class)
+	void interceptsStreamWithoutBlocking(String configParam, Supplier<PrintStream> printStreamSupplier,
+			String reportKey) {
+		assertInterceptsStream(configParam, printStreamSupplier, reportKey, true);
+	}
+
+	private void assertInterceptsStream(String configParam, Supplier<PrintStream> printStreamSupplier,
+			String reportKey, boolean nonBlocking) {
 		DemoHierarchicalTestEngine engine = new DemoHierarchicalTestEngine("engine");
-		TestDescriptor test = engine.addTest("test", () -> printStreamSupplier.get().print("4567890"));
+		Class<?> expectedStreamType = nonBlocking ? NonBlockingStreamInterceptor.class : StreamInterceptor.class;
+		TestDescriptor test = engine.addTest("test", () -> {
+			assertThat(printStreamSupplier.get()).isExactlyInstanceOf(expectedStreamType);
+			printStreamSupplier.get().print("4567890");
+		});
 		TestExecutionListener listener = mock(TestExecutionListener.class);
 		doAnswer(invocation -> {
 			TestIdentifier testIdentifier = invocation.getArgument(0);
@@ -78,6 +96,7 @@ class StreamInterceptingTestExecutionListenerIntegrationTests {
 				.selectors(selectUniqueId(test.getUniqueId()))//
 				.configurationParameter(configParam, String.valueOf(true))//
 				.configurationParameter(LauncherConstants.CAPTURE_MAX_BUFFER_PROPERTY_NAME, String.valueOf(5))//
+				.configurationParameter(CAPTURE_NON_BLOCKING_ENABLED_PROPERTY_NAME, String.valueOf(nonBlocking))//
 				.build();
 		launcher.execute(discoveryRequest, listener);
 
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2015-2019 the original author or authors.
+ *
+ * All rights reserved. This program and the accompanying materials are
+ * made available under the terms of the Eclipse Public License v2.0 which
+ * accompanies this distribution and is available at
+ *
+ * https://www.eclipse.org/legal/epl-v20.html
+ */
+
+package org.junit.platform.launcher.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.TestExecutionResult.successful;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.TestExecutionResult;
+import org.junit.platform.engine.UniqueId;
+import org.junit.platform.fakes.TestDescriptorStub;
+import org.junit.platform.launcher.TestExecutionListener;
+import org.junit.platform.launcher.TestIdentifier;
+
+/**
+ * @since 1.6
+ */
+class SynchronizedTestExecutionListenerTests {
+
+	private final TestIdentifier testIdentifier = TestIdentifier.from(
+		new TestDescriptorStub(UniqueId.root("test", "test"), "test"));
+
+	private final CountDownLatch otherNotificationStarted = new CountDownLatch(2);
+	private final AtomicInteger activeNotifications = new AtomicInteger();
+	private final AtomicInteger maxActiveNotifications = new AtomicInteger();
+
+	private final TestExecutionListener delegate = new TestExecutionListener() {
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			maxActiveNotifications.accumulateAndGet(activeNotifications.incrementAndGet(), Math::max);
+			try {
+				// only returns early if the other notification is forwarded concurrently
+				otherNotificationStarted.countDown();
+				otherNotificationStarted.await(100, TimeUnit.MILLISECONDS);
+			}
+			catch (InterruptedException ignored) {
+			}
+			activeNotifications.decrementAndGet();
+		}
+	};
+
+	@Test
+	void serializesNotificationsWhileMultipleEnginesAreUnfinished() throws Exception {
+		SynchronizedTestExecutionListener listener = new SynchronizedTestExecutionListener(delegate, 2);
+
+		notifyConcurrently(listener);
+
+		assertThat(maxActiveNotifications).hasValue(1);
+	}
+
+	@Test
+	void forwardsNotificationsConcurrentlyOnceAllButOneEngineAreFinished() throws Exception {
+		SynchronizedTestExecutionListener listener = new SynchronizedTestExecutionListener(delegate, 2);
+		listener.engineExecutionFinished();
+
+		notifyConcurrently(listener);
+
+		assertThat(maxActiveNotifications).hasValue(2);
+	}
+
+	private void notifyConcurrently(TestExecutionListener listener) throws Exception {
+		CyclicBarrier barrier = new CyclicBarrier(2);
+		ExecutorService executorService = Executors.newFixedThreadPool(2);
+		try {
+			Future<?> first = executorService.submit(() -> notify(listener, barrier));
+			Future<?> second = executorService.submit(() -> notify(listener, barrier));
+			first.get(10, TimeUnit.SECONDS);
+			second.get(10, TimeUnit.SECONDS);
+		}
+		finally {
+			executorService.shutdownNow();
+		}
+	}
+
+	private Void notify(TestExecutionListener listener, CyclicBarrier barrier) throws Exception {
+		barrier.await(10, TimeUnit.SECONDS);
+		listener.executionFinished(testIdentifier, successful());
+		return null;
+	}
+
+}
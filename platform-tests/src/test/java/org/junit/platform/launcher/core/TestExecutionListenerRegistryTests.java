@@ -15,7 +15,12 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.LogRecord;
 
@@ -172,6 +177,74 @@ class TestExecutionListenerRegistryTests {
 		assertNotLogs(logRecordListener);
 	}
 
+	@Test
+	void asyncCompositeListenerNotifiesListenersInOrderOnDedicatedThreads() {
+		TestExecutionListenerRegistry registry = new TestExecutionListenerRegistry();
+		RecordingTestExecutionListener first = new RecordingTestExecutionListener();
+		RecordingTestExecutionListener second = new RecordingTestExecutionListener();
+		registry.registerListeners(first, second);
+		TestExecutionListener listener = registry.getCompositeTestExecutionListener(2);
+		TestIdentifier testIdentifier = getSampleMethodTestIdentifier();
+		TestPlan testPlan = TestPlan.from(Collections.singleton(getDemoMethodTestDescriptor()));
+
+		listener.testPlanExecutionStarted(testPlan);
+		for (int i = 0; i < 10; i++) {
+			listener.executionStarted(testIdentifier);
+			listener.reportingEntryPublished(testIdentifier, ReportEntry.from("index", String.valueOf(i)));
+			listener.executionFinished(testIdentifier, TestExecutionResult.successful());
+		}
+		listener.testPlanExecutionFinished(testPlan);
+
+		for (RecordingTestExecutionListener recordingListener : Arrays.asList(first, second)) {
+			assertThat(recordingListener.events).hasSize(32).startsWith("testPlanExecutionStarted", "executionStarted",
+				"reportingEntryPublished 0", "executionFinished", "executionStarted",
+				"reportingEntryPublished 1").endsWith("reportingEntryPublished 9", "executionFinished",
+					"testPlanExecutionFinished");
+			assertThat(recordingListener.threads).hasSize(1).doesNotContain(Thread.currentThread());
+		}
+		assertThat(first.threads).doesNotContainAnyElementsOf(second.threads);
+	}
+
+	@Test
+	void asyncCompositeListenerDoesNotThrowExceptionButLogsIfListenerMethodFails(
+			LogRecordListener logRecordListener) {
+		TestExecutionListenerRegistry registry = new TestExecutionListenerRegistry();
+		registry.registerListeners(new ThrowingTestExecutionListener());
+		TestExecutionListener listener = registry.getCompositeTestExecutionListener(1);
+		TestPlan testPlan = TestPlan.from(Collections.singleton(getDemoMethodTestDescriptor()));
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(getSampleMethodTestIdentifier());
+		listener.testPlanExecutionFinished(testPlan);
+
+		assertThat(logRecordListener.stream(TestExecutionListenerRegistry.class, Level.WARNING).map(
+			LogRecord::getMessage)).hasSize(3).allMatch(message -> message.startsWith(
+				"TestExecutionListener [" + ThrowingTestExecutionListener.class.getName() + "]"));
+	}
+
+	@Test
+	void asyncCompositeListenerRethrowsOutOfMemoryErrorWhenTestPlanExecutionFinished(
+			LogRecordListener logRecordListener) {
+		TestExecutionListenerRegistry registry = new TestExecutionListenerRegistry();
+		RecordingTestExecutionListener recordingListener = new RecordingTestExecutionListener();
+		registry.registerListeners(new TestExecutionListener() {
+			@Override
+			public void executionStarted(TestIdentifier testIdentifier) {
+				throw new OutOfMemoryError();
+			}
+		}, recordingListener);
+		TestExecutionListener listener = registry.getCompositeTestExecutionListener(1);
+		TestPlan testPlan = TestPlan.from(Collections.singleton(getDemoMethodTestDescriptor()));
+
+		listener.testPlanExecutionStarted(testPlan);
+		listener.executionStarted(getSampleMethodTestIdentifier());
+
+		assertThatThrownBy(() -> listener.testPlanExecutionFinished(testPlan)).isInstanceOf(OutOfMemoryError.class);
+		assertThat(recordingListener.events).containsExactly("testPlanExecutionStarted", "executionStarted",
+			"testPlanExecutionFinished");
+		assertNotLogs(logRecordListener);
+	}
+
 	private LogRecord firstWarnLogRecord(LogRecordListener logRecordListener) throws AssertionError {
 		return logRecordListener.stream(TestExecutionListenerRegistry.class, Level.WARNING).findFirst().orElseThrow(
 			() -> new AssertionError("Failed to find error log record"));
@@ -198,6 +271,42 @@ class TestExecutionListenerRegistryTests {
 		return new DemoMethodTestDescriptor(UniqueId.root("method", "unique_id"), this.getClass(), method);
 	}
 
+	private static class RecordingTestExecutionListener implements TestExecutionListener {
+
+		final List<String> events = new ArrayList<>();
+		final Set<Thread> threads = new HashSet<>();
+
+		@Override
+		public void testPlanExecutionStarted(TestPlan testPlan) {
+			record("testPlanExecutionStarted");
+		}
+
+		@Override
+		public void testPlanExecutionFinished(TestPlan testPlan) {
+			record("testPlanExecutionFinished");
+		}
+
+		@Override
+		public void executionStarted(TestIdentifier testIdentifier) {
+			record("executionStarted");
+		}
+
+		@Override
+		public void executionFinished(TestIdentifier testIdentifier, TestExecutionResult testExecutionResult) {
+			record("executionFinished");
+		}
+
+		@Override
+		public void reportingEntryPublished(TestIdentifier testIdentifier, ReportEntry entry) {
+			record("reportingEntryPublished " + entry.getKeyValuePairs().get("index"));
+		}
+
+		private void record(String event) {
+			events.add(event);
+			threads.add(Thread.currentThread());
+		}
+	}
+
 	private static class ThrowingEagerTestExecutionListener extends ThrowingTestExecutionListener
 			implements TestExecutionListenerRegistry.EagerTestExecutionListener {
 		@Override